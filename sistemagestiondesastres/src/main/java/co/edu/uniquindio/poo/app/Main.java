@@ -21,10 +21,10 @@ public class Main {
 
         var zonas = grafo.obtenerZonas();
         String origen = null, destino = null;
-        for (var z : zonas) {
-            if (z.getNombre().equalsIgnoreCase("Ciudad A")) origen = z.getId();
-            if (z.getNombre().equalsIgnoreCase("Refugio B")) destino = z.getId();
-        }
+        var porNombre = grafo.buscarZonasPorNombre("Ciudad A");
+        if (!porNombre.isEmpty()) origen = porNombre.get(0).getId();
+        porNombre = grafo.buscarZonasPorNombre("Refugio B");
+        if (!porNombre.isEmpty()) destino = porNombre.get(0).getId();
         if (origen != null && destino != null) {
             grafo.imprimirRutaMasCorta(origen, destino);
        
@@ -30,10 +30,18 @@ public class MainServer {
         ctx.addServlet(co.edu.uniquindio.poo.app.servlets.LogoutServlet.class, "/logout");
         ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiSessionServlet.class, "/api/session");
         ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiZonesServlet.class, "/api/zones");
+        ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiNearestShelterServlet.class, "/api/zones/nearest-shelter");
+        ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiZonesSpatialServlet.class, "/api/zones/near");
+        ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiZonesSpatialServlet.class, "/api/zones/bbox");
+        ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiZonesIsolatedServlet.class, "/api/zones/isolated");
         ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiRoutesServlet.class, "/api/routes");
+        ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiRouteMatrixServlet.class, "/api/routes/matrix");
+        ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiCriticalRoutesServlet.class, "/api/routes/criticas");
+        ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiIsochroneServlet.class, "/api/routes/isocrona");
+        ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiPartitionServlet.class, "/api/routes/particiones");
         ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiResourcesServlet.class, "/api/resources");
         ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiEvacuacionesServlet.class, "/api/evacuations");
-        ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiOptimalRouteServlet.class, "/api/optimal-route");
+        ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiOptimalRouteServlet.class, "/api/optimal-route/*");
         ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiUsuariosServlet.class, "/api/users");
         ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiEquiposServlet.class, "/api/equipos");
         ctx.addServlet(co.edu.uniquindio.poo.app.servlets.ApiSimulacionesServlet.class, "/api/simulaciones/*");
@@ -1,5 +1,7 @@
 package co.edu.uniquindio.poo.app;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -9,6 +11,7 @@ import java.util.Map;
 import co.edu.uniquindio.poo.ds.ArbolDistribucion;
 import co.edu.uniquindio.poo.ds.ColaPrioridadEvacuaciones;
 import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.ds.ImportadorRed;
 import co.edu.uniquindio.poo.ds.MapaRecursos;
 import co.edu.uniquindio.poo.model.Admin;
 import co.edu.uniquindio.poo.model.EquipoDeRescate;
@@ -124,38 +127,43 @@ public class SistemaGestionDesastres {
     // Cali (centro de ayuda)
     ZonaAfectada z3 = new ZonaAfectada("Centro Ayuda Cali", 800, 60, 3.4516, -76.5320);
     
+    // Destinos de evacuación para la búsqueda del refugio más cercano
+    z2.setRefugio(true);
+    z3.setRefugio(true);
+    z2.setCapacidadRefugio(1500);
+    z3.setCapacidadRefugio(2500);
+    
     // Centro Armenia (zona de riesgo medio)
     ZonaAfectada z4 = new ZonaAfectada("Centro Armenia", 1200, 70, 4.5339, -75.6811);
     
     // La Tebaida (zona de apoyo)
     ZonaAfectada z5 = new ZonaAfectada("La Tebaida", 600, 55, 4.4563, -75.7847);
 
-    grafo.agregarNodo(z1);
-    grafo.agregarNodo(z2);
-    grafo.agregarNodo(z3);
-    grafo.agregarNodo(z4);
-    grafo.agregarNodo(z5);
-
     // === RUTAS ===
     // A → B directa
     Ruta r1 = new Ruta(z1.getId(), z2.getId(), 10.0, 30.0, 100);
-    grafo.agregarArista(r1);
 
     // A → C
     Ruta r2 = new Ruta(z1.getId(), z3.getId(), 5.0, 10.0, 100);
-    grafo.agregarArista(r2);
 
     // C → B
     Ruta r3 = new Ruta(z3.getId(), z2.getId(), 5.0, 10.0, 100);
-    grafo.agregarArista(r3);
     
     // Centro Armenia → La Tebaida
     Ruta r4 = new Ruta(z4.getId(), z5.getId(), 2.5, 5.0, 80);
-    grafo.agregarArista(r4);
     
     // Cali → Centro Armenia
     Ruta r5 = new Ruta(z3.getId(), z4.getId(), 8.0, 20.0, 90);
-    grafo.agregarArista(r5);
+
+    // Carga inicial en un solo lote: se publica una única versión del grafo
+    grafo.ejecutarEnLote(() -> {
+        for (ZonaAfectada zona : List.of(z1, z2, z3, z4, z5)) grafo.agregarNodo(zona);
+        for (Ruta ruta : List.of(r1, r2, r3, r4, r5)) grafo.agregarArista(ruta);
+    });
+
+    // Refugio y centro de ayuda como orígenes fijos: sus caminos mínimos se reparan al cerrar rutas
+    grafo.fijarOrigen(z2.getId());
+    grafo.fijarOrigen(z3.getId());
     
     // Inicializar las ubicaciones en el mapa de recursos
     mapaRecursos.agregarRecursosUbicacion("Bogotá Centro", new HashMap<>());
@@ -189,8 +197,36 @@ public class SistemaGestionDesastres {
     equiposDisponibles.put(equipo3.getId(), equipo3);
     equiposDisponibles.put(equipo4.getId(), equipo4);
     equiposDisponibles.put(equipo5.getId(), equipo5);
+
+    importarRedExterna();
+    // Regiones del ruteo por particiones (-Druteo.partes=k; 0 o sin indicar: según el tamaño)
+    grafo.setPartesRuteo(Math.max(0, Integer.getInteger("ruteo.partes", 0)));
 }
 
+    /**
+     * Importa una red vial desde disco si se indicó al arrancar:
+     * {@code -Dred.geojson=archivo.geojson}, o {@code -Dred.zonas=zonas.csv}
+     * con {@code -Dred.rutas=rutas.csv} opcional.
+     */
+    private void importarRedExterna() {
+        String geojson = System.getProperty("red.geojson");
+        String zonasCsv = System.getProperty("red.zonas");
+        if (geojson == null && zonasCsv == null) return;
+        try {
+            ImportadorRed.Resultado resultado;
+            if (geojson != null) {
+                resultado = ImportadorRed.importarGeoJson(grafo, Path.of(geojson));
+            } else {
+                String rutasCsv = System.getProperty("red.rutas");
+                resultado = ImportadorRed.importarCsv(grafo, Path.of(zonasCsv), rutasCsv == null ? null : Path.of(rutasCsv));
+            }
+            System.out.println("🗺️ Red importada: " + resultado);
+            for (String error : resultado.getErrores()) System.out.println("   ⚠️ " + error);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ No se pudo importar la red: " + e.getMessage());
+        }
+    }
+
 
     public ResultadoSimulacion ejecutarSimulacion() {
         // Stub: devolver un resultado simplificado
@@ -382,7 +418,7 @@ public void generarInterfazCompletaHTML() {
 
     // 🟢 Panel RUTAS
     html.append("<section id='rutas'><h2>Rutas registradas</h2><table><tr><th>Origen</th><th>Destino</th><th>Distancia</th><th>Tiempo</th></tr>");
-    for (List<Ruta> lista : grafo.getAristas().values()) {
+    for (List<Ruta> lista : grafo.getInstantanea().getSalientes().values()) {
     for (Ruta r : lista) {
         html.append("<tr><td>").append(r.getOrigenId()).append("</td><td>")
             .append(r.getDestinoId()).append("</td><td>")
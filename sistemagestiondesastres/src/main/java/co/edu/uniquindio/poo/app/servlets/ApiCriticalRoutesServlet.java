@@ -0,0 +1,105 @@
+package co.edu.uniquindio.poo.app.servlets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.ds.RutasCriticas;
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Servlet para las rutas y zonas críticas
+ * GET /api/routes/criticas?limite=50
+ *
+ * Devuelve los puentes (rutas cuyo cierre parte la red) y las zonas de
+ * corte, de mayor a menor población aislada. El análisis se mantiene entre
+ * consultas y solo se recalcula en los bloques afectados por cambios.
+ */
+@WebServlet("/api/routes/criticas")
+public class ApiCriticalRoutesServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final int LIMITE_POR_DEFECTO = 50;
+    private final Gson gson = new Gson();
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+
+        // CORS headers
+        resp.setHeader("Access-Control-Allow-Origin", "*");
+        resp.setHeader("Access-Control-Allow-Methods", "GET, OPTIONS");
+        resp.setHeader("Access-Control-Allow-Headers", "Content-Type");
+
+        int limite = LIMITE_POR_DEFECTO;
+        String limiteParam = req.getParameter("limite");
+        if (limiteParam != null && !limiteParam.isBlank()) {
+            try {
+                limite = Integer.parseInt(limiteParam.trim());
+            } catch (NumberFormatException e) {
+                limite = -1;
+            }
+            if (limite < 1) {
+                resp.setStatus(400);
+                JsonObject error = new JsonObject();
+                error.addProperty("error", "limite debe ser un entero positivo");
+                resp.getWriter().write(gson.toJson(error));
+                return;
+            }
+        }
+
+        GrafoDirigido grafo = SistemaGestionDesastres.getInstance().getGrafo();
+        long inicio = System.currentTimeMillis();
+        RutasCriticas criticas = grafo.obtenerRutasCriticas();
+        List<RutasCriticas.Puente> puentes = criticas.getPuentes();
+        List<RutasCriticas.ZonaCritica> zonas = criticas.getZonasDeCorte();
+        System.out.println("🌉 Rutas críticas: " + puentes.size() + " puentes, " + zonas.size()
+                + " zonas de corte en " + (System.currentTimeMillis() - inicio) + " ms");
+
+        JsonArray listaPuentes = new JsonArray();
+        for (RutasCriticas.Puente puente : puentes.subList(0, Math.min(limite, puentes.size()))) {
+            Ruta ruta = puente.getRuta();
+            JsonObject item = new JsonObject();
+            item.addProperty("id", ruta.getId());
+            item.addProperty("origenId", ruta.getOrigenId());
+            item.addProperty("destinoId", ruta.getDestinoId());
+            item.addProperty("origenNombre", nombreDe(grafo, ruta.getOrigenId()));
+            item.addProperty("destinoNombre", nombreDe(grafo, ruta.getDestinoId()));
+            item.addProperty("poblacionAislada", puente.getPoblacionAislada());
+            listaPuentes.add(item);
+        }
+        JsonArray listaZonas = new JsonArray();
+        for (RutasCriticas.ZonaCritica zona : zonas.subList(0, Math.min(limite, zonas.size()))) {
+            JsonObject item = new JsonObject();
+            item.addProperty("id", zona.getZonaId());
+            item.addProperty("nombre", nombreDe(grafo, zona.getZonaId()));
+            item.addProperty("piezas", zona.getPiezas());
+            item.addProperty("poblacionAislada", zona.getPoblacionAislada());
+            listaZonas.add(item);
+        }
+
+        JsonObject respuesta = new JsonObject();
+        respuesta.addProperty("totalPuentes", puentes.size());
+        respuesta.addProperty("totalZonasDeCorte", zonas.size());
+        respuesta.add("puentes", listaPuentes);
+        respuesta.add("zonasDeCorte", listaZonas);
+        resp.setStatus(200);
+        resp.getWriter().write(gson.toJson(respuesta));
+    }
+
+    private String nombreDe(GrafoDirigido grafo, String zonaId) {
+        ZonaAfectada zona = grafo.obtenerZonaPorId(zonaId);
+        return zona != null ? zona.getNombre() : zonaId;
+    }
+}
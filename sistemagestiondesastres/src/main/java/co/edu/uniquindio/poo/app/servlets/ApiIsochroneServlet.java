@@ -0,0 +1,143 @@
+package co.edu.uniquindio.poo.app.servlets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.GrafoCompacto;
+import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.ds.Isocrona;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Servlet para las isócronas de cobertura
+ * GET /api/routes/isocrona?origen=ID1,ID2&minutos=30,60,90
+ *
+ * Para cada origen (equipo de rescate o depósito) devuelve, por umbral, las
+ * zonas alcanzables en ese tiempo y el polígono convexo que las cubre. Todos
+ * los umbrales de un origen salen de un solo Dijkstra acotado, guardado
+ * mientras no cambie el grafo.
+ */
+@WebServlet("/api/routes/isocrona")
+public class ApiIsochroneServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final double[] MINUTOS_POR_DEFECTO = {30, 60, 90};
+    private static final int MAX_UMBRALES = 10;
+    private final Gson gson = new Gson();
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+
+        // CORS headers
+        resp.setHeader("Access-Control-Allow-Origin", "*");
+        resp.setHeader("Access-Control-Allow-Methods", "GET, OPTIONS");
+        resp.setHeader("Access-Control-Allow-Headers", "Content-Type");
+
+        GrafoDirigido grafo = SistemaGestionDesastres.getInstance().getGrafo();
+        String origenParam = req.getParameter("origen");
+        List<String> origenes = new ArrayList<>();
+        if (origenParam != null) {
+            Arrays.stream(origenParam.split(",")).map(String::trim).filter(s -> !s.isEmpty()).forEach(origenes::add);
+        }
+        if (origenes.isEmpty()) {
+            enviarError(resp, "Parámetro 'origen' requerido");
+            return;
+        }
+        for (String id : origenes) {
+            if (!grafo.existeZona(id)) {
+                enviarError(resp, "Zona no encontrada: " + id);
+                return;
+            }
+        }
+
+        double[] minutos = MINUTOS_POR_DEFECTO;
+        String minutosParam = req.getParameter("minutos");
+        if (minutosParam != null && !minutosParam.isBlank()) {
+            try {
+                minutos = Arrays.stream(minutosParam.split(",")).map(String::trim)
+                        .filter(s -> !s.isEmpty()).mapToDouble(Double::parseDouble).toArray();
+            } catch (NumberFormatException e) {
+                minutos = new double[0];
+            }
+            boolean validos = minutos.length >= 1 && minutos.length <= MAX_UMBRALES
+                    && Arrays.stream(minutos).allMatch(m -> m >= 0 && Double.isFinite(m));
+            if (!validos) {
+                enviarError(resp, "minutos debe ser una lista de 1 a " + MAX_UMBRALES + " tiempos no negativos");
+                return;
+            }
+        }
+
+        long inicio = System.currentTimeMillis();
+        JsonArray lista = new JsonArray();
+        for (String id : origenes) {
+            Isocrona isocrona = grafo.obtenerIsocrona(id, minutos);
+            if (isocrona == null) {
+                enviarError(resp, "Zona no encontrada: " + id);
+                return;
+            }
+            GrafoCompacto g = isocrona.getCompacto();
+            JsonArray umbrales = new JsonArray();
+            for (int k = 0; k < isocrona.getNumeroUmbrales(); k++) {
+                JsonArray zonas = new JsonArray();
+                for (int i = 0; i < isocrona.getCantidadDentro(k); i++) {
+                    String zonaId = g.idDe(isocrona.nodoEn(i));
+                    JsonObject zona = new JsonObject();
+                    zona.addProperty("id", zonaId);
+                    zona.addProperty("nombre", nombreDe(grafo, zonaId));
+                    zona.addProperty("tiempo", Math.round(isocrona.tiempoEn(i) * 10.0) / 10.0);
+                    zonas.add(zona);
+                }
+                JsonArray poligono = new JsonArray();
+                for (double[] vertice : isocrona.getPoligono(k)) {
+                    JsonArray punto = new JsonArray();
+                    punto.add(vertice[0]);
+                    punto.add(vertice[1]);
+                    poligono.add(punto);
+                }
+                JsonObject umbral = new JsonObject();
+                umbral.addProperty("minutos", isocrona.getUmbral(k));
+                umbral.addProperty("totalZonas", isocrona.getCantidadDentro(k));
+                umbral.add("zonas", zonas);
+                umbral.add("poligono", poligono);
+                umbrales.add(umbral);
+            }
+            JsonObject item = new JsonObject();
+            item.addProperty("origen", id);
+            item.addProperty("nombre", nombreDe(grafo, id));
+            item.add("umbrales", umbrales);
+            lista.add(item);
+        }
+        System.out.println("⏱️ Isócronas de " + origenes.size() + " orígenes en "
+                + (System.currentTimeMillis() - inicio) + " ms");
+
+        JsonObject respuesta = new JsonObject();
+        respuesta.add("isocronas", lista);
+        resp.setStatus(200);
+        resp.getWriter().write(gson.toJson(respuesta));
+    }
+
+    private void enviarError(HttpServletResponse resp, String mensaje) throws IOException {
+        resp.setStatus(400);
+        JsonObject error = new JsonObject();
+        error.addProperty("error", mensaje);
+        resp.getWriter().write(gson.toJson(error));
+    }
+
+    private String nombreDe(GrafoDirigido grafo, String zonaId) {
+        ZonaAfectada zona = grafo.obtenerZonaPorId(zonaId);
+        return zona != null ? zona.getNombre() : zonaId;
+    }
+}
@@ -0,0 +1,108 @@
+package co.edu.uniquindio.poo.app.servlets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.CaminoCompacto;
+import co.edu.uniquindio.poo.ds.GrafoCompacto;
+import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.ds.RefugiosCercanos;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Servlet para consultar el refugio alcanzable más cercano de cada zona
+ * GET /api/zones/nearest-shelter?ids=ID1,ID2,... (sin ids: todas las zonas)
+ *
+ * Cada elemento trae el refugio asignado, el tiempo hasta él y la secuencia
+ * de zonas del camino. Las zonas que no alcanzan ningún refugio llevan
+ * refugioId null.
+ */
+@WebServlet("/api/zones/nearest-shelter")
+public class ApiNearestShelterServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private final Gson gson = new Gson();
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+
+        // CORS headers
+        resp.setHeader("Access-Control-Allow-Origin", "*");
+        resp.setHeader("Access-Control-Allow-Methods", "GET, OPTIONS");
+        resp.setHeader("Access-Control-Allow-Headers", "Content-Type");
+
+        GrafoDirigido grafo = SistemaGestionDesastres.getInstance().getGrafo();
+        long inicio = System.currentTimeMillis();
+        RefugiosCercanos refugios = grafo.obtenerRefugiosCercanos();
+        GrafoCompacto g = refugios.getCompacto();
+
+        List<Integer> nodos = new ArrayList<>();
+        String idsParam = req.getParameter("ids");
+        if (idsParam == null || idsParam.isBlank()) {
+            // Los índices de zonas eliminadas quedan vacíos en la representación compacta
+            for (int i = 0; i < g.getNumeroNodos(); i++) {
+                if (g.idDe(i) != null) nodos.add(i);
+            }
+        } else {
+            for (String id : Arrays.stream(idsParam.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList()) {
+                int nodo = g.indiceDe(id);
+                if (nodo < 0) {
+                    resp.setStatus(400);
+                    JsonObject error = new JsonObject();
+                    error.addProperty("error", "Zona no encontrada: " + id);
+                    resp.getWriter().write(gson.toJson(error));
+                    return;
+                }
+                nodos.add(nodo);
+            }
+        }
+        System.out.println("🏠 Refugios más cercanos (" + refugios.getNumeroRefugios() + " refugios) en "
+                + (System.currentTimeMillis() - inicio) + " ms");
+
+        resp.setStatus(200);
+        JsonWriter json = new JsonWriter(resp.getWriter());
+        json.beginArray();
+        for (int nodo : nodos) {
+            json.beginObject();
+            json.name("zonaId").value(g.idDe(nodo));
+            json.name("zonaNombre").value(nombreDe(grafo, g.idDe(nodo)));
+            if (!refugios.alcanzaRefugio(nodo)) {
+                json.name("refugioId").nullValue();
+                json.endObject();
+                continue;
+            }
+            String refugioId = g.idDe(refugios.refugioDe(nodo));
+            json.name("refugioId").value(refugioId);
+            json.name("refugioNombre").value(nombreDe(grafo, refugioId));
+            json.name("tiempo").value(refugios.costoHasta(nodo));
+            json.name("camino").beginArray();
+            json.value(g.idDe(nodo));
+            CaminoCompacto camino = refugios.caminoDesde(nodo);
+            if (camino.existe()) {
+                for (int e : camino.getAristas()) json.value(g.idDe(g.destinoDe(e)));
+            }
+            json.endArray();
+            json.endObject();
+        }
+        json.endArray();
+        json.flush();
+    }
+
+    private String nombreDe(GrafoDirigido grafo, String zonaId) {
+        ZonaAfectada zona = grafo.obtenerZonaPorId(zonaId);
+        return zona != null ? zona.getNombre() : zonaId;
+    }
+}
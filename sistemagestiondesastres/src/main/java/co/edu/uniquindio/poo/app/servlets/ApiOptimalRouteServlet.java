@@ -5,24 +5,48 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.AlgoritmoRuta;
+import co.edu.uniquindio.poo.ds.GrafoCompacto;
+import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.ds.Metrica;
+import co.edu.uniquindio.poo.ds.RutasPareto;
 import co.edu.uniquindio.poo.model.Ruta;
 import co.edu.uniquindio.poo.model.ZonaAfectada;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
- * Servlet para cálculo de rutas óptimas usando Dijkstra
- * GET /api/optimal-route?origen=ID&destino=ID
+ * Servlet para cálculo de rutas óptimas usando Dijkstra bidireccional, Dijkstra o A*
+ * GET /api/optimal-route?origen=ID&destino=ID[&algoritmo=bidireccional|dijkstra|astar|ch|particionado][&alternativas=k][&pareto=true]
+ * GET /api/optimal-route?origen=ID&destino=ID&salida=MIN  (llegada más temprana con perfiles de tiempo)
+ * GET /api/optimal-route/cache - Estadísticas de la cache de rutas
+ * POST /api/optimal-route/batch - Muchos pares en una solicitud:
+ *   {"pares": [{"origen": ID, "destino": ID}, ...], "metrica": "tiempo|distancia"}
+ *   Se calcula un árbol por origen y los resultados se escriben a medida que
+ *   termina cada origen, cada uno con la posición ("indice") de su par.
  */
 public class ApiOptimalRouteServlet extends HttpServlet {
     
+    /** Máximo de rutas alternativas por solicitud */
+    private static final int MAX_ALTERNATIVAS = 10;
+    
+    /** Máximo de pares por consulta en lote */
+    private static final int MAX_PARES_LOTE = 10_000;
+    
+    /** Resultados escritos entre vaciados del flujo de salida en el lote */
+    private static final int RESULTADOS_POR_VACIADO = 100;
+    
     private final Gson gson = new Gson();
     
     @Override
@@ -30,6 +54,11 @@ public class ApiOptimalRouteServlet extends HttpServlet {
         resp.setContentType("application/json");
         resp.setCharacterEncoding("UTF-8");
         
+        if ("/cache".equals(req.getPathInfo())) {
+            enviarEstadisticasCache(resp);
+            return;
+        }
+        
         String origenId = req.getParameter("origen");
         String destinoId = req.getParameter("destino");
         
@@ -41,13 +70,61 @@ public class ApiOptimalRouteServlet extends HttpServlet {
             return;
         }
         
-        System.out.println("🔍 Calculando ruta óptima: " + origenId + " → " + destinoId);
+        AlgoritmoRuta algoritmo;
+        try {
+            algoritmo = AlgoritmoRuta.desdeParametro(req.getParameter("algoritmo"), AlgoritmoRuta.BIDIRECCIONAL);
+        } catch (IllegalArgumentException e) {
+            resp.setStatus(400);
+            JsonObject error = new JsonObject();
+            error.addProperty("error", e.getMessage());
+            resp.getWriter().write(gson.toJson(error));
+            return;
+        }
+        
+        int alternativas = 0;
+        String alternativasParam = req.getParameter("alternativas");
+        if (alternativasParam != null && !alternativasParam.isBlank()) {
+            try {
+                alternativas = Integer.parseInt(alternativasParam.trim());
+            } catch (NumberFormatException e) {
+                alternativas = -1;
+            }
+            if (alternativas < 1 || alternativas > MAX_ALTERNATIVAS) {
+                resp.setStatus(400);
+                JsonObject error = new JsonObject();
+                error.addProperty("error", "El parámetro 'alternativas' debe ser un entero entre 1 y " + MAX_ALTERNATIVAS);
+                resp.getWriter().write(gson.toJson(error));
+                return;
+            }
+        }
+        
+        Double salida = null;
+        String salidaParam = req.getParameter("salida");
+        if (salidaParam != null && !salidaParam.isBlank()) {
+            try {
+                salida = Double.parseDouble(salidaParam.trim());
+            } catch (NumberFormatException e) {
+                salida = Double.NaN;
+            }
+            if (!Double.isFinite(salida)) {
+                resp.setStatus(400);
+                JsonObject error = new JsonObject();
+                error.addProperty("error", "El parámetro 'salida' debe ser un instante en minutos");
+                resp.getWriter().write(gson.toJson(error));
+                return;
+            }
+        }
+        
+        System.out.println("🔍 Calculando ruta óptima (" + algoritmo.getParametro() + "): " + origenId + " → " + destinoId);
         
         try {
             SistemaGestionDesastres sistema = SistemaGestionDesastres.getInstance();
             
-            // Calcular ruta más corta usando Dijkstra del grafo
-            List<Ruta> rutaOptima = sistema.getGrafo().obtenerRutaMasCorta(origenId, destinoId);
+            // Calcular ruta más corta con el algoritmo solicitado, o la de llegada
+            // más temprana si se indica la hora de salida
+            List<Ruta> rutaOptima = salida != null
+                    ? sistema.getGrafo().obtenerRutaDependiente(origenId, destinoId, salida)
+                    : sistema.getGrafo().obtenerRutaMasCorta(origenId, destinoId, algoritmo);
             
             if (rutaOptima == null || rutaOptima.isEmpty()) {
                 System.out.println("❌ No hay ruta disponible");
@@ -61,7 +138,9 @@ public class ApiOptimalRouteServlet extends HttpServlet {
             
             // Calcular estadísticas de la ruta
             double distanciaTotal = rutaOptima.stream().mapToDouble(Ruta::getDistancia).sum();
-            double tiempoTotal = rutaOptima.stream().mapToDouble(Ruta::getTiempo).sum();
+            double tiempoTotal = salida != null
+                    ? GrafoDirigido.calcularLlegada(rutaOptima, salida) - salida
+                    : rutaOptima.stream().mapToDouble(Ruta::getTiempo).sum();
             int capacidadMinima = rutaOptima.stream().mapToInt(Ruta::getCapacidad).min().orElse(0);
             
             // Obtener información de zonas
@@ -72,6 +151,7 @@ public class ApiOptimalRouteServlet extends HttpServlet {
             Map<String, Object> resultado = new HashMap<>();
             resultado.put("origen", origenId);
             resultado.put("destino", destinoId);
+            resultado.put("algoritmo", salida != null ? "dependiente" : algoritmo.getParametro());
             resultado.put("origenNombre", zonaOrigen != null ? zonaOrigen.getNombre() : origenId);
             resultado.put("destinoNombre", zonaDestino != null ? zonaDestino.getNombre() : destinoId);
             resultado.put("distanciaTotal", Math.round(distanciaTotal * 10.0) / 10.0);
@@ -98,6 +178,44 @@ public class ApiOptimalRouteServlet extends HttpServlet {
             
             resultado.put("segmentos", segmentos);
             
+            // Con hora de salida, cada tramo se evalúa cuando se llega a él
+            if (salida != null) {
+                double t = salida;
+                for (int i = 0; i < rutaOptima.size(); i++) {
+                    double tramo = rutaOptima.get(i).calcularTiempoReal(t);
+                    segmentos.get(i).put("salida", Math.round(t * 10.0) / 10.0);
+                    segmentos.get(i).put("tiempo", Math.round(tramo * 10.0) / 10.0);
+                    t += tramo;
+                }
+                resultado.put("salida", salida);
+                resultado.put("llegada", Math.round(t * 10.0) / 10.0);
+            }
+            
+            // Rutas alternativas ordenadas por tiempo (k caminos más cortos)
+            if (alternativas > 0) {
+                List<List<Ruta>> caminos = sistema.getGrafo()
+                        .obtenerRutasAlternativas(origenId, destinoId, alternativas, Metrica.TIEMPO);
+                List<Map<String, Object>> listaAlternativas = new ArrayList<>();
+                for (int i = 0; i < caminos.size(); i++) {
+                    listaAlternativas.add(resumirCamino(i + 1, caminos.get(i)));
+                }
+                resultado.put("alternativas", listaAlternativas);
+            }
+            
+            // Frente de Pareto: tiempo, distancia y capacidad del cuello de botella
+            if ("true".equalsIgnoreCase(req.getParameter("pareto"))) {
+                RutasPareto pareto = sistema.getGrafo().obtenerRutasPareto(origenId, destinoId);
+                GrafoCompacto g = pareto.getCompacto();
+                List<Map<String, Object>> listaPareto = new ArrayList<>();
+                for (RutasPareto.Opcion opcion : pareto.getOpciones()) {
+                    List<Ruta> camino = new ArrayList<>();
+                    for (int e : opcion.getAristas()) camino.add(g.rutaDe(e));
+                    listaPareto.add(resumirCamino(listaPareto.size() + 1, camino));
+                }
+                resultado.put("pareto", listaPareto);
+                resultado.put("paretoCompleto", pareto.isCompleto());
+            }
+            
             System.out.println("✅ Ruta óptima calculada: " + distanciaTotal + " km, " + tiempoTotal + " horas");
             
             resp.setStatus(200);
@@ -112,4 +230,134 @@ public class ApiOptimalRouteServlet extends HttpServlet {
             resp.getWriter().write(gson.toJson(error));
         }
     }
+    
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+        
+        if (!"/batch".equals(req.getPathInfo())) {
+            resp.setStatus(404);
+            JsonObject error = new JsonObject();
+            error.addProperty("error", "Ruta no encontrada");
+            resp.getWriter().write(gson.toJson(error));
+            return;
+        }
+        
+        List<String> origenes = new ArrayList<>();
+        List<String> destinos = new ArrayList<>();
+        Metrica metrica = Metrica.TIEMPO;
+        try {
+            JsonObject cuerpo = gson.fromJson(req.getReader(), JsonObject.class);
+            if (cuerpo == null || !cuerpo.has("pares") || !cuerpo.get("pares").isJsonArray()) {
+                throw new IllegalArgumentException("Se requiere la lista 'pares'");
+            }
+            for (JsonElement elemento : cuerpo.getAsJsonArray("pares")) {
+                JsonObject par = elemento.getAsJsonObject();
+                if (!par.has("origen") || !par.has("destino")) {
+                    throw new IllegalArgumentException("Cada par requiere 'origen' y 'destino'");
+                }
+                origenes.add(par.get("origen").getAsString());
+                destinos.add(par.get("destino").getAsString());
+            }
+            if (origenes.size() > MAX_PARES_LOTE) {
+                throw new IllegalArgumentException("Máximo " + MAX_PARES_LOTE + " pares por solicitud");
+            }
+            if (cuerpo.has("metrica")) {
+                String valor = cuerpo.get("metrica").getAsString().trim().toUpperCase();
+                try {
+                    metrica = Metrica.valueOf(valor);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Métrica no soportada: " + valor.toLowerCase());
+                }
+            }
+        } catch (RuntimeException e) {
+            resp.setStatus(400);
+            JsonObject error = new JsonObject();
+            error.addProperty("error", e instanceof IllegalArgumentException ? e.getMessage() : "Cuerpo JSON inválido");
+            resp.getWriter().write(gson.toJson(error));
+            return;
+        }
+        
+        var grafo = SistemaGestionDesastres.getInstance().getGrafo();
+        for (List<String> ids : List.of(origenes, destinos)) {
+            for (String id : ids) {
+                if (!grafo.existeZona(id)) {
+                    resp.setStatus(400);
+                    JsonObject error = new JsonObject();
+                    error.addProperty("error", "Zona no encontrada: " + id);
+                    resp.getWriter().write(gson.toJson(error));
+                    return;
+                }
+            }
+        }
+        
+        long inicio = System.currentTimeMillis();
+        resp.setStatus(200);
+        JsonWriter json = new JsonWriter(resp.getWriter());
+        json.beginObject();
+        json.name("resultados").beginArray();
+        int[] escritos = {0};
+        int grupos = grafo.calcularRutasEnLote(origenes, destinos, metrica, (posicion, camino) -> {
+            try {
+                json.beginObject();
+                json.name("indice").value(posicion.intValue());
+                json.name("origen").value(origenes.get(posicion));
+                json.name("destino").value(destinos.get(posicion));
+                if (camino == null || camino.isEmpty()) {
+                    json.name("error").value("No hay camino disponible");
+                } else {
+                    json.name("camino").beginArray();
+                    json.value(camino.get(0).getOrigenId());
+                    for (Ruta ruta : camino) json.value(ruta.getDestinoId());
+                    json.endArray();
+                    json.name("distanciaTotal").value(Math.round(camino.stream().mapToDouble(Ruta::getDistancia).sum() * 10.0) / 10.0);
+                    json.name("tiempoTotal").value(Math.round(camino.stream().mapToDouble(Ruta::getTiempo).sum() * 10.0) / 10.0);
+                    json.name("capacidadMinima").value(camino.stream().mapToInt(Ruta::getCapacidad).min().orElse(0));
+                    json.name("numeroSegmentos").value(camino.size());
+                }
+                json.endObject();
+                if (++escritos[0] % RESULTADOS_POR_VACIADO == 0) json.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        json.endArray();
+        json.name("total").value(origenes.size());
+        json.name("grupos").value(grupos);
+        json.name("tiempoMs").value(System.currentTimeMillis() - inicio);
+        json.endObject();
+        json.flush();
+        System.out.println("📦 Lote de " + origenes.size() + " rutas resuelto con " + grupos + " árboles en "
+                + (System.currentTimeMillis() - inicio) + " ms");
+    }
+    
+    /**
+     * Envía las estadísticas de la cache de rutas del grafo
+     */
+    private void enviarEstadisticasCache(HttpServletResponse resp) throws IOException {
+        var grafo = SistemaGestionDesastres.getInstance().getGrafo();
+        Map<String, Object> resultado = new HashMap<>(grafo.getCacheRutas().getEstadisticas());
+        resultado.put("versionGrafo", grafo.getVersion());
+        resp.setStatus(200);
+        resp.getWriter().write(gson.toJson(resultado));
+    }
+    
+    /**
+     * Resume un camino alternativo para la respuesta JSON
+     */
+    private Map<String, Object> resumirCamino(int rango, List<Ruta> camino) {
+        Map<String, Object> resumen = new HashMap<>();
+        List<String> zonas = new ArrayList<>();
+        zonas.add(camino.get(0).getOrigenId());
+        camino.forEach(ruta -> zonas.add(ruta.getDestinoId()));
+        
+        resumen.put("rango", rango);
+        resumen.put("camino", zonas);
+        resumen.put("distanciaTotal", Math.round(camino.stream().mapToDouble(Ruta::getDistancia).sum() * 10.0) / 10.0);
+        resumen.put("tiempoTotal", Math.round(camino.stream().mapToDouble(Ruta::getTiempo).sum() * 10.0) / 10.0);
+        resumen.put("capacidadMinima", camino.stream().mapToInt(Ruta::getCapacidad).min().orElse(0));
+        resumen.put("numeroSegmentos", camino.size());
+        return resumen;
+    }
 }
@@ -0,0 +1,68 @@
+package co.edu.uniquindio.poo.app.servlets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.Metrica;
+import co.edu.uniquindio.poo.ds.ParticionGrafo;
+import co.edu.uniquindio.poo.ds.RuteoParticionado;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Servlet para el estado del ruteo por regiones
+ * GET /api/routes/particiones
+ *
+ * Devuelve la partición multinivel vigente (tamaño de cada región, rutas de
+ * corte) y la superposición de nodos de frontera que usan las consultas con
+ * algoritmo=particionado en /api/optimal-route.
+ */
+@WebServlet("/api/routes/particiones")
+public class ApiPartitionServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private final Gson gson = new Gson();
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+
+        // CORS headers
+        resp.setHeader("Access-Control-Allow-Origin", "*");
+        resp.setHeader("Access-Control-Allow-Methods", "GET, OPTIONS");
+        resp.setHeader("Access-Control-Allow-Headers", "Content-Type");
+
+        long inicio = System.currentTimeMillis();
+        RuteoParticionado ruteo = SistemaGestionDesastres.getInstance().getGrafo()
+                .obtenerRuteoParticionado(Metrica.TIEMPO);
+        ParticionGrafo particion = ruteo.getParticion();
+
+        JsonArray regiones = new JsonArray();
+        for (int p = 0; p < particion.getPartes(); p++) {
+            JsonObject region = new JsonObject();
+            region.addProperty("parte", p);
+            region.addProperty("zonas", particion.getTamano(p));
+            region.addProperty("fronteras", ruteo.getFronteras(p));
+            regiones.add(region);
+        }
+
+        JsonObject respuesta = new JsonObject();
+        respuesta.addProperty("partes", particion.getPartes());
+        respuesta.addProperty("niveles", particion.getNiveles());
+        respuesta.addProperty("rutas", ruteo.getCompacto().getNumeroAristas());
+        respuesta.addProperty("corte", particion.getCorte());
+        respuesta.addProperty("fronteras", ruteo.getNumeroFronteras());
+        respuesta.addProperty("arcosSuperposicion", ruteo.getNumeroArcos());
+        respuesta.add("regiones", regiones);
+        respuesta.addProperty("tiempoMs", System.currentTimeMillis() - inicio);
+        resp.setStatus(200);
+        resp.getWriter().write(gson.toJson(respuesta));
+    }
+}
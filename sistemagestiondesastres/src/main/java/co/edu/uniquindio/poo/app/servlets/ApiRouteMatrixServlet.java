@@ -0,0 +1,94 @@
+package co.edu.uniquindio.poo.app.servlets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.ds.MatrizTiempos;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Servlet para la matriz de tiempos de viaje entre zonas
+ * GET /api/routes/matrix?ids=ID1,ID2,... (obligatorio, hasta MAX_ZONAS)
+ *
+ * La respuesta se escribe fila por fila sobre el flujo de salida, sin
+ * construir el JSON completo en memoria. Los pares sin camino son null.
+ * La matriz crece con el cuadrado de las zonas, por eso se exige la lista
+ * y se limita su tamaño.
+ */
+@WebServlet("/api/routes/matrix")
+public class ApiRouteMatrixServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    /** 2000 zonas: 4 millones de celdas (16 MB) y 2000 árboles de Dijkstra */
+    private static final int MAX_ZONAS = 2_000;
+    private final Gson gson = new Gson();
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+
+        // CORS headers
+        resp.setHeader("Access-Control-Allow-Origin", "*");
+        resp.setHeader("Access-Control-Allow-Methods", "GET, OPTIONS");
+        resp.setHeader("Access-Control-Allow-Headers", "Content-Type");
+
+        GrafoDirigido grafo = SistemaGestionDesastres.getInstance().getGrafo();
+        List<String> ids = new ArrayList<>();
+        String idsParam = req.getParameter("ids");
+        if (idsParam != null) {
+            Arrays.stream(idsParam.split(",")).map(String::trim).filter(s -> !s.isEmpty()).forEach(ids::add);
+        }
+        if (ids.isEmpty() || ids.size() > MAX_ZONAS) {
+            enviarError(resp, "ids debe ser una lista de 1 a " + MAX_ZONAS + " zonas");
+            return;
+        }
+
+        MatrizTiempos matriz;
+        try {
+            long inicio = System.currentTimeMillis();
+            matriz = grafo.calcularMatrizTiempos(ids);
+            System.out.println("🧮 Matriz de tiempos " + ids.size() + "x" + ids.size() + " calculada en "
+                    + (System.currentTimeMillis() - inicio) + " ms");
+        } catch (IllegalArgumentException e) {
+            enviarError(resp, e.getMessage());
+            return;
+        }
+
+        resp.setStatus(200);
+        JsonWriter json = new JsonWriter(resp.getWriter());
+        json.beginObject();
+        json.name("ids").beginArray();
+        for (String id : ids) json.value(id);
+        json.endArray();
+        json.name("tiempos").beginArray();
+        for (int i = 0; i < matriz.getFilas(); i++) {
+            json.beginArray();
+            for (int j = 0; j < matriz.getColumnas(); j++) {
+                if (matriz.hayCamino(i, j)) json.value(Float.valueOf(matriz.tiempo(i, j))); else json.nullValue();
+            }
+            json.endArray();
+        }
+        json.endArray();
+        json.endObject();
+        json.flush();
+    }
+
+    private void enviarError(HttpServletResponse resp, String mensaje) throws IOException {
+        resp.setStatus(400);
+        JsonObject error = new JsonObject();
+        error.addProperty("error", mensaje);
+        resp.getWriter().write(gson.toJson(error));
+    }
+}
@@ -3,6 +3,8 @@ package co.edu.uniquindio.poo.app.servlets;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.InstantaneaGrafo;
+import co.edu.uniquindio.poo.model.PerfilTiempo;
 import co.edu.uniquindio.poo.model.Ruta;
 import co.edu.uniquindio.poo.model.ZonaAfectada;
 import jakarta.servlet.ServletException;
@@ -34,16 +36,26 @@ public class ApiRoutesServlet extends HttpServlet {
         resp.setHeader("Access-Control-Allow-Headers", "Content-Type");
 
         try {
-            var aristas = sistema.getGrafo().getAristas(); // Map<String, List<Ruta>>
+            // Una sola instantánea: rutas y nombres consistentes y sin candados
+            InstantaneaGrafo instantanea = sistema.getGrafo().getInstantanea();
+
+            // Con ?destino=ID solo las rutas que llegan a esa zona
+            String destinoId = req.getParameter("destino");
+            List<List<Ruta>> fuentes = new ArrayList<>();
+            if (destinoId != null && !destinoId.isBlank()) {
+                fuentes.add(instantanea.entrantesDe(destinoId));
+            } else {
+                fuentes.addAll(instantanea.getSalientes().values());
+            }
 
             // Aplanar y enriquecer con nombres de zonas
             List<RutaEnriquecida> listaEnriquecida = new ArrayList<>();
 
-            for (var listaRutas : aristas.values()) {
+            for (var listaRutas : fuentes) {
                 for (Ruta ruta : listaRutas) {
                     // Buscar nombres de las zonas
-                    ZonaAfectada zonaOrigen = sistema.getGrafo().obtenerZonaPorId(ruta.getOrigenId());
-                    ZonaAfectada zonaDestino = sistema.getGrafo().obtenerZonaPorId(ruta.getDestinoId());
+                    ZonaAfectada zonaOrigen = instantanea.zona(ruta.getOrigenId());
+                    ZonaAfectada zonaDestino = instantanea.zona(ruta.getDestinoId());
 
                     String nombreOrigen = zonaOrigen != null ? zonaOrigen.getNombre() : ruta.getOrigenId();
                     String nombreDestino = zonaDestino != null ? zonaDestino.getNombre() : ruta.getDestinoId();
@@ -303,13 +315,32 @@ public class ApiRoutesServlet extends HttpServlet {
                 ((Number) body.get("capacidad")).intValue() : rutaExistente.getCapacidad();
             boolean disponible = body.containsKey("disponible") ?
                     ((Boolean) body.get("disponible")).booleanValue() : rutaExistente.estaDisponible();
+            // "perfil": {"instantes": [min...], "tiempos": [min...]}, o null para quitarlo
+            PerfilTiempo perfil = rutaExistente.getPerfil();
+            if (body.containsKey("perfil")) {
+                try {
+                    perfil = leerPerfil(body.get("perfil"));
+                } catch (IllegalArgumentException | ClassCastException e) {
+                    resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    JsonObject error = new JsonObject();
+                    error.addProperty("ok", false);
+                    error.addProperty("msg", "Perfil de tiempo inválido: " + e.getMessage());
+                    resp.getWriter().write(gson.toJson(error));
+                    return;
+                }
+            }
             
-            // Remover la ruta vieja y agregar la nueva
-            sistema.getGrafo().getAristas().get(origenId).remove(rutaExistente);
+            // Remover la ruta vieja y agregar la nueva en un solo lote: ningún
+            // lector ve el grafo sin la ruta entre ambos pasos
             Ruta nuevaRuta = new Ruta(rutaExistente.getOrigenId(), rutaExistente.getDestinoId(), 
                 distancia, tiempo, capacidad);
             nuevaRuta.setDisponible(disponible);
-            sistema.getGrafo().getAristas().get(origenId).add(nuevaRuta);
+            nuevaRuta.setPerfil(perfil);
+            Ruta anterior = rutaExistente;
+            sistema.getGrafo().ejecutarEnLote(() -> {
+                sistema.getGrafo().eliminarArista(anterior);
+                sistema.getGrafo().agregarArista(nuevaRuta);
+            });
 
             JsonObject response = new JsonObject();
             response.addProperty("ok", true);
@@ -326,6 +357,25 @@ public class ApiRoutesServlet extends HttpServlet {
         }
     }
 
+    /**
+     * Convierte el perfil del cuerpo JSON; null lo quita.
+     */
+    @SuppressWarnings("unchecked")
+    private PerfilTiempo leerPerfil(Object valor) {
+        if (valor == null) return null;
+        Map<String, Object> perfil = (Map<String, Object>) valor;
+        List<Number> instantes = (List<Number>) perfil.get("instantes");
+        List<Number> tiempos = (List<Number>) perfil.get("tiempos");
+        if (instantes == null || tiempos == null) {
+            throw new IllegalArgumentException("se requieren 'instantes' y 'tiempos'");
+        }
+        double[] x = new double[instantes.size()];
+        double[] y = new double[tiempos.size()];
+        for (int i = 0; i < x.length; i++) x[i] = instantes.get(i).doubleValue();
+        for (int i = 0; i < y.length; i++) y[i] = tiempos.get(i).doubleValue();
+        return new PerfilTiempo(x, y);
+    }
+
     @Override
     protected void doOptions(HttpServletRequest req, HttpServletResponse resp) {
         resp.setHeader("Access-Control-Allow-Origin", "*");
@@ -6,12 +6,23 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.AlgoritmoRuta;
+import co.edu.uniquindio.poo.ds.EvacuacionRapida;
+import co.edu.uniquindio.poo.ds.FlujoCostoMinimo;
+import co.edu.uniquindio.poo.ds.FlujoMaximo;
+import co.edu.uniquindio.poo.ds.GrafoCompacto;
+import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.ds.RedExpandida;
+import co.edu.uniquindio.poo.ds.RefugiosCercanos;
 import co.edu.uniquindio.poo.model.Notificacion.TipoNotificacion;
 import co.edu.uniquindio.poo.model.Ruta;
 import co.edu.uniquindio.poo.model.ZonaAfectada;
+import co.edu.uniquindio.poo.services.GeoService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -23,6 +34,15 @@ public class ApiSimulacionesServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private SistemaGestionDesastres sistema = SistemaGestionDesastres.getInstance();
     private Gson gson = new Gson();
+    
+    /** Horizonte del plan conjunto de evacuación si no se indica */
+    private static final double HORAS_PLAN_POR_DEFECTO = 24.0;
+    
+    /** Límite de intervalos del cronograma */
+    private static final int MAX_INTERVALOS_CRONOGRAMA = 20_000;
+    
+    /** Límite de enteros de la red expandida del horizonte máximo (unos 64 MB) */
+    private static final long MAX_TAMANO_RED_EXPANDIDA = 16_000_000L;
 
     @Override
     protected void doPost(HttpServletRequest req, HttpServletResponse resp)
@@ -47,6 +67,10 @@ public class ApiSimulacionesServlet extends HttpServlet {
                 simularDesastre(req, resp);
             } else if ("/evacuacion".equals(pathInfo)) {
                 simularEvacuacion(req, resp);
+            } else if ("/capacidad".equals(pathInfo)) {
+                calcularCapacidad(req, resp);
+            } else if ("/cronograma".equals(pathInfo)) {
+                calcularCronograma(req, resp);
             } else {
                 resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
                 resp.getWriter().write("{\"error\":\"Endpoint no encontrado\"}");
@@ -175,10 +199,32 @@ public class ApiSimulacionesServlet extends HttpServlet {
         
         JsonObject json = gson.fromJson(body, JsonObject.class);
         
+        // Plan conjunto de todas las zonas en la cola de evacuación
+        if (json.has("lote") && json.get("lote").getAsBoolean()) {
+            planificarEvacuacionConjunta(json, resp);
+            return;
+        }
+        
         String zonaOrigenId = json.get("zonaOrigenId").getAsString();
-        String zonaDestinoId = json.get("zonaDestinoId").getAsString();
         int numeroPersonas = json.get("numeroPersonas").getAsInt();
         
+        // Sin destino explícito se usa el refugio alcanzable más cercano
+        String zonaDestinoId = null;
+        if (json.has("zonaDestinoId") && !json.get("zonaDestinoId").isJsonNull()) {
+            zonaDestinoId = json.get("zonaDestinoId").getAsString();
+        }
+        if (zonaDestinoId == null || zonaDestinoId.isBlank()) {
+            zonaDestinoId = refugioMasCercano(zonaOrigenId);
+            if (zonaDestinoId == null) {
+                System.out.println("❌ Ningún refugio alcanzable desde " + zonaOrigenId);
+                resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                resp.getWriter().write("{\"error\":\"No hay refugio alcanzable desde la zona de origen\"}");
+                resp.getWriter().flush();
+                return;
+            }
+            System.out.println("🏠 Destino asignado: refugio más cercano " + zonaDestinoId);
+        }
+        
         System.out.println("🚑 Planificando evacuación de " + numeroPersonas + " personas");
         System.out.println("📍 Origen: " + zonaOrigenId + " → Destino: " + zonaDestinoId);
         
@@ -197,8 +243,16 @@ public class ApiSimulacionesServlet extends HttpServlet {
         System.out.println("  Origen: " + zonaOrigen.getNombre());
         System.out.println("  Destino: " + zonaDestino.getNombre());
         
-        // Intentar calcular ruta óptima
-        List<Ruta> rutaRutas = sistema.getGrafo().obtenerRutaMasCorta(zonaOrigenId, zonaDestinoId);
+        // Con hora de salida (minutos) la ruta y su duración siguen los perfiles de tiempo
+        Double salida = null;
+        if (json.has("salida") && !json.get("salida").isJsonNull()) {
+            salida = json.get("salida").getAsDouble();
+        }
+        
+        // Intentar calcular ruta óptima (búsqueda bidireccional origen ↔ destino)
+        List<Ruta> rutaRutas = salida != null
+                ? sistema.getGrafo().obtenerRutaDependiente(zonaOrigenId, zonaDestinoId, salida)
+                : sistema.getGrafo().obtenerRutaMasCorta(zonaOrigenId, zonaDestinoId, AlgoritmoRuta.BIDIRECCIONAL);
         
         // Variables para la ruta
         List<String> zonasIds = new ArrayList<>();
@@ -255,8 +309,13 @@ public class ApiSimulacionesServlet extends HttpServlet {
         // Calcular vehículos necesarios
         int vehiculosNecesarios = (numeroPersonas + 49) / 50; // 50 personas por vehículo
         
-        // Calcular tiempo estimado
+        // Calcular tiempo estimado (por los perfiles de las rutas si hay hora de salida)
         double tiempoViajeHoras = distanciaKm / 40.0;
+        Double llegada = null;
+        if (salida != null && rutaRutas != null && !rutaRutas.isEmpty()) {
+            llegada = GrafoDirigido.calcularLlegada(rutaRutas, salida);
+            tiempoViajeHoras = (llegada - salida) / 60.0;
+        }
         double tiempoOperacionHoras = (numeroPersonas / 1000.0) * 0.5;
         double tiempoEstimadoHoras = (tiempoViajeHoras + tiempoOperacionHoras) * 1.5;
         
@@ -285,6 +344,10 @@ public class ApiSimulacionesServlet extends HttpServlet {
         response.addProperty("distanciaKm", Math.round(distanciaKm * 10) / 10.0);
         response.addProperty("vehiculosNecesarios", vehiculosNecesarios);
         response.addProperty("tiempoEstimadoHoras", Math.round(tiempoEstimadoHoras * 10) / 10.0);
+        if (llegada != null) {
+            response.addProperty("salidaMinuto", salida);
+            response.addProperty("llegadaMinuto", Math.round(llegada * 10) / 10.0);
+        }
         response.add("recursosNecesarios", gson.toJsonTree(recursosNecesarios));
         response.add("planEjecucion", gson.toJsonTree(planEjecucion));
         
@@ -296,6 +359,288 @@ public class ApiSimulacionesServlet extends HttpServlet {
         resp.getWriter().flush();
     }
     
+    /**
+     * Plan conjunto de evacuación: toma todas las zonas pendientes en la cola
+     * de prioridad y las asigna a los refugios con un flujo de costo mínimo,
+     * respetando la capacidad de rutas y refugios. Body: {"lote": true,
+     * "horasPlan": 24}; horasPlan es el horizonte en que cada ruta admite
+     * capacidad × horas personas.
+     */
+    private void planificarEvacuacionConjunta(JsonObject json, HttpServletResponse resp) throws IOException {
+        double horas = json.has("horasPlan") ? json.get("horasPlan").getAsDouble() : HORAS_PLAN_POR_DEFECTO;
+        List<ZonaAfectada> pendientes = sistema.getColaEvacuaciones().obtenerPendientes();
+        System.out.println("📦 Plan conjunto: " + pendientes.size() + " zonas en cola, horizonte " + horas + " h");
+        if (!(horas > 0) || pendientes.isEmpty()) {
+            resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonObject error = new JsonObject();
+            error.addProperty("error", pendientes.isEmpty()
+                    ? "No hay zonas en la cola de evacuación" : "horasPlan debe ser positivo");
+            resp.getWriter().write(gson.toJson(error));
+            return;
+        }
+        
+        long inicio = System.nanoTime();
+        FlujoCostoMinimo plan = sistema.getGrafo().planificarEvacuacionConjunta(pendientes, horas);
+        long tiempoMs = (System.nanoTime() - inicio) / 1_000_000;
+        GrafoCompacto g = plan.getCompacto();
+        
+        JsonArray zonas = new JsonArray();
+        for (int i = 0; i < plan.getNumeroOrigenes(); i++) {
+            ZonaAfectada zona = sistema.getGrafo().obtenerZonaPorId(g.idDe(plan.origenEn(i)));
+            JsonObject z = new JsonObject();
+            z.addProperty("id", g.idDe(plan.origenEn(i)));
+            z.addProperty("nombre", zona != null ? zona.getNombre() : g.idDe(plan.origenEn(i)));
+            z.addProperty("nivelDeRiesgo", zona != null ? zona.getNivelDeRiesgo() : 0);
+            z.addProperty("poblacion", zona != null ? zona.getPoblacion() : 0);
+            z.addProperty("asignadas", plan.asignadasDesde(i));
+            zonas.add(z);
+        }
+        JsonArray refugios = new JsonArray();
+        for (int j = 0; j < plan.getNumeroRefugios(); j++) {
+            ZonaAfectada refugio = sistema.getGrafo().obtenerZonaPorId(g.idDe(plan.refugioEn(j)));
+            JsonObject r = new JsonObject();
+            r.addProperty("id", g.idDe(plan.refugioEn(j)));
+            r.addProperty("nombre", refugio != null ? refugio.getNombre() : g.idDe(plan.refugioEn(j)));
+            r.addProperty("capacidad", refugio != null ? refugio.getCapacidadRefugio() : 0);
+            r.addProperty("recibidas", plan.recibidasEn(j));
+            refugios.add(r);
+        }
+        JsonArray asignaciones = new JsonArray();
+        for (FlujoCostoMinimo.Asignacion a : plan.getAsignaciones()) {
+            JsonObject item = new JsonObject();
+            item.addProperty("zonaOrigenId", g.idDe(plan.origenEn(a.getOrigen())));
+            item.addProperty("refugioId", g.idDe(plan.refugioEn(a.getRefugio())));
+            item.addProperty("personas", a.getPersonas());
+            item.addProperty("tiempoMinutos", Math.round(a.getTiempo() * 10) / 10.0);
+            List<String> ruta = new ArrayList<>();
+            ZonaAfectada primera = sistema.getGrafo().obtenerZonaPorId(g.idDe(plan.origenEn(a.getOrigen())));
+            ruta.add(primera != null ? primera.getNombre() : g.idDe(plan.origenEn(a.getOrigen())));
+            for (int e : a.getAristas()) {
+                ZonaAfectada z = sistema.getGrafo().obtenerZonaPorId(g.idDe(g.destinoDe(e)));
+                ruta.add(z != null ? z.getNombre() : g.idDe(g.destinoDe(e)));
+            }
+            item.add("ruta", gson.toJsonTree(ruta));
+            asignaciones.add(item);
+        }
+        JsonArray flujos = new JsonArray();
+        for (int e = 0; e < g.getNumeroAristas(); e++) {
+            if (plan.flujoEn(e) == 0) continue;
+            JsonObject r = rutaJson(g, e);
+            r.addProperty("personas", plan.flujoEn(e));
+            flujos.add(r);
+        }
+        
+        JsonObject response = new JsonObject();
+        response.addProperty("horasPlan", horas);
+        response.addProperty("personasSolicitadas", plan.getPersonasSolicitadas());
+        response.addProperty("personasAsignadas", plan.getPersonasAsignadas());
+        response.addProperty("sinAsignar", plan.getPersonasSolicitadas() - plan.getPersonasAsignadas());
+        response.addProperty("tiempoTotalPersonaMinutos", Math.round(plan.getCostoTotal()));
+        response.add("zonas", zonas);
+        response.add("refugios", refugios);
+        response.add("asignaciones", asignaciones);
+        response.add("flujos", flujos);
+        response.addProperty("tiempoMs", tiempoMs);
+        
+        System.out.println("✅ Plan conjunto: " + plan.getPersonasAsignadas() + "/" + plan.getPersonasSolicitadas()
+                + " personas asignadas (" + plan.getIteraciones() + " caminos, " + tiempoMs + " ms)");
+        System.out.println("========================================");
+        
+        resp.getWriter().write(gson.toJson(response));
+        resp.getWriter().flush();
+    }
+    
+    /**
+     * Cronograma de evacuación más rápida sobre la red expandida en el tiempo.
+     * Body opcional: {"zonas": [ids], "minutosPorIntervalo": 5, "horizonteHoras": 24};
+     * sin zonas se usan las pendientes en la cola de evacuación. Responde en
+     * cuánto tiempo sale el último evacuado y, por zona y refugio, cuántas
+     * personas salen y llegan en cada intervalo. El horizonte se rechaza si
+     * la red expandida (capas por rutas y zonas) superaría el límite de memoria.
+     */
+    private void calcularCronograma(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        System.out.println("========================================");
+        System.out.println("⏱️ SERVLET: Recibida petición de cronograma de evacuación");
+        
+        String body = req.getReader().lines().collect(Collectors.joining());
+        JsonObject json = body.isBlank() ? new JsonObject() : gson.fromJson(body, JsonObject.class);
+        double minutos = json.has("minutosPorIntervalo") ? json.get("minutosPorIntervalo").getAsDouble() : 5.0;
+        double horas = json.has("horizonteHoras") ? json.get("horizonteHoras").getAsDouble() : HORAS_PLAN_POR_DEFECTO;
+        
+        String error = null;
+        List<ZonaAfectada> zonas = new ArrayList<>();
+        List<String> ids = listaIds(json, "zonas");
+        if (ids == null) {
+            zonas = sistema.getColaEvacuaciones().obtenerPendientes();
+        } else {
+            for (String id : ids) {
+                ZonaAfectada zona = sistema.getGrafo().obtenerZonaPorId(id);
+                if (zona == null) error = "Zona no encontrada: " + id;
+                zonas.add(zona);
+            }
+        }
+        double intervalos = horas * 60.0 / minutos;
+        if (!(minutos > 0) || !(horas > 0)) error = "minutosPorIntervalo y horizonteHoras deben ser positivos";
+        else if (intervalos > MAX_INTERVALOS_CRONOGRAMA) error = "El horizonte admite a lo sumo " + MAX_INTERVALOS_CRONOGRAMA + " intervalos";
+        else if (zonas.isEmpty()) error = "No hay zonas para evacuar";
+        else if (tamanoRedExpandida((int) Math.ceil(intervalos), zonas.size()) > MAX_TAMANO_RED_EXPANDIDA) {
+            error = "El horizonte es demasiado largo para el tamaño de la red; use intervalos más largos o un horizonte menor";
+        }
+        if (error != null) {
+            resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonObject respuestaError = new JsonObject();
+            respuestaError.addProperty("error", error);
+            resp.getWriter().write(gson.toJson(respuestaError));
+            return;
+        }
+        
+        long inicio = System.nanoTime();
+        EvacuacionRapida evacuacion = sistema.getGrafo().planificarEvacuacionRapida(zonas, minutos, (int) Math.ceil(intervalos));
+        long tiempoMs = (System.nanoTime() - inicio) / 1_000_000;
+        RedExpandida red = evacuacion.getRed();
+        GrafoCompacto g = red.getCompacto();
+        
+        JsonArray zonasJson = new JsonArray();
+        for (int i = 0; i < red.getNumeroOrigenes(); i++) {
+            ZonaAfectada zona = sistema.getGrafo().obtenerZonaPorId(g.idDe(red.origenEn(i)));
+            JsonObject z = new JsonObject();
+            z.addProperty("id", g.idDe(red.origenEn(i)));
+            z.addProperty("nombre", zona != null ? zona.getNombre() : g.idDe(red.origenEn(i)));
+            z.addProperty("personas", red.personasDe(i));
+            z.addProperty("evacuadas", red.evacuadasDesde(i));
+            JsonArray salidas = new JsonArray();
+            for (int t = 0; t <= red.getIntervalos(); t++) {
+                if (red.salidasEn(i, t) > 0) salidas.add(intervaloJson(t, minutos, red.salidasEn(i, t)));
+            }
+            z.add("salidas", salidas);
+            zonasJson.add(z);
+        }
+        JsonArray refugiosJson = new JsonArray();
+        for (int j = 0; j < red.getNumeroRefugios(); j++) {
+            ZonaAfectada refugio = sistema.getGrafo().obtenerZonaPorId(g.idDe(red.refugioEn(j)));
+            JsonObject r = new JsonObject();
+            r.addProperty("id", g.idDe(red.refugioEn(j)));
+            r.addProperty("nombre", refugio != null ? refugio.getNombre() : g.idDe(red.refugioEn(j)));
+            r.addProperty("recibidas", red.recibidasEn(j));
+            JsonArray llegadas = new JsonArray();
+            for (int t = 0; t <= red.getIntervalos(); t++) {
+                if (red.llegadasEn(j, t) > 0) llegadas.add(intervaloJson(t, minutos, red.llegadasEn(j, t)));
+            }
+            r.add("llegadas", llegadas);
+            refugiosJson.add(r);
+        }
+        
+        JsonObject response = new JsonObject();
+        response.addProperty("minutosPorIntervalo", minutos);
+        response.addProperty("intervalos", evacuacion.getIntervalos());
+        response.addProperty("minutosTotales", evacuacion.getMinutos());
+        response.addProperty("personasSolicitadas", evacuacion.getPersonasSolicitadas());
+        response.addProperty("personasEvacuadas", evacuacion.getPersonasEvacuadas());
+        response.addProperty("personasSinAcceso", evacuacion.getPersonasSinAcceso());
+        response.add("zonas", zonasJson);
+        response.add("refugios", refugiosJson);
+        response.addProperty("tiempoMs", tiempoMs);
+        
+        System.out.println("✅ Cronograma: " + evacuacion.getPersonasEvacuadas() + " personas en "
+                + evacuacion.getMinutos() + " min (" + evacuacion.getRedesResueltas() + " redes, " + tiempoMs + " ms)");
+        System.out.println("========================================");
+        
+        resp.getWriter().write(gson.toJson(response));
+        resp.getWriter().flush();
+    }
+    
+    /** Enteros de la red expandida de ese horizonte sobre la red vigente */
+    private long tamanoRedExpandida(int intervalos, int origenes) {
+        int refugios = 0;
+        for (ZonaAfectada zona : sistema.getGrafo().getInstantanea().zonas()) {
+            if (zona.isRefugio()) refugios++;
+        }
+        return RedExpandida.tamano(sistema.getGrafo().obtenerCompacto(), intervalos, origenes, refugios);
+    }
+    
+    private JsonObject intervaloJson(int intervalo, double minutosPorIntervalo, int personas) {
+        JsonObject json = new JsonObject();
+        json.addProperty("intervalo", intervalo);
+        json.addProperty("minuto", intervalo * minutosPorIntervalo);
+        json.addProperty("personas", personas);
+        return json;
+    }
+    
+    /**
+     * Capacidad de evacuación: flujo máximo (personas por hora) desde las
+     * zonas de origen hacia los refugios, limitado por la capacidad de las
+     * rutas. Body opcional: {"origenes": [ids], "refugios": [ids]}; sin
+     * origenes se usan las zonas de riesgo alto no evacuadas y sin refugios
+     * las zonas marcadas como refugio.
+     */
+    private void calcularCapacidad(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        System.out.println("========================================");
+        System.out.println("🚦 SERVLET: Recibida petición de capacidad de evacuación");
+        
+        String body = req.getReader().lines().collect(Collectors.joining());
+        JsonObject json = body.isBlank() ? new JsonObject() : gson.fromJson(body, JsonObject.class);
+        
+        long inicio = System.nanoTime();
+        FlujoMaximo flujo;
+        try {
+            flujo = sistema.getGrafo().calcularCapacidadEvacuacion(listaIds(json, "origenes"), listaIds(json, "refugios"));
+        } catch (IllegalArgumentException e) {
+            resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonObject error = new JsonObject();
+            error.addProperty("error", e.getMessage());
+            resp.getWriter().write(gson.toJson(error));
+            return;
+        }
+        long tiempoMs = (System.nanoTime() - inicio) / 1_000_000;
+        GrafoCompacto g = flujo.getCompacto();
+        
+        JsonArray flujos = new JsonArray();
+        for (int e = 0; e < g.getNumeroAristas(); e++) {
+            long enRuta = flujo.flujoEn(e);
+            if (enRuta == 0) continue;
+            Ruta ruta = g.rutaDe(e);
+            JsonObject r = rutaJson(g, e);
+            r.addProperty("flujo", enRuta);
+            r.addProperty("saturada", enRuta >= ruta.getCapacidad());
+            flujos.add(r);
+        }
+        JsonArray cuellos = new JsonArray();
+        for (int e : flujo.rutasCorteMinimo()) cuellos.add(rutaJson(g, e));
+        
+        JsonObject response = new JsonObject();
+        response.addProperty("personasPorHora", flujo.getFlujoTotal());
+        response.add("flujos", flujos);
+        response.add("cuellosDeBotella", cuellos);
+        response.addProperty("tiempoMs", tiempoMs);
+        
+        System.out.println("✅ Capacidad de evacuación: " + flujo.getFlujoTotal() + " personas/hora ("
+                + flujo.getFases() + " fases, " + tiempoMs + " ms)");
+        System.out.println("========================================");
+        
+        resp.getWriter().write(gson.toJson(response));
+        resp.getWriter().flush();
+    }
+    
+    private List<String> listaIds(JsonObject json, String campo) {
+        if (!json.has(campo) || json.get(campo).isJsonNull()) return null;
+        List<String> ids = new ArrayList<>();
+        for (JsonElement id : json.getAsJsonArray(campo)) ids.add(id.getAsString());
+        return ids;
+    }
+    
+    private JsonObject rutaJson(GrafoCompacto g, int arista) {
+        Ruta ruta = g.rutaDe(arista);
+        ZonaAfectada origen = sistema.getGrafo().obtenerZonaPorId(ruta.getOrigenId());
+        ZonaAfectada destino = sistema.getGrafo().obtenerZonaPorId(ruta.getDestinoId());
+        JsonObject r = new JsonObject();
+        r.addProperty("origenId", ruta.getOrigenId());
+        r.addProperty("destinoId", ruta.getDestinoId());
+        r.addProperty("origen", origen != null ? origen.getNombre() : ruta.getOrigenId());
+        r.addProperty("destino", destino != null ? destino.getNombre() : ruta.getDestinoId());
+        r.addProperty("capacidad", ruta.getCapacidad());
+        return r;
+    }
+    
     private JsonObject crearRecurso(String tipo, int cantidad) {
         JsonObject recurso = new JsonObject();
         recurso.addProperty("tipo", tipo);
@@ -303,18 +648,17 @@ public class ApiSimulacionesServlet extends HttpServlet {
         return recurso;
     }
     
+    private String refugioMasCercano(String zonaId) {
+        RefugiosCercanos refugios = sistema.getGrafo().obtenerRefugiosCercanos();
+        GrafoCompacto g = refugios.getCompacto();
+        int nodo = g.indiceDe(zonaId);
+        if (nodo < 0 || !refugios.alcanzaRefugio(nodo)) return null;
+        return g.idDe(refugios.refugioDe(nodo));
+    }
+    
     private double calcularDistancia(double lat1, double lng1, double lat2, double lng2) {
         // Fórmula de Haversine para calcular distancia entre dos puntos
-        final int R = 6371; // Radio de la Tierra en km
-        
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lng2 - lng1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return R * c;
+        return GeoService.distanciaKm(lat1, lng1, lat2, lng2);
     }
 
     @Override
@@ -0,0 +1,85 @@
+package co.edu.uniquindio.poo.app.servlets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.ComponentesFuertes;
+import co.edu.uniquindio.poo.ds.GrafoCompacto;
+import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Servlet para consultar la conectividad de las zonas
+ * GET /api/zones/isolated                       (zonas que no alcanzan ningún refugio)
+ * GET /api/zones/isolated?desde=ID1&hasta=ID2   (si hay camino entre dos zonas)
+ *
+ * Ambas consultas usan las componentes fuertemente conexas por rutas
+ * disponibles. Cada zona aislada incluye su componente para agruparlas en
+ * el mapa.
+ */
+@WebServlet("/api/zones/isolated")
+public class ApiZonesIsolatedServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private final Gson gson = new Gson();
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+
+        // CORS headers
+        resp.setHeader("Access-Control-Allow-Origin", "*");
+        resp.setHeader("Access-Control-Allow-Methods", "GET, OPTIONS");
+        resp.setHeader("Access-Control-Allow-Headers", "Content-Type");
+
+        GrafoDirigido grafo = SistemaGestionDesastres.getInstance().getGrafo();
+        ComponentesFuertes componentes = grafo.obtenerComponentes();
+        GrafoCompacto g = componentes.getCompacto();
+        JsonObject respuesta = new JsonObject();
+
+        String desde = req.getParameter("desde");
+        String hasta = req.getParameter("hasta");
+        if (desde != null || hasta != null) {
+            for (String id : new String[] {desde, hasta}) {
+                if (id == null || !grafo.existeZona(id)) {
+                    resp.setStatus(400);
+                    JsonObject error = new JsonObject();
+                    error.addProperty("error", id == null ? "Faltan desde y hasta" : "Zona no encontrada: " + id);
+                    resp.getWriter().write(gson.toJson(error));
+                    return;
+                }
+            }
+            respuesta.addProperty("desde", desde);
+            respuesta.addProperty("hasta", hasta);
+            respuesta.addProperty("alcanzable", grafo.existeCamino(desde, hasta));
+            resp.setStatus(200);
+            resp.getWriter().write(gson.toJson(respuesta));
+            return;
+        }
+
+        JsonArray aisladas = new JsonArray();
+        for (ZonaAfectada zona : grafo.obtenerZonasAisladas()) {
+            JsonObject item = new JsonObject();
+            item.addProperty("id", zona.getId());
+            item.addProperty("nombre", zona.getNombre());
+            item.addProperty("lat", zona.getLat());
+            item.addProperty("lng", zona.getLng());
+            int nodo = g.indiceDe(zona.getId());
+            if (nodo >= 0) item.addProperty("componente", componentes.componenteDe(nodo));
+            aisladas.add(item);
+        }
+        respuesta.addProperty("componentes", componentes.getNumeroComponentes());
+        respuesta.add("aisladas", aisladas);
+        resp.setStatus(200);
+        resp.getWriter().write(gson.toJson(respuesta));
+    }
+}
@@ -7,6 +7,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.model.BandaRiesgo;
 import co.edu.uniquindio.poo.model.EquipoDeRescate;
 import co.edu.uniquindio.poo.model.Notificacion.TipoNotificacion;
 import co.edu.uniquindio.poo.model.ZonaAfectada;
@@ -33,8 +34,36 @@ public class ApiZonesServlet extends HttpServlet {
         resp.setHeader("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
         resp.setHeader("Access-Control-Allow-Headers", "Content-Type");
 
+        // Filtros opcionales: ?riesgo=BAJO|MEDIO|ALTO y ?evacuada=true|false
+        String riesgoParam = req.getParameter("riesgo");
+        String evacuadaParam = req.getParameter("evacuada");
+        BandaRiesgo banda = null;
+        if (riesgoParam != null && !riesgoParam.isBlank()) {
+            try {
+                banda = BandaRiesgo.valueOf(riesgoParam.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                JsonObject error = new JsonObject();
+                error.addProperty("ok", false);
+                error.addProperty("msg", "Banda de riesgo inválida. Use: BAJO, MEDIO o ALTO");
+                resp.getWriter().write(gson.toJson(error));
+                return;
+            }
+        }
+
         try {
-            var zonas = sistema.getGrafo().obtenerZonas();
+            List<ZonaAfectada> zonas;
+            if (banda != null) {
+                zonas = sistema.getGrafo().obtenerZonasPorBandaRiesgo(banda);
+                if (evacuadaParam != null) {
+                    boolean evacuada = Boolean.parseBoolean(evacuadaParam);
+                    zonas.removeIf(z -> z.isEvacuada() != evacuada);
+                }
+            } else if (evacuadaParam != null) {
+                zonas = sistema.getGrafo().obtenerZonasPorEvacuacion(Boolean.parseBoolean(evacuadaParam));
+            } else {
+                zonas = sistema.getGrafo().obtenerZonas();
+            }
             System.out.println("DEBUG ApiZonesServlet GET - Zonas encontradas: " + zonas.size());
             
             // Construir JSON manualmente para incluir equipos asignados
@@ -53,6 +82,8 @@ public class ApiZonesServlet extends HttpServlet {
                 jsonBuilder.append("\"nivelDeRiesgo\":").append(zona.getNivelDeRiesgo()).append(",");
                 jsonBuilder.append("\"lat\":").append(zona.getLat()).append(",");
                 jsonBuilder.append("\"lng\":").append(zona.getLng()).append(",");
+                jsonBuilder.append("\"refugio\":").append(zona.isRefugio()).append(",");
+                jsonBuilder.append("\"capacidadRefugio\":").append(zona.getCapacidadRefugio()).append(",");
                 
                 // Recursos asignados
                 jsonBuilder.append("\"recursosAsignados\":{");
@@ -198,6 +229,12 @@ public class ApiZonesServlet extends HttpServlet {
 
             // Crear la nueva zona CON coordenadas
             ZonaAfectada nuevaZona = new ZonaAfectada(nombre, poblacion, nivelDeRiesgo, lat, lng);
+            if (jsonRequest.has("refugio")) {
+                nuevaZona.setRefugio(jsonRequest.get("refugio").getAsBoolean());
+            }
+            if (jsonRequest.has("capacidadRefugio")) {
+                nuevaZona.setCapacidadRefugio(jsonRequest.get("capacidadRefugio").getAsInt());
+            }
             System.out.println("DEBUG ApiZonesServlet - Zona creada con ID: " + nuevaZona.getId() + " en (" + lat + ", " + lng + ")");
             System.out.println("DEBUG ApiZonesServlet - Nivel de riesgo DESPUÉS de crear: " + nuevaZona.getNivelDeRiesgo());
 
@@ -303,8 +340,13 @@ public class ApiZonesServlet extends HttpServlet {
                 zonaExistente.setNivelDeRiesgo(jsonRequest.get("nivelDeRiesgo").getAsInt());
             }
             if (jsonRequest.has("lat") && jsonRequest.has("lng")) {
-                zonaExistente.setLat(jsonRequest.get("lat").getAsDouble());
-                zonaExistente.setLng(jsonRequest.get("lng").getAsDouble());
+                zonaExistente.setUbicacion(jsonRequest.get("lat").getAsDouble(), jsonRequest.get("lng").getAsDouble());
+            }
+            if (jsonRequest.has("refugio")) {
+                zonaExistente.setRefugio(jsonRequest.get("refugio").getAsBoolean());
+            }
+            if (jsonRequest.has("capacidadRefugio")) {
+                zonaExistente.setCapacidadRefugio(jsonRequest.get("capacidadRefugio").getAsInt());
             }
 
             JsonObject response = new JsonObject();
@@ -0,0 +1,114 @@
+package co.edu.uniquindio.poo.app.servlets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import co.edu.uniquindio.poo.services.GeoService;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Servlet para consultas espaciales de zonas
+ * GET /api/zones/near?lat=..&lng=..&radioKm=..  (zonas dentro del radio)
+ * GET /api/zones/near?lat=..&lng=..&k=..        (k zonas más cercanas)
+ * GET /api/zones/bbox?minLat=..&minLng=..&maxLat=..&maxLng=..
+ *
+ * Las consultas se resuelven con el índice espacial del registro de zonas.
+ * En /near cada zona incluye distanciaKm al punto consultado.
+ */
+@WebServlet(urlPatterns = {"/api/zones/near", "/api/zones/bbox"})
+public class ApiZonesSpatialServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_VECINOS = 500;
+    private final Gson gson = new Gson();
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+
+        // CORS headers
+        resp.setHeader("Access-Control-Allow-Origin", "*");
+        resp.setHeader("Access-Control-Allow-Methods", "GET, OPTIONS");
+        resp.setHeader("Access-Control-Allow-Headers", "Content-Type");
+
+        GrafoDirigido grafo = SistemaGestionDesastres.getInstance().getGrafo();
+        try {
+            JsonArray respuesta = new JsonArray();
+            if ("/api/zones/bbox".equals(req.getServletPath())) {
+                double minLat = parametro(req, "minLat");
+                double minLng = parametro(req, "minLng");
+                double maxLat = parametro(req, "maxLat");
+                double maxLng = parametro(req, "maxLng");
+                for (ZonaAfectada zona : grafo.buscarZonasEnRectangulo(minLat, minLng, maxLat, maxLng)) {
+                    respuesta.add(zonaJson(zona));
+                }
+            } else {
+                double lat = parametro(req, "lat");
+                double lng = parametro(req, "lng");
+                List<ZonaAfectada> zonas;
+                if (req.getParameter("k") != null) {
+                    int k = (int) parametro(req, "k");
+                    if (k < 1 || k > MAX_VECINOS) {
+                        throw new IllegalArgumentException("k debe estar entre 1 y " + MAX_VECINOS);
+                    }
+                    zonas = grafo.buscarZonasMasCercanas(lat, lng, k);
+                } else {
+                    double radioKm = parametro(req, "radioKm");
+                    if (radioKm < 0) throw new IllegalArgumentException("radioKm no puede ser negativo");
+                    zonas = grafo.buscarZonasEnRadio(lat, lng, radioKm);
+                }
+                for (ZonaAfectada zona : zonas) {
+                    JsonObject json = zonaJson(zona);
+                    double distancia = GeoService.distanciaKm(lat, lng, zona.getLat(), zona.getLng());
+                    json.addProperty("distanciaKm", Math.round(distancia * 100.0) / 100.0);
+                    respuesta.add(json);
+                }
+            }
+            System.out.println("🗺️ Consulta espacial " + req.getServletPath() + ": " + respuesta.size() + " zonas");
+            resp.getWriter().write(gson.toJson(respuesta));
+        } catch (IllegalArgumentException e) {
+            resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonObject error = new JsonObject();
+            error.addProperty("error", e.getMessage());
+            resp.getWriter().write(gson.toJson(error));
+        }
+    }
+
+    private double parametro(HttpServletRequest req, String nombre) {
+        String valor = req.getParameter(nombre);
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalArgumentException("Falta el parámetro " + nombre);
+        }
+        try {
+            return Double.parseDouble(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parámetro inválido " + nombre + ": " + valor);
+        }
+    }
+
+    private JsonObject zonaJson(ZonaAfectada zona) {
+        JsonObject json = new JsonObject();
+        json.addProperty("id", zona.getId());
+        json.addProperty("nombre", zona.getNombre());
+        json.addProperty("poblacion", zona.getPoblacion());
+        json.addProperty("poblacionInicial", zona.getPoblacionInicial());
+        json.addProperty("evacuada", zona.isEvacuada());
+        json.addProperty("nivelDeRiesgo", zona.getNivelDeRiesgo());
+        json.addProperty("lat", zona.getLat());
+        json.addProperty("lng", zona.getLng());
+        json.addProperty("refugio", zona.isRefugio());
+        json.addProperty("capacidadRefugio", zona.getCapacidadRefugio());
+        return json;
+    }
+}
@@ -0,0 +1,54 @@
+package co.edu.uniquindio.poo.ds;
+
+/**
+ * Algoritmos disponibles para calcular la ruta más corta en {@link GrafoDirigido}.
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public enum AlgoritmoRuta {
+    /** Dijkstra clásico desde el origen */
+    DIJKSTRA("dijkstra"),
+
+    /** A* guiado por la distancia geográfica al destino */
+    A_ESTRELLA("astar"),
+
+    /** Dijkstra simultáneo desde el origen y hacia el destino */
+    BIDIRECCIONAL("bidireccional"),
+
+    /** Jerarquía de contracción precalculada (solo tiempo; bidireccional mientras se construye) */
+    JERARQUIA_CONTRACCION("ch"),
+
+    /** Búsquedas locales por región unidas por la superposición de fronteras */
+    PARTICIONADO("particionado");
+
+    /** Nombre usado en los parámetros de la API */
+    private final String parametro;
+
+    AlgoritmoRuta(String parametro) {
+        this.parametro = parametro;
+    }
+
+    public String getParametro() {
+        return parametro;
+    }
+
+    /**
+     * Obtiene el algoritmo correspondiente a un parámetro de la API.
+     *
+     * @param valor Valor recibido (por ejemplo "astar"), puede ser null
+     * @param porDefecto Algoritmo a usar si el valor es null o vacío
+     * @return Algoritmo seleccionado
+     * @throws IllegalArgumentException si el valor no corresponde a ningún algoritmo
+     */
+    public static AlgoritmoRuta desdeParametro(String valor, AlgoritmoRuta porDefecto) {
+        if (valor == null || valor.isBlank()) return porDefecto;
+        for (AlgoritmoRuta a : values()) {
+            if (a.parametro.equalsIgnoreCase(valor.trim()) || a.name().equalsIgnoreCase(valor.trim())) {
+                return a;
+            }
+        }
+        throw new IllegalArgumentException("Algoritmo desconocido: " + valor);
+    }
+}
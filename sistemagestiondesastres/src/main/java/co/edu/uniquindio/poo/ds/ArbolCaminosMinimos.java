@@ -0,0 +1,224 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Árbol de caminos mínimos por tiempo desde un origen fijo, mantenido de
+ * forma incremental ante bloqueos y reaperturas de rutas.
+ *
+ * <p>Cada nodo guarda su distancia al origen y la ruta por la que llega
+ * (su padre en el árbol). Al bloquear una ruta que no pertenece al árbol no
+ * cambia nada. Si pertenece, solo el subárbol que cuelga de ella pierde su
+ * camino: sus nodos toman la mejor entrada desde fuera del subárbol y se
+ * reasientan con Dijkstra restringido a ese subárbol. Al reabrir una ruta
+ * solo pueden bajar distancias, y se propagan desde su destino. Es el
+ * esquema de Ramalingam y Reps para un cambio de una arista.</p>
+ *
+ * <p>Las consultas recorren los padres desde el destino, en tiempo
+ * proporcional a la longitud del camino.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class ArbolCaminosMinimos {
+    /** Grafo sobre el que se construyó el árbol */
+    private final GrafoCompacto compacto;
+
+    /** Nodo origen */
+    private final int origen;
+
+    /** Tiempo de cada ruta */
+    private final double[] pesos;
+
+    /** Disponibilidad de cada ruta según el árbol */
+    private final boolean[] disponible;
+
+    /** Distancia mínima desde el origen (infinito si no es alcanzable) */
+    private final double[] dist;
+
+    /** Ruta por la que se llega a cada nodo en el árbol, o -1 */
+    private final int[] padre;
+
+    private final ReadWriteLock candado = new ReentrantReadWriteLock();
+
+    /**
+     * Construye el árbol completo con Dijkstra desde el origen.
+     *
+     * @param compacto Grafo compacto de origen
+     * @param origen Índice del nodo origen
+     */
+    public ArbolCaminosMinimos(GrafoCompacto compacto, int origen) {
+        this.compacto = compacto;
+        this.origen = origen;
+        this.pesos = compacto.pesos(Metrica.TIEMPO);
+        int n = compacto.getNumeroNodos();
+        int m = compacto.getNumeroAristas();
+        this.disponible = new boolean[m];
+        this.dist = new double[n];
+        this.padre = new int[n];
+
+        for (int e = 0; e < m; e++) disponible[e] = compacto.rutaDe(e).estaDisponible();
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(padre, -1);
+        dist[origen] = 0.0;
+
+        MonticuloIndexado cola = EspacioBusqueda.adelante(n).cola();
+        cola.insertarOActualizar(origen, 0.0);
+        asentar(cola, null);
+    }
+
+    /**
+     * Actualiza el árbol cuando una ruta se bloquea o se reabre.
+     *
+     * @param arista Índice de la ruta en el grafo compacto
+     * @param estado Nuevo estado de la ruta
+     * @return Número de nodos cuya distancia o padre se recalculó
+     */
+    public int actualizarDisponibilidad(int arista, boolean estado) {
+        candado.writeLock().lock();
+        try {
+            if (disponible[arista] == estado) return 0;
+            disponible[arista] = estado;
+            return estado ? reabrir(arista) : bloquear(arista);
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ajusta el árbol al estado actual de todas las rutas del grafo compacto.
+     */
+    public void sincronizarDisponibilidad() {
+        for (int e = 0; e < disponible.length; e++) {
+            actualizarDisponibilidad(e, compacto.rutaDe(e).estaDisponible());
+        }
+    }
+
+    private int bloquear(int arista) {
+        int v = compacto.destinoDe(arista);
+        if (padre[v] != arista) return 0;
+
+        // Subárbol que colgaba de la ruta bloqueada, marcado como asentado en el espacio
+        EspacioBusqueda enSubarbol = EspacioBusqueda.adelante(dist.length);
+        ListaEnteros subarbol = new ListaEnteros();
+        subarbol.agregar(v);
+        enSubarbol.asentar(v);
+        for (int i = 0; i < subarbol.tamano(); i++) {
+            int x = subarbol.obtener(i);
+            for (int e = compacto.inicioAristas(x); e < compacto.finAristas(x); e++) {
+                int y = compacto.destinoDe(e);
+                if (padre[y] == e && !enSubarbol.asentado(y)) {
+                    enSubarbol.asentar(y);
+                    subarbol.agregar(y);
+                }
+            }
+        }
+
+        // Mejor entrada de cada nodo desde fuera del subárbol
+        MonticuloIndexado cola = enSubarbol.cola();
+        for (int i = 0; i < subarbol.tamano(); i++) {
+            int x = subarbol.obtener(i);
+            dist[x] = Double.POSITIVE_INFINITY;
+            padre[x] = -1;
+        }
+        for (int i = 0; i < subarbol.tamano(); i++) {
+            int x = subarbol.obtener(i);
+            for (int p = compacto.inicioEntrantes(x); p < compacto.finEntrantes(x); p++) {
+                int e = compacto.aristaEntrante(p);
+                int u = compacto.origenDe(e);
+                if (!disponible[e] || enSubarbol.asentado(u)) continue;
+                double nd = dist[u] + pesos[e];
+                if (nd < dist[x]) {
+                    dist[x] = nd;
+                    padre[x] = e;
+                }
+            }
+            if (dist[x] < Double.POSITIVE_INFINITY) cola.insertarOActualizar(x, dist[x]);
+        }
+
+        asentar(cola, enSubarbol);
+        return subarbol.tamano();
+    }
+
+    private int reabrir(int arista) {
+        int u = compacto.origenDe(arista);
+        int v = compacto.destinoDe(arista);
+        double nd = dist[u] + pesos[arista];
+        if (!(nd < dist[v])) return 0;
+
+        dist[v] = nd;
+        padre[v] = arista;
+        MonticuloIndexado cola = EspacioBusqueda.adelante(dist.length).cola();
+        cola.insertarOActualizar(v, nd);
+        return asentar(cola, null);
+    }
+
+    /**
+     * Dijkstra desde las entradas de la cola. Con {@code region} solo se
+     * relajan los nodos marcados como asentados en ella; sin ella, cualquier
+     * nodo que mejore.
+     *
+     * @return Nodos asentados
+     */
+    private int asentar(MonticuloIndexado cola, EspacioBusqueda region) {
+        int asentados = 0;
+        while (!cola.estaVacio()) {
+            int x = cola.extraerMinimo();
+            asentados++;
+            for (int e = compacto.inicioAristas(x); e < compacto.finAristas(x); e++) {
+                if (!disponible[e]) continue;
+                int y = compacto.destinoDe(e);
+                if (region != null && !region.asentado(y)) continue;
+                double nd = dist[x] + pesos[e];
+                if (nd < dist[y]) {
+                    dist[y] = nd;
+                    padre[y] = e;
+                    cola.insertarOActualizar(y, nd);
+                }
+            }
+        }
+        return asentados;
+    }
+
+    /**
+     * Obtiene el camino mínimo desde el origen hasta un nodo.
+     *
+     * @param destino Índice del nodo destino
+     * @return Camino en índices de rutas (sin rutas si destino es el origen
+     *         o no es alcanzable; ver {@link CaminoCompacto#existe()})
+     */
+    public CaminoCompacto caminoHasta(int destino) {
+        candado.readLock().lock();
+        try {
+            if (destino == origen || padre[destino] < 0) {
+                return new CaminoCompacto(null, dist[destino], 0);
+            }
+            ListaEnteros inverso = new ListaEnteros();
+            for (int x = destino; x != origen; x = compacto.origenDe(padre[x])) inverso.agregar(padre[x]);
+            int[] camino = new int[inverso.tamano()];
+            for (int i = 0; i < camino.length; i++) camino[i] = inverso.obtener(camino.length - 1 - i);
+            return new CaminoCompacto(camino, dist[destino], 0);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param nodo Índice del nodo
+     * @return Tiempo mínimo desde el origen, o infinito si no es alcanzable
+     */
+    public double distanciaA(int nodo) {
+        candado.readLock().lock();
+        try {
+            return dist[nodo];
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    public GrafoCompacto getCompacto() { return compacto; }
+    public int getOrigen() { return origen; }
+}
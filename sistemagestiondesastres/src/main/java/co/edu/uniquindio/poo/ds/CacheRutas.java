@@ -0,0 +1,173 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import co.edu.uniquindio.poo.model.Ruta;
+
+/**
+ * Cache acotada (LRU) de caminos calculados por {@link GrafoDirigido}.
+ *
+ * Cada entrada guarda la versión del grafo con la que se calculó. Una
+ * entrada de otra versión se considera inválida y se descarta al
+ * consultarla, así que cualquier cambio de topología o de disponibilidad
+ * de rutas invalida la cache sin recorrerla. También se guardan los
+ * resultados sin camino, para no repetir búsquedas que fallan. La clave
+ * incluye el algoritmo, de modo que un camino calculado con uno no se
+ * entregue a quien pidió otro.
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class CacheRutas {
+    /** Capacidad usada por defecto en {@link GrafoDirigido} */
+    public static final int CAPACIDAD_POR_DEFECTO = 1024;
+
+    private final int capacidad;
+    private final LinkedHashMap<Clave, Entrada> entradas;
+
+    private long aciertos;
+    private long fallos;
+    private long desalojos;
+    private long invalidaciones;
+
+    /**
+     * @param capacidad Número máximo de caminos almacenados
+     */
+    public CacheRutas(int capacidad) {
+        if (capacidad <= 0) throw new IllegalArgumentException("La capacidad debe ser positiva");
+        this.capacidad = capacidad;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Clave, Entrada> eldest) {
+                if (size() <= CacheRutas.this.capacidad) return false;
+                desalojos++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Busca un camino calculado con la versión indicada del grafo.
+     *
+     * @return Resultado almacenado, o null si no hay uno vigente
+     */
+    public synchronized Resultado obtener(String origenId, String destinoId, AlgoritmoRuta algoritmo,
+                                       Metrica metrica, long version) {
+        Clave clave = new Clave(origenId, destinoId, algoritmo, metrica);
+        Entrada entrada = entradas.get(clave);
+        if (entrada == null) {
+            fallos++;
+            return null;
+        }
+        if (entrada.version != version) {
+            entradas.remove(clave);
+            invalidaciones++;
+            fallos++;
+            return null;
+        }
+        aciertos++;
+        return entrada.resultado;
+    }
+
+    /**
+     * Almacena un camino calculado con la versión indicada del grafo.
+     *
+     * @param camino Rutas del camino, o null si no existe camino
+     */
+    public synchronized void guardar(String origenId, String destinoId, AlgoritmoRuta algoritmo,
+                                  Metrica metrica, long version, List<Ruta> camino) {
+        entradas.put(new Clave(origenId, destinoId, algoritmo, metrica), new Entrada(version, new Resultado(camino)));
+    }
+
+    /**
+     * Vacía la cache sin reiniciar las estadísticas.
+     */
+    public synchronized void limpiar() {
+        invalidaciones += entradas.size();
+        entradas.clear();
+    }
+
+    /**
+     * Obtiene las estadísticas de uso de la cache.
+     *
+     * @return Mapa con capacidad, tamaño, aciertos, fallos, desalojos,
+     *         invalidaciones y tasa de aciertos
+     */
+    public synchronized Map<String, Object> getEstadisticas() {
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        long consultas = aciertos + fallos;
+        estadisticas.put("capacidad", capacidad);
+        estadisticas.put("tamano", entradas.size());
+        estadisticas.put("aciertos", aciertos);
+        estadisticas.put("fallos", fallos);
+        estadisticas.put("desalojos", desalojos);
+        estadisticas.put("invalidaciones", invalidaciones);
+        estadisticas.put("tasaAciertos", consultas == 0 ? 0.0 : (double) aciertos / consultas);
+        return estadisticas;
+    }
+
+    public synchronized long getAciertos() { return aciertos; }
+    public synchronized long getFallos() { return fallos; }
+    public synchronized long getDesalojos() { return desalojos; }
+    public synchronized int getTamano() { return entradas.size(); }
+    public int getCapacidad() { return capacidad; }
+
+    /**
+     * Camino almacenado en la cache (puede representar la ausencia de camino).
+     */
+    public static class Resultado {
+        private final List<Ruta> camino;
+
+        private Resultado(List<Ruta> camino) {
+            this.camino = camino != null ? List.copyOf(camino) : null;
+        }
+
+        public boolean existe() { return camino != null; }
+
+        /**
+         * @return Copia modificable del camino, o null si no existe camino
+         */
+        public List<Ruta> getCamino() {
+            return camino != null ? new ArrayList<>(camino) : null;
+        }
+    }
+
+    private static class Entrada {
+        final long version;
+        final Resultado resultado;
+        Entrada(long version, Resultado resultado) { this.version = version; this.resultado = resultado; }
+    }
+
+    private static class Clave {
+        final String origenId;
+        final String destinoId;
+        final AlgoritmoRuta algoritmo;
+        final Metrica metrica;
+
+        Clave(String origenId, String destinoId, AlgoritmoRuta algoritmo, Metrica metrica) {
+            this.origenId = origenId;
+            this.destinoId = destinoId;
+            this.algoritmo = algoritmo;
+            this.metrica = metrica;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Clave)) return false;
+            Clave otra = (Clave) o;
+            return origenId.equals(otra.origenId) && destinoId.equals(otra.destinoId)
+                    && algoritmo == otra.algoritmo && metrica == otra.metrica;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(origenId, destinoId, algoritmo, metrica);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package co.edu.uniquindio.poo.ds;
+
+/**
+ * Resultado de una búsqueda sobre {@link GrafoCompacto}.
+ *
+ * Contiene los índices de las rutas del camino encontrado, su costo total
+ * y la cantidad de nodos asentados durante la búsqueda, útil para comparar
+ * el trabajo realizado por distintos algoritmos.
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class CaminoCompacto {
+    /** Índices de rutas en orden, o null si no existe camino */
+    private final int[] aristas;
+
+    /** Costo total del camino según la métrica usada */
+    private final double costo;
+
+    /** Nodos extraídos definitivamente de la cola durante la búsqueda */
+    private final int nodosAsentados;
+
+    public CaminoCompacto(int[] aristas, double costo, int nodosAsentados) {
+        this.aristas = aristas;
+        this.costo = costo;
+        this.nodosAsentados = nodosAsentados;
+    }
+
+    public boolean existe() { return aristas != null; }
+    public int[] getAristas() { return aristas; }
+    public double getCosto() { return costo; }
+    public int getNodosAsentados() { return nodosAsentados; }
+}
@@ -0,0 +1,133 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Cálculo de los k caminos más cortos sin ciclos (algoritmo de Yen) sobre
+ * un {@link GrafoCompacto}.
+ *
+ * <p>Cada camino nuevo se obtiene desviando uno ya aceptado: para cada nodo
+ * del último camino (nodo de desvío) se conserva el tramo previo (raíz), se
+ * prohíben las rutas que otros caminos aceptados toman desde esa misma raíz
+ * y los nodos de la raíz, y se busca el resto con Dijkstra. Las búsquedas de
+ * desvío de un mismo camino son independientes entre sí y se ejecutan en
+ * paralelo en un {@link ForkJoinPool}.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public final class CaminosAlternativos {
+
+    private CaminosAlternativos() {
+    }
+
+    /**
+     * Calcula hasta {@code k} caminos sin ciclos ordenados por costo creciente.
+     *
+     * @param grafo Grafo compacto sobre el que se busca
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @param k Número máximo de caminos
+     * @param metrica Métrica a minimizar
+     * @param pool Pool donde se ejecutan las búsquedas de desvío
+     * @return Caminos encontrados (vacío si no hay ninguno)
+     */
+    public static List<CaminoCompacto> calcular(GrafoCompacto grafo, int origen, int destino,
+                                                int k, Metrica metrica, ForkJoinPool pool) {
+        List<CaminoCompacto> aceptados = new ArrayList<>();
+        if (k <= 0 || origen == destino) return aceptados;
+
+        CaminoCompacto primero = grafo.dijkstra(origen, destino, metrica);
+        if (!primero.existe()) return aceptados;
+        aceptados.add(primero);
+
+        double[] pesos = grafo.pesos(metrica);
+        PriorityQueue<CaminoCompacto> candidatos = new PriorityQueue<>(
+                Comparator.comparingDouble(CaminoCompacto::getCosto)
+                        .thenComparingInt(c -> c.getAristas().length));
+        Set<List<Integer>> vistos = new HashSet<>();
+        vistos.add(comoLista(primero.getAristas()));
+
+        while (aceptados.size() < k) {
+            int[] anterior = aceptados.get(aceptados.size() - 1).getAristas();
+
+            List<Callable<CaminoCompacto>> desvios = new ArrayList<>(anterior.length);
+            for (int i = 0; i < anterior.length; i++) {
+                final int posicion = i;
+                desvios.add(() -> desviar(grafo, aceptados, anterior, posicion, destino, metrica, pesos));
+            }
+
+            for (Future<CaminoCompacto> desvio : pool.invokeAll(desvios)) {
+                CaminoCompacto candidato = obtener(desvio);
+                if (candidato != null && vistos.add(comoLista(candidato.getAristas()))) {
+                    candidatos.add(candidato);
+                }
+            }
+
+            if (candidatos.isEmpty()) break;
+            aceptados.add(candidatos.poll());
+        }
+        return aceptados;
+    }
+
+    /**
+     * Busca el camino que comparte con {@code anterior} sus primeras
+     * {@code posicion} rutas y se separa en el nodo siguiente.
+     */
+    private static CaminoCompacto desviar(GrafoCompacto grafo, List<CaminoCompacto> aceptados, int[] anterior,
+                                          int posicion, int destino, Metrica metrica, double[] pesos) {
+        boolean[] nodosExcluidos = new boolean[grafo.getNumeroNodos()];
+        boolean[] aristasExcluidas = new boolean[grafo.getNumeroAristas()];
+
+        // La raíz no puede repetirse en el desvío
+        double costoRaiz = 0.0;
+        for (int i = 0; i < posicion; i++) {
+            nodosExcluidos[grafo.origenDe(anterior[i])] = true;
+            costoRaiz += pesos[anterior[i]];
+        }
+        int nodoDesvio = grafo.origenDe(anterior[posicion]);
+
+        // Prohibir la continuación de todo camino aceptado con la misma raíz
+        for (CaminoCompacto aceptado : aceptados) {
+            int[] otro = aceptado.getAristas();
+            if (otro.length > posicion && Arrays.equals(otro, 0, posicion, anterior, 0, posicion)) {
+                aristasExcluidas[otro[posicion]] = true;
+            }
+        }
+
+        CaminoCompacto tramo = grafo.dijkstraRestringido(nodoDesvio, destino, metrica, nodosExcluidos, aristasExcluidas);
+        if (!tramo.existe()) return null;
+
+        int[] camino = Arrays.copyOf(anterior, posicion + tramo.getAristas().length);
+        System.arraycopy(tramo.getAristas(), 0, camino, posicion, tramo.getAristas().length);
+        return new CaminoCompacto(camino, costoRaiz + tramo.getCosto(), tramo.getNodosAsentados());
+    }
+
+    private static CaminoCompacto obtener(Future<CaminoCompacto> desvio) {
+        try {
+            return desvio.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Búsqueda de rutas alternativas interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error en búsqueda de desvío", e.getCause());
+        }
+    }
+
+    private static List<Integer> comoLista(int[] aristas) {
+        List<Integer> lista = new ArrayList<>(aristas.length);
+        for (int e : aristas) lista.add(e);
+        return lista;
+    }
+}
@@ -89,6 +89,20 @@ public class ColaPrioridadEvacuaciones {
             .forEach(z -> System.out.println(" - " + z.getNombre() + " (Riesgo: " + z.getNivelDeRiesgo() + ")"));
     }
 
+    /**
+     * Obtiene las zonas pendientes sin retirarlas de la cola.
+     * 
+     * Útil para planificar todas las evacuaciones en conjunto
+     * (por ejemplo con {@link FlujoCostoMinimo}).
+     * 
+     * @return Zonas pendientes, de mayor a menor nivel de riesgo
+     */
+    public List<ZonaAfectada> obtenerPendientes() {
+        List<ZonaAfectada> pendientes = new ArrayList<>(colaEvacuaciones);
+        pendientes.sort(colaEvacuaciones.comparator());
+        return pendientes;
+    }
+
     /**
      * Verifica si la cola de evacuaciones está vacía.
      * 
@@ -0,0 +1,363 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Componentes fuertemente conexas del grafo de zonas por rutas disponibles,
+ * con la condensación (DAG de componentes) y etiquetas de alcanzabilidad.
+ *
+ * <p>Las componentes se calculan con Tarjan (iterativo) y quedan numeradas
+ * en orden topológico inverso: si hay una ruta de la componente {@code a} a
+ * la {@code b}, entonces {@code a > b}. Sobre la condensación se guardan dos
+ * etiquetas de intervalo por componente (dos recorridos en profundidad con
+ * distinto orden de hijos): si {@code a} alcanza a {@code b}, el intervalo
+ * de {@code b} está contenido en el de {@code a} en ambos recorridos. Con el
+ * orden topológico y las etiquetas se descarta en O(1) la mayoría de los
+ * pares sin camino; {@link #alcanzable(int, int)} da la respuesta exacta con
+ * una búsqueda en la condensación podada por las mismas etiquetas.</p>
+ *
+ * <p>Cada arco de la condensación cuenta cuántas rutas disponibles lo
+ * sostienen, así que bloquear o agregar rutas se refleja sin recalcular en
+ * los casos que no cambian las componentes ni crean arcos nuevos: un arco
+ * que queda en cero deja de recorrerse y las etiquetas siguen siendo válidas
+ * (solo más permisivas). Los métodos de actualización devuelven false cuando
+ * hace falta recalcular.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class ComponentesFuertes {
+    /** Recorridos de la condensación con que se etiquetan las componentes */
+    private static final int ETIQUETAS = 2;
+
+    private final GrafoCompacto compacto;
+
+    /** Componente de cada nodo */
+    private final int[] componente;
+    private final int[] tamanos;
+    private final int numeroComponentes;
+
+    /** Condensación en CSR: arcos de la componente c en inicioDag[c]..inicioDag[c+1]-1 */
+    private final int[] inicioDag;
+    private final int[] sucesores;
+
+    /** Rutas disponibles que sostienen cada arco de la condensación */
+    private final int[] soporte;
+
+    /** Posición de cada arco de la condensación, por par (origen, destino) */
+    private final Map<Long, Integer> arcos;
+
+    /** Extremos de los intervalos por recorrido: [bajo, post] */
+    private final int[][] bajo;
+    private final int[][] post;
+
+    /** Marcas por nodo para las comprobaciones locales (bajo el candado del grafo) */
+    private int[] marcas;
+    private int marcaActual;
+
+    private ComponentesFuertes(GrafoCompacto compacto, int[] componente, int numeroComponentes) {
+        this.compacto = compacto;
+        this.componente = componente;
+        this.numeroComponentes = numeroComponentes;
+        this.tamanos = new int[numeroComponentes];
+        for (int c : componente) tamanos[c]++;
+
+        // Arcos entre componentes: contar por origen, luego ubicar y sumar soporte
+        arcos = new HashMap<>();
+        inicioDag = new int[numeroComponentes + 1];
+        int m = compacto.getNumeroAristas();
+        for (int e = 0; e < m; e++) {
+            if (!compacto.rutaDe(e).estaDisponible()) continue;
+            int a = componente[compacto.origenDe(e)], b = componente[compacto.destinoDe(e)];
+            if (a != b && arcos.putIfAbsent(clave(a, b), -1) == null) inicioDag[a + 1]++;
+        }
+        for (int c = 0; c < numeroComponentes; c++) inicioDag[c + 1] += inicioDag[c];
+        sucesores = new int[inicioDag[numeroComponentes]];
+        soporte = new int[sucesores.length];
+        int[] cursor = Arrays.copyOf(inicioDag, numeroComponentes);
+        for (int e = 0; e < m; e++) {
+            if (!compacto.rutaDe(e).estaDisponible()) continue;
+            int a = componente[compacto.origenDe(e)], b = componente[compacto.destinoDe(e)];
+            if (a == b) continue;
+            long k = clave(a, b);
+            int posicion = arcos.get(k);
+            if (posicion < 0) {
+                posicion = cursor[a]++;
+                sucesores[posicion] = b;
+                arcos.put(k, posicion);
+            }
+            soporte[posicion]++;
+        }
+
+        bajo = new int[ETIQUETAS][];
+        post = new int[ETIQUETAS][];
+        for (int k = 0; k < ETIQUETAS; k++) etiquetar(k, k % 2 == 1);
+    }
+
+    /**
+     * Calcula las componentes fuertemente conexas por rutas disponibles.
+     *
+     * @param compacto Representación compacta del grafo
+     * @return Componentes, condensación y etiquetas
+     */
+    public static ComponentesFuertes calcular(GrafoCompacto compacto) {
+        int n = compacto.getNumeroNodos();
+        int[] componente = new int[n];
+        int[] orden = new int[n];
+        int[] bajoTarjan = new int[n];
+        int[] cursor = new int[n];
+        boolean[] enPila = new boolean[n];
+        Arrays.fill(orden, -1);
+        int[] pila = new int[n];
+        int[] llamadas = new int[n];
+        int tope = 0, contador = 0, componentes = 0;
+
+        for (int raiz = 0; raiz < n; raiz++) {
+            if (orden[raiz] >= 0) continue;
+            int profundidad = 0;
+            llamadas[profundidad++] = raiz;
+            orden[raiz] = bajoTarjan[raiz] = contador++;
+            cursor[raiz] = compacto.inicioAristas(raiz);
+            pila[tope++] = raiz;
+            enPila[raiz] = true;
+
+            while (profundidad > 0) {
+                int v = llamadas[profundidad - 1];
+                if (cursor[v] < compacto.finAristas(v)) {
+                    int e = cursor[v]++;
+                    if (!compacto.rutaDe(e).estaDisponible()) continue;
+                    int w = compacto.destinoDe(e);
+                    if (orden[w] < 0) {
+                        orden[w] = bajoTarjan[w] = contador++;
+                        cursor[w] = compacto.inicioAristas(w);
+                        pila[tope++] = w;
+                        enPila[w] = true;
+                        llamadas[profundidad++] = w;
+                    } else if (enPila[w]) {
+                        bajoTarjan[v] = Math.min(bajoTarjan[v], orden[w]);
+                    }
+                    continue;
+                }
+
+                profundidad--;
+                if (profundidad > 0) {
+                    int padre = llamadas[profundidad - 1];
+                    bajoTarjan[padre] = Math.min(bajoTarjan[padre], bajoTarjan[v]);
+                }
+                if (bajoTarjan[v] == orden[v]) {
+                    int w;
+                    do {
+                        w = pila[--tope];
+                        enPila[w] = false;
+                        componente[w] = componentes;
+                    } while (w != v);
+                    componentes++;
+                }
+            }
+        }
+        return new ComponentesFuertes(compacto, componente, componentes);
+    }
+
+    /**
+     * Etiqueta la condensación con un recorrido en profundidad: cada
+     * componente recibe su número en postorden y el menor número en
+     * postorden de lo que alcanza.
+     */
+    private void etiquetar(int k, boolean invertido) {
+        int[] b = new int[numeroComponentes];
+        int[] p = new int[numeroComponentes];
+        Arrays.fill(p, -1);
+        int[] cursor = new int[numeroComponentes];
+        int[] llamadas = new int[numeroComponentes];
+        int contador = 0;
+
+        // Las fuentes de la condensación tienen los números más altos
+        for (int i = 0; i < numeroComponentes; i++) {
+            int raiz = invertido ? i : numeroComponentes - 1 - i;
+            if (p[raiz] >= 0) continue;
+            int profundidad = 0;
+            llamadas[profundidad++] = raiz;
+            cursor[raiz] = 0;
+            b[raiz] = Integer.MAX_VALUE;
+            p[raiz] = Integer.MAX_VALUE;
+            while (profundidad > 0) {
+                int c = llamadas[profundidad - 1];
+                int grado = inicioDag[c + 1] - inicioDag[c];
+                if (cursor[c] < grado) {
+                    int i2 = cursor[c]++;
+                    int d = sucesores[invertido ? inicioDag[c + 1] - 1 - i2 : inicioDag[c] + i2];
+                    if (p[d] < 0) {
+                        cursor[d] = 0;
+                        b[d] = Integer.MAX_VALUE;
+                        p[d] = Integer.MAX_VALUE;
+                        llamadas[profundidad++] = d;
+                    } else {
+                        b[c] = Math.min(b[c], b[d]);
+                    }
+                    continue;
+                }
+                profundidad--;
+                p[c] = contador++;
+                b[c] = Math.min(b[c], p[c]);
+                if (profundidad > 0) {
+                    int padre = llamadas[profundidad - 1];
+                    b[padre] = Math.min(b[padre], b[c]);
+                }
+            }
+        }
+        bajo[k] = b;
+        post[k] = p;
+    }
+
+    private long clave(int a, int b) {
+        return (long) a * numeroComponentes + b;
+    }
+
+    /**
+     * Indica si las etiquetas descartan un camino entre dos componentes.
+     */
+    private boolean descartadaComponente(int a, int b) {
+        if (a == b) return false;
+        if (a < b) return true;
+        for (int k = 0; k < ETIQUETAS; k++) {
+            if (bajo[k][b] < bajo[k][a] || post[k][b] > post[k][a]) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Descarta en O(1) un camino entre dos nodos con el orden topológico y
+     * las etiquetas. Si devuelve false puede haber camino o no (por ejemplo
+     * si se bloquearon rutas entre componentes desde el cálculo).
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @return true si seguro no hay camino por rutas disponibles
+     */
+    public boolean descartado(int origen, int destino) {
+        return descartadaComponente(componente[origen], componente[destino]);
+    }
+
+    /**
+     * Indica si hay camino entre dos nodos por rutas disponibles. Recorre la
+     * condensación desde la componente de origen, sin entrar en componentes
+     * cuyas etiquetas descartan el destino.
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @return true si el destino es alcanzable desde el origen
+     */
+    public boolean alcanzable(int origen, int destino) {
+        int a = componente[origen], b = componente[destino];
+        if (a == b) return true;
+        if (descartadaComponente(a, b)) return false;
+        boolean[] visitada = new boolean[a - b + 1];
+        ListaEnteros pendientes = new ListaEnteros();
+        pendientes.agregar(a);
+        visitada[a - b] = true;
+        while (pendientes.tamano() > 0) {
+            int c = pendientes.quitarUltimo();
+            for (int i = inicioDag[c]; i < inicioDag[c + 1]; i++) {
+                int d = sucesores[i];
+                if (soporte[i] == 0 || d < b || visitada[d - b]) continue;
+                if (d == b) return true;
+                visitada[d - b] = true;
+                if (!descartadaComponente(d, b)) pendientes.agregar(d);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marca las componentes desde las que se alcanza alguno de los nodos
+     * dados, recorriendo la condensación de los números bajos a los altos.
+     *
+     * @param destinos Índices de nodos de destino
+     * @return Para cada componente, si alcanza alguno de los destinos
+     */
+    public boolean[] alcanzanAlguno(int[] destinos) {
+        boolean[] alcanza = new boolean[numeroComponentes];
+        for (int d : destinos) alcanza[componente[d]] = true;
+        for (int c = 0; c < numeroComponentes; c++) {
+            for (int i = inicioDag[c]; i < inicioDag[c + 1] && !alcanza[c]; i++) {
+                if (soporte[i] > 0 && alcanza[sucesores[i]]) alcanza[c] = true;
+            }
+        }
+        return alcanza;
+    }
+
+    /**
+     * Registra que una ruta entre dos nodos quedó disponible (nueva o
+     * reabierta).
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @return false si la ruta une componentes sin arco en la condensación
+     *         y hay que recalcular
+     */
+    boolean rutaHabilitada(int origen, int destino) {
+        if (origen >= componente.length || destino >= componente.length) return false;
+        int a = componente[origen], b = componente[destino];
+        if (a == b) return true;
+        Integer posicion = arcos.get(clave(a, b));
+        if (posicion == null) return false;
+        soporte[posicion]++;
+        return true;
+    }
+
+    /**
+     * Registra que una ruta entre dos nodos dejó de estar disponible
+     * (bloqueada o eliminada). Dentro de una componente se comprueba que el
+     * origen siga llegando al destino por otras rutas: si es así, todo
+     * camino que usaba la ruta tiene desvío y la componente no se parte.
+     *
+     * @param vigente Representación compacta con la topología actual
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @return false si la componente puede haberse partido y hay que recalcular
+     */
+    boolean rutaDeshabilitada(GrafoCompacto vigente, int origen, int destino) {
+        if (origen >= componente.length || destino >= componente.length) return false;
+        int a = componente[origen], b = componente[destino];
+        if (a != b) {
+            Integer posicion = arcos.get(clave(a, b));
+            if (posicion == null || soporte[posicion] == 0) return false;
+            soporte[posicion]--;
+            return true;
+        }
+        return vigente.getNumeroNodos() == componente.length && llegaDentroDeComponente(vigente, origen, destino);
+    }
+
+    private boolean llegaDentroDeComponente(GrafoCompacto g, int origen, int destino) {
+        if (origen == destino) return true;
+        if (marcas == null) marcas = new int[componente.length];
+        if (++marcaActual == Integer.MAX_VALUE) {
+            Arrays.fill(marcas, 0);
+            marcaActual = 1;
+        }
+        int c = componente[origen];
+        ListaEnteros pendientes = new ListaEnteros();
+        pendientes.agregar(origen);
+        marcas[origen] = marcaActual;
+        while (pendientes.tamano() > 0) {
+            int v = pendientes.quitarUltimo();
+            for (int e = g.inicioAristas(v); e < g.finAristas(v); e++) {
+                int w = g.destinoDe(e);
+                if (marcas[w] == marcaActual || componente[w] != c || !g.rutaDe(e).estaDisponible()) continue;
+                if (w == destino) return true;
+                marcas[w] = marcaActual;
+                pendientes.agregar(w);
+            }
+        }
+        return false;
+    }
+
+    public int componenteDe(int nodo) { return componente[nodo]; }
+    public int tamanoDe(int componente) { return tamanos[componente]; }
+    public int getNumeroComponentes() { return numeroComponentes; }
+    public int getNumeroArcosCondensacion() { return sucesores.length; }
+    public GrafoCompacto getCompacto() { return compacto; }
+}
@@ -0,0 +1,130 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+
+/**
+ * Espacio de trabajo reutilizable para búsquedas de caminos: costo, ruta
+ * previa y marca de asentado por nodo, más la cola de prioridad.
+ *
+ * En lugar de crear y llenar arreglos del tamaño del grafo en cada consulta,
+ * cada hilo conserva los suyos y los "borra" incrementando una época: un
+ * valor solo es válido si el sello del nodo coincide con la época actual, así
+ * que iniciar una búsqueda cuesta O(1) y no genera basura. Los arreglos crecen
+ * al tamaño del grafo más grande visto por el hilo y se conservan.
+ *
+ * <p>Hay dos espacios por hilo, uno para la búsqueda hacia adelante y otro
+ * para la hacia atrás, de modo que las búsquedas bidireccionales usen ambos a
+ * la vez. Una búsqueda no debe iniciar otra del mismo sentido en el mismo hilo
+ * mientras siga leyendo su espacio; los valores se pierden en el siguiente
+ * {@link #iniciar(int)}, por lo que lo que deba sobrevivir a la consulta se
+ * copia al resultado.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+final class EspacioBusqueda {
+    private static final ThreadLocal<EspacioBusqueda> ADELANTE = ThreadLocal.withInitial(EspacioBusqueda::new);
+    private static final ThreadLocal<EspacioBusqueda> ATRAS = ThreadLocal.withInitial(EspacioBusqueda::new);
+
+    private double[] costo = new double[0];
+    private int[] previa = new int[0];
+    /** Época en que se fijó el costo de cada nodo */
+    private int[] sello = new int[0];
+    /** Época en que se asentó cada nodo */
+    private int[] selloAsentado = new int[0];
+    /** Valor auxiliar por nodo (por ejemplo la cota de A*), creado al usarse */
+    private double[] auxiliar;
+    private int epoca;
+    private final MonticuloIndexado cola = new MonticuloIndexado();
+
+    private EspacioBusqueda() {
+    }
+
+    /**
+     * Espacio del hilo actual para búsquedas hacia adelante, ya iniciado.
+     *
+     * @param nodos Número de nodos del grafo a recorrer
+     */
+    static EspacioBusqueda adelante(int nodos) {
+        return ADELANTE.get().iniciar(nodos);
+    }
+
+    /**
+     * Espacio del hilo actual para búsquedas hacia atrás, ya iniciado.
+     *
+     * @param nodos Número de nodos del grafo a recorrer
+     */
+    static EspacioBusqueda atras(int nodos) {
+        return ATRAS.get().iniciar(nodos);
+    }
+
+    /**
+     * Olvida la búsqueda anterior: todos los nodos quedan con costo infinito,
+     * sin ruta previa ni asentar, y la cola vacía.
+     */
+    EspacioBusqueda iniciar(int nodos) {
+        if (sello.length < nodos) {
+            int capacidad = Math.max(nodos, sello.length + (sello.length >> 1));
+            costo = new double[capacidad];
+            previa = new int[capacidad];
+            sello = new int[capacidad];
+            selloAsentado = new int[capacidad];
+            auxiliar = null;
+        }
+        if (++epoca == Integer.MAX_VALUE) {
+            Arrays.fill(sello, 0);
+            Arrays.fill(selloAsentado, 0);
+            epoca = 1;
+        }
+        cola.limpiar();
+        cola.asegurarUniverso(nodos);
+        return this;
+    }
+
+    /** @return Costo fijado en esta búsqueda, infinito si no se alcanzó */
+    double costo(int nodo) {
+        return sello[nodo] == epoca ? costo[nodo] : Double.POSITIVE_INFINITY;
+    }
+
+    /** @return Ruta (o nodo) previa fijada en esta búsqueda, -1 si no hay */
+    int previa(int nodo) {
+        return sello[nodo] == epoca ? previa[nodo] : -1;
+    }
+
+    boolean alcanzado(int nodo) {
+        return sello[nodo] == epoca;
+    }
+
+    void fijar(int nodo, double costoNodo, int previaNodo) {
+        costo[nodo] = costoNodo;
+        previa[nodo] = previaNodo;
+        sello[nodo] = epoca;
+    }
+
+    boolean asentado(int nodo) {
+        return selloAsentado[nodo] == epoca;
+    }
+
+    void asentar(int nodo) {
+        selloAsentado[nodo] = epoca;
+    }
+
+    /**
+     * Valor auxiliar del nodo; solo es válido si se fijó en esta búsqueda
+     * (quien lo usa lo fija al alcanzar el nodo por primera vez).
+     */
+    double auxiliar(int nodo) {
+        return auxiliar[nodo];
+    }
+
+    void fijarAuxiliar(int nodo, double valor) {
+        if (auxiliar == null) auxiliar = new double[sello.length];
+        auxiliar[nodo] = valor;
+    }
+
+    /** @return Cola de prioridad del espacio, vacía al iniciar */
+    MonticuloIndexado cola() {
+        return cola;
+    }
+}
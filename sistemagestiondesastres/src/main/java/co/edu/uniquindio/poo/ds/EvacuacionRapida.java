@@ -0,0 +1,134 @@
+package co.edu.uniquindio.poo.ds;
+
+/**
+ * Evacuación en el menor tiempo (flujo más rápido) sobre una
+ * {@link RedExpandida}.
+ *
+ * <p>El flujo máximo crece con el horizonte. Se prueba con horizontes que
+ * se duplican hasta evacuar a todos los que tienen camino a un refugio,
+ * dentro de la capacidad total de los refugios (o llegar al horizonte
+ * máximo, y entonces la meta es lo que se logra en él). Las zonas sin
+ * camino no cuentan para la meta, así que no llevan la duplicación hasta el
+ * horizonte máximo. Luego se busca por bisección
+ * el menor número de intervalos que alcanza la meta. Las redes de prueba
+ * son casi siempre menores que la del horizonte máximo. La red del menor
+ * horizonte trae el cronograma: cuántas personas salen de cada zona en cada
+ * intervalo, por qué rutas y cuántas llegan a cada refugio.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class EvacuacionRapida {
+    /** Red del menor horizonte suficiente, con su flujo */
+    private final RedExpandida red;
+    private final long personasEvacuadas;
+    private final long personasSolicitadas;
+    private final long personasSinAcceso;
+    private final int redesResueltas;
+
+    private EvacuacionRapida(RedExpandida red, long personasEvacuadas, long personasSolicitadas,
+                             long personasSinAcceso, int redesResueltas) {
+        this.red = red;
+        this.personasEvacuadas = personasEvacuadas;
+        this.personasSolicitadas = personasSolicitadas;
+        this.personasSinAcceso = personasSinAcceso;
+        this.redesResueltas = redesResueltas;
+    }
+
+    /**
+     * Calcula el cronograma de evacuación más rápido.
+     *
+     * @param grafo Grafo compacto
+     * @param origenes Índices de las zonas a evacuar (sin repetir)
+     * @param personas Personas de cada origen
+     * @param refugios Índices de los refugios (sin repetir)
+     * @param capacidades Personas que admite cada refugio (0 o menos = sin límite)
+     * @param minutosPorIntervalo Duración de cada intervalo
+     * @param maxIntervalos Horizonte máximo, en intervalos
+     * @return Cronograma del menor horizonte que evacúa a todos los que se pueden evacuar
+     */
+    public static EvacuacionRapida calcular(GrafoCompacto grafo, int[] origenes, long[] personas, int[] refugios,
+                                            long[] capacidades, double minutosPorIntervalo, int maxIntervalos) {
+        int alto = Math.min(1, maxIntervalos);
+        long solicitadas = -1;
+        long sinAcceso = 0;
+        long meta = 0;
+        long maximo;
+        RedExpandida mejor;
+        int resueltas = 0;
+        // Horizontes probados al duplicar y su flujo (a lo sumo 32)
+        int[] probados = new int[33];
+        long[] flujos = new long[33];
+
+        // Horizonte creciente (duplicando) hasta evacuar a todos los que se
+        // pueden evacuar o agotar el máximo
+        while (true) {
+            RedExpandida red = new RedExpandida(grafo, minutosPorIntervalo, alto, origenes, personas, refugios, capacidades);
+            if (solicitadas < 0) {
+                solicitadas = 0;
+                boolean[] acceso = red.origenesConAcceso();
+                for (int i = 0; i < origenes.length; i++) {
+                    solicitadas += red.personasDe(i);
+                    if (!acceso[i]) sinAcceso += red.personasDe(i);
+                }
+                long capacidadTotal = 0;
+                for (int j = 0; j < refugios.length; j++) {
+                    capacidadTotal = Math.min(RedResidual.ILIMITADO, capacidadTotal + red.capacidadRefugioDe(j));
+                }
+                meta = Math.min(solicitadas - sinAcceso, capacidadTotal);
+            }
+            long flujo = red.maximizar();
+            probados[resueltas] = alto;
+            flujos[resueltas] = flujo;
+            resueltas++;
+            if (flujo >= meta || alto == maxIntervalos) {
+                mejor = red;
+                maximo = flujo;
+                break;
+            }
+            alto = (int) Math.min(2L * alto, maxIntervalos);
+        }
+        // Si no se evacuó a todos, la meta es menor y algún horizonte ya probado puede alcanzarla
+        int bajo = 0;
+        for (int k = 0; k < resueltas; k++) {
+            if (flujos[k] < maximo) bajo = Math.max(bajo, probados[k] + 1);
+        }
+
+        // Bisección entre el último horizonte insuficiente y el primero suficiente
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            RedExpandida red = new RedExpandida(grafo, minutosPorIntervalo, medio, origenes, personas, refugios, capacidades);
+            resueltas++;
+            if (red.maximizar() >= maximo) {
+                alto = medio;
+                mejor = red;
+            } else {
+                bajo = medio + 1;
+            }
+        }
+        return new EvacuacionRapida(mejor, maximo, solicitadas, sinAcceso, resueltas);
+    }
+
+    /**
+     * @return Intervalos hasta que llega la última persona evacuada
+     */
+    public int getIntervalos() { return red.getIntervalos(); }
+
+    /**
+     * @return Minutos hasta que llega la última persona evacuada
+     */
+    public double getMinutos() { return red.getIntervalos() * red.getMinutosPorIntervalo(); }
+
+    public long getPersonasEvacuadas() { return personasEvacuadas; }
+    public long getPersonasSolicitadas() { return personasSolicitadas; }
+
+    /** @return Personas de zonas sin camino utilizable hacia ningún refugio */
+    public long getPersonasSinAcceso() { return personasSinAcceso; }
+
+    /** @return Redes expandidas resueltas durante la bisección */
+    public int getRedesResueltas() { return redesResueltas; }
+
+    /** @return Red con el cronograma (salidas, rutas y llegadas por intervalo) */
+    public RedExpandida getRed() { return red; }
+}
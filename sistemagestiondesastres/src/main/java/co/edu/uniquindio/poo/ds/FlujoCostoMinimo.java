@@ -0,0 +1,360 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plan conjunto de evacuación: asigna la población de varias zonas a los
+ * refugios y la reparte por las rutas con un flujo de costo mínimo.
+ *
+ * <p>En lugar de planificar cada evacuación por separado (lo que lleva a
+ * todos por las mismas vías y al mismo refugio), se resuelven todas a la
+ * vez: cada zona ofrece su población, cada refugio admite hasta su
+ * capacidad y cada ruta deja pasar {@code capacidad × horas} personas en el
+ * horizonte del plan. Se evacúa la mayor cantidad posible de personas y,
+ * entre los planes que lo logran, el de menor tiempo total de viaje
+ * (personas × minutos).</p>
+ *
+ * <p>Si no caben todos, se da prioridad a las zonas de mayor riesgo: el arco
+ * de la fuente a cada zona lleva un costo proporcional a
+ * {@code 100 - riesgo}, mayor que cualquier diferencia de tiempo de viaje,
+ * de modo que una persona de una zona menos riesgosa solo ocupa un lugar
+ * que no puede aprovechar una de riesgo mayor.</p>
+ *
+ * <p>Se usan caminos mínimos sucesivos con potenciales (costos reducidos no
+ * negativos, Dijkstra detenido al alcanzar el sumidero) sobre la red de
+ * {@link RedResidual}. Al final el flujo se descompone en asignaciones
+ * zona → refugio, cada una con su camino.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class FlujoCostoMinimo {
+    /** Grafo sobre el que se calculó el plan */
+    private final GrafoCompacto compacto;
+
+    private final int[] origenes;
+    private final long[] solicitadas;
+    private final long[] asignadas;
+    private final int[] refugios;
+    private final long[] recibidas;
+
+    /** Flujo por ruta del grafo compacto */
+    private final long[] flujoRuta;
+
+    private final List<Asignacion> asignaciones;
+    private final double costoTotal;
+    private final int iteraciones;
+
+    private FlujoCostoMinimo(GrafoCompacto compacto, int[] origenes, long[] solicitadas, long[] asignadas,
+                             int[] refugios, long[] recibidas, long[] flujoRuta, List<Asignacion> asignaciones,
+                             double costoTotal, int iteraciones) {
+        this.compacto = compacto;
+        this.origenes = origenes;
+        this.solicitadas = solicitadas;
+        this.asignadas = asignadas;
+        this.refugios = refugios;
+        this.recibidas = recibidas;
+        this.flujoRuta = flujoRuta;
+        this.asignaciones = asignaciones;
+        this.costoTotal = costoTotal;
+        this.iteraciones = iteraciones;
+    }
+
+    /**
+     * Calcula el plan conjunto. Un origen que también es refugio no se
+     * evacúa.
+     *
+     * @param grafo Grafo compacto
+     * @param origenes Índices de las zonas a evacuar (sin repetir)
+     * @param personas Personas a evacuar de cada origen
+     * @param riesgos Nivel de riesgo (0 a 100) de cada origen
+     * @param refugios Índices de los refugios (sin repetir)
+     * @param capacidades Personas que admite cada refugio (0 o menos = sin límite)
+     * @param horas Horizonte del plan; cada ruta admite {@code capacidad × horas} personas
+     * @return Plan calculado
+     */
+    public static FlujoCostoMinimo calcular(GrafoCompacto grafo, int[] origenes, long[] personas, int[] riesgos,
+                                            int[] refugios, long[] capacidades, double horas) {
+        int n = grafo.getNumeroNodos();
+        int m = grafo.getNumeroAristas();
+        int fuente = n;
+        int sumidero = n + 1;
+        int totalNodos = n + 2;
+
+        boolean[] esRefugio = new boolean[n];
+        for (int r : refugios) esRefugio[r] = true;
+
+        RedResidual red = new RedResidual(totalNodos, m + origenes.length + refugios.length);
+        int[] arcoDeRuta = new int[m];
+        Arrays.fill(arcoDeRuta, -1);
+        double tiempoTotalRutas = 0;
+        for (int e = 0; e < m; e++) {
+            long capacidad = (long) Math.floor(grafo.rutaDe(e).getCapacidad() * horas);
+            if (capacidad <= 0 || !grafo.rutaDe(e).estaDisponible()) continue;
+            double tiempo = Math.max(0.0, grafo.tiempoDe(e));
+            arcoDeRuta[e] = red.agregarArco(grafo.origenDe(e), grafo.destinoDe(e), capacidad, tiempo);
+            tiempoTotalRutas += tiempo;
+        }
+
+        // Un punto de riesgo pesa más que cualquier camino simple
+        double penalizacion = tiempoTotalRutas + 1.0;
+        int[] arcoDeOrigen = new int[origenes.length];
+        for (int i = 0; i < origenes.length; i++) {
+            int o = origenes[i];
+            if (esRefugio[o] || personas[i] <= 0) {
+                arcoDeOrigen[i] = -1;
+                continue;
+            }
+            int riesgo = Math.max(0, Math.min(100, riesgos[i]));
+            arcoDeOrigen[i] = red.agregarArco(fuente, o, personas[i], (100 - riesgo) * penalizacion);
+        }
+        int[] arcoDeRefugio = new int[refugios.length];
+        for (int j = 0; j < refugios.length; j++) {
+            long capacidad = capacidades[j] > 0 ? capacidades[j] : RedResidual.ILIMITADO;
+            arcoDeRefugio[j] = red.agregarArco(refugios[j], sumidero, capacidad, 0);
+        }
+        red.compilar();
+        for (int e = 0; e < m; e++) if (arcoDeRuta[e] >= 0) arcoDeRuta[e] = red.posicionDe(arcoDeRuta[e]);
+        for (int i = 0; i < origenes.length; i++) if (arcoDeOrigen[i] >= 0) arcoDeOrigen[i] = red.posicionDe(arcoDeOrigen[i]);
+        for (int j = 0; j < refugios.length; j++) arcoDeRefugio[j] = red.posicionDe(arcoDeRefugio[j]);
+
+        int iteraciones = caminosSucesivos(red, fuente, sumidero);
+
+        long[] flujoRuta = new long[m];
+        double costoTotal = 0;
+        for (int e = 0; e < m; e++) {
+            if (arcoDeRuta[e] < 0) continue;
+            flujoRuta[e] = red.flujoEn(arcoDeRuta[e]);
+            costoTotal += flujoRuta[e] * red.costo[arcoDeRuta[e]];
+        }
+        long[] asignadas = new long[origenes.length];
+        for (int i = 0; i < origenes.length; i++) asignadas[i] = arcoDeOrigen[i] < 0 ? 0 : red.flujoEn(arcoDeOrigen[i]);
+        long[] recibidas = new long[refugios.length];
+        for (int j = 0; j < refugios.length; j++) recibidas[j] = red.flujoEn(arcoDeRefugio[j]);
+
+        List<Asignacion> asignaciones = descomponer(grafo, origenes, asignadas, refugios, recibidas, flujoRuta.clone());
+        return new FlujoCostoMinimo(grafo, origenes.clone(), personas.clone(), asignadas, refugios.clone(), recibidas,
+                flujoRuta, asignaciones, costoTotal, iteraciones);
+    }
+
+    /**
+     * Caminos mínimos sucesivos desde la fuente hasta que el sumidero deja
+     * de ser alcanzable.
+     *
+     * @return Número de caminos aumentados
+     */
+    private static int caminosSucesivos(RedResidual red, int fuente, int sumidero) {
+        int totalNodos = red.numeroNodos;
+        int[] inicio = red.inicio;
+        int[] cabeza = red.cabeza;
+        long[] residual = red.residual;
+        double[] costo = red.costo;
+        int[] inverso = red.inverso;
+
+        double[] potencial = new double[totalNodos];
+        double[] dist = new double[totalNodos];
+        int[] arcoPadre = new int[totalNodos];
+        boolean[] asentado = new boolean[totalNodos];
+        MonticuloIndexado cola = new MonticuloIndexado(totalNodos);
+        int iteraciones = 0;
+
+        while (true) {
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            Arrays.fill(asentado, false);
+            dist[fuente] = 0.0;
+            arcoPadre[fuente] = -1;
+            cola.limpiar();
+            cola.insertarOActualizar(fuente, 0.0);
+            while (!cola.estaVacio()) {
+                int u = cola.extraerMinimo();
+                asentado[u] = true;
+                if (u == sumidero) break;
+                for (int a = inicio[u]; a < inicio[u + 1]; a++) {
+                    if (residual[a] <= 0) continue;
+                    int v = cabeza[a];
+                    if (asentado[v]) continue;
+                    double reducido = Math.max(0.0, costo[a] + potencial[u] - potencial[v]);
+                    double nd = dist[u] + reducido;
+                    if (nd < dist[v]) {
+                        dist[v] = nd;
+                        arcoPadre[v] = a;
+                        cola.insertarOActualizar(v, nd);
+                    }
+                }
+            }
+            if (!asentado[sumidero]) return iteraciones;
+
+            // Los nodos no asentados reciben la distancia del sumidero: los costos reducidos siguen sin ser negativos
+            double hastaSumidero = dist[sumidero];
+            for (int v = 0; v < totalNodos; v++) potencial[v] += Math.min(dist[v], hastaSumidero);
+
+            long cuello = RedResidual.ILIMITADO;
+            for (int v = sumidero; v != fuente; v = cabeza[inverso[arcoPadre[v]]]) {
+                cuello = Math.min(cuello, residual[arcoPadre[v]]);
+            }
+            for (int v = sumidero; v != fuente; v = cabeza[inverso[arcoPadre[v]]]) {
+                int a = arcoPadre[v];
+                residual[a] -= cuello;
+                residual[inverso[a]] += cuello;
+            }
+            iteraciones++;
+        }
+    }
+
+    /**
+     * Descompone el flujo de rutas en caminos origen → refugio. Si aparece
+     * un ciclo de flujo (rutas de tiempo cero) se cancela.
+     */
+    private static List<Asignacion> descomponer(GrafoCompacto grafo, int[] origenes, long[] asignadas,
+                                                int[] refugios, long[] recibidas, long[] flujo) {
+        int n = grafo.getNumeroNodos();
+        long[] llegadaRestante = new long[n];
+        int[] refugioEn = new int[n];
+        Arrays.fill(refugioEn, -1);
+        for (int j = 0; j < refugios.length; j++) {
+            llegadaRestante[refugios[j]] = recibidas[j];
+            refugioEn[refugios[j]] = j;
+        }
+
+        List<Asignacion> asignaciones = new ArrayList<>();
+        int[] posicionEnCamino = new int[n];
+        Arrays.fill(posicionEnCamino, -1);
+        ListaEnteros nodos = new ListaEnteros();
+        ListaEnteros aristas = new ListaEnteros();
+
+        for (int i = 0; i < origenes.length; i++) {
+            long pendiente = asignadas[i];
+            while (pendiente > 0) {
+                int actual = origenes[i];
+                nodos.limpiar();
+                aristas.limpiar();
+                nodos.agregar(actual);
+                posicionEnCamino[actual] = 0;
+                while (llegadaRestante[actual] <= 0) {
+                    int siguiente = -1;
+                    for (int e = grafo.inicioAristas(actual); e < grafo.finAristas(actual); e++) {
+                        if (flujo[e] > 0) { siguiente = e; break; }
+                    }
+                    if (siguiente < 0) throw new IllegalStateException("Flujo sin conservación en " + grafo.idDe(actual));
+                    int v = grafo.destinoDe(siguiente);
+                    if (posicionEnCamino[v] >= 0) {
+                        // Ciclo: se cancela y el camino se recorta hasta v
+                        int desde = posicionEnCamino[v];
+                        long minimo = flujo[siguiente];
+                        for (int k = desde; k < aristas.tamano(); k++) minimo = Math.min(minimo, flujo[aristas.obtener(k)]);
+                        flujo[siguiente] -= minimo;
+                        for (int k = desde; k < aristas.tamano(); k++) flujo[aristas.obtener(k)] -= minimo;
+                        for (int k = desde + 1; k < nodos.tamano(); k++) posicionEnCamino[nodos.obtener(k)] = -1;
+                        nodos.recortar(desde + 1);
+                        aristas.recortar(desde);
+                        actual = v;
+                        continue;
+                    }
+                    posicionEnCamino[v] = nodos.tamano();
+                    nodos.agregar(v);
+                    aristas.agregar(siguiente);
+                    actual = v;
+                }
+
+                long cantidad = Math.min(pendiente, llegadaRestante[actual]);
+                for (int k = 0; k < aristas.tamano(); k++) cantidad = Math.min(cantidad, flujo[aristas.obtener(k)]);
+                double tiempo = 0;
+                for (int k = 0; k < aristas.tamano(); k++) {
+                    flujo[aristas.obtener(k)] -= cantidad;
+                    tiempo += grafo.tiempoDe(aristas.obtener(k));
+                }
+                llegadaRestante[actual] -= cantidad;
+                pendiente -= cantidad;
+                asignaciones.add(new Asignacion(i, refugioEn[actual], cantidad, aristas.aArreglo(), tiempo));
+                for (int k = 0; k < nodos.tamano(); k++) posicionEnCamino[nodos.obtener(k)] = -1;
+            }
+        }
+        return asignaciones;
+    }
+
+    /**
+     * @return Personas que el plan lleva a algún refugio
+     */
+    public long getPersonasAsignadas() {
+        long total = 0;
+        for (long a : asignadas) total += a;
+        return total;
+    }
+
+    /**
+     * @return Personas que se pidió evacuar
+     */
+    public long getPersonasSolicitadas() {
+        long total = 0;
+        for (long s : solicitadas) total += s;
+        return total;
+    }
+
+    /**
+     * @param i Posición del origen en el arreglo recibido
+     * @return Personas de ese origen que el plan evacúa
+     */
+    public long asignadasDesde(int i) { return asignadas[i]; }
+
+    /**
+     * @param j Posición del refugio en el arreglo recibido
+     * @return Personas que llegan a ese refugio
+     */
+    public long recibidasEn(int j) { return recibidas[j]; }
+
+    /**
+     * @param arista Índice de la ruta en el grafo compacto
+     * @return Personas que el plan envía por la ruta
+     */
+    public long flujoEn(int arista) { return flujoRuta[arista]; }
+
+    /**
+     * @return Tiempo total de viaje en personas × minutos
+     */
+    public double getCostoTotal() { return costoTotal; }
+
+    /**
+     * @return Asignaciones zona → refugio con su camino
+     */
+    public List<Asignacion> getAsignaciones() { return Collections.unmodifiableList(asignaciones); }
+
+    public GrafoCompacto getCompacto() { return compacto; }
+    public int getNumeroOrigenes() { return origenes.length; }
+    public int getNumeroRefugios() { return refugios.length; }
+    public int origenEn(int i) { return origenes[i]; }
+    public int refugioEn(int j) { return refugios[j]; }
+    public int getIteraciones() { return iteraciones; }
+
+    /**
+     * Grupo de personas de un origen enviado a un refugio por un camino.
+     */
+    public static class Asignacion {
+        private final int origen;
+        private final int refugio;
+        private final long personas;
+        private final int[] aristas;
+        private final double tiempo;
+
+        Asignacion(int origen, int refugio, long personas, int[] aristas, double tiempo) {
+            this.origen = origen;
+            this.refugio = refugio;
+            this.personas = personas;
+            this.aristas = aristas;
+            this.tiempo = tiempo;
+        }
+
+        /** @return Posición del origen en el arreglo de orígenes */
+        public int getOrigen() { return origen; }
+        /** @return Posición del refugio en el arreglo de refugios */
+        public int getRefugio() { return refugio; }
+        public long getPersonas() { return personas; }
+        /** @return Rutas del camino, como índices del grafo compacto */
+        public int[] getAristas() { return aristas.clone(); }
+        /** @return Tiempo de viaje del camino en minutos */
+        public double getTiempo() { return tiempo; }
+    }
+}
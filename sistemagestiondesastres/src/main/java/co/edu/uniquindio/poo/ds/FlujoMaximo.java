@@ -0,0 +1,218 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+
+/**
+ * Flujo máximo de evacuación desde un conjunto de zonas de origen hacia un
+ * conjunto de refugios, limitado por la capacidad de cada ruta.
+ *
+ * <p>La capacidad de una {@link co.edu.uniquindio.poo.model.Ruta} se
+ * interpreta como personas por hora. Se agrega una fuente que alimenta a
+ * todos los orígenes y un sumidero al que llegan todos los refugios, ambos
+ * con capacidad ilimitada, y se resuelve con el algoritmo de Dinic: fases
+ * de BFS por niveles seguidas de búsquedas en profundidad iterativas con
+ * puntero de arco actual, sobre los arreglos CSR de {@link RedResidual}.
+ * Las rutas bloqueadas no participan.</p>
+ *
+ * <p>Además del total se obtiene el flujo por ruta y el corte mínimo: las
+ * rutas saturadas que separan los orígenes de los refugios, es decir, los
+ * cuellos de botella de la evacuación.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class FlujoMaximo {
+    /** Grafo sobre el que se calculó el flujo */
+    private final GrafoCompacto compacto;
+
+    /** Arco directo de cada ruta en la red residual, o -1 si no participa */
+    private final int[] arcoDeRuta;
+
+    /** Red residual final */
+    private final RedResidual red;
+
+    /** Nodos alcanzables desde la fuente en la red residual final */
+    private final boolean[] alcanzable;
+
+    private final long flujoTotal;
+    private final int fases;
+
+    private FlujoMaximo(GrafoCompacto compacto, int[] arcoDeRuta, RedResidual red,
+                        boolean[] alcanzable, long flujoTotal, int fases) {
+        this.compacto = compacto;
+        this.arcoDeRuta = arcoDeRuta;
+        this.red = red;
+        this.alcanzable = alcanzable;
+        this.flujoTotal = flujoTotal;
+        this.fases = fases;
+    }
+
+    /**
+     * Calcula el flujo máximo desde los orígenes hacia los destinos. Un
+     * nodo que aparece en ambos conjuntos se trata solo como destino.
+     *
+     * @param grafo Grafo compacto
+     * @param origenes Índices de las zonas a evacuar
+     * @param destinos Índices de los refugios
+     * @return Flujo calculado
+     */
+    public static FlujoMaximo calcular(GrafoCompacto grafo, int[] origenes, int[] destinos) {
+        int n = grafo.getNumeroNodos();
+        int m = grafo.getNumeroAristas();
+        int fuente = n;
+        int sumidero = n + 1;
+        int totalNodos = n + 2;
+
+        boolean[] esDestino = new boolean[n];
+        for (int d : destinos) esDestino[d] = true;
+        boolean[] esOrigen = new boolean[n];
+        for (int o : origenes) if (!esDestino[o]) esOrigen[o] = true;
+
+        RedResidual red = new RedResidual(totalNodos, m + origenes.length + destinos.length);
+        int[] arcoDeRuta = new int[m];
+        Arrays.fill(arcoDeRuta, -1);
+        for (int e = 0; e < m; e++) {
+            int capacidad = grafo.rutaDe(e).getCapacidad();
+            if (capacidad <= 0 || !grafo.rutaDe(e).estaDisponible()) continue;
+            arcoDeRuta[e] = red.agregarArco(grafo.origenDe(e), grafo.destinoDe(e), capacidad, 0);
+        }
+        for (int o = 0; o < n; o++) {
+            if (esOrigen[o]) red.agregarArco(fuente, o, RedResidual.ILIMITADO, 0);
+            if (esDestino[o]) red.agregarArco(o, sumidero, RedResidual.ILIMITADO, 0);
+        }
+        red.compilar();
+        for (int e = 0; e < m; e++) if (arcoDeRuta[e] >= 0) arcoDeRuta[e] = red.posicionDe(arcoDeRuta[e]);
+        int[] inicio = red.inicio;
+        int[] cabeza = red.cabeza;
+        long[] residual = red.residual;
+        int[] inverso = red.inverso;
+
+        int[] nivel = new int[totalNodos];
+        int[] actual = new int[totalNodos];
+        int[] pila = new int[totalNodos];
+        int[] bfs = new int[totalNodos];
+        long total = 0;
+        int fases = 0;
+
+        while (niveles(fuente, sumidero, inicio, cabeza, residual, nivel, bfs)) {
+            fases++;
+            System.arraycopy(inicio, 0, actual, 0, totalNodos);
+            total += bloquear(fuente, sumidero, inicio, cabeza, residual, inverso, nivel, actual, pila);
+        }
+
+        boolean[] alcanzable = new boolean[totalNodos];
+        for (int v = 0; v < totalNodos; v++) alcanzable[v] = nivel[v] >= 0;
+        return new FlujoMaximo(grafo, arcoDeRuta, red, alcanzable, total, fases);
+    }
+
+    /**
+     * BFS por niveles desde la fuente.
+     *
+     * @return true si el sumidero es alcanzable
+     */
+    private static boolean niveles(int fuente, int sumidero, int[] inicio, int[] cabeza,
+                                   long[] residual, int[] nivel, int[] bfs) {
+        Arrays.fill(nivel, -1);
+        nivel[fuente] = 0;
+        int frente = 0, fin = 0;
+        bfs[fin++] = fuente;
+        while (frente < fin) {
+            int u = bfs[frente++];
+            // Los nodos al nivel del sumidero o más allá no llevan a él
+            if (nivel[sumidero] >= 0 && nivel[u] >= nivel[sumidero]) break;
+            for (int a = inicio[u]; a < inicio[u + 1]; a++) {
+                int v = cabeza[a];
+                if (residual[a] > 0 && nivel[v] < 0) {
+                    nivel[v] = nivel[u] + 1;
+                    bfs[fin++] = v;
+                }
+            }
+        }
+        return nivel[sumidero] >= 0;
+    }
+
+    /**
+     * Flujo bloqueante sobre el grafo de niveles, con búsqueda en
+     * profundidad iterativa (la pila guarda los arcos del camino actual).
+     *
+     * @return Flujo agregado en la fase
+     */
+    private static long bloquear(int fuente, int sumidero, int[] inicio, int[] cabeza, long[] residual,
+                                 int[] inverso, int[] nivel, int[] actual, int[] pila) {
+        long agregado = 0;
+        int profundidad = 0;
+        int u = fuente;
+        while (true) {
+            if (u == sumidero) {
+                long cuello = RedResidual.ILIMITADO;
+                for (int i = 0; i < profundidad; i++) cuello = Math.min(cuello, residual[pila[i]]);
+                for (int i = 0; i < profundidad; i++) {
+                    residual[pila[i]] -= cuello;
+                    residual[inverso[pila[i]]] += cuello;
+                }
+                agregado += cuello;
+                // Retroceder hasta el primer arco saturado
+                int k = 0;
+                while (residual[pila[k]] > 0) k++;
+                profundidad = k;
+                u = k == 0 ? fuente : cabeza[pila[k - 1]];
+                continue;
+            }
+
+            boolean avanzo = false;
+            for (; actual[u] < inicio[u + 1]; actual[u]++) {
+                int a = actual[u];
+                int v = cabeza[a];
+                if (residual[a] > 0 && nivel[v] == nivel[u] + 1) {
+                    pila[profundidad++] = a;
+                    u = v;
+                    avanzo = true;
+                    break;
+                }
+            }
+            if (avanzo) continue;
+
+            // Sin salida: el nodo se descarta para el resto de la fase
+            if (u == fuente) return agregado;
+            nivel[u] = -1;
+            int a = pila[--profundidad];
+            u = cabeza[inverso[a]];
+            actual[u]++;
+        }
+    }
+
+    /**
+     * @return Personas por hora que pueden llegar a los refugios
+     */
+    public long getFlujoTotal() {
+        return flujoTotal;
+    }
+
+    /**
+     * @param arista Índice de la ruta en el grafo compacto
+     * @return Personas por hora que circulan por la ruta
+     */
+    public long flujoEn(int arista) {
+        int a = arcoDeRuta[arista];
+        return a < 0 ? 0 : red.flujoEn(a);
+    }
+
+    /**
+     * Rutas del corte mínimo: van de una zona que aún puede recibir flujo
+     * desde los orígenes a una que no, y están saturadas.
+     *
+     * @return Índices de las rutas que limitan la evacuación
+     */
+    public int[] rutasCorteMinimo() {
+        ListaEnteros corte = new ListaEnteros();
+        for (int e = 0; e < arcoDeRuta.length; e++) {
+            if (arcoDeRuta[e] < 0) continue;
+            if (alcanzable[compacto.origenDe(e)] && !alcanzable[compacto.destinoDe(e)]) corte.agregar(e);
+        }
+        return corte.aArreglo();
+    }
+
+    public GrafoCompacto getCompacto() { return compacto; }
+    public int getFases() { return fases; }
+}
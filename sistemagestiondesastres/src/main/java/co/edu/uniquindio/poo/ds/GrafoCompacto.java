@@ -0,0 +1,678 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import co.edu.uniquindio.poo.services.GeoService;
+
+/**
+ * Representación compacta (CSR, <i>compressed sparse row</i>) del grafo de zonas.
+ *
+ * Cada zona recibe un índice entero denso y las rutas salientes de todas las
+ * zonas se guardan contiguas en arreglos primitivos. Las rutas salientes del
+ * nodo {@code u} ocupan las posiciones {@code inicio[u]} a {@code inicio[u+1]-1}
+ * de {@code destinos}, {@code tiempos} y {@code distancias}. Así las búsquedas
+ * de caminos recorren arreglos en lugar de mapas de cadenas. Un segundo juego
+ * de arreglos indexa las rutas por destino (adyacencia inversa) para las
+ * búsquedas hacia atrás.
+ *
+ * <p>La instancia es inmutable en su topología: cualquier alta o baja de zonas
+ * o rutas requiere construir una nueva. La disponibilidad de cada ruta se lee
+ * siempre del objeto {@link Ruta} original, por lo que bloquear una ruta no
+ * obliga a reconstruir.</p>
+ *
+ * <p>También guarda las coordenadas de cada zona y, por métrica, el mayor
+ * avance geográfico por unidad de costo observado en las rutas, con los que
+ * se construye la heurística admisible de A*.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class GrafoCompacto {
+    /** Identificador de zona por índice ({@code null} en índices libres) */
+    private final String[] ids;
+
+    /** Índice denso de cada identificador de zona */
+    private final Map<String, Integer> indices;
+
+    /** Posición de la primera ruta saliente de cada nodo (tamaño n+1) */
+    private final int[] inicio;
+
+    /** Índice del nodo origen de cada ruta */
+    private final int[] origenes;
+
+    /** Índice del nodo destino de cada ruta */
+    private final int[] destinos;
+
+    /** Tiempo de recorrido de cada ruta */
+    private final double[] tiempos;
+
+    /** Distancia de cada ruta en kilómetros */
+    private final double[] distancias;
+
+    /** Ruta original de cada posición, para reconstruir caminos */
+    private final Ruta[] rutas;
+
+    /** Posición de la primera ruta entrante de cada nodo en {@code aristasInv} (tamaño n+1) */
+    private final int[] inicioInv;
+
+    /** Índices de rutas agrupados por nodo destino */
+    private final int[] aristasInv;
+
+    /** Latitud de cada nodo */
+    private final double[] lat;
+
+    /** Longitud de cada nodo */
+    private final double[] lng;
+
+    /**
+     * Mayor cociente entre distancia de círculo máximo y tiempo de una ruta
+     * (km por unidad de tiempo). Ninguna ruta avanza geográficamente más
+     * rápido, así que distancia/velocidadMaxima es cota inferior del tiempo.
+     */
+    private final double velocidadMaxima;
+
+    /** Mismo cociente que {@link #velocidadMaxima} pero respecto a la distancia declarada */
+    private final double avanceMaximoPorKm;
+
+    private GrafoCompacto(String[] ids, Map<String, Integer> indices, int[] inicio, int[] origenes,
+                          int[] destinos, double[] tiempos, double[] distancias, Ruta[] rutas,
+                          double[] lat, double[] lng) {
+        this.ids = ids;
+        this.indices = indices;
+        this.inicio = inicio;
+        this.origenes = origenes;
+        this.destinos = destinos;
+        this.tiempos = tiempos;
+        this.distancias = distancias;
+        this.rutas = rutas;
+        this.lat = lat;
+        this.lng = lng;
+
+        // Adyacencia inversa: contar por destino, acumular y ubicar
+        int n = ids.length;
+        int m = destinos.length;
+        this.inicioInv = new int[n + 1];
+        this.aristasInv = new int[m];
+        for (int e = 0; e < m; e++) inicioInv[destinos[e] + 1]++;
+        for (int i = 0; i < n; i++) inicioInv[i + 1] += inicioInv[i];
+        int[] cursor = Arrays.copyOf(inicioInv, n);
+        for (int e = 0; e < m; e++) aristasInv[cursor[destinos[e]]++] = e;
+
+        this.velocidadMaxima = calcularAvanceMaximo(tiempos);
+        this.avanceMaximoPorKm = calcularAvanceMaximo(distancias);
+    }
+
+    /**
+     * Construye la representación compacta a partir de los mapas del grafo.
+     *
+     * Si se entrega la representación anterior, las zonas que siguen existiendo
+     * conservan su índice y las nuevas ocupan primero los índices liberados,
+     * de modo que las estructuras indexadas por nodo siguen siendo válidas.
+     *
+     * @param nodos Zonas del grafo indexadas por id
+     * @param aristas Rutas salientes indexadas por id de origen
+     * @param anterior Representación previa, o null para asignar índices desde cero
+     * @return Nueva representación compacta
+     */
+    public static GrafoCompacto construir(Map<String, ZonaAfectada> nodos,
+                                          Map<String, List<Ruta>> aristas,
+                                          GrafoCompacto anterior) {
+        int capacidad = Math.max(nodos.size(), anterior != null ? anterior.ids.length : 0);
+        String[] ids = new String[capacidad];
+        Map<String, Integer> indices = new HashMap<>(nodos.size() * 2);
+
+        // Conservar los índices de las zonas que siguen en el grafo
+        if (anterior != null) {
+            for (int i = 0; i < anterior.ids.length; i++) {
+                String id = anterior.ids[i];
+                if (id != null && nodos.containsKey(id)) {
+                    ids[i] = id;
+                    indices.put(id, i);
+                }
+            }
+        }
+
+        // Las zonas nuevas ocupan los huecos en orden ascendente
+        int libre = 0;
+        for (String id : nodos.keySet()) {
+            if (indices.containsKey(id)) continue;
+            while (ids[libre] != null) libre++;
+            ids[libre] = id;
+            indices.put(id, libre);
+        }
+
+        // Compactar la cola de índices vacíos para no arrastrar huecos al final
+        int n = ids.length;
+        while (n > 0 && ids[n - 1] == null) n--;
+        if (n < ids.length) ids = Arrays.copyOf(ids, n);
+
+        // Primera pasada: contar rutas válidas por origen
+        int[] inicio = new int[n + 1];
+        for (Map.Entry<String, List<Ruta>> entry : aristas.entrySet()) {
+            Integer u = indices.get(entry.getKey());
+            if (u == null) continue;
+            for (Ruta r : entry.getValue()) {
+                if (indices.containsKey(r.getDestinoId())) inicio[u + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++) inicio[i + 1] += inicio[i];
+
+        // Segunda pasada: llenar los arreglos en su posición definitiva
+        int m = inicio[n];
+        int[] origenes = new int[m];
+        int[] destinos = new int[m];
+        double[] tiempos = new double[m];
+        double[] distancias = new double[m];
+        Ruta[] rutas = new Ruta[m];
+        int[] cursor = Arrays.copyOf(inicio, n);
+        for (Map.Entry<String, List<Ruta>> entry : aristas.entrySet()) {
+            Integer u = indices.get(entry.getKey());
+            if (u == null) continue;
+            for (Ruta r : entry.getValue()) {
+                Integer v = indices.get(r.getDestinoId());
+                if (v == null) continue;
+                int e = cursor[u]++;
+                origenes[e] = u;
+                destinos[e] = v;
+                tiempos[e] = r.calcularTiempoReal();
+                distancias[e] = r.getDistancia();
+                rutas[e] = r;
+            }
+        }
+
+        double[] lat = new double[n];
+        double[] lng = new double[n];
+        for (int i = 0; i < n; i++) {
+            if (ids[i] == null) continue;
+            ZonaAfectada z = nodos.get(ids[i]);
+            lat[i] = z.getLat();
+            lng[i] = z.getLng();
+        }
+
+        return new GrafoCompacto(ids, indices, inicio, origenes, destinos, tiempos, distancias, rutas, lat, lng);
+    }
+
+    private double calcularAvanceMaximo(double[] pesos) {
+        double maxima = 0.0;
+        for (int e = 0; e < destinos.length; e++) {
+            int u = origenes[e], v = destinos[e];
+            double geo = GeoService.distanciaKm(lat[u], lng[u], lat[v], lng[v]);
+            if (geo == 0.0) continue;
+            if (pesos[e] <= 0.0) return Double.POSITIVE_INFINITY;
+            maxima = Math.max(maxima, geo / pesos[e]);
+        }
+        return maxima;
+    }
+
+    /**
+     * Obtiene el arreglo de costos por ruta para una métrica.
+     *
+     * @param metrica Métrica deseada
+     * @return Arreglo compartido (no debe modificarse)
+     */
+    double[] pesos(Metrica metrica) {
+        return metrica == Metrica.DISTANCIA ? distancias : tiempos;
+    }
+
+    /**
+     * Calcula el camino de menor tiempo entre dos nodos usando Dijkstra
+     * sobre los arreglos compactos, ignorando rutas no disponibles.
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @return Índices de las rutas del camino en orden, o null si no existe camino
+     */
+    public int[] caminoMasCorto(int origen, int destino) {
+        return dijkstra(origen, destino, Metrica.TIEMPO).getAristas();
+    }
+
+    /**
+     * Calcula el camino de menor tiempo con Dijkstra.
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @return Resultado de la búsqueda (el camino puede no existir)
+     */
+    public CaminoCompacto dijkstra(int origen, int destino) {
+        return dijkstra(origen, destino, Metrica.TIEMPO);
+    }
+
+    /**
+     * Calcula el camino de menor costo con Dijkstra según la métrica indicada.
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @param metrica Métrica a minimizar
+     * @return Resultado de la búsqueda (el camino puede no existir)
+     */
+    public CaminoCompacto dijkstra(int origen, int destino, Metrica metrica) {
+        return buscar(origen, destino, pesos(metrica), 0.0, null, null);
+    }
+
+    /**
+     * Calcula el costo mínimo desde un origen hacia todos los nodos (Dijkstra
+     * completo, sin reconstruir caminos).
+     *
+     * @param origen Índice del nodo de origen
+     * @param metrica Métrica a minimizar
+     * @return Costo hacia cada nodo, infinito si no es alcanzable
+     */
+    public double[] distanciasDesde(int origen, Metrica metrica) {
+        return distanciasDesde(origen, metrica, new double[ids.length]);
+    }
+
+    /**
+     * Igual que {@link #distanciasDesde(int, Metrica)}, pero escribe en el
+     * arreglo dado para que quien calcula muchos orígenes no cree uno por
+     * origen.
+     *
+     * @param dist Arreglo de al menos {@link #getNumeroNodos()} posiciones;
+     *             esas posiciones se sobrescriben
+     * @return El mismo arreglo {@code dist}
+     */
+    public double[] distanciasDesde(int origen, Metrica metrica, double[] dist) {
+        double[] pesos = pesos(metrica);
+        Arrays.fill(dist, 0, ids.length, Double.POSITIVE_INFINITY);
+        dist[origen] = 0.0;
+
+        MonticuloIndexado cola = EspacioBusqueda.adelante(ids.length).cola();
+        cola.insertarOActualizar(origen, 0.0);
+        while (!cola.estaVacio()) {
+            double du = cola.prioridadMinima();
+            int u = cola.extraerMinimo();
+            for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                if (!rutas[e].estaDisponible()) continue;
+                int v = destinos[e];
+                double nd = du + pesos[e];
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    cola.insertarOActualizar(v, nd);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Calcula los caminos mínimos desde un origen hacia varios destinos con
+     * un solo árbol de Dijkstra, que se detiene al asentar todos los destinos.
+     *
+     * @param origen Índice del nodo de origen
+     * @param objetivos Índices de los destinos (pueden repetirse)
+     * @param metrica Métrica a minimizar
+     * @return Camino hacia cada destino, en el mismo orden (sin rutas si no
+     *         es alcanzable o es el origen; ver {@link CaminoCompacto#existe()})
+     */
+    public CaminoCompacto[] caminosDesde(int origen, int[] objetivos, Metrica metrica) {
+        double[] pesos = pesos(metrica);
+        // Destinos ordenados y sin repetir, para reconocerlos al asentarlos
+        int[] buscados = objetivos.clone();
+        Arrays.sort(buscados);
+        int pendientes = 0;
+        for (int i = 0; i < buscados.length; i++) {
+            if (i == 0 || buscados[i] != buscados[i - 1]) pendientes++;
+        }
+
+        EspacioBusqueda espacio = EspacioBusqueda.adelante(ids.length);
+        MonticuloIndexado cola = espacio.cola();
+        espacio.fijar(origen, 0.0, -1);
+        cola.insertarOActualizar(origen, 0.0);
+        int asentados = 0;
+        while (!cola.estaVacio() && pendientes > 0) {
+            int u = cola.extraerMinimo();
+            espacio.asentar(u);
+            asentados++;
+            if (Arrays.binarySearch(buscados, u) >= 0) pendientes--;
+
+            double du = espacio.costo(u);
+            for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                if (!rutas[e].estaDisponible()) continue;
+                int v = destinos[e];
+                if (espacio.asentado(v)) continue;
+                double nd = du + pesos[e];
+                if (nd < espacio.costo(v)) {
+                    espacio.fijar(v, nd, e);
+                    cola.insertarOActualizar(v, nd);
+                }
+            }
+        }
+
+        CaminoCompacto[] caminos = new CaminoCompacto[objetivos.length];
+        for (int i = 0; i < objetivos.length; i++) {
+            int[] camino = reconstruir(espacio, origen, objetivos[i]);
+            caminos[i] = new CaminoCompacto(camino, camino != null ? espacio.costo(objetivos[i]) : Double.POSITIVE_INFINITY, asentados);
+        }
+        return caminos;
+    }
+
+    /**
+     * Calcula el costo mínimo desde todos los nodos hacia un destino (Dijkstra
+     * completo sobre la adyacencia inversa, sin reconstruir caminos).
+     *
+     * @param destino Índice del nodo de destino
+     * @param metrica Métrica a minimizar
+     * @return Costo desde cada nodo, infinito si no alcanza el destino
+     */
+    public double[] distanciasHacia(int destino, Metrica metrica) {
+        double[] pesos = pesos(metrica);
+        double[] dist = new double[ids.length];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        dist[destino] = 0.0;
+
+        MonticuloIndexado cola = EspacioBusqueda.atras(ids.length).cola();
+        cola.insertarOActualizar(destino, 0.0);
+        while (!cola.estaVacio()) {
+            double dv = cola.prioridadMinima();
+            int v = cola.extraerMinimo();
+            for (int k = inicioInv[v]; k < inicioInv[v + 1]; k++) {
+                int e = aristasInv[k];
+                if (!rutas[e].estaDisponible()) continue;
+                int u = origenes[e];
+                double nd = dv + pesos[e];
+                if (nd < dist[u]) {
+                    dist[u] = nd;
+                    cola.insertarOActualizar(u, nd);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Calcula el camino de menor costo con Dijkstra sin pasar por los nodos
+     * ni las rutas excluidas (usado por la búsqueda de rutas alternativas).
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @param metrica Métrica a minimizar
+     * @param nodosExcluidos Nodos que no pueden visitarse, o null
+     * @param aristasExcluidas Rutas que no pueden usarse, o null
+     * @return Resultado de la búsqueda (el camino puede no existir)
+     */
+    public CaminoCompacto dijkstraRestringido(int origen, int destino, Metrica metrica,
+                                              boolean[] nodosExcluidos, boolean[] aristasExcluidas) {
+        return buscar(origen, destino, pesos(metrica), 0.0, nodosExcluidos, aristasExcluidas);
+    }
+
+    /**
+     * Calcula el camino de menor tiempo con A*.
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @return Resultado de la búsqueda (el camino puede no existir)
+     */
+    public CaminoCompacto aEstrella(int origen, int destino) {
+        return aEstrella(origen, destino, Metrica.TIEMPO);
+    }
+
+    /**
+     * Calcula el camino de menor costo con A*.
+     *
+     * La heurística es la distancia de círculo máximo hasta el destino dividida
+     * entre el mayor avance geográfico por unidad de costo de cualquier ruta.
+     * Es admisible y consistente por la desigualdad triangular, así que el
+     * camino encontrado es óptimo.
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @param metrica Métrica a minimizar
+     * @return Resultado de la búsqueda (el camino puede no existir)
+     */
+    public CaminoCompacto aEstrella(int origen, int destino, Metrica metrica) {
+        double avance = metrica == Metrica.DISTANCIA ? avanceMaximoPorKm : velocidadMaxima;
+        // Un margen mínimo evita que el redondeo vuelva inadmisible la cota
+        double factor = avance > 0.0 && !Double.isInfinite(avance) ? (1.0 - 1e-9) / avance : 0.0;
+        return buscar(origen, destino, pesos(metrica), factor, null, null);
+    }
+
+    /**
+     * Búsqueda de camino mínimo, con heurística geográfica si {@code factor > 0}.
+     */
+    private CaminoCompacto buscar(int origen, int destino, double[] pesos, double factor,
+                                  boolean[] nodosExcluidos, boolean[] aristasExcluidas) {
+        boolean conCota = factor > 0.0;
+        EspacioBusqueda espacio = EspacioBusqueda.adelante(ids.length);
+        MonticuloIndexado cola = espacio.cola();
+        espacio.fijar(origen, 0.0, -1);
+        if (conCota) espacio.fijarAuxiliar(origen, cota(factor, origen, destino));
+        cola.insertarOActualizar(origen, conCota ? espacio.auxiliar(origen) : 0.0);
+        int asentados = 0;
+
+        while (!cola.estaVacio()) {
+            int u = cola.extraerMinimo();
+            espacio.asentar(u);
+            asentados++;
+            if (u == destino) break;
+
+            double du = espacio.costo(u);
+            for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                if (!rutas[e].estaDisponible()) continue;
+                if (aristasExcluidas != null && aristasExcluidas[e]) continue;
+                int v = destinos[e];
+                if (espacio.asentado(v)) continue;
+                if (nodosExcluidos != null && nodosExcluidos[v]) continue;
+                double nd = du + pesos[e];
+                if (nd < espacio.costo(v)) {
+                    // La cota se calcula una vez, al alcanzar el nodo por primera vez
+                    if (conCota && !espacio.alcanzado(v)) espacio.fijarAuxiliar(v, cota(factor, v, destino));
+                    espacio.fijar(v, nd, e);
+                    cola.insertarOActualizar(v, conCota ? nd + espacio.auxiliar(v) : nd);
+                }
+            }
+        }
+
+        int[] camino = reconstruir(espacio, origen, destino);
+        return new CaminoCompacto(camino, camino != null ? espacio.costo(destino) : Double.POSITIVE_INFINITY, asentados);
+    }
+
+    /**
+     * Calcula el camino de llegada más temprana saliendo en un instante, con
+     * tiempos de recorrido dependientes de la hora ({@link Ruta#calcularTiempoReal(double)}).
+     *
+     * Es Dijkstra sobre instantes de llegada: cada ruta se evalúa en el
+     * instante en que se llega a su origen. Como los perfiles cumplen FIFO,
+     * llegar antes a una zona nunca empeora lo que sigue y cada zona se
+     * asienta con su primera llegada. Las rutas sin perfil usan su tiempo fijo.
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @param salida Instante de salida en minutos
+     * @return Resultado cuyo costo es la duración del viaje (llegada - salida)
+     */
+    public CaminoCompacto dijkstraDependiente(int origen, int destino, double salida) {
+        EspacioBusqueda espacio = EspacioBusqueda.adelante(ids.length);
+        MonticuloIndexado cola = espacio.cola();
+        espacio.fijar(origen, salida, -1);
+        cola.insertarOActualizar(origen, salida);
+        int asentados = 0;
+
+        while (!cola.estaVacio()) {
+            int u = cola.extraerMinimo();
+            espacio.asentar(u);
+            asentados++;
+            if (u == destino) break;
+
+            double t = espacio.costo(u);
+            for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                Ruta ruta = rutas[e];
+                if (!ruta.estaDisponible()) continue;
+                int v = destinos[e];
+                if (espacio.asentado(v)) continue;
+                double nt = t + ruta.calcularTiempoReal(t);
+                if (nt < espacio.costo(v)) {
+                    espacio.fijar(v, nt, e);
+                    cola.insertarOActualizar(v, nt);
+                }
+            }
+        }
+
+        int[] camino = reconstruir(espacio, origen, destino);
+        return new CaminoCompacto(camino, camino != null ? espacio.costo(destino) - salida : Double.POSITIVE_INFINITY, asentados);
+    }
+
+    /**
+     * Calcula el camino de menor costo con Dijkstra bidireccional.
+     *
+     * Una búsqueda avanza desde el origen por las rutas salientes y otra
+     * retrocede desde el destino por la adyacencia inversa, expandiendo
+     * siempre la frontera más pequeña. La búsqueda termina cuando la suma de
+     * los mínimos de ambas colas alcanza el mejor camino conocido, pues
+     * ningún camino no explorado puede mejorarlo.
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @param metrica Métrica a minimizar
+     * @return Resultado de la búsqueda (el camino puede no existir)
+     */
+    public CaminoCompacto bidireccional(int origen, int destino, Metrica metrica) {
+        if (origen == destino) return new CaminoCompacto(null, 0.0, 0);
+        double[] pesos = pesos(metrica);
+        int n = ids.length;
+
+        EspacioBusqueda adelante = EspacioBusqueda.adelante(n);
+        EspacioBusqueda atras = EspacioBusqueda.atras(n);
+        MonticuloIndexado colaAdelante = adelante.cola();
+        MonticuloIndexado colaAtras = atras.cola();
+        adelante.fijar(origen, 0.0, -1);
+        atras.fijar(destino, 0.0, -1);
+        colaAdelante.insertarOActualizar(origen, 0.0);
+        colaAtras.insertarOActualizar(destino, 0.0);
+
+        double mejor = Double.POSITIVE_INFINITY;
+        int encuentro = -1;
+        int asentados = 0;
+
+        while (!colaAdelante.estaVacio() && !colaAtras.estaVacio()) {
+            if (colaAdelante.prioridadMinima() + colaAtras.prioridadMinima() >= mejor) break;
+
+            if (colaAdelante.tamano() <= colaAtras.tamano()) {
+                int u = colaAdelante.extraerMinimo();
+                asentados++;
+                double du = adelante.costo(u);
+                for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                    if (!rutas[e].estaDisponible()) continue;
+                    int v = destinos[e];
+                    double nd = du + pesos[e];
+                    if (nd < adelante.costo(v)) {
+                        adelante.fijar(v, nd, e);
+                        colaAdelante.insertarOActualizar(v, nd);
+                    }
+                    double total = adelante.costo(v) + atras.costo(v);
+                    if (total < mejor) {
+                        mejor = total;
+                        encuentro = v;
+                    }
+                }
+            } else {
+                int v = colaAtras.extraerMinimo();
+                asentados++;
+                double dv = atras.costo(v);
+                for (int i = inicioInv[v]; i < inicioInv[v + 1]; i++) {
+                    int e = aristasInv[i];
+                    if (!rutas[e].estaDisponible()) continue;
+                    int u = origenes[e];
+                    double nd = dv + pesos[e];
+                    if (nd < atras.costo(u)) {
+                        atras.fijar(u, nd, e);
+                        colaAtras.insertarOActualizar(u, nd);
+                    }
+                    double total = adelante.costo(u) + atras.costo(u);
+                    if (total < mejor) {
+                        mejor = total;
+                        encuentro = u;
+                    }
+                }
+            }
+        }
+
+        if (encuentro < 0) return new CaminoCompacto(null, Double.POSITIVE_INFINITY, asentados);
+
+        // Tramo hacia adelante (origen → encuentro) y tramo hacia atrás (encuentro → destino)
+        int[] primero = encuentro == origen ? new int[0] : reconstruir(adelante, origen, encuentro);
+        int saltosAtras = 0;
+        for (int v = encuentro; v != destino; v = destinos[atras.previa(v)]) saltosAtras++;
+        int[] camino = Arrays.copyOf(primero, primero.length + saltosAtras);
+        int k = primero.length;
+        for (int v = encuentro; v != destino; v = destinos[atras.previa(v)]) camino[k++] = atras.previa(v);
+        return new CaminoCompacto(camino, mejor, asentados);
+    }
+
+    /**
+     * Cota inferior del costo restante desde {@code v} hasta el destino.
+     */
+    private double cota(double factor, int v, int destino) {
+        return GeoService.distanciaKm(lat[v], lng[v], lat[destino], lng[destino]) * factor;
+    }
+
+    /**
+     * Reconstruye el camino desde las rutas previas del espacio de búsqueda.
+     *
+     * @return Índices de rutas de origen a destino, o null si el destino no fue alcanzado
+     */
+    private int[] reconstruir(EspacioBusqueda espacio, int origen, int destino) {
+        if (origen == destino || espacio.previa(destino) < 0) return null;
+        int saltos = 0;
+        for (int v = destino; v != origen; v = origenDe(espacio.previa(v))) saltos++;
+        int[] camino = new int[saltos];
+        for (int v = destino; v != origen; v = origenDe(espacio.previa(v))) camino[--saltos] = espacio.previa(v);
+        return camino;
+    }
+
+    /**
+     * Obtiene el nodo origen de una ruta.
+     *
+     * @param arista Índice de la ruta
+     * @return Índice del nodo origen
+     */
+    public int origenDe(int arista) {
+        return origenes[arista];
+    }
+
+    /**
+     * Obtiene el índice compacto de una zona.
+     *
+     * @param zonaId Identificador de la zona
+     * @return Índice del nodo, o -1 si la zona no está en el grafo
+     */
+    public int indiceDe(String zonaId) {
+        Integer i = indices.get(zonaId);
+        return i != null ? i : -1;
+    }
+
+    /**
+     * Obtiene el índice compacto de una ruta, recorriendo las salidas de su origen.
+     *
+     * @param ruta Ruta a buscar (se compara por identidad)
+     * @return Índice de la arista, o -1 si la ruta no está en esta representación
+     */
+    public int indiceDeRuta(Ruta ruta) {
+        int origen = indiceDe(ruta.getOrigenId());
+        if (origen < 0) return -1;
+        for (int e = inicio[origen]; e < inicio[origen + 1]; e++) {
+            if (rutas[e] == ruta) return e;
+        }
+        return -1;
+    }
+
+    public String idDe(int nodo) { return ids[nodo]; }
+    public Ruta rutaDe(int arista) { return rutas[arista]; }
+    public int getNumeroNodos() { return ids.length; }
+    public int getNumeroAristas() { return destinos.length; }
+    public int inicioAristas(int nodo) { return inicio[nodo]; }
+    public int finAristas(int nodo) { return inicio[nodo + 1]; }
+    public int destinoDe(int arista) { return destinos[arista]; }
+    public int inicioEntrantes(int nodo) { return inicioInv[nodo]; }
+    public int finEntrantes(int nodo) { return inicioInv[nodo + 1]; }
+    public int aristaEntrante(int posicion) { return aristasInv[posicion]; }
+    public double tiempoDe(int arista) { return tiempos[arista]; }
+    public double distanciaDe(int arista) { return distancias[arista]; }
+    public double latDe(int nodo) { return lat[nodo]; }
+    public double lngDe(int nodo) { return lng[nodo]; }
+    public double getVelocidadMaxima() { return velocidadMaxima; }
+}
@@ -1,13 +1,27 @@
 package co.edu.uniquindio.poo.ds;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Set;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
+import co.edu.uniquindio.poo.model.BandaRiesgo;
+import co.edu.uniquindio.poo.model.ObservadorRuta;
+import co.edu.uniquindio.poo.model.ObservadorZona;
 import co.edu.uniquindio.poo.model.Ruta;
 import co.edu.uniquindio.poo.model.ZonaAfectada;
 
@@ -20,11 +34,24 @@ import co.edu.uniquindio.poo.model.ZonaAfectada;
  * 
  * <p>Funcionalidades principales:</p>
  * <ul>
- *   <li>Gestión de nodos (zonas afectadas)</li>
+ *   <li>Gestión de nodos (zonas afectadas) con búsqueda por id, nombre,
+ *       banda de riesgo, estado de evacuación y ubicación</li>
  *   <li>Gestión de aristas (rutas entre zonas)</li>
- *   <li>Búsqueda de ruta más corta (Dijkstra por tiempo)</li>
- *   <li>Búsqueda de rutas alternativas</li>
+ *   <li>Índice de rutas entrantes por zona</li>
+ *   <li>Búsqueda de ruta más corta (Dijkstra, A* o bidireccional)</li>
+ *   <li>Representación compacta opcional (CSR) para búsquedas rápidas</li>
+ *   <li>Jerarquía de contracción construida en segundo plano</li>
+ *   <li>Cache de caminos invalidada por versión del grafo</li>
+ *   <li>Árboles de caminos mínimos incrementales para orígenes fijos</li>
+ *   <li>Búsqueda de rutas alternativas (k caminos más cortos de Yen)</li>
  *   <li>Consultas de zonas accesibles</li>
+ *   <li>Componentes fuertemente conexas con descarte en O(1) de pares sin camino</li>
+ *   <li>Rutas y zonas críticas (puentes y puntos de articulación)</li>
+ *   <li>Isócronas de cobertura con cache por versión del grafo</li>
+ *   <li>Ruteo por regiones sobre una partición multinivel con superposición
+ *       de nodos de frontera</li>
+ *   <li>Instantáneas inmutables de la topología para lectores sin candados
+ *       y escrituras agrupadas en lotes</li>
  * </ul>
  * 
  * @author Sistema de Gestión de Desastres - Universidad del Quindío
@@ -32,11 +59,105 @@ import co.edu.uniquindio.poo.model.ZonaAfectada;
  * @since 2025
  */
 public class GrafoDirigido {
-    /** Mapa de zonas afectadas indexadas por su identificador */
-    private Map<String, ZonaAfectada> nodos = new HashMap<>();
+    /** Hilo compartido para construir jerarquías de contracción */
+    private static final ExecutorService CONSTRUCTOR_JERARQUIAS = Executors.newSingleThreadExecutor(r -> {
+        Thread hilo = new Thread(r, "jerarquia-contraccion");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+
+    /** Isócronas guardadas a la vez (por origen y juego de umbrales) */
+    private static final int MAX_ISOCRONAS = 256;
+
+    /** Registro de zonas afectadas con índices por id, nombre, riesgo y evacuación */
+    private final RegistroZonas registroZonas = new RegistroZonas();
+
+    /** Vista de las zonas afectadas indexadas por su identificador (solo escritores) */
+    private final Map<String, ZonaAfectada> nodos = registroZonas.comoMapa();
     
-    /** Mapa de rutas salientes de cada zona, indexadas por ID de origen */
-    private Map<String, List<Ruta>> aristas = new HashMap<>();
+    /** Rutas salientes de cada zona por ID de origen (estructura de escritura) */
+    private final Map<String, List<Ruta>> aristas = new HashMap<>();
+
+    /** Rutas entrantes de cada zona por ID de destino (estructura de escritura) */
+    private final Map<String, List<Ruta>> entrantes = new HashMap<>();
+
+    /** Última topología publicada: los lectores la recorren sin candados */
+    private volatile InstantaneaGrafo instantanea = InstantaneaGrafo.VACIA;
+
+    /** Zonas cuyas listas de salida o entrada cambiaron desde la última publicación */
+    private final Set<String> salientesTocadas = new HashSet<>();
+    private final Set<String> entrantesTocadas = new HashSet<>();
+
+    /** Zonas agregadas, reemplazadas o eliminadas desde la última publicación */
+    private final Set<String> zonasTocadas = new HashSet<>();
+
+    /** Indica si hay cualquier escritura sin publicar */
+    private boolean pendiente;
+
+    /** Lotes de escritura abiertos; se publica al cerrar el último */
+    private int enLote;
+
+    /** Representación compacta vigente, o null si debe reconstruirse */
+    private volatile GrafoCompacto compacto;
+
+    /** Última representación compacta construida, para conservar índices */
+    private GrafoCompacto compactoAnterior;
+
+    /** Indica si las búsquedas usan la representación compacta */
+    private boolean usarBackendCompacto = true;
+
+    /** Jerarquía de contracción lista para consultas, o null */
+    private volatile JerarquiaContraccion jerarquia;
+
+    /** Representación compacta cuya jerarquía se está construyendo */
+    private GrafoCompacto compactoEnConstruccion;
+
+    /** Partición del grafo compacto para el ruteo por regiones, o null */
+    private ParticionGrafo particion;
+
+    /** Superposiciones de la partición por métrica */
+    private final Map<Metrica, RuteoParticionado> ruteos = new EnumMap<>(Metrica.class);
+
+    /** Rutas de la partición cuya disponibilidad cambió desde la última actualización de {@code ruteos} */
+    private final ListaEnteros rutasCambiadasRuteo = new ListaEnteros();
+
+    /** Partes del ruteo por regiones; 0 elige según el tamaño del grafo */
+    private int partesRuteo;
+
+    /** Árboles de caminos mínimos de los orígenes fijos, por id de zona */
+    private final Map<String, ArbolCaminosMinimos> arbolesFijos = new ConcurrentHashMap<>();
+
+    /** Versión del grafo: aumenta con cada cambio de zonas, rutas o disponibilidad */
+    private final AtomicLong version = new AtomicLong();
+
+    /** Caminos calculados, válidos solo para la versión con que se guardaron */
+    private final CacheRutas cacheRutas = new CacheRutas(CacheRutas.CAPACIDAD_POR_DEFECTO);
+
+    /** Último cálculo de refugios más cercanos y versión del grafo con que se hizo */
+    private RefugiosCercanos refugiosCercanos;
+    private long versionRefugios = -1;
+    private final Object candadoRefugios = new Object();
+
+    /** Isócronas por origen y umbrales, válidas para la versión del grafo indicada */
+    private final Map<String, Isocrona> isocronas = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Isocrona> mayor) {
+            return size() > MAX_ISOCRONAS;
+        }
+    };
+    private long versionIsocronas = -1;
+
+    /** Componentes fuertemente conexas por rutas disponibles (null = recalcular al consultar) */
+    private volatile ComponentesFuertes componentes;
+
+    /** Puentes y zonas de corte de la vista no dirigida (null = calcular al consultar) */
+    private RutasCriticas rutasCriticas;
+
+    /** Propaga los bloqueos y reaperturas de rutas a la versión y a la jerarquía */
+    private final ObservadorRuta observadorDisponibilidad = this::disponibilidadCambiada;
+
+    /** Avisa a las rutas críticas los cambios de población o de refugio */
+    private final ObservadorZona observadorZonas = this::zonaCambiada;
     
     /**
      * Obtiene una lista de todas las zonas afectadas en el grafo.
@@ -44,7 +165,61 @@ public class GrafoDirigido {
      * @return Lista inmutable de zonas afectadas
      */
     public java.util.List<co.edu.uniquindio.poo.model.ZonaAfectada> obtenerZonas() {
-        return new java.util.ArrayList<>(nodos.values());
+        return registroZonas.todas();
+    }
+
+    /**
+     * Obtiene las zonas con un nombre dado (el nombre es la clave de los
+     * recursos por ubicación).
+     * 
+     * @param nombre Nombre exacto de la zona
+     * @return Zonas con ese nombre (vacía si no hay)
+     */
+    public List<ZonaAfectada> buscarZonasPorNombre(String nombre) {
+        return registroZonas.buscarPorNombre(nombre);
+    }
+
+    /**
+     * @param banda Banda de riesgo (bajo, medio, alto)
+     * @return Zonas cuyo nivel de riesgo cae en la banda
+     */
+    public List<ZonaAfectada> obtenerZonasPorBandaRiesgo(BandaRiesgo banda) {
+        return registroZonas.obtenerPorBanda(banda);
+    }
+
+    /**
+     * @param evacuada true para las zonas evacuadas, false para las pendientes
+     * @return Zonas en ese estado de evacuación
+     */
+    public List<ZonaAfectada> obtenerZonasPorEvacuacion(boolean evacuada) {
+        return registroZonas.obtenerPorEvacuacion(evacuada);
+    }
+
+    /**
+     * Obtiene las zonas a una distancia máxima de un punto (por ejemplo el
+     * epicentro de un desastre), de la más cercana a la más lejana.
+     * 
+     * @param lat Latitud del punto
+     * @param lng Longitud del punto
+     * @param radioKm Radio en kilómetros
+     * @return Zonas dentro del radio
+     */
+    public List<ZonaAfectada> buscarZonasEnRadio(double lat, double lng, double radioKm) {
+        return registroZonas.buscarEnRadio(lat, lng, radioKm);
+    }
+
+    /**
+     * @return Zonas dentro del rectángulo de coordenadas (bordes incluidos)
+     */
+    public List<ZonaAfectada> buscarZonasEnRectangulo(double minLat, double minLng, double maxLat, double maxLng) {
+        return registroZonas.buscarEnRectangulo(minLat, minLng, maxLat, maxLng);
+    }
+
+    /**
+     * @return Las {@code k} zonas más cercanas al punto, de la más cercana a la más lejana
+     */
+    public List<ZonaAfectada> buscarZonasMasCercanas(double lat, double lng, int k) {
+        return registroZonas.buscarMasCercanas(lat, lng, k);
     }
     
     /**
@@ -52,19 +227,469 @@ public class GrafoDirigido {
      * 
      * @param zona Zona afectada a agregar
      */
-    public void agregarNodo(ZonaAfectada zona) {
-        nodos.put(zona.getId(), zona);
+    public synchronized void agregarNodo(ZonaAfectada zona) {
+        ZonaAfectada anterior = registroZonas.eliminar(zona.getId());
+        if (anterior != null) anterior.removerObservador(observadorZonas);
+        registroZonas.agregar(zona);
+        zona.agregarObservador(observadorZonas);
+        zonasTocadas.add(zona.getId());
+        publicarSiNoHayLote();
+        zonasCambiadas();
     }
 
     /**
      * Agrega una ruta al grafo como una nueva arista dirigida.
      * 
-     * La ruta se almacena en la lista de salida del nodo origen.
+     * La ruta se almacena en la lista de salida del nodo origen y en la
+     * lista de entrada del nodo destino.
      * 
      * @param ruta Ruta a agregar entre dos zonas
      */
-    public void agregarArista(Ruta ruta) {
+    public synchronized void agregarArista(Ruta ruta) {
         aristas.computeIfAbsent(ruta.getOrigenId(), k -> new ArrayList<>()).add(ruta);
+        entrantes.computeIfAbsent(ruta.getDestinoId(), k -> new ArrayList<>()).add(ruta);
+        salientesTocadas.add(ruta.getOrigenId());
+        entrantesTocadas.add(ruta.getDestinoId());
+        ruta.agregarObservador(observadorDisponibilidad);
+        publicarSiNoHayLote();
+        if (ruta.estaDisponible()) rutaHabilitada(ruta);
+    }
+
+    /**
+     * Elimina una ruta específica del grafo.
+     * 
+     * @param ruta Ruta a eliminar
+     * @return true si la ruta existía y fue eliminada
+     */
+    public synchronized boolean eliminarArista(Ruta ruta) {
+        List<Ruta> salientes = aristas.get(ruta.getOrigenId());
+        if (salientes == null || !salientes.remove(ruta)) return false;
+        List<Ruta> llegadas = entrantes.get(ruta.getDestinoId());
+        if (llegadas != null) llegadas.remove(ruta);
+        salientesTocadas.add(ruta.getOrigenId());
+        entrantesTocadas.add(ruta.getDestinoId());
+        ruta.removerObservador(observadorDisponibilidad);
+        publicarSiNoHayLote();
+        if (ruta.estaDisponible()) rutaDeshabilitada(ruta);
+        return true;
+    }
+
+    /**
+     * Aplica varias escrituras como un solo cambio: los lectores siguen
+     * viendo la versión anterior completa hasta que termina el lote, y
+     * entonces se publica una única instantánea (y se invalida una sola vez
+     * la representación compacta). Las lecturas hechas dentro del lote
+     * también ven la versión anterior. Los lotes pueden anidarse.
+     * 
+     * Cada publicación obliga a reconstruir la representación compacta
+     * completa (O(V + E)) en la siguiente lectura, por lo que las cargas de
+     * muchas zonas o rutas deben hacerse dentro de un lote.
+     * 
+     * Si el lote exterior termina con una excepción no se publica nada: las
+     * altas y bajas de zonas y rutas hechas en él se deshacen y el grafo
+     * queda como la última instantánea publicada. Los cambios de atributos
+     * de zonas y rutas (población, disponibilidad...) no se deshacen.
+     * 
+     * @param cambios Escrituras a aplicar (altas y bajas de zonas y rutas)
+     */
+    public synchronized void ejecutarEnLote(Runnable cambios) {
+        boolean exterior = enLote == 0;
+        boolean completo = false;
+        enLote++;
+        try {
+            cambios.run();
+            completo = true;
+        } finally {
+            enLote--;
+            if (exterior && !completo) deshacerLote();
+            else if (enLote == 0 && pendiente) publicar();
+        }
+    }
+
+    /**
+     * Devuelve las estructuras de escritura al estado de la instantánea
+     * vigente, que el lote fallido no llegó a reemplazar. Solo se recorren
+     * las zonas y listas tocadas.
+     */
+    private void deshacerLote() {
+        InstantaneaGrafo vigente = instantanea;
+        for (String id : zonasTocadas) {
+            ZonaAfectada actual = registroZonas.obtener(id);
+            ZonaAfectada anterior = vigente.zona(id);
+            if (actual == anterior) continue;
+            if (actual != null) {
+                registroZonas.eliminar(id);
+                actual.removerObservador(observadorZonas);
+            }
+            if (anterior != null) {
+                registroZonas.agregar(anterior);
+                anterior.agregarObservador(observadorZonas);
+            }
+        }
+        // Cada ruta agregada o quitada tocó la lista de salida de su origen
+        Map<Ruta, Boolean> publicadas = new IdentityHashMap<>();
+        Map<Ruta, Boolean> escritas = new IdentityHashMap<>();
+        for (String id : salientesTocadas) {
+            for (Ruta r : vigente.salientesDe(id)) publicadas.put(r, Boolean.TRUE);
+            List<Ruta> lista = aristas.get(id);
+            if (lista != null) for (Ruta r : lista) escritas.put(r, Boolean.TRUE);
+        }
+        for (Ruta r : escritas.keySet()) {
+            if (!publicadas.containsKey(r)) r.removerObservador(observadorDisponibilidad);
+        }
+        for (Ruta r : publicadas.keySet()) {
+            if (!escritas.containsKey(r)) r.agregarObservador(observadorDisponibilidad);
+        }
+        restaurarListas(aristas, vigente.getSalientes(), salientesTocadas);
+        restaurarListas(entrantes, vigente.getEntrantes(), entrantesTocadas);
+
+        salientesTocadas.clear();
+        entrantesTocadas.clear();
+        zonasTocadas.clear();
+        pendiente = false;
+        // Las componentes y las rutas críticas ya vieron las escrituras deshechas
+        zonasCambiadas();
+    }
+
+    private static void restaurarListas(Map<String, List<Ruta>> escritura, Map<String, List<Ruta>> publicadas,
+                                        Set<String> tocadas) {
+        for (String id : tocadas) {
+            List<Ruta> lista = publicadas.get(id);
+            if (lista == null) escritura.remove(id);
+            else escritura.put(id, new ArrayList<>(lista));
+        }
+    }
+
+    /**
+     * Obtiene la última topología publicada. Es inmutable: puede recorrerse
+     * sin candados mientras otras solicitudes modifican el grafo.
+     * 
+     * @return Instantánea vigente
+     */
+    public InstantaneaGrafo getInstantanea() {
+        return instantanea;
+    }
+
+    /**
+     * Obtiene la representación compacta (CSR) del grafo, construyéndola
+     * si hubo cambios de topología desde la última consulta. La construcción
+     * recorre toda la instantánea (O(V + E)), aunque conserva los índices
+     * de las zonas que siguen en el grafo.
+     * 
+     * @return Representación compacta vigente
+     */
+    public GrafoCompacto obtenerCompacto() {
+        GrafoCompacto actual = compacto;
+        if (actual != null) return actual;
+        synchronized (this) {
+            actual = compacto;
+            if (actual == null) {
+                InstantaneaGrafo vigente = instantanea;
+                actual = GrafoCompacto.construir(vigente.getZonas(), vigente.getSalientes(), compactoAnterior);
+                compactoAnterior = actual;
+                compacto = actual;
+            }
+            return actual;
+        }
+    }
+
+    /**
+     * Activa o desactiva el uso de la representación compacta en las búsquedas.
+     * 
+     * @param usar true para buscar sobre arreglos CSR, false para usar los mapas
+     */
+    public void setUsarBackendCompacto(boolean usar) {
+        this.usarBackendCompacto = usar;
+        cacheRutas.limpiar();
+    }
+
+    public boolean isUsarBackendCompacto() {
+        return usarBackendCompacto;
+    }
+
+    private void publicarSiNoHayLote() {
+        pendiente = true;
+        if (enLote == 0) publicar();
+    }
+
+    /**
+     * Publica la topología de escritura como una nueva instantánea, que
+     * comparte con la anterior todo salvo las zonas tocadas, e invalida la
+     * representación compacta. La versión sube después de
+     * publicar, para que nada se guarde en cache con la versión nueva y la
+     * topología anterior.
+     */
+    private void publicar() {
+        instantanea = instantanea.derivar(nodos, zonasTocadas, aristas, entrantes,
+                salientesTocadas, entrantesTocadas, version.get() + 1);
+        salientesTocadas.clear();
+        entrantesTocadas.clear();
+        zonasTocadas.clear();
+        pendiente = false;
+        compacto = null;
+        version.incrementAndGet();
+    }
+
+    /**
+     * Obtiene la versión actual del grafo. Cambia con cada alta o baja de
+     * zonas o rutas y con cada bloqueo o reapertura de una ruta.
+     * 
+     * @return Número de versión
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    public CacheRutas getCacheRutas() {
+        return cacheRutas;
+    }
+
+    /**
+     * Solicita la construcción en segundo plano de la jerarquía de contracción
+     * para la topología actual. No hace nada si ya existe o está en curso.
+     */
+    public synchronized void prepararJerarquia() {
+        GrafoCompacto g = obtenerCompacto();
+        JerarquiaContraccion actual = jerarquia;
+        if ((actual != null && actual.getCompacto() == g) || compactoEnConstruccion == g) return;
+        compactoEnConstruccion = g;
+        CONSTRUCTOR_JERARQUIAS.execute(() -> {
+            JerarquiaContraccion nueva = null;
+            try {
+                nueva = JerarquiaContraccion.construir(g);
+            } catch (RuntimeException e) {
+                System.err.println("❌ Error construyendo jerarquía de contracción: " + e.getMessage());
+            }
+            synchronized (GrafoDirigido.this) {
+                if (compactoEnConstruccion == g) compactoEnConstruccion = null;
+                // Publicar solo si la topología no cambió durante la construcción
+                if (nueva != null && compacto == g) {
+                    nueva.sincronizarDisponibilidad();
+                    jerarquia = nueva;
+                }
+            }
+        });
+    }
+
+    /**
+     * Obtiene la jerarquía de contracción si corresponde a la topología actual.
+     * 
+     * @return Jerarquía lista para consultas, o null si no hay una vigente
+     */
+    public JerarquiaContraccion obtenerJerarquia() {
+        JerarquiaContraccion actual = jerarquia;
+        GrafoCompacto g = compacto;
+        return actual != null && actual.getCompacto() == g ? actual : null;
+    }
+
+    private synchronized void disponibilidadCambiada(Ruta ruta) {
+        version.incrementAndGet();
+        if (ruta.estaDisponible()) rutaHabilitada(ruta);
+        else rutaDeshabilitada(ruta);
+        for (ArbolCaminosMinimos arbol : arbolesFijos.values()) {
+            int arista = arbol.getCompacto().indiceDeRuta(ruta);
+            if (arista >= 0) arbol.actualizarDisponibilidad(arista, ruta.estaDisponible());
+        }
+        if (particion != null && !ruteos.isEmpty()) {
+            int arista = particion.getCompacto().indiceDeRuta(ruta);
+            if (arista >= 0) rutasCambiadasRuteo.agregar(arista);
+        }
+        JerarquiaContraccion actual = jerarquia;
+        if (actual == null) return;
+        int arista = actual.getCompacto().indiceDeRuta(ruta);
+        if (arista >= 0) actual.actualizarDisponibilidad(arista, ruta.estaDisponible());
+    }
+
+    /**
+     * Obtiene las componentes fuertemente conexas por rutas disponibles,
+     * calculándolas si las invalidó algún cambio.
+     * 
+     * @return Componentes vigentes
+     */
+    public ComponentesFuertes obtenerComponentes() {
+        ComponentesFuertes actual = componentes;
+        if (actual != null) return actual;
+        synchronized (this) {
+            if (componentes == null) componentes = ComponentesFuertes.calcular(obtenerCompacto());
+            return componentes;
+        }
+    }
+
+    /**
+     * Refleja en las componentes una ruta que quedó disponible. Si une dos
+     * componentes sin arco en la condensación, se recalculan al consultar.
+     */
+    private synchronized void rutaHabilitada(Ruta ruta) {
+        if (rutasCriticas != null) rutasCriticas.rutaHabilitada(ruta);
+        ComponentesFuertes actual = componentes;
+        if (actual == null) return;
+        GrafoCompacto g = actual.getCompacto();
+        int u = g.indiceDe(ruta.getOrigenId());
+        int v = g.indiceDe(ruta.getDestinoId());
+        if (u < 0 || v < 0 || !actual.rutaHabilitada(u, v)) componentes = null;
+    }
+
+    /**
+     * Refleja en las componentes una ruta bloqueada o eliminada. Dentro de
+     * una componente hace falta la topología vigente para buscar un desvío;
+     * si la representación compacta está invalidada, se recalcula al consultar.
+     */
+    private synchronized void rutaDeshabilitada(Ruta ruta) {
+        if (rutasCriticas != null) rutasCriticas.rutaDeshabilitada(ruta);
+        ComponentesFuertes actual = componentes;
+        // Dentro de un lote la topología compacta aún no refleja las escrituras
+        GrafoCompacto vigente = enLote > 0 ? null : compacto;
+        if (actual == null) return;
+        GrafoCompacto g = actual.getCompacto();
+        int u = g.indiceDe(ruta.getOrigenId());
+        int v = g.indiceDe(ruta.getDestinoId());
+        if (u < 0 || v < 0 || vigente == null || !actual.rutaDeshabilitada(vigente, u, v)) componentes = null;
+    }
+
+    /**
+     * Las altas y bajas de zonas cambian los índices: las componentes y las
+     * rutas críticas se recalculan al consultar.
+     */
+    private synchronized void zonasCambiadas() {
+        componentes = null;
+        rutasCriticas = null;
+    }
+
+    private synchronized void zonaCambiada(ZonaAfectada zona) {
+        if (rutasCriticas != null) rutasCriticas.zonaCambiada(zona.getId());
+    }
+
+    /**
+     * Obtiene los puentes y zonas de corte de la vista no dirigida del grafo,
+     * ordenados por la población que quedaría aislada. Aplica los cambios de
+     * rutas y zonas ocurridos desde la última consulta recalculando solo los
+     * bloques o componentes afectados.
+     * 
+     * @return Rutas críticas vigentes
+     */
+    public synchronized RutasCriticas obtenerRutasCriticas() {
+        if (rutasCriticas == null) {
+            rutasCriticas = RutasCriticas.calcular(obtenerCompacto(), instantanea.getZonas());
+        } else {
+            rutasCriticas.actualizar();
+        }
+        return rutasCriticas;
+    }
+
+    /**
+     * Indica si hay camino por rutas disponibles entre dos zonas.
+     * 
+     * @param origenId Identificador de la zona de origen
+     * @param destinoId Identificador de la zona de destino
+     * @return true si el destino es alcanzable desde el origen
+     */
+    public boolean existeCamino(String origenId, String destinoId) {
+        ComponentesFuertes actual = obtenerComponentes();
+        GrafoCompacto g = actual.getCompacto();
+        int origen = g.indiceDe(origenId);
+        int destino = g.indiceDe(destinoId);
+        return origen >= 0 && destino >= 0 && actual.alcanzable(origen, destino);
+    }
+
+    /**
+     * Obtiene las zonas que no alcanzan ningún refugio por rutas disponibles
+     * (sin contar los refugios). Si no hay refugios, todas quedan aisladas.
+     * 
+     * @return Zonas aisladas
+     */
+    public List<ZonaAfectada> obtenerZonasAisladas() {
+        ComponentesFuertes actual = obtenerComponentes();
+        GrafoCompacto g = actual.getCompacto();
+        boolean[] alcanza = actual.alcanzanAlguno(indicesDeRefugios(g));
+        List<ZonaAfectada> aisladas = new ArrayList<>();
+        for (int i = 0; i < g.getNumeroNodos(); i++) {
+            ZonaAfectada zona = instantanea.zona(g.idDe(i));
+            if (zona != null && !zona.isRefugio() && !alcanza[actual.componenteDe(i)]) aisladas.add(zona);
+        }
+        return aisladas;
+    }
+
+    /**
+     * Obtiene los caminos no dominados entre dos zonas por tiempo, distancia
+     * y capacidad del cuello de botella, para elegir entre ellos en una sola
+     * consulta.
+     * 
+     * @param origenId Identificador de la zona de origen
+     * @param destinoId Identificador de la zona de destino
+     * @return Frente de Pareto (sin opciones si no hay camino), o null si alguna zona no existe
+     */
+    public RutasPareto obtenerRutasPareto(String origenId, String destinoId) {
+        GrafoCompacto g = obtenerCompacto();
+        int origen = g.indiceDe(origenId);
+        int destino = g.indiceDe(destinoId);
+        if (origen < 0 || destino < 0) return null;
+        return RutasPareto.calcular(g, origen, destino);
+    }
+
+    /**
+     * Marca una zona como origen fijo (por ejemplo un refugio o un depósito).
+     * 
+     * Para cada origen fijo se mantiene un árbol de caminos mínimos por tiempo
+     * que se repara de forma incremental al bloquear o reabrir rutas, así que
+     * las consultas desde él solo recorren el camino encontrado.
+     * 
+     * @param zonaId Identificador de la zona
+     * @return true si la zona existe
+     */
+    public boolean fijarOrigen(String zonaId) {
+        if (!instantanea.contieneZona(zonaId)) return false;
+        obtenerArbolFijo(zonaId, true);
+        return true;
+    }
+
+    /**
+     * Deja de mantener el árbol de caminos mínimos de una zona.
+     * 
+     * @param zonaId Identificador de la zona
+     */
+    public synchronized void liberarOrigen(String zonaId) {
+        arbolesFijos.remove(zonaId);
+    }
+
+    public Set<String> getOrigenesFijos() {
+        return Set.copyOf(arbolesFijos.keySet());
+    }
+
+    /**
+     * Obtiene el árbol de un origen fijo, reconstruyéndolo si la topología
+     * cambió desde su construcción. Si el árbol publicado corresponde a la
+     * representación compacta vigente se devuelve sin tomar el candado del
+     * grafo; el árbol protege sus propias lecturas.
+     * 
+     * @param zonaId Identificador de la zona
+     * @param crear true para fijar la zona si aún no lo está
+     * @return Árbol vigente, o null si la zona no es un origen fijo
+     */
+    private ArbolCaminosMinimos obtenerArbolFijo(String zonaId, boolean crear) {
+        ArbolCaminosMinimos arbol = arbolesFijos.get(zonaId);
+        if (arbol == null && !crear) return null;
+        if (arbol != null && arbol.getCompacto() == obtenerCompacto()) return arbol;
+        return construirArbolFijo(zonaId, crear);
+    }
+
+    /**
+     * Crea o reconstruye el árbol de un origen fijo con el candado del grafo,
+     * volviendo a comprobar lo que vio la lectura sin candado.
+     */
+    private synchronized ArbolCaminosMinimos construirArbolFijo(String zonaId, boolean crear) {
+        ArbolCaminosMinimos arbol = arbolesFijos.get(zonaId);
+        if (arbol == null && !crear) return null;
+        GrafoCompacto g = obtenerCompacto();
+        if (arbol == null || arbol.getCompacto() != g) {
+            int origen = g.indiceDe(zonaId);
+            if (origen < 0) {
+                arbolesFijos.remove(zonaId);
+                return null;
+            }
+            arbol = new ArbolCaminosMinimos(g, origen);
+            arbolesFijos.put(zonaId, arbol);
+        }
+        return arbol;
     }
 
     /**
@@ -78,53 +703,551 @@ public class GrafoDirigido {
      * @return Lista de rutas que conforman el camino más corto, o null si no existe camino
      */
     public List<Ruta> obtenerRutaMasCorta(String origenId, String destinoId) {
-        if (!nodos.containsKey(origenId) || !nodos.containsKey(destinoId)) return null;
+        return obtenerRutaMasCorta(origenId, destinoId, AlgoritmoRuta.DIJKSTRA);
+    }
 
-        // Dijkstra: distancia por tiempo
-        Map<String, Double> dist = new HashMap<>();
-        Map<String, Ruta> prevRuta = new HashMap<>();
-        PriorityQueue<NodeDist> pq = new PriorityQueue<>(Comparator.comparingDouble(nd -> nd.dist));
+    /**
+     * Calcula la ruta más corta por tiempo con el algoritmo indicado.
+     * 
+     * @param origenId Identificador de la zona de origen
+     * @param destinoId Identificador de la zona de destino
+     * @param algoritmo Algoritmo de búsqueda a utilizar
+     * @return Lista de rutas que conforman el camino más corto, o null si no existe camino
+     */
+    public List<Ruta> obtenerRutaMasCorta(String origenId, String destinoId, AlgoritmoRuta algoritmo) {
+        return obtenerRutaMasCorta(origenId, destinoId, algoritmo, Metrica.TIEMPO);
+    }
 
-        for (String id : nodos.keySet()) dist.put(id, Double.POSITIVE_INFINITY);
-        dist.put(origenId, 0.0);
-        pq.add(new NodeDist(origenId, 0.0));
+    /**
+     * Calcula la ruta más corta con el algoritmo y la métrica indicados.
+     * 
+     * Solo Dijkstra por tiempo puede ejecutarse sobre los mapas; el resto
+     * de combinaciones siempre usa la representación compacta. El resultado
+     * se guarda en la cache por (origen, destino, algoritmo, métrica) hasta que cambie
+     * la versión del grafo. Los pares que las componentes fuertemente
+     * conexas descartan devuelven null sin buscar.
+     * 
+     * @param origenId Identificador de la zona de origen
+     * @param destinoId Identificador de la zona de destino
+     * @param algoritmo Algoritmo de búsqueda a utilizar
+     * @param metrica Métrica a minimizar (tiempo o distancia)
+     * @return Lista de rutas que conforman el camino más corto, o null si no existe camino
+     */
+    public List<Ruta> obtenerRutaMasCorta(String origenId, String destinoId,
+                                          AlgoritmoRuta algoritmo, Metrica metrica) {
+        InstantaneaGrafo vigente = instantanea;
+        if (!vigente.contieneZona(origenId) || !vigente.contieneZona(destinoId)) return null;
+
+        // Pares sin camino descartados por las componentes, sin buscar
+        ComponentesFuertes scc = obtenerComponentes();
+        int origen = scc.getCompacto().indiceDe(origenId);
+        int destino = scc.getCompacto().indiceDe(destinoId);
+        if (origen >= 0 && destino >= 0 && scc.descartado(origen, destino)) return null;
+
+        long versionActual = version.get();
+        CacheRutas.Resultado enCache = cacheRutas.obtener(origenId, destinoId, algoritmo, metrica, versionActual);
+        if (enCache != null) return enCache.getCamino();
+
+        List<Ruta> camino = calcularRutaMasCorta(origenId, destinoId, algoritmo, metrica);
+        cacheRutas.guardar(origenId, destinoId, algoritmo, metrica, versionActual, camino);
+        return camino;
+    }
+
+    private List<Ruta> calcularRutaMasCorta(String origenId, String destinoId,
+                                            AlgoritmoRuta algoritmo, Metrica metrica) {
+        if (usarBackendCompacto && metrica == Metrica.TIEMPO && arbolesFijos.containsKey(origenId)) {
+            return obtenerRutaDesdeOrigenFijo(origenId, destinoId);
+        }
+        if (usarBackendCompacto || algoritmo != AlgoritmoRuta.DIJKSTRA || metrica != Metrica.TIEMPO) {
+            return obtenerRutaMasCortaCompacta(origenId, destinoId, algoritmo, metrica);
+        }
 
-        while (!pq.isEmpty()) {
-            NodeDist curr = pq.poll();
-            if (curr.dist > dist.get(curr.id)) continue;
-            if (curr.id.equals(destinoId)) break;
+        // Dijkstra: distancia por tiempo, sobre una sola instantánea y con
+        // índices de zona para usar el espacio de búsqueda del hilo
+        InstantaneaGrafo vigente = instantanea;
+        int origen = vigente.indiceDe(origenId);
+        int destino = vigente.indiceDe(destinoId);
+        EspacioBusqueda espacio = EspacioBusqueda.adelante(vigente.getNumeroZonas());
+        MonticuloIndexado cola = espacio.cola();
+        espacio.fijar(origen, 0.0, -1);
+        cola.insertarOActualizar(origen, 0.0);
 
-            List<Ruta> salientes = aristas.getOrDefault(curr.id, List.of());
-            for (Ruta r : salientes) {
+        while (!cola.estaVacio()) {
+            double du = cola.prioridadMinima();
+            int u = cola.extraerMinimo();
+            if (u == destino) break;
+
+            List<Ruta> salientes = vigente.salientesDe(vigente.idEn(u));
+            for (int i = 0; i < salientes.size(); i++) {
+                Ruta r = salientes.get(i);
                 if (!r.estaDisponible()) continue;
-                double ndist = curr.dist + r.calcularTiempoReal();
-                if (ndist < dist.get(r.getDestinoId())) {
-                    dist.put(r.getDestinoId(), ndist);
-                    prevRuta.put(r.getDestinoId(), r);
-                    pq.add(new NodeDist(r.getDestinoId(), ndist));
+                int v = vigente.indiceDe(r.getDestinoId());
+                double ndist = du + r.calcularTiempoReal();
+                if (ndist < espacio.costo(v)) {
+                    // Se guarda la zona previa; la ruta se recupera al reconstruir
+                    espacio.fijar(v, ndist, u);
+                    cola.insertarOActualizar(v, ndist);
                 }
             }
         }
 
-        if (prevRuta.get(destinoId) == null) return null;
+        if (origen == destino || espacio.previa(destino) < 0) return null;
 
         // reconstruir camino en orden
         LinkedList<Ruta> camino = new LinkedList<>();
-        String actual = destinoId;
-        while (!actual.equals(origenId)) {
-            Ruta r = prevRuta.get(actual);
-            if (r == null) break;
-            camino.addFirst(r);
-            actual = r.getOrigenId();
+        for (int v = destino; v != origen; v = espacio.previa(v)) {
+            camino.addFirst(rutaMasRapida(vigente, espacio.previa(v), v));
         }
         return camino;
     }
 
-    private static class NodeDist {
-        String id;
-        double dist;
-        NodeDist(String id, double dist) { this.id = id; this.dist = dist; }
+    /**
+     * Primera de las rutas disponibles más rápidas entre dos zonas de la
+     * instantánea: la misma que la relajación de Dijkstra dejó como previa.
+     */
+    private static Ruta rutaMasRapida(InstantaneaGrafo vigente, int origen, int destino) {
+        String destinoId = vigente.idEn(destino);
+        Ruta mejor = null;
+        for (Ruta r : vigente.salientesDe(vigente.idEn(origen))) {
+            if (!r.estaDisponible() || !r.getDestinoId().equals(destinoId)) continue;
+            if (mejor == null || r.calcularTiempoReal() < mejor.calcularTiempoReal()) mejor = r;
+        }
+        return mejor;
+    }
+
+    /**
+     * Búsqueda sobre la representación compacta del grafo.
+     */
+    private List<Ruta> obtenerRutaMasCortaCompacta(String origenId, String destinoId,
+                                                   AlgoritmoRuta algoritmo, Metrica metrica) {
+        GrafoCompacto g = obtenerCompacto();
+        int origen = g.indiceDe(origenId);
+        int destino = g.indiceDe(destinoId);
+        CaminoCompacto resultado;
+        switch (algoritmo) {
+            case A_ESTRELLA:
+                resultado = g.aEstrella(origen, destino, metrica);
+                break;
+            case BIDIRECCIONAL:
+                resultado = g.bidireccional(origen, destino, metrica);
+                break;
+            case JERARQUIA_CONTRACCION:
+                resultado = consultarJerarquia(g, origen, destino, metrica);
+                break;
+            case PARTICIONADO:
+                return obtenerRutaParticionada(origenId, destinoId, metrica);
+            default:
+                resultado = g.dijkstra(origen, destino, metrica);
+        }
+        int[] camino = resultado.getAristas();
+        if (camino == null) return null;
+
+        List<Ruta> rutas = new ArrayList<>(camino.length);
+        for (int e : camino) rutas.add(g.rutaDe(e));
+        return rutas;
+    }
+
+    /**
+     * Camino por regiones: los índices se toman de la representación
+     * compacta sobre la que se construyó la superposición.
+     */
+    private List<Ruta> obtenerRutaParticionada(String origenId, String destinoId, Metrica metrica) {
+        RuteoParticionado ruteo = obtenerRuteoParticionado(metrica);
+        GrafoCompacto g = ruteo.getCompacto();
+        int origen = g.indiceDe(origenId);
+        int destino = g.indiceDe(destinoId);
+        if (origen < 0 || destino < 0) return null;
+        int[] camino = ruteo.consultar(origen, destino).getAristas();
+        if (camino == null) return null;
+        List<Ruta> rutas = new ArrayList<>(camino.length);
+        for (int e : camino) rutas.add(g.rutaDe(e));
+        return rutas;
+    }
+
+    /**
+     * Obtiene el ruteo por regiones vigente para una métrica: la partición
+     * multinivel y las superposiciones se conservan mientras no cambie la
+     * topología, y al bloquear o reabrir rutas solo se recalculan las partes
+     * que las contienen.
+     * 
+     * @param metrica Métrica a minimizar
+     * @return Partición y superposición listas para consultas
+     */
+    public synchronized RuteoParticionado obtenerRuteoParticionado(Metrica metrica) {
+        GrafoCompacto g = obtenerCompacto();
+        int partes = partesRuteo > 0 ? partesRuteo : Math.max(2, Math.min(64, g.getNumeroNodos() / 500));
+        if (particion == null || particion.getCompacto() != g
+                || particion.getPartes() != Math.min(partes, Math.max(1, g.getNumeroNodos()))) {
+            particion = ParticionGrafo.calcular(g, partes);
+            ruteos.clear();
+            rutasCambiadasRuteo.limpiar();
+        }
+        if (rutasCambiadasRuteo.tamano() > 0) {
+            int[] cambiadas = rutasCambiadasRuteo.aArreglo();
+            ruteos.replaceAll((m, ruteo) -> ruteo.actualizar(cambiadas));
+            rutasCambiadasRuteo.limpiar();
+        }
+        return ruteos.computeIfAbsent(metrica, m -> RuteoParticionado.construir(particion, m));
+    }
+
+    /**
+     * Fija el número de regiones del ruteo por regiones.
+     * 
+     * @param partes Número de partes, o 0 para elegirlo según el tamaño del grafo
+     * @throws IllegalArgumentException si es negativo
+     */
+    public synchronized void setPartesRuteo(int partes) {
+        if (partes < 0) throw new IllegalArgumentException("El número de partes no puede ser negativo");
+        partesRuteo = partes;
+    }
+
+    /**
+     * Calcula la ruta de llegada más temprana saliendo en un instante, con
+     * los perfiles de tiempo de las rutas (congestión, avance de la amenaza).
+     * 
+     * No usa la cache ni la jerarquía: dependen del tiempo fijo de las rutas.
+     * 
+     * @param origenId Identificador de la zona de origen
+     * @param destinoId Identificador de la zona de destino
+     * @param salida Instante de salida en minutos
+     * @return Lista de rutas del camino, o null si no existe camino
+     */
+    public List<Ruta> obtenerRutaDependiente(String origenId, String destinoId, double salida) {
+        InstantaneaGrafo vigente = instantanea;
+        if (!vigente.contieneZona(origenId) || !vigente.contieneZona(destinoId)) return null;
+        ComponentesFuertes scc = obtenerComponentes();
+        GrafoCompacto g = scc.getCompacto();
+        int origen = g.indiceDe(origenId);
+        int destino = g.indiceDe(destinoId);
+        if (origen < 0 || destino < 0 || scc.descartado(origen, destino)) return null;
+
+        int[] camino = g.dijkstraDependiente(origen, destino, salida).getAristas();
+        if (camino == null) return null;
+        List<Ruta> rutas = new ArrayList<>(camino.length);
+        for (int e : camino) rutas.add(g.rutaDe(e));
+        return rutas;
+    }
+
+    /**
+     * Instante de llegada al recorrer un camino saliendo en un instante,
+     * evaluando cada ruta cuando se llega a su origen.
+     * 
+     * @param camino Rutas en orden
+     * @param salida Instante de salida en minutos
+     * @return Instante de llegada al final del camino
+     */
+    public static double calcularLlegada(List<Ruta> camino, double salida) {
+        double t = salida;
+        for (Ruta r : camino) t += r.calcularTiempoReal(t);
+        return t;
+    }
+
+    /**
+     * Camino por tiempo desde un origen fijo, leído de su árbol de caminos mínimos.
+     */
+    private List<Ruta> obtenerRutaDesdeOrigenFijo(String origenId, String destinoId) {
+        ArbolCaminosMinimos arbol = obtenerArbolFijo(origenId, false);
+        if (arbol == null) return obtenerRutaMasCortaCompacta(origenId, destinoId, AlgoritmoRuta.BIDIRECCIONAL, Metrica.TIEMPO);
+        GrafoCompacto g = arbol.getCompacto();
+        int[] camino = arbol.caminoHasta(g.indiceDe(destinoId)).getAristas();
+        if (camino == null) return null;
+
+        List<Ruta> rutas = new ArrayList<>(camino.length);
+        for (int e : camino) rutas.add(g.rutaDe(e));
+        return rutas;
+    }
+
+    /**
+     * Calcula la matriz de tiempos mínimos entre todas las zonas indicadas,
+     * con un Dijkstra por origen en paralelo.
+     * 
+     * @param zonaIds Identificadores de las zonas (filas y columnas, en orden)
+     * @return Matriz de tiempos
+     * @throws IllegalArgumentException si alguna zona no existe
+     */
+    public MatrizTiempos calcularMatrizTiempos(List<String> zonaIds) {
+        GrafoCompacto g = obtenerCompacto();
+        int[] indices = indicesDe(g, zonaIds);
+        return MatrizTiempos.calcular(g, indices, indices);
+    }
+
+    /**
+     * Obtiene las zonas alcanzables desde un origen dentro de cada umbral de
+     * tiempo y sus polígonos de cobertura, con un solo Dijkstra acotado. El
+     * resultado se reutiliza mientras no cambie la versión del grafo.
+     * 
+     * @param origenId Identificador de la zona de origen (equipo o depósito)
+     * @param umbrales Presupuestos de tiempo en minutos
+     * @return Isócronas del origen, o null si la zona no existe
+     */
+    public Isocrona obtenerIsocrona(String origenId, double[] umbrales) {
+        long versionActual = version.get();
+        GrafoCompacto g = obtenerCompacto();
+        int origen = g.indiceDe(origenId);
+        if (origen < 0) return null;
+        double[] ordenados = umbrales.clone();
+        Arrays.sort(ordenados);
+        String clave = origenId + "|" + Arrays.toString(ordenados);
+
+        synchronized (isocronas) {
+            if (versionActual > versionIsocronas) {
+                isocronas.clear();
+                versionIsocronas = versionActual;
+            }
+            Isocrona enCache = versionActual == versionIsocronas ? isocronas.get(clave) : null;
+            if (enCache != null && enCache.getCompacto() == g) return enCache;
+        }
+        Isocrona nueva = Isocrona.calcular(g, origen, ordenados);
+        synchronized (isocronas) {
+            if (versionActual == versionIsocronas) isocronas.put(clave, nueva);
+        }
+        return nueva;
+    }
+
+    /**
+     * Calcula las rutas más cortas de muchos pares con un árbol de Dijkstra
+     * por origen, en paralelo. Cada par se entrega en el hilo que llama en
+     * cuanto termina su grupo y queda guardado en la cache de rutas.
+     * 
+     * @param origenIds Zona de origen de cada par
+     * @param destinoIds Zona de destino de cada par (misma longitud)
+     * @param metrica Métrica a minimizar
+     * @param alResolver Recibe la posición del par y sus rutas (null si no hay camino)
+     * @return Número de orígenes distintos (árboles calculados)
+     * @throws IllegalArgumentException si alguna zona no existe
+     */
+    public int calcularRutasEnLote(List<String> origenIds, List<String> destinoIds, Metrica metrica,
+                                   BiConsumer<Integer, List<Ruta>> alResolver) {
+        if (origenIds.size() != destinoIds.size()) {
+            throw new IllegalArgumentException("Cada origen necesita un destino");
+        }
+        long versionActual = version.get();
+        GrafoCompacto g = obtenerCompacto();
+        int[] origenes = indicesDe(g, origenIds);
+        int[] destinos = indicesDe(g, destinoIds);
+        return LoteRutas.calcular(g, origenes, destinos, metrica, grupo -> {
+            for (int i = 0; i < grupo.getTamano(); i++) {
+                int[] camino = grupo.camino(i).getAristas();
+                List<Ruta> rutas = null;
+                if (camino != null) {
+                    rutas = new ArrayList<>(camino.length);
+                    for (int e : camino) rutas.add(g.rutaDe(e));
+                }
+                int posicion = grupo.posicion(i);
+                cacheRutas.guardar(origenIds.get(posicion), destinoIds.get(posicion), AlgoritmoRuta.DIJKSTRA,
+                                   metrica, versionActual, rutas);
+                alResolver.accept(posicion, rutas);
+            }
+        });
+    }
+
+    /**
+     * Obtiene el refugio alcanzable más cercano (por tiempo) de cada zona,
+     * con un único Dijkstra de múltiples fuentes desde todas las zonas
+     * marcadas como refugio. El resultado se reutiliza mientras no cambien
+     * la versión del grafo ni el conjunto de refugios.
+     * 
+     * @return Asignación de refugios sobre la representación compacta vigente
+     */
+    public RefugiosCercanos obtenerRefugiosCercanos() {
+        synchronized (candadoRefugios) {
+            long versionActual = version.get();
+            GrafoCompacto g = obtenerCompacto();
+            int[] refugios = indicesDeRefugios(g);
+            RefugiosCercanos actual = refugiosCercanos;
+            if (actual != null && versionRefugios == versionActual
+                    && actual.getCompacto() == g && actual.mismosRefugios(refugios)) {
+                return actual;
+            }
+            actual = RefugiosCercanos.calcular(g, refugios, Metrica.TIEMPO);
+            refugiosCercanos = actual;
+            versionRefugios = versionActual;
+            return actual;
+        }
+    }
+
+    /**
+     * Obtiene la ruta desde una zona hasta su refugio alcanzable más cercano.
+     * 
+     * @param zonaId Identificador de la zona de partida
+     * @return Lista de rutas (vacía si la zona es un refugio), o null si la
+     *         zona no existe o no alcanza ningún refugio
+     */
+    public List<Ruta> obtenerRutaAlRefugioMasCercano(String zonaId) {
+        RefugiosCercanos refugios = obtenerRefugiosCercanos();
+        GrafoCompacto g = refugios.getCompacto();
+        int nodo = g.indiceDe(zonaId);
+        if (nodo < 0 || !refugios.alcanzaRefugio(nodo)) return null;
+        CaminoCompacto camino = refugios.caminoDesde(nodo);
+        List<Ruta> rutas = new ArrayList<>();
+        if (!camino.existe()) return rutas;
+        for (int e : camino.getAristas()) rutas.add(g.rutaDe(e));
+        return rutas;
+    }
+
+    private int[] indicesDeRefugios(GrafoCompacto g) {
+        ListaEnteros refugios = new ListaEnteros();
+        for (int i = 0; i < g.getNumeroNodos(); i++) {
+            ZonaAfectada zona = instantanea.zona(g.idDe(i));
+            if (zona != null && zona.isRefugio()) refugios.agregar(i);
+        }
+        return refugios.aArreglo();
+    }
+
+    /**
+     * Calcula cuántas personas por hora pueden salir de las zonas de origen
+     * hacia los refugios, según la capacidad de las rutas disponibles, y
+     * cómo se reparte ese flujo entre las rutas.
+     * 
+     * @param origenIds Zonas a evacuar; si es null, las zonas de riesgo alto
+     *                  aún no evacuadas
+     * @param refugioIds Refugios de destino; si es null, las zonas marcadas
+     *                   como refugio
+     * @return Flujo máximo sobre la representación compacta vigente
+     * @throws IllegalArgumentException si alguna zona no existe
+     */
+    public FlujoMaximo calcularCapacidadEvacuacion(List<String> origenIds, List<String> refugioIds) {
+        GrafoCompacto g = obtenerCompacto();
+        int[] origenes;
+        if (origenIds == null) {
+            ListaEnteros pendientes = new ListaEnteros();
+            for (ZonaAfectada zona : registroZonas.obtenerPorBanda(BandaRiesgo.ALTO)) {
+                int i = g.indiceDe(zona.getId());
+                if (i >= 0 && !zona.isEvacuada()) pendientes.agregar(i);
+            }
+            origenes = pendientes.aArreglo();
+        } else {
+            origenes = indicesDe(g, origenIds);
+        }
+        int[] refugios = refugioIds == null ? indicesDeRefugios(g) : indicesDe(g, refugioIds);
+        return FlujoMaximo.calcular(g, origenes, refugios);
+    }
+
+    /**
+     * Planifica en conjunto la evacuación de varias zonas hacia los refugios
+     * con un flujo de costo mínimo: respeta la capacidad de las rutas y de
+     * los refugios, evacúa a la mayor cantidad posible (primero las zonas de
+     * mayor riesgo) y minimiza el tiempo total de viaje.
+     * 
+     * @param zonas Zonas a evacuar (las repetidas, evacuadas o ajenas al grafo se omiten)
+     * @param horas Horizonte del plan; cada ruta admite {@code capacidad × horas} personas
+     * @return Plan sobre la representación compacta vigente
+     */
+    public FlujoCostoMinimo planificarEvacuacionConjunta(List<ZonaAfectada> zonas, double horas) {
+        GrafoCompacto g = obtenerCompacto();
+        List<ZonaAfectada> incluidas = zonasAEvacuar(g, zonas);
+        int[] origenes = new int[incluidas.size()];
+        long[] personas = new long[incluidas.size()];
+        int[] riesgos = new int[incluidas.size()];
+        for (int k = 0; k < origenes.length; k++) {
+            origenes[k] = g.indiceDe(incluidas.get(k).getId());
+            personas[k] = incluidas.get(k).getPoblacion();
+            riesgos[k] = incluidas.get(k).getNivelDeRiesgo();
+        }
+        int[] refugios = indicesDeRefugios(g);
+        return FlujoCostoMinimo.calcular(g, origenes, personas, riesgos, refugios, capacidadesDe(g, refugios), horas);
+    }
+
+    /**
+     * Calcula el cronograma que evacúa las zonas en el menor tiempo, sobre
+     * una red expandida en el tiempo: capacidad de las rutas por hora,
+     * tiempo de tránsito de cada ruta y capacidad de los refugios.
+     * 
+     * @param zonas Zonas a evacuar (las repetidas, evacuadas o ajenas al grafo se omiten)
+     * @param minutosPorIntervalo Duración de cada intervalo del cronograma
+     * @param maxIntervalos Horizonte máximo, en intervalos
+     * @return Cronograma sobre la representación compacta vigente
+     */
+    public EvacuacionRapida planificarEvacuacionRapida(List<ZonaAfectada> zonas, double minutosPorIntervalo,
+                                                       int maxIntervalos) {
+        GrafoCompacto g = obtenerCompacto();
+        List<ZonaAfectada> incluidas = zonasAEvacuar(g, zonas);
+        int[] origenes = new int[incluidas.size()];
+        long[] personas = new long[incluidas.size()];
+        for (int k = 0; k < origenes.length; k++) {
+            origenes[k] = g.indiceDe(incluidas.get(k).getId());
+            personas[k] = incluidas.get(k).getPoblacion();
+        }
+        int[] refugios = indicesDeRefugios(g);
+        return EvacuacionRapida.calcular(g, origenes, personas, refugios, capacidadesDe(g, refugios),
+                minutosPorIntervalo, maxIntervalos);
+    }
+
+    private static List<ZonaAfectada> zonasAEvacuar(GrafoCompacto g, List<ZonaAfectada> zonas) {
+        Set<String> vistas = new HashSet<>();
+        List<ZonaAfectada> incluidas = new ArrayList<>();
+        for (ZonaAfectada zona : zonas) {
+            if (g.indiceDe(zona.getId()) < 0 || zona.isEvacuada() || !vistas.add(zona.getId())) continue;
+            incluidas.add(zona);
+        }
+        return incluidas;
+    }
+
+    private long[] capacidadesDe(GrafoCompacto g, int[] refugios) {
+        long[] capacidades = new long[refugios.length];
+        for (int k = 0; k < refugios.length; k++) {
+            ZonaAfectada refugio = instantanea.zona(g.idDe(refugios[k]));
+            capacidades[k] = refugio != null ? refugio.getCapacidadRefugio() : 0;
+        }
+        return capacidades;
+    }
+
+    private static int[] indicesDe(GrafoCompacto g, List<String> zonaIds) {
+        int[] indices = new int[zonaIds.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = g.indiceDe(zonaIds.get(i));
+            if (indices[i] < 0) throw new IllegalArgumentException("Zona no encontrada: " + zonaIds.get(i));
+        }
+        return indices;
+    }
+
+    /**
+     * Calcula hasta {@code k} rutas sin ciclos entre dos zonas, ordenadas por
+     * costo. La primera es la ruta más corta; las siguientes son alternativas
+     * calculadas con el algoritmo de Yen sobre el pool común de ForkJoin.
+     * 
+     * @param origenId Identificador de la zona de origen
+     * @param destinoId Identificador de la zona de destino
+     * @param k Número máximo de rutas
+     * @param metrica Métrica a minimizar (tiempo o distancia)
+     * @return Lista de caminos (vacía si las zonas no existen o no hay camino)
+     */
+    public List<List<Ruta>> obtenerRutasAlternativas(String origenId, String destinoId, int k, Metrica metrica) {
+        GrafoCompacto g = obtenerCompacto();
+        int origen = g.indiceDe(origenId);
+        int destino = g.indiceDe(destinoId);
+        List<List<Ruta>> caminos = new ArrayList<>();
+        if (origen < 0 || destino < 0) return caminos;
+
+        for (CaminoCompacto camino : CaminosAlternativos.calcular(g, origen, destino, k, metrica, ForkJoinPool.commonPool())) {
+            List<Ruta> rutas = new ArrayList<>(camino.getAristas().length);
+            for (int e : camino.getAristas()) rutas.add(g.rutaDe(e));
+            caminos.add(rutas);
+        }
+        return caminos;
+    }
+
+    /**
+     * Consulta la jerarquía de contracción si está lista para esta topología;
+     * mientras se construye (o para distancia) responde con Dijkstra bidireccional.
+     */
+    private CaminoCompacto consultarJerarquia(GrafoCompacto g, int origen, int destino, Metrica metrica) {
+        if (metrica != Metrica.TIEMPO) return g.bidireccional(origen, destino, metrica);
+        JerarquiaContraccion actual = jerarquia;
+        if (actual == null || actual.getCompacto() != g) {
+            prepararJerarquia();
+            return g.bidireccional(origen, destino, metrica);
+        }
+        CaminoCompacto resultado = actual.consultar(origen, destino);
+        // Un bloqueo que aún no se propagó a la jerarquía invalida la respuesta
+        if (resultado.existe()) {
+            for (int e : resultado.getAristas()) {
+                if (!g.rutaDe(e).estaDisponible()) return g.bidireccional(origen, destino, metrica);
+            }
+        }
+        return resultado;
     }
+
     public void imprimirRutaMasCorta(String origenId, String destinoId) {
         List<Ruta> ruta = obtenerRutaMasCorta(origenId, destinoId);
     if (ruta == null || ruta.isEmpty()) {
@@ -140,16 +1263,53 @@ public class GrafoDirigido {
     double total = ruta.stream().mapToDouble(Ruta::getDistancia).sum();
     System.out.printf("Distancia total: %.1f km\n", total);
 }
-public Map<String, List<Ruta>> getAristas() {
-    return aristas;
-}
-public ZonaAfectada obtenerZonaPorId(String id) {
-    for (ZonaAfectada z : nodos.values()) {
-        if (z.getId().equals(id)) {
-            return z;
+    /**
+     * Obtiene las rutas salientes de cada zona según la última instantánea
+     * publicada. El mapa y sus listas son de solo lectura y no cambian
+     * aunque otras solicitudes modifiquen el grafo.
+     * 
+     * @return Rutas salientes por ID de zona de origen
+     */
+    public Map<String, List<Ruta>> getAristas() {
+        return instantanea.getSalientes();
+    }
+
+    /**
+     * Obtiene las rutas que llegan a una zona.
+     * 
+     * @param zonaId Identificador de la zona de destino
+     * @return Copia de la lista de rutas entrantes (vacía si no hay)
+     */
+    public List<Ruta> obtenerRutasEntrantes(String zonaId) {
+        return new ArrayList<>(instantanea.entrantesDe(zonaId));
+    }
+
+    /**
+     * Obtiene las zonas desde las que se puede llegar a una zona por rutas
+     * disponibles, recorriendo las rutas entrantes hacia atrás.
+     * 
+     * @param zonaId Identificador de la zona de destino
+     * @return Identificadores de las zonas con acceso (sin incluir la zona)
+     */
+    public Set<String> obtenerZonasConAccesoA(String zonaId) {
+        InstantaneaGrafo vigente = instantanea;
+        Set<String> visitadas = new HashSet<>();
+        if (!vigente.contieneZona(zonaId)) return visitadas;
+        ArrayDeque<String> pendientes = new ArrayDeque<>();
+        visitadas.add(zonaId);
+        pendientes.add(zonaId);
+        while (!pendientes.isEmpty()) {
+            String actual = pendientes.poll();
+            for (Ruta r : vigente.entrantesDe(actual)) {
+                if (r.estaDisponible() && visitadas.add(r.getOrigenId())) pendientes.add(r.getOrigenId());
+            }
         }
+        visitadas.remove(zonaId);
+        return visitadas;
     }
-    return null;
+
+public ZonaAfectada obtenerZonaPorId(String id) {
+    return registroZonas.obtener(id);
 }
 
     /**
@@ -157,45 +1317,70 @@ public ZonaAfectada obtenerZonaPorId(String id) {
      * @param zona La zona a agregar
      * @return true si se agregó exitosamente, false si ya existía
      */
-    public boolean agregarZona(ZonaAfectada zona) {
+    public synchronized boolean agregarZona(ZonaAfectada zona) {
         if (zona == null || zona.getId() == null) {
             return false;
         }
 
-        // Verificar si la zona ya existe
-        if (nodos.containsKey(zona.getId())) {
+        // Agregar la zona al grafo (false si ya existe)
+        if (!registroZonas.agregar(zona)) {
             return false;
         }
+        zona.agregarObservador(observadorZonas);
 
-        // Agregar la zona al grafo
-        nodos.put(zona.getId(), zona);
-
-        // Inicializar lista de aristas para este nodo si no existe
+        // Inicializar listas de aristas para este nodo si no existen
         aristas.putIfAbsent(zona.getId(), new ArrayList<>());
+        entrantes.putIfAbsent(zona.getId(), new ArrayList<>());
+        salientesTocadas.add(zona.getId());
+        entrantesTocadas.add(zona.getId());
+        zonasTocadas.add(zona.getId());
+        publicarSiNoHayLote();
+        zonasCambiadas();
 
         return true;
     }
 
     /**
-     * Elimina una zona del grafo
+     * Elimina una zona del grafo junto con sus rutas salientes y entrantes.
+     * Solo se recorren las listas de la zona y las de sus vecinos, gracias
+     * al índice de rutas entrantes.
      * @param zonaId El ID de la zona a eliminar
      * @return true si se eliminó, false si no existía
      */
-    public boolean eliminarZona(String zonaId) {
-        if (!nodos.containsKey(zonaId)) {
+    public synchronized boolean eliminarZona(String zonaId) {
+        // Eliminar el nodo
+        ZonaAfectada eliminada = registroZonas.eliminar(zonaId);
+        if (eliminada == null) {
             return false;
         }
+        eliminada.removerObservador(observadorZonas);
 
-        // Eliminar el nodo
-        nodos.remove(zonaId);
-
-        // Eliminar sus aristas salientes
-        aristas.remove(zonaId);
+        // Eliminar sus aristas salientes de las listas de entrada de los vecinos
+        List<Ruta> salientes = aristas.remove(zonaId);
+        if (salientes != null) {
+            for (Ruta ruta : salientes) {
+                List<Ruta> llegadas = entrantes.get(ruta.getDestinoId());
+                if (llegadas != null) llegadas.remove(ruta);
+                entrantesTocadas.add(ruta.getDestinoId());
+                ruta.removerObservador(observadorDisponibilidad);
+            }
+        }
 
-        // Eliminar aristas que apunten a este nodo
-        for (List<Ruta> rutas : aristas.values()) {
-            rutas.removeIf(ruta -> ruta.getDestinoId().equals(zonaId));
+        // Eliminar aristas que apunten a este nodo de las listas de salida de los vecinos
+        List<Ruta> llegadas = entrantes.remove(zonaId);
+        if (llegadas != null) {
+            for (Ruta ruta : llegadas) {
+                List<Ruta> deOrigen = aristas.get(ruta.getOrigenId());
+                if (deOrigen != null) deOrigen.remove(ruta);
+                salientesTocadas.add(ruta.getOrigenId());
+                ruta.removerObservador(observadorDisponibilidad);
+            }
         }
+        salientesTocadas.add(zonaId);
+        entrantesTocadas.add(zonaId);
+        zonasTocadas.add(zonaId);
+        publicarSiNoHayLote();
+        zonasCambiadas();
 
         return true;
     }
@@ -206,7 +1391,7 @@ public ZonaAfectada obtenerZonaPorId(String id) {
      * @return true si existe, false en caso contrario
      */
     public boolean existeZona(String id) {
-        return nodos.containsKey(id);
+        return instantanea.contieneZona(id);
     }
 
 }
\ No newline at end of file
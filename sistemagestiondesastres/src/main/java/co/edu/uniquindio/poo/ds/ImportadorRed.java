@@ -0,0 +1,638 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import co.edu.uniquindio.poo.services.GeoService;
+import co.edu.uniquindio.poo.services.ValidationService;
+
+/**
+ * Importación por flujo de redes viales grandes (zonas y rutas) desde CSV o
+ * GeoJSON hacia un {@link GrafoDirigido}.
+ *
+ * <p>El archivo se lee una sola vez, en bloques de
+ * {@link #REGISTROS_POR_BLOQUE} registros. Cada bloque se convierte y valida
+ * en el pool común de ForkJoin mientras el hilo que llama sigue leyendo; los
+ * bloques se aplican al grafo en el orden del archivo y nunca hay más de unos
+ * pocos en vuelo, así que la memoria de lectura no crece con el tamaño del
+ * archivo. La excepción son las rutas de GeoJSON que aparecen antes que sus
+ * zonas: se guardan, en columnas, hasta el final del archivo.
+ * Todo se aplica dentro de un solo {@link GrafoDirigido#ejecutarEnLote}: los
+ * lectores siguen viendo el grafo anterior hasta el final, se publica una
+ * única versión y la representación compacta se construye una vez. Si la
+ * importación falla a mitad de camino (error de lectura o JSON mal formado)
+ * el lote se deshace y el grafo queda como estaba.</p>
+ *
+ * <p>Formatos:</p>
+ * <ul>
+ *   <li>CSV de zonas con encabezado: {@code id,lat,lng} obligatorias y
+ *       {@code nombre,poblacion,riesgo,refugio,capacidadRefugio} opcionales</li>
+ *   <li>CSV de rutas con encabezado: {@code origen,destino,tiempo,capacidad}
+ *       obligatorias y {@code distancia} opcional (si falta, la distancia en
+ *       línea recta entre las zonas)</li>
+ *   <li>GeoJSON {@code FeatureCollection}: cada {@code Point} es una zona y
+ *       cada {@code LineString} una ruta, con los mismos campos en
+ *       {@code properties}; sin {@code distancia} se usa el largo de la
+ *       línea. Los rasgos se tokenizan en orden y se convierten por bloques
+ *       en paralelo</li>
+ * </ul>
+ *
+ * <p>Los identificadores del archivo solo sirven para unir rutas con zonas:
+ * cada zona recibe el identificador propio del sistema. Los registros
+ * inválidos (coordenadas fuera de Colombia según
+ * {@link ValidationService#isValidColombianCoordinates}, números mal
+ * formados, zonas repetidas o rutas hacia zonas desconocidas) se descartan y
+ * se cuentan; los primeros se describen en el resultado.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class ImportadorRed {
+    /** Registros que convierte cada tarea paralela */
+    public static final int REGISTROS_POR_BLOQUE = 4096;
+
+    /** Errores que se describen en el resultado; el resto solo se cuenta */
+    private static final int MAX_ERRORES = 20;
+
+    /**
+     * Resumen de una importación: registros aplicados y descartados,
+     * rendimiento y memoria.
+     */
+    public static class Resultado {
+        private int zonas;
+        private int rutas;
+        private int descartados;
+        private final List<String> errores = new ArrayList<>();
+        private long milisegundos;
+        private long milisegundosCompacto;
+        private long memoriaPico;
+
+        public int getZonas() { return zonas; }
+        public int getRutas() { return rutas; }
+        public int getDescartados() { return descartados; }
+        /** @return Descripción de los primeros registros descartados */
+        public List<String> getErrores() { return errores; }
+        /** @return Duración total, incluida la construcción del grafo compacto */
+        public long getMilisegundos() { return milisegundos; }
+        public long getMilisegundosCompacto() { return milisegundosCompacto; }
+        /** @return Mayor uso de heap observado al aplicar cada bloque, en bytes */
+        public long getMemoriaPico() { return memoriaPico; }
+
+        /** @return Registros leídos (aplicados y descartados) por segundo */
+        public double getRegistrosPorSegundo() {
+            return (zonas + rutas + descartados) * 1000.0 / Math.max(1, milisegundos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d zonas, %d rutas, %d descartados en %d ms (%.0f registros/s, compacto %d ms, pico %d MB)",
+                    zonas, rutas, descartados, milisegundos, getRegistrosPorSegundo(),
+                    milisegundosCompacto, memoriaPico / (1024 * 1024));
+        }
+    }
+
+    /**
+     * Registros de un bloque ya convertidos: zonas listas para agregar y
+     * rutas en columnas, con los identificadores del archivo.
+     */
+    private static class Bloque {
+        final List<String> claves = new ArrayList<>();
+        final List<ZonaAfectada> zonas = new ArrayList<>();
+        final List<String> origenes = new ArrayList<>();
+        final List<String> destinos = new ArrayList<>();
+        double[] distancias = new double[16];
+        double[] tiempos = new double[16];
+        int[] capacidades = new int[16];
+        final List<String> errores = new ArrayList<>();
+        int descartados;
+
+        void agregarRuta(String origen, String destino, double distancia, double tiempo, int capacidad) {
+            int i = origenes.size();
+            if (i == tiempos.length) {
+                distancias = Arrays.copyOf(distancias, i * 2);
+                tiempos = Arrays.copyOf(tiempos, i * 2);
+                capacidades = Arrays.copyOf(capacidades, i * 2);
+            }
+            origenes.add(origen);
+            destinos.add(destino);
+            distancias[i] = distancia;
+            tiempos[i] = tiempo;
+            capacidades[i] = capacidad;
+        }
+
+        void descartar(String mensaje) {
+            descartados++;
+            if (errores.size() < MAX_ERRORES) errores.add(mensaje);
+        }
+    }
+
+    private final GrafoDirigido grafo;
+    private final Resultado resultado = new Resultado();
+    /** Zonas importadas por identificador del archivo */
+    private final Map<String, ZonaAfectada> porClave = new HashMap<>();
+    /** Rutas cuyas zonas aún no aparecían (solo GeoJSON) */
+    private final Bloque pendientes = new Bloque();
+    private final Deque<Future<Bloque>> enVuelo = new ArrayDeque<>();
+    private final int maxEnVuelo = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+    private final MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+    /** En GeoJSON las rutas cuyas zonas aún no aparecieron se posponen al final */
+    private boolean posponerRutas;
+
+    private ImportadorRed(GrafoDirigido grafo) {
+        this.grafo = grafo;
+    }
+
+    /**
+     * Importa zonas y rutas desde dos archivos CSV en UTF-8.
+     *
+     * @param grafo Grafo destino
+     * @param zonas CSV de zonas
+     * @param rutas CSV de rutas, o null para importar solo zonas
+     * @return Resumen de la importación
+     * @throws IOException Si falla la lectura
+     * @throws IllegalArgumentException Si falta una columna obligatoria
+     */
+    public static Resultado importarCsv(GrafoDirigido grafo, Path zonas, Path rutas) throws IOException {
+        try (Reader lectorZonas = Files.newBufferedReader(zonas, StandardCharsets.UTF_8);
+             Reader lectorRutas = rutas == null ? null : Files.newBufferedReader(rutas, StandardCharsets.UTF_8)) {
+            return importarCsv(grafo, lectorZonas, lectorRutas);
+        }
+    }
+
+    /**
+     * Importa zonas y rutas desde dos flujos CSV. Las zonas se aplican
+     * primero, así que toda ruta debe unir zonas del primer flujo (o ya
+     * importadas en esta llamada).
+     *
+     * @param grafo Grafo destino
+     * @param zonas CSV de zonas
+     * @param rutas CSV de rutas, o null
+     * @return Resumen de la importación
+     * @throws IOException Si falla la lectura
+     * @throws IllegalArgumentException Si falta una columna obligatoria
+     */
+    public static Resultado importarCsv(GrafoDirigido grafo, Reader zonas, Reader rutas) throws IOException {
+        BufferedReader lectorZonas = new BufferedReader(zonas);
+        BufferedReader lectorRutas = rutas == null ? null : new BufferedReader(rutas);
+        // Encabezados primero: un archivo mal formado no deja nada aplicado
+        Map<String, Integer> columnasZonas = leerEncabezado(lectorZonas, "id", "lat", "lng");
+        Map<String, Integer> columnasRutas = lectorRutas == null ? null
+                : leerEncabezado(lectorRutas, "origen", "destino", "tiempo", "capacidad");
+
+        ImportadorRed importador = new ImportadorRed(grafo);
+        return importador.ejecutar(() -> {
+            importador.leerCsv(lectorZonas, (lineas, cantidad, primero) ->
+                    importador.convertirZonas(lineas, cantidad, primero, columnasZonas));
+            if (lectorRutas != null) {
+                importador.leerCsv(lectorRutas, (lineas, cantidad, primero) ->
+                        importador.convertirRutas(lineas, cantidad, primero, columnasRutas));
+            }
+        });
+    }
+
+    /**
+     * Importa zonas y rutas desde un archivo GeoJSON en UTF-8.
+     *
+     * @param grafo Grafo destino
+     * @param archivo FeatureCollection con puntos (zonas) y líneas (rutas)
+     * @return Resumen de la importación
+     * @throws IOException Si falla la lectura o el JSON está mal formado
+     */
+    public static Resultado importarGeoJson(GrafoDirigido grafo, Path archivo) throws IOException {
+        try (Reader lector = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            return importarGeoJson(grafo, lector);
+        }
+    }
+
+    /**
+     * Importa zonas y rutas desde un flujo GeoJSON. Las rutas pueden
+     * aparecer antes que sus zonas: se guardan y se resuelven al final del
+     * archivo, así que ocupan memoria hasta entonces.
+     *
+     * @param grafo Grafo destino
+     * @param geojson FeatureCollection con puntos (zonas) y líneas (rutas)
+     * @return Resumen de la importación
+     * @throws IOException Si falla la lectura o el JSON está mal formado
+     */
+    public static Resultado importarGeoJson(GrafoDirigido grafo, Reader geojson) throws IOException {
+        JsonReader lector = new JsonReader(new BufferedReader(geojson));
+        ImportadorRed importador = new ImportadorRed(grafo);
+        importador.posponerRutas = true;
+        return importador.ejecutar(() -> importador.leerGeoJson(lector));
+    }
+
+    /** Lectura que puede fallar con IOException */
+    private interface Lectura {
+        void leer() throws IOException;
+    }
+
+    /** Conversión de un bloque de registros, ejecutada en paralelo */
+    private interface Conversion<T> {
+        Bloque convertir(T[] registros, int cantidad, int primero);
+    }
+
+    private Resultado ejecutar(Lectura lectura) throws IOException {
+        long inicio = System.nanoTime();
+        try {
+            grafo.ejecutarEnLote(() -> {
+                try {
+                    lectura.leer();
+                    vaciar();
+                    aplicarRutas(pendientes, false);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            // Lo que quedó en vuelo tras un error no se aplica
+            for (Future<Bloque> futuro : enVuelo) futuro.cancel(false);
+        }
+        long inicioCompacto = System.nanoTime();
+        grafo.obtenerCompacto();
+        medirMemoria();
+        long fin = System.nanoTime();
+        resultado.milisegundosCompacto = (fin - inicioCompacto) / 1_000_000;
+        resultado.milisegundos = (fin - inicio) / 1_000_000;
+        return resultado;
+    }
+
+    private void leerCsv(BufferedReader lector, Conversion<String> conversion) throws IOException {
+        String[] bloque = new String[REGISTROS_POR_BLOQUE];
+        int cantidad = 0;
+        // La línea 1 es el encabezado
+        int numero = 1, primero = 2;
+        String linea;
+        while ((linea = lector.readLine()) != null) {
+            numero++;
+            if (linea.isBlank()) continue;
+            if (cantidad == 0) primero = numero;
+            bloque[cantidad++] = linea;
+            if (cantidad == REGISTROS_POR_BLOQUE) {
+                enviar(conversion, bloque, cantidad, primero);
+                bloque = new String[REGISTROS_POR_BLOQUE];
+                cantidad = 0;
+            }
+        }
+        if (cantidad > 0) enviar(conversion, bloque, cantidad, primero);
+        // Las rutas del siguiente archivo necesitan todas las zonas aplicadas
+        vaciar();
+    }
+
+    private void leerGeoJson(JsonReader lector) throws IOException {
+        try {
+            leerRasgos(lector);
+        } catch (JsonParseException e) {
+            // Gson informa así un rasgo truncado o mal formado
+            throw new IOException("GeoJSON mal formado: " + e.getMessage(), e);
+        }
+    }
+
+    private void leerRasgos(JsonReader lector) throws IOException {
+        JsonObject[] bloque = new JsonObject[REGISTROS_POR_BLOQUE];
+        int cantidad = 0, numero = 0, primero = 1;
+        esperarToken(lector, JsonToken.BEGIN_OBJECT);
+        lector.beginObject();
+        while (lector.hasNext()) {
+            if (!lector.nextName().equals("features")) {
+                lector.skipValue();
+                continue;
+            }
+            esperarToken(lector, JsonToken.BEGIN_ARRAY);
+            lector.beginArray();
+            while (lector.hasNext()) {
+                numero++;
+                if (lector.peek() != JsonToken.BEGIN_OBJECT) {
+                    lector.skipValue();
+                    resultado.descartados++;
+                    continue;
+                }
+                if (cantidad == 0) primero = numero;
+                bloque[cantidad++] = JsonParser.parseReader(lector).getAsJsonObject();
+                if (cantidad == REGISTROS_POR_BLOQUE) {
+                    enviar(this::convertirRasgos, bloque, cantidad, primero);
+                    bloque = new JsonObject[REGISTROS_POR_BLOQUE];
+                    cantidad = 0;
+                }
+            }
+            lector.endArray();
+        }
+        lector.endObject();
+        if (cantidad > 0) enviar(this::convertirRasgos, bloque, cantidad, primero);
+    }
+
+    /** JsonReader falla con IllegalStateException si la estructura no es la esperada */
+    private static void esperarToken(JsonReader lector, JsonToken esperado) throws IOException {
+        JsonToken token = lector.peek();
+        if (token != esperado) {
+            throw new IOException("GeoJSON mal formado: se esperaba " + esperado + " y se encontró " + token);
+        }
+    }
+
+    /**
+     * Envía un bloque a convertir; si hay demasiados en vuelo, antes aplica
+     * el más antiguo (los bloques se aplican en orden de lectura).
+     */
+    private <T> void enviar(Conversion<T> conversion, T[] registros, int cantidad, int primero) {
+        while (enVuelo.size() >= maxEnVuelo) aplicar(esperar(enVuelo.poll()));
+        Callable<Bloque> tarea = () -> conversion.convertir(registros, cantidad, primero);
+        enVuelo.add(ForkJoinPool.commonPool().submit(tarea));
+    }
+
+    private void vaciar() {
+        while (!enVuelo.isEmpty()) aplicar(esperar(enVuelo.poll()));
+    }
+
+    private static Bloque esperar(Future<Bloque> futuro) {
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importación interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error al convertir un bloque", e.getCause());
+        }
+    }
+
+    /** Aplica un bloque convertido al grafo, en el hilo que lee */
+    private void aplicar(Bloque bloque) {
+        resultado.descartados += bloque.descartados;
+        agregarErrores(bloque.errores);
+        for (int i = 0; i < bloque.zonas.size(); i++) {
+            String clave = bloque.claves.get(i);
+            ZonaAfectada zona = bloque.zonas.get(i);
+            if (porClave.putIfAbsent(clave, zona) != null) {
+                descartar("zona repetida: " + clave);
+            } else {
+                grafo.agregarZona(zona);
+                resultado.zonas++;
+            }
+        }
+        aplicarRutas(bloque, posponerRutas);
+        medirMemoria();
+    }
+
+    private void aplicarRutas(Bloque bloque, boolean posponer) {
+        for (int i = 0; i < bloque.origenes.size(); i++) {
+            ZonaAfectada origen = porClave.get(bloque.origenes.get(i));
+            ZonaAfectada destino = porClave.get(bloque.destinos.get(i));
+            if (origen == null || destino == null) {
+                if (posponer) {
+                    pendientes.agregarRuta(bloque.origenes.get(i), bloque.destinos.get(i),
+                            bloque.distancias[i], bloque.tiempos[i], bloque.capacidades[i]);
+                } else {
+                    descartar("ruta " + bloque.origenes.get(i) + " -> " + bloque.destinos.get(i)
+                            + ": zona desconocida");
+                }
+                continue;
+            }
+            double distancia = bloque.distancias[i];
+            if (Double.isNaN(distancia)) {
+                distancia = GeoService.distanciaKm(origen.getLat(), origen.getLng(), destino.getLat(), destino.getLng());
+            }
+            grafo.agregarArista(new Ruta(origen.getId(), destino.getId(), distancia,
+                    bloque.tiempos[i], bloque.capacidades[i]));
+            resultado.rutas++;
+        }
+    }
+
+    private void descartar(String mensaje) {
+        resultado.descartados++;
+        agregarErrores(List.of(mensaje));
+    }
+
+    private void agregarErrores(List<String> errores) {
+        for (String error : errores) {
+            if (resultado.errores.size() >= MAX_ERRORES) return;
+            resultado.errores.add(error);
+        }
+    }
+
+    private void medirMemoria() {
+        resultado.memoriaPico = Math.max(resultado.memoriaPico, memoria.getHeapMemoryUsage().getUsed());
+    }
+
+    // ---- Conversión (en paralelo, sin tocar el grafo) ----
+
+    private Bloque convertirZonas(String[] lineas, int cantidad, int primero, Map<String, Integer> columnas) {
+        Bloque bloque = new Bloque();
+        int linea = primero - 1;
+        for (int k = 0; k < cantidad; k++) {
+            linea++;
+            try {
+                String[] campos = separarCsv(lineas[k]);
+                String id = campo(campos, columnas, "id");
+                double lat = Double.parseDouble(campo(campos, columnas, "lat"));
+                double lng = Double.parseDouble(campo(campos, columnas, "lng"));
+                String nombre = campoOpcional(campos, columnas, "nombre");
+                String poblacion = campoOpcional(campos, columnas, "poblacion");
+                String riesgo = campoOpcional(campos, columnas, "riesgo");
+                String refugio = campoOpcional(campos, columnas, "refugio");
+                String capacidad = campoOpcional(campos, columnas, "capacidadrefugio");
+                ZonaAfectada zona = crearZona(id, nombre,
+                        poblacion == null ? 0 : Integer.parseInt(poblacion),
+                        riesgo == null ? 0 : Integer.parseInt(riesgo), lat, lng,
+                        Boolean.parseBoolean(refugio), capacidad == null ? 0 : Integer.parseInt(capacidad));
+                bloque.claves.add(id);
+                bloque.zonas.add(zona);
+            } catch (IllegalArgumentException e) {
+                bloque.descartar("línea " + linea + ": " + e.getMessage());
+            }
+        }
+        return bloque;
+    }
+
+    private Bloque convertirRutas(String[] lineas, int cantidad, int primero, Map<String, Integer> columnas) {
+        Bloque bloque = new Bloque();
+        int linea = primero - 1;
+        for (int k = 0; k < cantidad; k++) {
+            linea++;
+            try {
+                String[] campos = separarCsv(lineas[k]);
+                String distancia = campoOpcional(campos, columnas, "distancia");
+                agregarRuta(bloque, campo(campos, columnas, "origen"), campo(campos, columnas, "destino"),
+                        distancia == null ? Double.NaN : Double.parseDouble(distancia),
+                        Double.parseDouble(campo(campos, columnas, "tiempo")),
+                        Integer.parseInt(campo(campos, columnas, "capacidad")));
+            } catch (IllegalArgumentException e) {
+                bloque.descartar("línea " + linea + ": " + e.getMessage());
+            }
+        }
+        return bloque;
+    }
+
+    private Bloque convertirRasgos(JsonObject[] rasgos, int cantidad, int primero) {
+        Bloque bloque = new Bloque();
+        int numero = primero - 1;
+        for (int k = 0; k < cantidad; k++) {
+            numero++;
+            try {
+                JsonObject rasgo = rasgos[k];
+                JsonObject geometria = rasgo.getAsJsonObject("geometry");
+                JsonObject propiedades = rasgo.has("properties") && rasgo.get("properties").isJsonObject()
+                        ? rasgo.getAsJsonObject("properties") : new JsonObject();
+                String tipo = geometria == null ? null : texto(geometria, "type");
+                if ("Point".equals(tipo)) {
+                    JsonArray punto = geometria.getAsJsonArray("coordinates");
+                    String id = texto(propiedades, "id");
+                    if (id == null) id = texto(rasgo, "id");
+                    if (id == null) throw new IllegalArgumentException("zona sin id");
+                    // GeoJSON usa [longitud, latitud]
+                    ZonaAfectada zona = crearZona(id, texto(propiedades, "nombre"),
+                            (int) numero(propiedades, "poblacion", 0), (int) numero(propiedades, "riesgo", 0),
+                            punto.get(1).getAsDouble(), punto.get(0).getAsDouble(),
+                            propiedades.has("refugio") && propiedades.get("refugio").getAsBoolean(),
+                            (int) numero(propiedades, "capacidadRefugio", 0));
+                    bloque.claves.add(id);
+                    bloque.zonas.add(zona);
+                } else if ("LineString".equals(tipo)) {
+                    double distancia = numero(propiedades, "distancia", Double.NaN);
+                    if (Double.isNaN(distancia)) distancia = largo(geometria.getAsJsonArray("coordinates"));
+                    agregarRuta(bloque, texto(propiedades, "origen"), texto(propiedades, "destino"), distancia,
+                            numero(propiedades, "tiempo", Double.NaN), (int) numero(propiedades, "capacidad", -1));
+                } else {
+                    throw new IllegalArgumentException("geometría no soportada: " + tipo);
+                }
+            } catch (RuntimeException e) {
+                // IllegalArgumentException, IllegalStateException o ClassCastException de Gson
+                bloque.descartar("rasgo " + numero + ": " + e.getMessage());
+            }
+        }
+        return bloque;
+    }
+
+    private static ZonaAfectada crearZona(String id, String nombre, int poblacion, int riesgo,
+                                          double lat, double lng, boolean refugio, int capacidadRefugio) {
+        if (id == null || id.isBlank()) throw new IllegalArgumentException("zona sin id");
+        if (!ValidationService.isValidColombianCoordinates(lat, lng)) {
+            throw new IllegalArgumentException("coordenadas fuera de Colombia (" + lat + ", " + lng + ")");
+        }
+        if (poblacion < 0 || capacidadRefugio < 0) throw new IllegalArgumentException("población o capacidad negativa");
+        if (!ValidationService.isInRange(riesgo, 0, 100)) throw new IllegalArgumentException("riesgo fuera de 0..100");
+        ZonaAfectada zona = new ZonaAfectada(nombre == null || nombre.isBlank() ? id : nombre, poblacion, riesgo, lat, lng);
+        zona.setRefugio(refugio);
+        zona.setCapacidadRefugio(capacidadRefugio);
+        return zona;
+    }
+
+    private static void agregarRuta(Bloque bloque, String origen, String destino, double distancia,
+                                    double tiempo, int capacidad) {
+        if (!ValidationService.isNotEmpty(origen) || !ValidationService.isNotEmpty(destino)) {
+            throw new IllegalArgumentException("ruta sin origen o destino");
+        }
+        if (!ValidationService.isPositive(tiempo) || Double.isInfinite(tiempo)) {
+            throw new IllegalArgumentException("tiempo inválido");
+        }
+        if (distancia < 0 || Double.isInfinite(distancia)) throw new IllegalArgumentException("distancia inválida");
+        if (capacidad < 0) throw new IllegalArgumentException("capacidad inválida");
+        bloque.agregarRuta(origen, destino, distancia, tiempo, capacidad);
+    }
+
+    /** Largo en kilómetros de una línea de coordenadas [lng, lat] */
+    private static double largo(JsonArray coordenadas) {
+        double total = 0;
+        for (int i = 1; i < coordenadas.size(); i++) {
+            JsonArray a = coordenadas.get(i - 1).getAsJsonArray(), b = coordenadas.get(i).getAsJsonArray();
+            total += GeoService.distanciaKm(a.get(1).getAsDouble(), a.get(0).getAsDouble(),
+                    b.get(1).getAsDouble(), b.get(0).getAsDouble());
+        }
+        return total;
+    }
+
+    private static String texto(JsonObject objeto, String nombre) {
+        JsonElement valor = objeto.get(nombre);
+        return valor == null || valor.isJsonNull() ? null : valor.getAsString();
+    }
+
+    private static double numero(JsonObject objeto, String nombre, double porDefecto) {
+        JsonElement valor = objeto.get(nombre);
+        return valor == null || valor.isJsonNull() ? porDefecto : valor.getAsDouble();
+    }
+
+    // ---- CSV ----
+
+    /**
+     * Lee el encabezado y devuelve la posición de cada columna (en
+     * minúsculas), exigiendo las obligatorias.
+     */
+    private static Map<String, Integer> leerEncabezado(BufferedReader lector, String... obligatorias) throws IOException {
+        String encabezado = lector.readLine();
+        if (encabezado == null) throw new IllegalArgumentException("CSV vacío: falta el encabezado");
+        // Marca de orden de bytes de UTF-8
+        if (encabezado.startsWith("\uFEFF")) encabezado = encabezado.substring(1);
+        Map<String, Integer> columnas = new HashMap<>();
+        String[] nombres = separarCsv(encabezado);
+        for (int i = 0; i < nombres.length; i++) columnas.put(nombres[i].trim().toLowerCase(), i);
+        for (String columna : obligatorias) {
+            if (!columnas.containsKey(columna)) throw new IllegalArgumentException("Falta la columna '" + columna + "'");
+        }
+        return columnas;
+    }
+
+    private static String campo(String[] campos, Map<String, Integer> columnas, String nombre) {
+        String valor = campoOpcional(campos, columnas, nombre);
+        if (valor == null) throw new IllegalArgumentException("falta " + nombre);
+        return valor;
+    }
+
+    private static String campoOpcional(String[] campos, Map<String, Integer> columnas, String nombre) {
+        Integer i = columnas.get(nombre);
+        if (i == null || i >= campos.length) return null;
+        String valor = campos[i].trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    /** Separa una línea CSV por comas, respetando comillas dobles ("" escapa una comilla) */
+    static String[] separarCsv(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        boolean entreComillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c != '"') actual.append(c);
+                else if (i + 1 < linea.length() && linea.charAt(i + 1) == '"') actual.append(linea.charAt(++i));
+                else entreComillas = false;
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(actual.toString());
+                actual.setLength(0);
+            } else {
+                actual.append(c);
+            }
+        }
+        campos.add(actual.toString());
+        return campos.toArray(new String[0]);
+    }
+}
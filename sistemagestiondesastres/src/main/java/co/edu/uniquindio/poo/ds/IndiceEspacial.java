@@ -0,0 +1,213 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import co.edu.uniquindio.poo.services.GeoService;
+
+/**
+ * Índice espacial de zonas sobre una rejilla uniforme de latitud/longitud.
+ *
+ * <p>Cada zona se guarda en la celda que contiene sus coordenadas; solo se
+ * crean las celdas ocupadas. Una consulta por rectángulo recorre las celdas
+ * que lo cubren (o las ocupadas, si son menos) y filtra por coordenadas.
+ * Una consulta por radio usa el rectángulo que encierra el círculo y filtra
+ * con la distancia de Haversine. Los k vecinos más cercanos se obtienen
+ * ampliando anillos de celdas hasta reunir k candidatos y confirmando con
+ * una consulta por radio igual a la distancia del k-ésimo.</p>
+ *
+ * <p>Las entradas guardan las coordenadas con que se indexaron, de modo que
+ * una zona que cambió de posición se puede retirar de su celda anterior.
+ * No es seguro para hilos: {@link RegistroZonas} lo protege con su candado.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class IndiceEspacial {
+    /** Lado de la celda por defecto, en grados (unos 11 km) */
+    public static final double TAMANO_CELDA_POR_DEFECTO = 0.1;
+
+    /** Lado de cada celda en grados */
+    private final double tamanoCelda;
+
+    /** Entradas de cada celda ocupada, por clave de celda */
+    private final Map<Long, List<Entrada>> celdas = new HashMap<>();
+
+    private int tamano;
+
+    public IndiceEspacial() {
+        this(TAMANO_CELDA_POR_DEFECTO);
+    }
+
+    /**
+     * @param tamanoCelda Lado de cada celda en grados
+     */
+    public IndiceEspacial(double tamanoCelda) {
+        if (!(tamanoCelda > 0)) throw new IllegalArgumentException("El tamaño de celda debe ser positivo");
+        this.tamanoCelda = tamanoCelda;
+    }
+
+    /**
+     * Agrega una zona en la posición indicada.
+     */
+    public void insertar(ZonaAfectada zona, double lat, double lng) {
+        celdas.computeIfAbsent(clave(fila(lat), columna(lng)), k -> new ArrayList<>()).add(new Entrada(zona, lat, lng));
+        tamano++;
+    }
+
+    /**
+     * Retira una zona indexada en la posición indicada.
+     *
+     * @return true si estaba en el índice
+     */
+    public boolean eliminar(ZonaAfectada zona, double lat, double lng) {
+        long clave = clave(fila(lat), columna(lng));
+        List<Entrada> celda = celdas.get(clave);
+        if (celda == null || !celda.removeIf(e -> e.zona == zona)) return false;
+        if (celda.isEmpty()) celdas.remove(clave);
+        tamano--;
+        return true;
+    }
+
+    /**
+     * Zonas dentro de un rectángulo de coordenadas (bordes incluidos).
+     */
+    public List<ZonaAfectada> buscarEnRectangulo(double minLat, double minLng, double maxLat, double maxLng) {
+        List<ZonaAfectada> resultado = new ArrayList<>();
+        for (Entrada e : entradasEnRectangulo(minLat, minLng, maxLat, maxLng)) resultado.add(e.zona);
+        return resultado;
+    }
+
+    /**
+     * Zonas a lo sumo a {@code radioKm} del punto, de la más cercana a la más lejana.
+     */
+    public List<ZonaAfectada> buscarEnRadio(double lat, double lng, double radioKm) {
+        List<Candidato> candidatos = candidatosEnRadio(lat, lng, radioKm);
+        candidatos.sort(Comparator.comparingDouble(c -> c.distanciaKm));
+        List<ZonaAfectada> resultado = new ArrayList<>(candidatos.size());
+        for (Candidato c : candidatos) resultado.add(c.zona);
+        return resultado;
+    }
+
+    /**
+     * Las {@code k} zonas más cercanas al punto, de la más cercana a la más lejana.
+     */
+    public List<ZonaAfectada> buscarMasCercanas(double lat, double lng, int k) {
+        List<ZonaAfectada> resultado = new ArrayList<>();
+        if (k <= 0 || tamano == 0) return resultado;
+
+        // Anillos de celdas alrededor del punto hasta reunir k candidatos
+        int f = fila(lat);
+        int c = columna(lng);
+        List<Candidato> candidatos = new ArrayList<>();
+        for (int anillo = 0; candidatos.size() < k; anillo++) {
+            if (8L * anillo > celdas.size()) {
+                // El anillo ya cubre más celdas que las ocupadas: basta recorrerlas todas
+                candidatos.clear();
+                for (List<Entrada> celda : celdas.values()) {
+                    for (Entrada e : celda) candidatos.add(new Candidato(e.zona, distancia(lat, lng, e)));
+                }
+                break;
+            }
+            for (int df = -anillo; df <= anillo; df++) {
+                for (int dc = -anillo; dc <= anillo; dc++) {
+                    if (Math.max(Math.abs(df), Math.abs(dc)) != anillo) continue;
+                    List<Entrada> celda = celdas.get(clave(f + df, c + dc));
+                    if (celda == null) continue;
+                    for (Entrada e : celda) candidatos.add(new Candidato(e.zona, distancia(lat, lng, e)));
+                }
+            }
+        }
+
+        // Puede haber zonas más cercanas fuera de los anillos: se confirma por radio
+        candidatos.sort(Comparator.comparingDouble(x -> x.distanciaKm));
+        if (candidatos.size() >= k) {
+            candidatos = candidatosEnRadio(lat, lng, candidatos.get(k - 1).distanciaKm);
+            candidatos.sort(Comparator.comparingDouble(x -> x.distanciaKm));
+        }
+        for (int i = 0; i < Math.min(k, candidatos.size()); i++) resultado.add(candidatos.get(i).zona);
+        return resultado;
+    }
+
+    public int tamano() { return tamano; }
+    public double getTamanoCelda() { return tamanoCelda; }
+
+    private List<Candidato> candidatosEnRadio(double lat, double lng, double radioKm) {
+        List<Candidato> candidatos = new ArrayList<>();
+        if (radioKm < 0) return candidatos;
+
+        // Rectángulo que encierra el círculo (exacto en la esfera)
+        double angular = radioKm / GeoService.RADIO_TIERRA_KM;
+        double dLat = Math.toDegrees(angular);
+        double senoRelativo = Math.sin(Math.min(angular, Math.PI / 2)) / Math.cos(Math.toRadians(lat));
+        double dLng = angular >= Math.PI / 2 || senoRelativo >= 1 ? 180.0 : Math.toDegrees(Math.asin(senoRelativo));
+
+        for (Entrada e : entradasEnRectangulo(lat - dLat, lng - dLng, lat + dLat, lng + dLng)) {
+            double d = distancia(lat, lng, e);
+            if (d <= radioKm) candidatos.add(new Candidato(e.zona, d));
+        }
+        return candidatos;
+    }
+
+    private List<Entrada> entradasEnRectangulo(double minLat, double minLng, double maxLat, double maxLng) {
+        List<Entrada> resultado = new ArrayList<>();
+        if (minLat > maxLat || minLng > maxLng) return resultado;
+        int f0 = fila(minLat), f1 = fila(maxLat);
+        int c0 = columna(minLng), c1 = columna(maxLng);
+
+        long cubiertas = ((long) f1 - f0 + 1) * ((long) c1 - c0 + 1);
+        if (cubiertas > celdas.size()) {
+            // Menos celdas ocupadas que cubiertas: se recorren las ocupadas
+            for (List<Entrada> celda : celdas.values()) agregarDentro(celda, minLat, minLng, maxLat, maxLng, resultado);
+        } else {
+            for (int f = f0; f <= f1; f++) {
+                for (int c = c0; c <= c1; c++) {
+                    List<Entrada> celda = celdas.get(clave(f, c));
+                    if (celda != null) agregarDentro(celda, minLat, minLng, maxLat, maxLng, resultado);
+                }
+            }
+        }
+        return resultado;
+    }
+
+    private static void agregarDentro(List<Entrada> celda, double minLat, double minLng, double maxLat, double maxLng,
+                                      List<Entrada> resultado) {
+        for (Entrada e : celda) {
+            if (e.lat >= minLat && e.lat <= maxLat && e.lng >= minLng && e.lng <= maxLng) resultado.add(e);
+        }
+    }
+
+    private static double distancia(double lat, double lng, Entrada e) {
+        return GeoService.distanciaKm(lat, lng, e.lat, e.lng);
+    }
+
+    private int fila(double lat) {
+        return (int) Math.floor(lat / tamanoCelda);
+    }
+
+    private int columna(double lng) {
+        return (int) Math.floor(lng / tamanoCelda);
+    }
+
+    private static long clave(int fila, int columna) {
+        return ((long) fila << 32) | (columna & 0xffffffffL);
+    }
+
+    private static class Entrada {
+        final ZonaAfectada zona;
+        final double lat;
+        final double lng;
+        Entrada(ZonaAfectada zona, double lat, double lng) { this.zona = zona; this.lat = lat; this.lng = lng; }
+    }
+
+    private static class Candidato {
+        final ZonaAfectada zona;
+        final double distanciaKm;
+        Candidato(ZonaAfectada zona, double distanciaKm) { this.zona = zona; this.distanciaKm = distanciaKm; }
+    }
+}
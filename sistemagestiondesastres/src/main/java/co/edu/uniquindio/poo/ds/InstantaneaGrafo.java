@@ -0,0 +1,173 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Versión inmutable de la topología del grafo: zonas y rutas salientes y
+ * entrantes de cada una, tal como quedaron tras la última escritura.
+ *
+ * <p>{@link GrafoDirigido} publica cada instantánea por una referencia
+ * volátil. Los lectores la toman una vez y la recorren sin candados y sin
+ * riesgo de {@code ConcurrentModificationException}: ninguna escritura la
+ * modifica, sino que construye la siguiente. Para que publicar no copie
+ * todo el grafo, los mapas de zonas y de rutas son {@link MapaPersistente}:
+ * la nueva instantánea comparte con la anterior todo salvo el camino hacia
+ * cada zona tocada y copia solo las listas de rutas de esas zonas, así que
+ * publicar cuesta O(t log n) para t zonas tocadas.</p>
+ *
+ * <p>Lo que se deriva de la topología completa no es incremental: la
+ * numeración de zonas y la representación compacta de {@link GrafoDirigido}
+ * se construyen en O(V + E) la primera vez que se leen en cada versión.
+ * Varias escrituras seguidas sin lecturas entre medio pagan ese costo una
+ * sola vez; las cargas masivas deben agruparse con
+ * {@link GrafoDirigido#ejecutarEnLote(Runnable)} para publicar una única
+ * versión.</p>
+ *
+ * <p>Los objetos {@link Ruta} y {@link ZonaAfectada} son los mismos del grafo:
+ * su disponibilidad, población y demás atributos se leen al momento.</p>
+ *
+ * <p>Para las búsquedas que trabajan con índices enteros, cada instantánea
+ * numera sus zonas en orden de registro la primera vez que se le pide.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public final class InstantaneaGrafo {
+    static final InstantaneaGrafo VACIA = new InstantaneaGrafo(
+            MapaPersistente.vacio(), MapaPersistente.vacio(), MapaPersistente.vacio(), 0, 0);
+
+    private final MapaPersistente<ZonaAfectada> zonas;
+    private final MapaPersistente<List<Ruta>> salientes;
+    private final MapaPersistente<List<Ruta>> entrantes;
+    private final int numeroRutas;
+    private final long version;
+    /** Numeración de las zonas, creada al primer uso */
+    private volatile Numeracion numeracion;
+
+    private InstantaneaGrafo(MapaPersistente<ZonaAfectada> zonas, MapaPersistente<List<Ruta>> salientes,
+                             MapaPersistente<List<Ruta>> entrantes, int numeroRutas, long version) {
+        this.zonas = zonas;
+        this.salientes = salientes;
+        this.entrantes = entrantes;
+        this.numeroRutas = numeroRutas;
+        this.version = version;
+    }
+
+    /**
+     * Construye la siguiente instantánea aplicando sobre esta solo las zonas
+     * y listas tocadas, tomadas de las estructuras de escritura.
+     *
+     * @param zonasActuales Zonas de escritura
+     * @param zonasTocadas Zonas agregadas, reemplazadas o eliminadas
+     * @param aristas Rutas salientes de escritura, por zona de origen
+     * @param llegadas Rutas entrantes de escritura, por zona de destino
+     * @param salientesTocadas Zonas cuya lista de salida cambió
+     * @param entrantesTocadas Zonas cuya lista de entrada cambió
+     * @param version Versión del grafo que representa
+     * @return Nueva instantánea
+     */
+    InstantaneaGrafo derivar(Map<String, ZonaAfectada> zonasActuales, Set<String> zonasTocadas,
+                             Map<String, List<Ruta>> aristas, Map<String, List<Ruta>> llegadas,
+                             Set<String> salientesTocadas, Set<String> entrantesTocadas, long version) {
+        MapaPersistente<ZonaAfectada> nuevasZonas = zonas;
+        for (String id : zonasTocadas) {
+            ZonaAfectada zona = zonasActuales.get(id);
+            ZonaAfectada anterior = nuevasZonas.get(id);
+            if (zona == anterior) continue;
+            // Como en el registro, una zona reemplazada pasa al final del orden
+            if (anterior != null) nuevasZonas = nuevasZonas.sin(id);
+            if (zona != null) nuevasZonas = nuevasZonas.con(id, zona);
+        }
+        MapaPersistente<List<Ruta>> nuevasSalientes = aplicarTocadas(salientes, aristas, salientesTocadas);
+        MapaPersistente<List<Ruta>> nuevasEntrantes = aplicarTocadas(entrantes, llegadas, entrantesTocadas);
+        int rutas = numeroRutas;
+        for (String id : salientesTocadas) {
+            rutas -= salientes.getOrDefault(id, List.of()).size();
+            rutas += nuevasSalientes.getOrDefault(id, List.of()).size();
+        }
+        return new InstantaneaGrafo(nuevasZonas, nuevasSalientes, nuevasEntrantes, rutas, version);
+    }
+
+    private static MapaPersistente<List<Ruta>> aplicarTocadas(MapaPersistente<List<Ruta>> anterior,
+                                                              Map<String, List<Ruta>> escritura, Set<String> tocadas) {
+        MapaPersistente<List<Ruta>> nuevo = anterior;
+        for (String id : tocadas) {
+            List<Ruta> lista = escritura.get(id);
+            nuevo = lista == null ? nuevo.sin(id) : nuevo.con(id, List.copyOf(lista));
+        }
+        return nuevo;
+    }
+
+    /** @return Zonas por identificador, en orden de registro (solo lectura) */
+    public Map<String, ZonaAfectada> getZonas() { return Collections.unmodifiableMap(zonas); }
+
+    /** @return Rutas salientes por zona de origen (solo lectura) */
+    public Map<String, List<Ruta>> getSalientes() { return Collections.unmodifiableMap(salientes); }
+
+    /** @return Rutas entrantes por zona de destino (solo lectura) */
+    public Map<String, List<Ruta>> getEntrantes() { return Collections.unmodifiableMap(entrantes); }
+
+    public ZonaAfectada zona(String id) { return zonas.get(id); }
+    public boolean contieneZona(String id) { return zonas.containsKey(id); }
+    public Collection<ZonaAfectada> zonas() { return Collections.unmodifiableCollection(zonas.values()); }
+    public List<Ruta> salientesDe(String id) { return salientes.getOrDefault(id, List.of()); }
+    public List<Ruta> entrantesDe(String id) { return entrantes.getOrDefault(id, List.of()); }
+    public int getNumeroZonas() { return zonas.size(); }
+    public int getNumeroRutas() { return numeroRutas; }
+
+    /** @return Versión del grafo con que se publicó */
+    public long getVersion() { return version; }
+
+    /**
+     * Obtiene el índice de una zona en la numeración de esta instantánea.
+     *
+     * @param id Identificador de la zona
+     * @return Índice en {@code [0, getNumeroZonas())}, o -1 si no está
+     */
+    int indiceDe(String id) {
+        Integer i = numeracion().indices.get(id);
+        return i != null ? i : -1;
+    }
+
+    /**
+     * @param indice Índice de la zona en esta instantánea
+     * @return Identificador de la zona
+     */
+    String idEn(int indice) {
+        return numeracion().ids[indice];
+    }
+
+    private Numeracion numeracion() {
+        // Construirla dos veces en una carrera es inofensivo: es inmutable
+        Numeracion actual = numeracion;
+        if (actual == null) {
+            actual = new Numeracion(zonas);
+            numeracion = actual;
+        }
+        return actual;
+    }
+
+    private static final class Numeracion {
+        final Map<String, Integer> indices;
+        final String[] ids;
+
+        Numeracion(Map<String, ZonaAfectada> zonas) {
+            indices = new HashMap<>(zonas.size() * 2);
+            ids = new String[zonas.size()];
+            int i = 0;
+            for (String id : zonas.keySet()) {
+                indices.put(id, i);
+                ids[i++] = id;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Zonas alcanzables desde un origen dentro de varios presupuestos de tiempo
+ * (isócronas), con el polígono convexo de cobertura de cada uno.
+ *
+ * <p>Se ejecuta un único Dijkstra por tiempo que se detiene al superar el
+ * mayor umbral. Como los nodos se asientan en orden de tiempo, las zonas
+ * dentro de cada umbral son un prefijo del orden de asentamiento: basta
+ * guardar ese orden y, por umbral, cuántos nodos caen dentro. El polígono
+ * es la envolvente convexa (cadena monótona de Andrew) de las coordenadas
+ * de esas zonas.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class Isocrona {
+    private final GrafoCompacto g;
+    private final int origen;
+    /** Umbrales en orden creciente */
+    private final double[] umbrales;
+    /** Nodos en orden de asentamiento, hasta el mayor umbral */
+    private final int[] orden;
+    /** Tiempo de cada nodo de {@code orden} */
+    private final double[] tiempos;
+    /** Nodos dentro de cada umbral (prefijo de {@code orden}) */
+    private final int[] dentro;
+    /** Vértices de la envolvente de cada umbral: {lat, lng} en sentido antihorario */
+    private final double[][][] poligonos;
+
+    private Isocrona(GrafoCompacto g, int origen, double[] umbrales, int[] orden, double[] tiempos, int[] dentro) {
+        this.g = g;
+        this.origen = origen;
+        this.umbrales = umbrales;
+        this.orden = orden;
+        this.tiempos = tiempos;
+        this.dentro = dentro;
+        this.poligonos = new double[umbrales.length][][];
+        for (int k = 0; k < umbrales.length; k++) poligonos[k] = envolvente(g, orden, dentro[k]);
+    }
+
+    /**
+     * Calcula las isócronas de un origen para varios umbrales en una pasada.
+     *
+     * @param g Grafo compacto
+     * @param origen Índice del nodo de origen
+     * @param umbrales Presupuestos de tiempo, no negativos (se ordenan)
+     * @return Isócronas del origen
+     */
+    public static Isocrona calcular(GrafoCompacto g, int origen, double[] umbrales) {
+        double[] ordenados = umbrales.clone();
+        Arrays.sort(ordenados);
+        double limite = ordenados.length > 0 ? ordenados[ordenados.length - 1] : 0.0;
+
+        EspacioBusqueda espacio = EspacioBusqueda.adelante(g.getNumeroNodos());
+        MonticuloIndexado cola = espacio.cola();
+        ListaEnteros orden = new ListaEnteros();
+        double[] tiempos = new double[16];
+
+        espacio.fijar(origen, 0.0, -1);
+        cola.insertarOActualizar(origen, 0.0);
+        while (!cola.estaVacio()) {
+            if (cola.prioridadMinima() > limite) break;
+            double du = cola.prioridadMinima();
+            int u = cola.extraerMinimo();
+            espacio.asentar(u);
+            if (orden.tamano() == tiempos.length) tiempos = Arrays.copyOf(tiempos, tiempos.length * 2);
+            tiempos[orden.tamano()] = du;
+            orden.agregar(u);
+
+            for (int e = g.inicioAristas(u); e < g.finAristas(u); e++) {
+                if (!g.rutaDe(e).estaDisponible()) continue;
+                int v = g.destinoDe(e);
+                double nd = du + g.tiempoDe(e);
+                if (!espacio.asentado(v) && nd < espacio.costo(v) && nd <= limite) {
+                    espacio.fijar(v, nd, e);
+                    cola.insertarOActualizar(v, nd);
+                }
+            }
+        }
+
+        int[] nodos = orden.aArreglo();
+        int[] dentro = new int[ordenados.length];
+        int cuenta = 0;
+        for (int k = 0; k < ordenados.length; k++) {
+            while (cuenta < nodos.length && tiempos[cuenta] <= ordenados[k]) cuenta++;
+            dentro[k] = cuenta;
+        }
+        return new Isocrona(g, origen, ordenados, nodos, Arrays.copyOf(tiempos, nodos.length), dentro);
+    }
+
+    /**
+     * Envolvente convexa de los primeros {@code cantidad} nodos de {@code orden}.
+     * Con menos de tres puntos distintos devuelve esos puntos.
+     */
+    private static double[][] envolvente(GrafoCompacto g, int[] orden, int cantidad) {
+        double[][] puntos = new double[cantidad][];
+        for (int i = 0; i < cantidad; i++) puntos[i] = new double[] {g.latDe(orden[i]), g.lngDe(orden[i])};
+        // x = longitud, y = latitud
+        Arrays.sort(puntos, Comparator.<double[]>comparingDouble(p -> p[1]).thenComparingDouble(p -> p[0]));
+
+        double[][] casco = new double[2 * cantidad + 1][];
+        int h = 0;
+        for (int i = 0; i < cantidad; i++) {
+            while (h >= 2 && cruz(casco[h - 2], casco[h - 1], puntos[i]) <= 0) h--;
+            casco[h++] = puntos[i];
+        }
+        for (int i = cantidad - 2, inferior = h + 1; i >= 0; i--) {
+            while (h >= inferior && cruz(casco[h - 2], casco[h - 1], puntos[i]) <= 0) h--;
+            casco[h++] = puntos[i];
+        }
+        // El último punto repite el primero
+        if (h > 1) h--;
+        // Puntos repetidos: la cadena puede quedar con un solo vértice duplicado
+        if (h == 2 && casco[0][0] == casco[1][0] && casco[0][1] == casco[1][1]) h = 1;
+        return Arrays.copyOf(casco, Math.min(h, cantidad));
+    }
+
+    /** Producto cruz de (b - a) x (c - a) con x = longitud, y = latitud */
+    private static double cruz(double[] a, double[] b, double[] c) {
+        return (b[1] - a[1]) * (c[0] - a[0]) - (b[0] - a[0]) * (c[1] - a[1]);
+    }
+
+    public GrafoCompacto getCompacto() { return g; }
+    public int getOrigen() { return origen; }
+    public int getNumeroUmbrales() { return umbrales.length; }
+    public double getUmbral(int k) { return umbrales[k]; }
+
+    /** @return Zonas dentro del umbral {@code k} */
+    public int getCantidadDentro(int k) { return dentro[k]; }
+
+    /** @return Nodo {@code i} en orden de tiempo (válido para {@code i < getCantidadDentro(k)}) */
+    public int nodoEn(int i) { return orden[i]; }
+
+    /** @return Tiempo mínimo hasta el nodo {@code i} del orden */
+    public double tiempoEn(int i) { return tiempos[i]; }
+
+    /** @return Vértices {lat, lng} del polígono de cobertura del umbral {@code k} */
+    public double[][] getPoligono(int k) { return poligonos[k]; }
+}
@@ -0,0 +1,450 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de jerarquías de contracción (<i>contraction hierarchies</i>) sobre
+ * un {@link GrafoCompacto}, con el tiempo de recorrido como métrica.
+ *
+ * <p>Los nodos se contraen en orden de grado mínimo y cada contracción une
+ * entre sí a todos los vecinos aún no contraídos, sin búsqueda de testigos.
+ * Así la estructura de atajos no depende de los tiempos ni de los bloqueos:
+ * el peso de cada atajo {@code u — w} es el mínimo entre las rutas directas
+ * y los triángulos inferiores {@code u — v — w} con {@code v} de menor rango.
+ * Las consultas son dos búsquedas de Dijkstra que solo suben en la jerarquía,
+ * una desde cada extremo.</p>
+ *
+ * <p>Cuando una ruta se bloquea o se reabre se recalcula el arco que la
+ * contiene y, solo si su peso cambia, los atajos que lo usan, en orden
+ * ascendente de rango. El resto del índice no se toca.</p>
+ *
+ * <p>Las consultas pueden ejecutarse en paralelo entre sí; las
+ * actualizaciones de disponibilidad son exclusivas.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class JerarquiaContraccion {
+    /** Marca de arco sin camino en una dirección */
+    private static final int SIN_CAMINO = -2;
+
+    /** Marca de arco cuyo mejor camino es una ruta directa */
+    private static final int RUTA_DIRECTA = -1;
+
+    /** Grafo a partir del cual se construyó el índice */
+    private final GrafoCompacto compacto;
+
+    /** Número de nodos */
+    private final int n;
+
+    /** Orden de contracción de cada nodo (mayor = más importante) */
+    private final int[] rango;
+
+    /** Disponibilidad de cada ruta según el índice */
+    private final boolean[] disponible;
+
+    /** Arco que contiene cada ruta del grafo compacto (-1 en lazos) */
+    private final int[] arcoDeRuta;
+
+    /**
+     * Arcos no dirigidos de la jerarquía. Los identificadores crecen con el
+     * rango del extremo bajo, lo que da un orden válido para recalcular pesos.
+     */
+    private final int numArcos;
+    private final int[] bajo;
+    private final int[] alto;
+
+    /** Peso de bajo → alto y de alto → bajo */
+    private final double[] pesoSubida;
+    private final double[] pesoBajada;
+
+    /** Triángulo que da el peso de cada dirección, o RUTA_DIRECTA / SIN_CAMINO */
+    private final int[] viaSubida;
+    private final int[] viaBajada;
+
+    /** Ruta usada cuando la vía es RUTA_DIRECTA */
+    private final int[] rutaSubida;
+    private final int[] rutaBajada;
+
+    /** Rutas del grafo compacto agrupadas por arco y dirección */
+    private final ListaEnteros[] originalesSubida;
+    private final ListaEnteros[] originalesBajada;
+
+    /** Triángulos inferiores de cada arco, como pares (arco v—u, arco v—w) */
+    private final ListaEnteros[] triangulos;
+
+    /** Arcos que tienen a cada arco en alguno de sus triángulos */
+    private final ListaEnteros[] usadoPor;
+
+    /** Arcos cuyo extremo bajo es cada nodo */
+    private final ListaEnteros[] arcosArriba;
+
+    private final ReadWriteLock candado = new ReentrantReadWriteLock();
+
+    private JerarquiaContraccion(GrafoCompacto compacto) {
+        this.compacto = compacto;
+        this.n = compacto.getNumeroNodos();
+        this.rango = new int[n];
+        int m = compacto.getNumeroAristas();
+        this.disponible = new boolean[m];
+        this.arcoDeRuta = new int[m];
+
+        // Contracción por grado mínimo sobre el grafo no dirigido
+        ListaEnteros listaBajo = new ListaEnteros(m);
+        ListaEnteros listaAlto = new ListaEnteros(m);
+        Map<Long, Integer> arcoDePar = new HashMap<>();
+        contraer(listaBajo, listaAlto, arcoDePar);
+
+        numArcos = listaBajo.tamano();
+        bajo = listaBajo.aArreglo();
+        alto = listaAlto.aArreglo();
+        pesoSubida = new double[numArcos];
+        pesoBajada = new double[numArcos];
+        viaSubida = new int[numArcos];
+        viaBajada = new int[numArcos];
+        rutaSubida = new int[numArcos];
+        rutaBajada = new int[numArcos];
+        originalesSubida = new ListaEnteros[numArcos];
+        originalesBajada = new ListaEnteros[numArcos];
+        triangulos = new ListaEnteros[numArcos];
+        usadoPor = new ListaEnteros[numArcos];
+        arcosArriba = new ListaEnteros[n];
+        Arrays.fill(pesoSubida, Double.POSITIVE_INFINITY);
+        Arrays.fill(pesoBajada, Double.POSITIVE_INFINITY);
+
+        for (int a = 0; a < numArcos; a++) {
+            if (arcosArriba[bajo[a]] == null) arcosArriba[bajo[a]] = new ListaEnteros(4);
+            arcosArriba[bajo[a]].agregar(a);
+        }
+
+        // Rutas originales
+        for (int e = 0; e < m; e++) {
+            disponible[e] = true;
+            int u = compacto.origenDe(e), w = compacto.destinoDe(e);
+            if (u == w) {
+                arcoDeRuta[e] = -1;
+                continue;
+            }
+            int a = arcoDePar.get(par(u, w));
+            arcoDeRuta[e] = a;
+            if (bajo[a] == u) {
+                if (originalesSubida[a] == null) originalesSubida[a] = new ListaEnteros(1);
+                originalesSubida[a].agregar(e);
+            } else {
+                if (originalesBajada[a] == null) originalesBajada[a] = new ListaEnteros(1);
+                originalesBajada[a].agregar(e);
+            }
+        }
+
+        // Triángulos inferiores: cada par de vecinos superiores de v
+        for (int v = 0; v < n; v++) {
+            ListaEnteros arriba = arcosArriba[v];
+            if (arriba == null) continue;
+            for (int i = 0; i < arriba.tamano(); i++) {
+                for (int j = i + 1; j < arriba.tamano(); j++) {
+                    int vx = arriba.obtener(i), vy = arriba.obtener(j);
+                    int x = alto[vx], y = alto[vy];
+                    int t = arcoDePar.get(par(x, y));
+                    int vu = rango[x] < rango[y] ? vx : vy;
+                    int vw = vu == vx ? vy : vx;
+                    if (triangulos[t] == null) triangulos[t] = new ListaEnteros(2);
+                    triangulos[t].agregar(vu);
+                    triangulos[t].agregar(vw);
+                    registrarUso(vu, t);
+                    registrarUso(vw, t);
+                }
+            }
+        }
+
+        for (int a = 0; a < numArcos; a++) recalcular(a);
+    }
+
+    /**
+     * Construye el índice contrayendo todos los nodos del grafo y aplica
+     * la disponibilidad vigente de las rutas.
+     *
+     * @param compacto Grafo compacto de origen
+     * @return Índice listo para consultas
+     */
+    public static JerarquiaContraccion construir(GrafoCompacto compacto) {
+        JerarquiaContraccion jerarquia = new JerarquiaContraccion(compacto);
+        jerarquia.sincronizarDisponibilidad();
+        return jerarquia;
+    }
+
+    private void contraer(ListaEnteros listaBajo, ListaEnteros listaAlto, Map<Long, Integer> arcoDePar) {
+        List<Set<Integer>> vecinos = new ArrayList<>(n);
+        for (int v = 0; v < n; v++) vecinos.add(new HashSet<>());
+        for (int e = 0; e < compacto.getNumeroAristas(); e++) {
+            int u = compacto.origenDe(e), w = compacto.destinoDe(e);
+            if (u == w) continue;
+            vecinos.get(u).add(w);
+            vecinos.get(w).add(u);
+        }
+
+        // El grado de un vecino sube o baja al contraer: se actualiza en la cola
+        MonticuloIndexado cola = new MonticuloIndexado(n);
+        for (int v = 0; v < n; v++) cola.insertarOActualizar(v, vecinos.get(v).size());
+        int nivel = 0;
+
+        while (!cola.estaVacio()) {
+            int v = cola.extraerMinimo();
+            rango[v] = nivel++;
+
+            int[] arriba = new int[vecinos.get(v).size()];
+            int k = 0;
+            for (int x : vecinos.get(v)) arriba[k++] = x;
+            for (int x : arriba) {
+                arcoDePar.put(par(v, x), listaBajo.tamano());
+                listaBajo.agregar(v);
+                listaAlto.agregar(x);
+                vecinos.get(x).remove(v);
+            }
+            for (int i = 0; i < arriba.length; i++) {
+                for (int j = i + 1; j < arriba.length; j++) {
+                    if (vecinos.get(arriba[i]).add(arriba[j])) vecinos.get(arriba[j]).add(arriba[i]);
+                }
+            }
+            for (int x : arriba) cola.insertarOActualizar(x, vecinos.get(x).size());
+        }
+    }
+
+    private static long par(int u, int w) {
+        int menor = Math.min(u, w), mayor = Math.max(u, w);
+        return ((long) menor << 32) | mayor;
+    }
+
+    private void registrarUso(int arco, int atajo) {
+        if (usadoPor[arco] == null) usadoPor[arco] = new ListaEnteros(2);
+        usadoPor[arco].agregar(atajo);
+    }
+
+    /**
+     * Ajusta el índice al estado actual de todas las rutas del grafo compacto.
+     */
+    public void sincronizarDisponibilidad() {
+        for (int e = 0; e < disponible.length; e++) {
+            actualizarDisponibilidad(e, compacto.rutaDe(e).estaDisponible());
+        }
+    }
+
+    /**
+     * Actualiza el índice cuando una ruta se bloquea o se reabre.
+     *
+     * @param arista Índice de la ruta en el grafo compacto
+     * @param estado Nuevo estado de la ruta
+     */
+    public void actualizarDisponibilidad(int arista, boolean estado) {
+        candado.writeLock().lock();
+        try {
+            if (disponible[arista] == estado) return;
+            disponible[arista] = estado;
+            if (arcoDeRuta[arista] >= 0) propagar(arcoDeRuta[arista]);
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Recalcula un arco y, en cascada, los atajos cuyo peso depende de él.
+     */
+    private void propagar(int arco) {
+        // Un atajo solo depende de arcos con identificador menor
+        PriorityQueue<Integer> pendientes = new PriorityQueue<>();
+        pendientes.add(arco);
+        int ultimo = -1;
+        while (!pendientes.isEmpty()) {
+            int a = pendientes.poll();
+            if (a == ultimo) continue;
+            ultimo = a;
+            if (!recalcular(a) || usadoPor[a] == null) continue;
+            for (int i = 0; i < usadoPor[a].tamano(); i++) pendientes.add(usadoPor[a].obtener(i));
+        }
+    }
+
+    /**
+     * Recalcula los pesos de un arco a partir de sus rutas y triángulos.
+     *
+     * @return true si alguno de los dos pesos cambió
+     */
+    private boolean recalcular(int a) {
+        double subida = Double.POSITIVE_INFINITY, bajada = Double.POSITIVE_INFINITY;
+        int vs = SIN_CAMINO, vb = SIN_CAMINO, rs = -1, rb = -1;
+
+        ListaEnteros directas = originalesSubida[a];
+        for (int i = 0; directas != null && i < directas.tamano(); i++) {
+            int e = directas.obtener(i);
+            if (disponible[e] && compacto.tiempoDe(e) < subida) {
+                subida = compacto.tiempoDe(e);
+                vs = RUTA_DIRECTA;
+                rs = e;
+            }
+        }
+        directas = originalesBajada[a];
+        for (int i = 0; directas != null && i < directas.tamano(); i++) {
+            int e = directas.obtener(i);
+            if (disponible[e] && compacto.tiempoDe(e) < bajada) {
+                bajada = compacto.tiempoDe(e);
+                vb = RUTA_DIRECTA;
+                rb = e;
+            }
+        }
+
+        ListaEnteros lista = triangulos[a];
+        for (int k = 0; lista != null && k < lista.tamano(); k += 2) {
+            int vu = lista.obtener(k), vw = lista.obtener(k + 1);
+            double porSubida = pesoBajada[vu] + pesoSubida[vw];
+            if (porSubida < subida) {
+                subida = porSubida;
+                vs = k / 2;
+            }
+            double porBajada = pesoBajada[vw] + pesoSubida[vu];
+            if (porBajada < bajada) {
+                bajada = porBajada;
+                vb = k / 2;
+            }
+        }
+
+        boolean cambio = subida != pesoSubida[a] || bajada != pesoBajada[a];
+        pesoSubida[a] = subida;
+        pesoBajada[a] = bajada;
+        viaSubida[a] = vs;
+        viaBajada[a] = vb;
+        rutaSubida[a] = rs;
+        rutaBajada[a] = rb;
+        return cambio;
+    }
+
+    /**
+     * Calcula el camino de menor tiempo con una búsqueda bidireccional ascendente.
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @return Camino expresado en índices de rutas del grafo compacto
+     */
+    public CaminoCompacto consultar(int origen, int destino) {
+        if (origen == destino) return new CaminoCompacto(null, 0.0, 0);
+        candado.readLock().lock();
+        try {
+            return consultarBloqueado(origen, destino);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    private CaminoCompacto consultarBloqueado(int origen, int destino) {
+        // La previa de cada nodo es el arco por el que se llegó a él
+        EspacioBusqueda espacioAdelante = EspacioBusqueda.adelante(n);
+        EspacioBusqueda espacioAtras = EspacioBusqueda.atras(n);
+        MonticuloIndexado colaAdelante = espacioAdelante.cola();
+        MonticuloIndexado colaAtras = espacioAtras.cola();
+        espacioAdelante.fijar(origen, 0.0, -1);
+        espacioAtras.fijar(destino, 0.0, -1);
+        colaAdelante.insertarOActualizar(origen, 0.0);
+        colaAtras.insertarOActualizar(destino, 0.0);
+
+        double mejor = Double.POSITIVE_INFINITY;
+        int encuentro = -1;
+        int asentados = 0;
+
+        while (true) {
+            // Una cola vacía tiene prioridad mínima infinita
+            boolean sigueAdelante = colaAdelante.prioridadMinima() < mejor;
+            boolean sigueAtras = colaAtras.prioridadMinima() < mejor;
+            if (!sigueAdelante && !sigueAtras) break;
+
+            boolean adelante = sigueAdelante
+                    && (!sigueAtras || colaAdelante.prioridadMinima() <= colaAtras.prioridadMinima());
+            EspacioBusqueda espacio = adelante ? espacioAdelante : espacioAtras;
+            MonticuloIndexado cola = espacio.cola();
+            int x = cola.extraerMinimo();
+            double dx = espacio.costo(x);
+            asentados++;
+
+            double total = espacioAdelante.costo(x) + espacioAtras.costo(x);
+            if (total < mejor) {
+                mejor = total;
+                encuentro = x;
+            }
+
+            ListaEnteros arriba = arcosArriba[x];
+            for (int i = 0; arriba != null && i < arriba.tamano(); i++) {
+                int a = arriba.obtener(i);
+                int y = alto[a];
+                double nd = dx + (adelante ? pesoSubida[a] : pesoBajada[a]);
+                if (nd < espacio.costo(y)) {
+                    espacio.fijar(y, nd, a);
+                    cola.insertarOActualizar(y, nd);
+                }
+            }
+        }
+
+        if (encuentro < 0) return new CaminoCompacto(null, Double.POSITIVE_INFINITY, asentados);
+
+        // Subida desde el origen (en orden inverso) y bajada hacia el destino
+        ListaEnteros tramoSubida = new ListaEnteros();
+        for (int x = encuentro; x != origen; x = bajo[espacioAdelante.previa(x)]) {
+            tramoSubida.agregar(espacioAdelante.previa(x));
+        }
+        ListaEnteros rutas = new ListaEnteros();
+        for (int i = tramoSubida.tamano() - 1; i >= 0; i--) desempacar(tramoSubida.obtener(i), true, rutas);
+        for (int x = encuentro; x != destino; x = bajo[espacioAtras.previa(x)]) {
+            desempacar(espacioAtras.previa(x), false, rutas);
+        }
+
+        return new CaminoCompacto(rutas.aArreglo(), mejor, asentados);
+    }
+
+    /**
+     * Expande un arco recorrido en una dirección en las rutas que representa.
+     */
+    private void desempacar(int arco, boolean subiendo, ListaEnteros salida) {
+        ListaEnteros pila = new ListaEnteros();
+        pila.agregar(arco * 2 + (subiendo ? 1 : 0));
+        while (pila.tamano() > 0) {
+            int codigo = pila.quitarUltimo();
+            int a = codigo / 2;
+            boolean sube = codigo % 2 == 1;
+            int via = sube ? viaSubida[a] : viaBajada[a];
+            if (via == RUTA_DIRECTA) {
+                salida.agregar(sube ? rutaSubida[a] : rutaBajada[a]);
+                continue;
+            }
+            int vu = triangulos[a].obtener(via * 2), vw = triangulos[a].obtener(via * 2 + 1);
+            // u → v → w al subir, w → v → u al bajar; se apila el segundo tramo primero
+            if (sube) {
+                pila.agregar(vw * 2 + 1);
+                pila.agregar(vu * 2);
+            } else {
+                pila.agregar(vu * 2 + 1);
+                pila.agregar(vw * 2);
+            }
+        }
+    }
+
+    public GrafoCompacto getCompacto() { return compacto; }
+    public int getNumeroArcos() { return numArcos; }
+
+    /**
+     * Cuenta los arcos que no corresponden a ninguna ruta directa.
+     *
+     * @return Número de atajos agregados por la contracción
+     */
+    public int getNumeroAtajos() {
+        int atajos = 0;
+        for (int a = 0; a < numArcos; a++) {
+            if (originalesSubida[a] == null && originalesBajada[a] == null) atajos++;
+        }
+        return atajos;
+    }
+}
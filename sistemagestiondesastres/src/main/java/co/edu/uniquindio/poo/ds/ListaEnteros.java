@@ -0,0 +1,61 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+
+/**
+ * Lista dinámica de enteros primitivos, sin cajas {@code Integer}.
+ *
+ * Se usa en las estructuras de grafos para listas de adyacencia y de
+ * dependencias que crecen durante el preprocesamiento.
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+class ListaEnteros {
+    private int[] datos;
+    private int tamano;
+
+    ListaEnteros() {
+        this(4);
+    }
+
+    ListaEnteros(int capacidad) {
+        this.datos = new int[Math.max(1, capacidad)];
+    }
+
+    void agregar(int valor) {
+        if (tamano == datos.length) datos = Arrays.copyOf(datos, datos.length * 2);
+        datos[tamano++] = valor;
+    }
+
+    int obtener(int posicion) {
+        return datos[posicion];
+    }
+
+    /**
+     * Quita y devuelve el último elemento, para usar la lista como pila.
+     */
+    int quitarUltimo() {
+        return datos[--tamano];
+    }
+
+    int tamano() {
+        return tamano;
+    }
+
+    void limpiar() {
+        tamano = 0;
+    }
+
+    /**
+     * Conserva solo los primeros {@code tamano} elementos.
+     */
+    void recortar(int tamano) {
+        if (tamano < this.tamano) this.tamano = Math.max(0, tamano);
+    }
+
+    int[] aArreglo() {
+        return Arrays.copyOf(datos, tamano);
+    }
+}
@@ -0,0 +1,109 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Consultas de caminos mínimos en lote: muchos pares (origen, destino)
+ * resueltos con un árbol de Dijkstra por origen en lugar de una búsqueda
+ * por par.
+ *
+ * <p>Los pares se agrupan por origen y cada grupo se resuelve con
+ * {@link GrafoCompacto#caminosDesde(int, int[], Metrica)}, que se detiene al
+ * asentar todos sus destinos. Los grupos corren en paralelo sobre el pool
+ * común de ForkJoin y se entregan en el hilo que llama a medida que
+ * terminan, para que la respuesta se escriba por partes sin sincronizar el
+ * flujo de salida.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class LoteRutas {
+
+    /**
+     * Pares con el mismo origen y sus caminos, una vez resueltos.
+     */
+    public static class Grupo {
+        private final int origen;
+        private final int[] posiciones;
+        private final int[] destinos;
+        private CaminoCompacto[] caminos;
+
+        Grupo(int origen, int[] posiciones, int[] destinos) {
+            this.origen = origen;
+            this.posiciones = posiciones;
+            this.destinos = destinos;
+        }
+
+        public int getOrigen() { return origen; }
+        public int getTamano() { return destinos.length; }
+        /** @return Posición del par {@code i} del grupo en la solicitud */
+        public int posicion(int i) { return posiciones[i]; }
+        public int destino(int i) { return destinos[i]; }
+        public CaminoCompacto camino(int i) { return caminos[i]; }
+    }
+
+    private LoteRutas() {
+    }
+
+    /**
+     * Agrupa los pares por origen, en orden de primera aparición.
+     *
+     * @param origenes Índice de origen de cada par
+     * @param destinos Índice de destino de cada par
+     * @return Grupos sin resolver
+     */
+    public static List<Grupo> agrupar(int[] origenes, int[] destinos) {
+        Map<Integer, ListaEnteros> porOrigen = new LinkedHashMap<>();
+        for (int i = 0; i < origenes.length; i++) {
+            porOrigen.computeIfAbsent(origenes[i], k -> new ListaEnteros()).agregar(i);
+        }
+        List<Grupo> grupos = new ArrayList<>(porOrigen.size());
+        for (Map.Entry<Integer, ListaEnteros> entrada : porOrigen.entrySet()) {
+            int[] posiciones = entrada.getValue().aArreglo();
+            int[] destinosGrupo = new int[posiciones.length];
+            for (int i = 0; i < posiciones.length; i++) destinosGrupo[i] = destinos[posiciones[i]];
+            grupos.add(new Grupo(entrada.getKey(), posiciones, destinosGrupo));
+        }
+        return grupos;
+    }
+
+    /**
+     * Resuelve todos los pares, entregando cada grupo al terminar.
+     *
+     * @param g Grafo compacto
+     * @param origenes Índice de origen de cada par
+     * @param destinos Índice de destino de cada par
+     * @param metrica Métrica a minimizar
+     * @param alTerminar Recibe cada grupo resuelto, siempre en el hilo que llama
+     * @return Número de grupos (árboles calculados)
+     */
+    public static int calcular(GrafoCompacto g, int[] origenes, int[] destinos, Metrica metrica,
+                               Consumer<Grupo> alTerminar) {
+        List<Grupo> grupos = agrupar(origenes, destinos);
+        CompletionService<Grupo> servicio = new ExecutorCompletionService<>(ForkJoinPool.commonPool());
+        for (Grupo grupo : grupos) {
+            servicio.submit(() -> {
+                grupo.caminos = g.caminosDesde(grupo.origen, grupo.destinos, metrica);
+                return grupo;
+            });
+        }
+        try {
+            for (int i = 0; i < grupos.size(); i++) alTerminar.accept(servicio.take().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Consulta en lote interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error al resolver un grupo del lote", e.getCause());
+        }
+        return grupos.size();
+    }
+}
@@ -0,0 +1,315 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Mapa inmutable con claves de texto cuyas versiones comparten estructura
+ * (trie de hash con mapa de bits, HAMT).
+ *
+ * {@link #con(String, Object)} y {@link #sin(String)} devuelven un mapa nuevo
+ * que reutiliza todos los nodos del anterior salvo los del camino hacia la
+ * clave: a lo sumo siete nodos de hasta 32 hijos, en lugar de las n entradas
+ * que copia un {@code new HashMap<>(anterior)}. El mapa de partida no cambia,
+ * así que otros hilos pueden seguir leyéndolo sin candados.
+ *
+ * <p>Se recorre en orden de inserción, como un {@code LinkedHashMap}: cada
+ * entrada guarda un número de orden y reemplazar el valor de una clave
+ * conserva su posición. Ese orden se resuelve la primera vez que se recorre
+ * cada versión, en O(n log n), y se guarda para los recorridos siguientes;
+ * {@link #get(Object)} y {@link #containsKey(Object)} no lo necesitan.</p>
+ *
+ * @param <V> Tipo de los valores
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+final class MapaPersistente<V> extends AbstractMap<String, V> {
+    /** Bits del hash consumidos por nivel (32 hijos por rama) */
+    private static final int BITS = 5;
+    private static final int MASCARA = (1 << BITS) - 1;
+
+    private final Rama raiz;
+    private final int tamano;
+    /** Número de orden de la próxima clave nueva */
+    private final long siguiente;
+    /** Entradas en orden de inserción, creadas al primer recorrido */
+    private volatile Hoja<V>[] ordenadas;
+
+    private MapaPersistente(Rama raiz, int tamano, long siguiente) {
+        this.raiz = raiz;
+        this.tamano = tamano;
+        this.siguiente = siguiente;
+    }
+
+    /** @return Mapa vacío */
+    static <V> MapaPersistente<V> vacio() {
+        return new MapaPersistente<>(new Rama(0, new Object[0]), 0, 0);
+    }
+
+    /**
+     * Asocia la clave al valor. Si la clave ya estaba conserva su posición en
+     * el recorrido; si ya tenía ese mismo valor devuelve este mapa.
+     *
+     * @return Mapa con la asociación
+     */
+    MapaPersistente<V> con(String clave, V valor) {
+        int hash = hash(clave);
+        Hoja<V> actual = buscar(hash, clave);
+        if (actual != null && actual.getValue() == valor) return this;
+        boolean nueva = actual == null;
+        Hoja<V> hoja = new Hoja<>(hash, clave, valor, nueva ? siguiente : actual.orden);
+        return new MapaPersistente<>((Rama) insertar(raiz, hoja, 0),
+                nueva ? tamano + 1 : tamano, nueva ? siguiente + 1 : siguiente);
+    }
+
+    /**
+     * Quita la clave.
+     *
+     * @return Mapa sin la clave, o este mismo si no estaba
+     */
+    MapaPersistente<V> sin(String clave) {
+        int hash = hash(clave);
+        if (buscar(hash, clave) == null) return this;
+        Rama nuevaRaiz = (Rama) eliminar(raiz, hash, clave, 0);
+        return new MapaPersistente<>(nuevaRaiz != null ? nuevaRaiz : new Rama(0, new Object[0]),
+                tamano - 1, siguiente);
+    }
+
+    @Override
+    public V get(Object clave) {
+        if (!(clave instanceof String)) return null;
+        String texto = (String) clave;
+        Hoja<V> hoja = buscar(hash(texto), texto);
+        return hoja != null ? hoja.getValue() : null;
+    }
+
+    @Override
+    public boolean containsKey(Object clave) {
+        if (!(clave instanceof String)) return false;
+        String texto = (String) clave;
+        return buscar(hash(texto), texto) != null;
+    }
+
+    @Override
+    public int size() {
+        return tamano;
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, V>> iterator() {
+                Hoja<V>[] hojas = ordenadas();
+                return new Iterator<>() {
+                    private int i;
+
+                    @Override
+                    public boolean hasNext() {
+                        return i < hojas.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, V> next() {
+                        if (i >= hojas.length) throw new NoSuchElementException();
+                        return hojas[i++];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return tamano;
+            }
+        };
+    }
+
+    private Hoja<V>[] ordenadas() {
+        // Construirlas dos veces en una carrera es inofensivo: el mapa no cambia
+        Hoja<V>[] actuales = ordenadas;
+        if (actuales == null) {
+            @SuppressWarnings("unchecked")
+            Hoja<V>[] hojas = (Hoja<V>[]) new Hoja<?>[tamano];
+            recolectar(raiz, hojas, 0);
+            Arrays.sort(hojas, Comparator.comparingLong(h -> h.orden));
+            ordenadas = actuales = hojas;
+        }
+        return actuales;
+    }
+
+    private static int hash(String clave) {
+        int h = clave.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int desplazamiento) {
+        return 1 << ((hash >>> desplazamiento) & MASCARA);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Hoja<V> buscar(int hash, String clave) {
+        Object nodo = raiz;
+        int desplazamiento = 0;
+        while (nodo instanceof Rama) {
+            Rama rama = (Rama) nodo;
+            int bit = bit(hash, desplazamiento);
+            if ((rama.mapa & bit) == 0) return null;
+            nodo = rama.hijos[Integer.bitCount(rama.mapa & (bit - 1))];
+            desplazamiento += BITS;
+        }
+        if (nodo instanceof Hoja) {
+            Hoja<V> hoja = (Hoja<V>) nodo;
+            return hoja.hash == hash && hoja.getKey().equals(clave) ? hoja : null;
+        }
+        Colision colision = (Colision) nodo;
+        if (colision.hash != hash) return null;
+        for (Hoja<?> hoja : colision.hojas) {
+            if (hoja.getKey().equals(clave)) return (Hoja<V>) hoja;
+        }
+        return null;
+    }
+
+    /** Copia el camino hacia la hoja y la coloca, reemplazando la de su clave */
+    private static Object insertar(Object nodo, Hoja<?> hoja, int desplazamiento) {
+        if (nodo instanceof Rama) {
+            Rama rama = (Rama) nodo;
+            int bit = bit(hoja.hash, desplazamiento);
+            int i = Integer.bitCount(rama.mapa & (bit - 1));
+            if ((rama.mapa & bit) == 0) {
+                Object[] hijos = new Object[rama.hijos.length + 1];
+                System.arraycopy(rama.hijos, 0, hijos, 0, i);
+                hijos[i] = hoja;
+                System.arraycopy(rama.hijos, i, hijos, i + 1, rama.hijos.length - i);
+                return new Rama(rama.mapa | bit, hijos);
+            }
+            Object[] hijos = rama.hijos.clone();
+            hijos[i] = insertar(hijos[i], hoja, desplazamiento + BITS);
+            return new Rama(rama.mapa, hijos);
+        }
+        if (nodo instanceof Hoja) {
+            Hoja<?> actual = (Hoja<?>) nodo;
+            if (actual.hash == hoja.hash) {
+                if (actual.getKey().equals(hoja.getKey())) return hoja;
+                return new Colision(hoja.hash, new Hoja<?>[] {actual, hoja});
+            }
+            return separar(actual, actual.hash, hoja, desplazamiento);
+        }
+        Colision colision = (Colision) nodo;
+        if (colision.hash != hoja.hash) return separar(colision, colision.hash, hoja, desplazamiento);
+        Hoja<?>[] hojas = colision.hojas;
+        for (int i = 0; i < hojas.length; i++) {
+            if (hojas[i].getKey().equals(hoja.getKey())) {
+                hojas = hojas.clone();
+                hojas[i] = hoja;
+                return new Colision(colision.hash, hojas);
+            }
+        }
+        hojas = Arrays.copyOf(hojas, hojas.length + 1);
+        hojas[hojas.length - 1] = hoja;
+        return new Colision(colision.hash, hojas);
+    }
+
+    /**
+     * Crea las ramas necesarias para que un nodo y una hoja de hash distinto
+     * queden en hijos distintos.
+     */
+    private static Object separar(Object nodo, int hashNodo, Hoja<?> hoja, int desplazamiento) {
+        int a = (hashNodo >>> desplazamiento) & MASCARA;
+        int b = (hoja.hash >>> desplazamiento) & MASCARA;
+        if (a == b) {
+            return new Rama(1 << a, new Object[] {separar(nodo, hashNodo, hoja, desplazamiento + BITS)});
+        }
+        Object[] hijos = a < b ? new Object[] {nodo, hoja} : new Object[] {hoja, nodo};
+        return new Rama((1 << a) | (1 << b), hijos);
+    }
+
+    /**
+     * Copia el camino hacia la clave sin ella; la clave debe estar. Una rama
+     * que queda con un solo hijo hoja se reemplaza por ese hijo.
+     *
+     * @return Nodo resultante, o null si quedó vacío
+     */
+    private static Object eliminar(Object nodo, int hash, String clave, int desplazamiento) {
+        if (nodo instanceof Hoja) return null;
+        if (nodo instanceof Colision) {
+            Hoja<?>[] hojas = ((Colision) nodo).hojas;
+            if (hojas.length == 2) return hojas[0].getKey().equals(clave) ? hojas[1] : hojas[0];
+            Hoja<?>[] restantes = new Hoja<?>[hojas.length - 1];
+            int j = 0;
+            for (Hoja<?> h : hojas) if (!h.getKey().equals(clave)) restantes[j++] = h;
+            return new Colision(hash, restantes);
+        }
+        Rama rama = (Rama) nodo;
+        int bit = bit(hash, desplazamiento);
+        int i = Integer.bitCount(rama.mapa & (bit - 1));
+        Object hijo = eliminar(rama.hijos[i], hash, clave, desplazamiento + BITS);
+        Object[] hijos;
+        int mapa = rama.mapa;
+        if (hijo == null) {
+            if (rama.hijos.length == 1) return null;
+            hijos = new Object[rama.hijos.length - 1];
+            System.arraycopy(rama.hijos, 0, hijos, 0, i);
+            System.arraycopy(rama.hijos, i + 1, hijos, i, hijos.length - i);
+            mapa &= ~bit;
+        } else {
+            hijos = rama.hijos.clone();
+            hijos[i] = hijo;
+        }
+        // La raíz siempre es una rama; más abajo una hoja sola sube un nivel
+        if (desplazamiento > 0 && hijos.length == 1 && !(hijos[0] instanceof Rama)) return hijos[0];
+        return new Rama(mapa, hijos);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> int recolectar(Object nodo, Hoja<V>[] destino, int i) {
+        if (nodo instanceof Hoja) {
+            destino[i++] = (Hoja<V>) nodo;
+        } else if (nodo instanceof Colision) {
+            for (Hoja<?> hoja : ((Colision) nodo).hojas) destino[i++] = (Hoja<V>) hoja;
+        } else {
+            for (Object hijo : ((Rama) nodo).hijos) i = recolectar(hijo, destino, i);
+        }
+        return i;
+    }
+
+    /** Nodo interno: un hijo por cada bit encendido de {@code mapa} */
+    private static final class Rama {
+        final int mapa;
+        final Object[] hijos;
+
+        Rama(int mapa, Object[] hijos) {
+            this.mapa = mapa;
+            this.hijos = hijos;
+        }
+    }
+
+    /** Claves distintas con el mismo hash completo */
+    private static final class Colision {
+        final int hash;
+        final Hoja<?>[] hojas;
+
+        Colision(int hash, Hoja<?>[] hojas) {
+            this.hash = hash;
+            this.hojas = hojas;
+        }
+    }
+
+    private static final class Hoja<V> extends AbstractMap.SimpleImmutableEntry<String, V> {
+        private static final long serialVersionUID = 1L;
+        final int hash;
+        final long orden;
+
+        Hoja(int hash, String clave, V valor, long orden) {
+            super(clave, valor);
+            this.hash = hash;
+            this.orden = orden;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.stream.IntStream;
+
+/**
+ * Matriz de tiempos mínimos de viaje entre un conjunto de orígenes y uno
+ * de destinos, calculada sobre un {@link GrafoCompacto}.
+ *
+ * Se ejecuta un Dijkstra completo por origen, en paralelo sobre el pool
+ * común de ForkJoin, y los resultados se guardan en un único arreglo
+ * {@code float[]} por filas (origen × destino). Los pares sin camino
+ * quedan como {@link Float#POSITIVE_INFINITY}. Cada hilo reutiliza un
+ * solo arreglo de distancias para todas sus filas.
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class MatrizTiempos {
+    /** Índices compactos de los orígenes (filas) */
+    private final int[] origenes;
+
+    /** Índices compactos de los destinos (columnas) */
+    private final int[] destinos;
+
+    /** Tiempos por filas: valores[i * columnas + j] */
+    private final float[] valores;
+
+    private MatrizTiempos(int[] origenes, int[] destinos, float[] valores) {
+        this.origenes = origenes;
+        this.destinos = destinos;
+        this.valores = valores;
+    }
+
+    /**
+     * Calcula la matriz de tiempos entre los nodos indicados.
+     *
+     * @param grafo Grafo compacto
+     * @param origenes Índices de los nodos de origen
+     * @param destinos Índices de los nodos de destino
+     * @return Matriz calculada
+     * @throws IllegalArgumentException si la matriz no cabe en un arreglo
+     */
+    public static MatrizTiempos calcular(GrafoCompacto grafo, int[] origenes, int[] destinos) {
+        int columnas = destinos.length;
+        int celdas;
+        try {
+            celdas = Math.multiplyExact(origenes.length, columnas);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Matriz demasiado grande: " + origenes.length + "x" + columnas);
+        }
+        float[] valores = new float[celdas];
+        int nodos = grafo.getNumeroNodos();
+        ThreadLocal<double[]> distancias = ThreadLocal.withInitial(() -> new double[nodos]);
+
+        // Cada fila es independiente: un Dijkstra por origen en el pool común
+        IntStream.range(0, origenes.length).parallel().forEach(i -> {
+            double[] dist = grafo.distanciasDesde(origenes[i], Metrica.TIEMPO, distancias.get());
+            int base = i * columnas;
+            for (int j = 0; j < columnas; j++) {
+                valores[base + j] = (float) dist[destinos[j]];
+            }
+        });
+        return new MatrizTiempos(origenes.clone(), destinos.clone(), valores);
+    }
+
+    /**
+     * @param fila Posición del origen
+     * @param columna Posición del destino
+     * @return Tiempo mínimo, o infinito si no hay camino
+     */
+    public float tiempo(int fila, int columna) {
+        return valores[fila * destinos.length + columna];
+    }
+
+    public boolean hayCamino(int fila, int columna) {
+        return tiempo(fila, columna) != Float.POSITIVE_INFINITY;
+    }
+
+    public int getFilas() { return origenes.length; }
+    public int getColumnas() { return destinos.length; }
+    public int origenEn(int fila) { return origenes[fila]; }
+    public int destinoEn(int columna) { return destinos[columna]; }
+}
@@ -0,0 +1,16 @@
+package co.edu.uniquindio.poo.ds;
+
+/**
+ * Criterio de costo que minimizan las búsquedas de caminos.
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public enum Metrica {
+    /** Tiempo de recorrido de las rutas ({@code Ruta.calcularTiempoReal()}) */
+    TIEMPO,
+
+    /** Distancia de las rutas en kilómetros */
+    DISTANCIA
+}
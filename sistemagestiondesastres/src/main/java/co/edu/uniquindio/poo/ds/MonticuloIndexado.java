@@ -0,0 +1,164 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+
+/**
+ * Montículo mínimo d-ario indexado sobre enteros, con prioridades {@code double}
+ * primitivas y operación de disminuir prioridad.
+ *
+ * Cada elemento es un entero en {@code [0, universo)} (el índice de un nodo) y
+ * aparece a lo sumo una vez: {@link #insertarOActualizar(int, double)} lo
+ * agrega o, si ya estaba, lo mueve a su nueva posición. Así las búsquedas de
+ * caminos no acumulan entradas viejas ni crean un objeto por relajación, como
+ * ocurre con {@code java.util.PriorityQueue}.
+ *
+ * <p>Con aridad 4 el árbol es la mitad de alto que uno binario y los hijos de
+ * cada posición quedan contiguos en memoria; subir un elemento (la operación
+ * más frecuente en Dijkstra) cuesta menos comparaciones.</p>
+ *
+ * <p>Vaciar el montículo cuesta lo que los elementos que quedaban, no lo que
+ * el universo, por lo que una misma instancia se reutiliza entre búsquedas.
+ * No es seguro entre hilos.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+class MonticuloIndexado {
+    private static final int ARIDAD = 4;
+
+    /** Elemento en cada posición del montículo */
+    private int[] elementos;
+    /** Prioridad en cada posición del montículo, paralela a {@code elementos} */
+    private double[] prioridades;
+    /** Posición de cada elemento en el montículo, -1 si no está */
+    private int[] posicion;
+    private int tamano;
+
+    MonticuloIndexado() {
+        this(0);
+    }
+
+    MonticuloIndexado(int universo) {
+        this.elementos = new int[Math.max(4, Math.min(universo, 64))];
+        this.prioridades = new double[elementos.length];
+        this.posicion = new int[universo];
+        Arrays.fill(posicion, -1);
+    }
+
+    /**
+     * Garantiza que se puedan guardar elementos en {@code [0, universo)}.
+     */
+    void asegurarUniverso(int universo) {
+        if (universo <= posicion.length) return;
+        int anterior = posicion.length;
+        posicion = Arrays.copyOf(posicion, Math.max(universo, anterior + (anterior >> 1)));
+        Arrays.fill(posicion, anterior, posicion.length, -1);
+    }
+
+    /**
+     * Agrega el elemento con la prioridad dada o, si ya está, cambia su
+     * prioridad (subiendo o bajando según corresponda).
+     */
+    void insertarOActualizar(int elemento, double prioridad) {
+        int i = posicion[elemento];
+        if (i < 0) {
+            if (tamano == elementos.length) {
+                elementos = Arrays.copyOf(elementos, tamano * 2);
+                prioridades = Arrays.copyOf(prioridades, tamano * 2);
+            }
+            subir(tamano++, elemento, prioridad);
+        } else if (prioridad < prioridades[i]) {
+            subir(i, elemento, prioridad);
+        } else {
+            bajar(i, elemento, prioridad);
+        }
+    }
+
+    /**
+     * Quita y devuelve el elemento de menor prioridad.
+     */
+    int extraerMinimo() {
+        int minimo = elementos[0];
+        posicion[minimo] = -1;
+        tamano--;
+        if (tamano > 0) bajar(0, elementos[tamano], prioridades[tamano]);
+        return minimo;
+    }
+
+    /** @return Elemento de menor prioridad, sin quitarlo */
+    int minimo() {
+        return elementos[0];
+    }
+
+    /** @return Menor prioridad del montículo, infinito si está vacío */
+    double prioridadMinima() {
+        return tamano > 0 ? prioridades[0] : Double.POSITIVE_INFINITY;
+    }
+
+    /** @return Prioridad actual del elemento, infinito si no está */
+    double prioridad(int elemento) {
+        int i = posicion[elemento];
+        return i >= 0 ? prioridades[i] : Double.POSITIVE_INFINITY;
+    }
+
+    boolean contiene(int elemento) {
+        return posicion[elemento] >= 0;
+    }
+
+    boolean estaVacio() {
+        return tamano == 0;
+    }
+
+    int tamano() {
+        return tamano;
+    }
+
+    /**
+     * Vacía el montículo en tiempo proporcional a los elementos que quedaban.
+     */
+    void limpiar() {
+        for (int i = 0; i < tamano; i++) posicion[elementos[i]] = -1;
+        tamano = 0;
+    }
+
+    /**
+     * Coloca el elemento en la posición {@code i} o más arriba, desplazando
+     * hacia abajo a los padres de mayor prioridad.
+     */
+    private void subir(int i, int elemento, double prioridad) {
+        while (i > 0) {
+            int padre = (i - 1) / ARIDAD;
+            if (prioridades[padre] <= prioridad) break;
+            colocar(i, elementos[padre], prioridades[padre]);
+            i = padre;
+        }
+        colocar(i, elemento, prioridad);
+    }
+
+    /**
+     * Coloca el elemento en la posición {@code i} o más abajo, subiendo al
+     * menor de los hijos mientras sea menor que él.
+     */
+    private void bajar(int i, int elemento, double prioridad) {
+        while (true) {
+            int primero = i * ARIDAD + 1;
+            if (primero >= tamano) break;
+            int menor = primero;
+            int ultimo = Math.min(primero + ARIDAD, tamano);
+            for (int c = primero + 1; c < ultimo; c++) {
+                if (prioridades[c] < prioridades[menor]) menor = c;
+            }
+            if (prioridades[menor] >= prioridad) break;
+            colocar(i, elementos[menor], prioridades[menor]);
+            i = menor;
+        }
+        colocar(i, elemento, prioridad);
+    }
+
+    private void colocar(int i, int elemento, double prioridad) {
+        elementos[i] = elemento;
+        prioridades[i] = prioridad;
+        posicion[elemento] = i;
+    }
+}
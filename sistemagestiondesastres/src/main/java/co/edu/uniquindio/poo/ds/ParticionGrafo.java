@@ -0,0 +1,454 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Partición multinivel del grafo en regiones balanceadas con pocas rutas
+ * entre ellas, al estilo de METIS: engrosar, particionar y refinar.
+ *
+ * <p>Se trabaja sobre la vista no dirigida del grafo compacto, donde el
+ * peso de cada arista es el número de rutas entre sus extremos y el de cada
+ * nodo el número de zonas que representa:</p>
+ * <ol>
+ *   <li><b>Engrosado:</b> emparejamiento por arista más pesada; cada par se
+ *       funde en un nodo del nivel siguiente, hasta que el grafo es pequeño
+ *       o deja de reducirse.</li>
+ *   <li><b>Partición inicial:</b> bisección recursiva del grafo más grueso
+ *       por crecimiento en anchura, probando varias semillas y quedándose
+ *       con el menor corte.</li>
+ *   <li><b>Refinamiento:</b> al proyectar a cada nivel más fino se mueven
+ *       nodos de frontera a la parte vecina con mayor ganancia de corte sin
+ *       romper el balance; en el nivel original se corrige además
+ *       cualquier exceso de peso.</li>
+ * </ol>
+ *
+ * <p>La partición es estructural: no depende de la disponibilidad de las
+ * rutas, así que se reutiliza mientras no cambie la topología.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class ParticionGrafo {
+    /** Desbalance permitido: cada parte pesa a lo sumo (1 + DESBALANCE) veces el promedio */
+    public static final double DESBALANCE = 0.03;
+
+    /** Semillas probadas en cada bisección inicial */
+    private static final int INTENTOS_BISECCION = 4;
+
+    /** Pasadas máximas de refinamiento por nivel */
+    private static final int PASADAS_REFINAMIENTO = 8;
+
+    /**
+     * Grafo no dirigido ponderado de un nivel, en formato de adyacencia
+     * comprimida.
+     */
+    private static class Nivel {
+        final int[] inicio;
+        final int[] vecinos;
+        final int[] pesosArista;
+        final int[] pesosNodo;
+        /** Nodo del nivel siguiente (más grueso) en que se fundió cada nodo */
+        int[] grueso;
+
+        Nivel(int[] inicio, int[] vecinos, int[] pesosArista, int[] pesosNodo) {
+            this.inicio = inicio;
+            this.vecinos = vecinos;
+            this.pesosArista = pesosArista;
+            this.pesosNodo = pesosNodo;
+        }
+
+        int tamano() { return pesosNodo.length; }
+    }
+
+    private final GrafoCompacto g;
+    private final int partes;
+    private final int[] parte;
+    private final int[] pesos;
+    private final int corte;
+    private final int niveles;
+
+    private ParticionGrafo(GrafoCompacto g, int partes, int[] parte, int niveles) {
+        this.g = g;
+        this.partes = partes;
+        this.parte = parte;
+        this.niveles = niveles;
+        this.pesos = new int[partes];
+        for (int p : parte) pesos[p]++;
+        int rutasCortadas = 0;
+        for (int u = 0; u < g.getNumeroNodos(); u++) {
+            for (int e = g.inicioAristas(u); e < g.finAristas(u); e++) {
+                if (parte[g.destinoDe(e)] != parte[u]) rutasCortadas++;
+            }
+        }
+        this.corte = rutasCortadas;
+    }
+
+    /**
+     * Particiona el grafo en el número de partes indicado.
+     *
+     * @param g Grafo compacto
+     * @param partes Número de regiones deseado (se limita al número de nodos)
+     * @return Partición del grafo
+     * @throws IllegalArgumentException si partes es menor que 1
+     */
+    public static ParticionGrafo calcular(GrafoCompacto g, int partes) {
+        if (partes < 1) throw new IllegalArgumentException("Se requiere al menos una parte");
+        int n = g.getNumeroNodos();
+        int k = Math.max(1, Math.min(partes, n));
+        if (k == 1) return new ParticionGrafo(g, 1, new int[n], 1);
+
+        Random azar = new Random(n * 31L + k);
+        List<Nivel> jerarquia = new ArrayList<>();
+        Nivel actual = nivelInicial(g);
+        jerarquia.add(actual);
+        int objetivo = Math.max(20 * k, 100);
+        while (actual.tamano() > objetivo) {
+            Nivel siguiente = engrosar(actual, k, azar);
+            if (siguiente.tamano() > 0.95 * actual.tamano()) {
+                actual.grueso = null;
+                break;
+            }
+            jerarquia.add(siguiente);
+            actual = siguiente;
+        }
+
+        int total = n;
+        int[] parte = particionInicial(actual, k, azar);
+        for (int nivel = jerarquia.size() - 1; ; nivel--) {
+            Nivel fino = jerarquia.get(nivel);
+            refinar(fino, parte, k, pesoMaximo(fino, total, k), azar);
+            if (nivel == 0) break;
+            Nivel siguienteFino = jerarquia.get(nivel - 1);
+            int[] proyectada = new int[siguienteFino.tamano()];
+            for (int u = 0; u < proyectada.length; u++) proyectada[u] = parte[siguienteFino.grueso[u]];
+            parte = proyectada;
+        }
+        balancear(jerarquia.get(0), parte, k, (int) Math.ceil((1 + DESBALANCE) * total / k));
+        return new ParticionGrafo(g, k, parte, jerarquia.size());
+    }
+
+    /**
+     * Vista no dirigida del grafo compacto: une rutas en ambos sentidos y
+     * rutas paralelas sumando su cantidad, sin lazos.
+     */
+    private static Nivel nivelInicial(GrafoCompacto g) {
+        int n = g.getNumeroNodos();
+        int[] marca = new int[n];
+        Arrays.fill(marca, -1);
+        int[] posicion = new int[n];
+        int[] inicio = new int[n + 1];
+        int[] vecinos = new int[2 * g.getNumeroAristas()];
+        int[] pesos = new int[vecinos.length];
+        int total = 0;
+        for (int u = 0; u < n; u++) {
+            inicio[u] = total;
+            for (int e = g.inicioAristas(u); e < g.finAristas(u); e++) {
+                total = unir(u, g.destinoDe(e), marca, posicion, vecinos, pesos, total);
+            }
+            for (int i = g.inicioEntrantes(u); i < g.finEntrantes(u); i++) {
+                total = unir(u, g.origenDe(g.aristaEntrante(i)), marca, posicion, vecinos, pesos, total);
+            }
+        }
+        inicio[n] = total;
+        int[] pesosNodo = new int[n];
+        Arrays.fill(pesosNodo, 1);
+        return new Nivel(inicio, Arrays.copyOf(vecinos, total), Arrays.copyOf(pesos, total), pesosNodo);
+    }
+
+    /** Agrega la arista (u, v) a la fila de u o suma una ruta más a ella */
+    private static int unir(int u, int v, int[] marca, int[] posicion, int[] vecinos, int[] pesos, int total) {
+        if (u == v) return total;
+        if (marca[v] == u) {
+            pesos[posicion[v]]++;
+            return total;
+        }
+        marca[v] = u;
+        posicion[v] = total;
+        vecinos[total] = v;
+        pesos[total] = 1;
+        return total + 1;
+    }
+
+    /**
+     * Funde pares de nodos vecinos unidos por la arista más pesada.
+     */
+    private static Nivel engrosar(Nivel fino, int k, Random azar) {
+        int n = fino.tamano();
+        int pesoTotal = 0;
+        for (int w : fino.pesosNodo) pesoTotal += w;
+        // Evita nodos gruesos que no quepan holgadamente en una parte
+        int limite = Math.max(2, (int) (1.5 * pesoTotal / (20.0 * k)));
+
+        int[] pareja = new int[n];
+        Arrays.fill(pareja, -1);
+        int[] orden = permutacion(n, azar);
+        int[] grueso = new int[n];
+        int m = 0;
+        for (int u : orden) {
+            if (pareja[u] >= 0) continue;
+            int mejor = u, mejorPeso = -1;
+            for (int i = fino.inicio[u]; i < fino.inicio[u + 1]; i++) {
+                int v = fino.vecinos[i];
+                if (pareja[v] >= 0 || fino.pesosNodo[u] + fino.pesosNodo[v] > limite) continue;
+                if (fino.pesosArista[i] > mejorPeso) {
+                    mejorPeso = fino.pesosArista[i];
+                    mejor = v;
+                }
+            }
+            pareja[u] = mejor;
+            pareja[mejor] = u;
+            grueso[u] = m;
+            grueso[mejor] = m;
+            m++;
+        }
+        fino.grueso = grueso;
+
+        // Adyacencia del nivel grueso: vecinos de ambos miembros, fundidos
+        int[] pesosNodo = new int[m];
+        int[][] miembros = new int[m][];
+        for (int u = 0; u < n; u++) {
+            pesosNodo[grueso[u]] += fino.pesosNodo[u];
+            int c = grueso[u];
+            if (miembros[c] == null) miembros[c] = pareja[u] == u ? new int[] {u} : new int[] {u, pareja[u]};
+        }
+        int[] marca = new int[m];
+        Arrays.fill(marca, -1);
+        int[] posicion = new int[m];
+        int[] inicio = new int[m + 1];
+        ListaEnteros vecinos = new ListaEnteros(fino.vecinos.length);
+        int[] acumulado = new int[Math.max(1, fino.vecinos.length)];
+        for (int c = 0; c < m; c++) {
+            inicio[c] = vecinos.tamano();
+            for (int u : miembros[c]) {
+                for (int i = fino.inicio[u]; i < fino.inicio[u + 1]; i++) {
+                    int d = grueso[fino.vecinos[i]];
+                    if (d == c) continue;
+                    if (marca[d] == c) {
+                        acumulado[posicion[d]] += fino.pesosArista[i];
+                    } else {
+                        marca[d] = c;
+                        posicion[d] = vecinos.tamano();
+                        acumulado[vecinos.tamano()] = fino.pesosArista[i];
+                        vecinos.agregar(d);
+                    }
+                }
+            }
+        }
+        inicio[m] = vecinos.tamano();
+        return new Nivel(inicio, vecinos.aArreglo(), Arrays.copyOf(acumulado, vecinos.tamano()), pesosNodo);
+    }
+
+    /**
+     * Bisección recursiva del nivel más grueso: cada mitad recibe partes
+     * en proporción a su peso objetivo.
+     */
+    private static int[] particionInicial(Nivel nivel, int k, Random azar) {
+        int[] parte = new int[nivel.tamano()];
+        int[] todos = new int[nivel.tamano()];
+        for (int u = 0; u < todos.length; u++) todos[u] = u;
+        biseccionar(nivel, todos, 0, k, parte, azar);
+        return parte;
+    }
+
+    private static void biseccionar(Nivel nivel, int[] nodos, int primeraParte, int k, int[] parte, Random azar) {
+        if (k == 1 || nodos.length <= 1) {
+            for (int u : nodos) parte[u] = primeraParte;
+            return;
+        }
+        int k1 = k / 2;
+        long pesoTotal = 0;
+        for (int u : nodos) pesoTotal += nivel.pesosNodo[u];
+        long objetivo = pesoTotal * k1 / k;
+
+        // Nodos del subconjunto: marca = 1 si pertenecen
+        boolean[] dentro = new boolean[nivel.tamano()];
+        for (int u : nodos) dentro[u] = true;
+
+        boolean[] mejorLado = null;
+        long mejorCorte = Long.MAX_VALUE;
+        for (int intento = 0; intento < INTENTOS_BISECCION; intento++) {
+            boolean[] lado = crecer(nivel, nodos, dentro, nodos[azar.nextInt(nodos.length)], objetivo);
+            long corte = 0;
+            for (int u : nodos) {
+                for (int i = nivel.inicio[u]; i < nivel.inicio[u + 1]; i++) {
+                    int v = nivel.vecinos[i];
+                    if (dentro[v] && lado[u] != lado[v]) corte += nivel.pesosArista[i];
+                }
+            }
+            if (corte < mejorCorte) {
+                mejorCorte = corte;
+                mejorLado = lado;
+            }
+        }
+
+        ListaEnteros primera = new ListaEnteros(), segunda = new ListaEnteros();
+        for (int u : nodos) {
+            if (mejorLado[u]) primera.agregar(u);
+            else segunda.agregar(u);
+        }
+        // Con muy pocos nodos una mitad puede quedar vacía: se cede un nodo
+        if (primera.tamano() == 0) primera.agregar(segunda.quitarUltimo());
+        if (segunda.tamano() == 0 && primera.tamano() > 1) segunda.agregar(primera.quitarUltimo());
+        biseccionar(nivel, primera.aArreglo(), primeraParte, k1, parte, azar);
+        biseccionar(nivel, segunda.aArreglo(), primeraParte + k1, k - k1, parte, azar);
+    }
+
+    /**
+     * Crece una región en anchura desde la semilla hasta alcanzar el peso
+     * objetivo; si el subconjunto no es conexo, continúa desde otro nodo.
+     */
+    private static boolean[] crecer(Nivel nivel, int[] nodos, boolean[] dentro, int semilla, long objetivo) {
+        boolean[] lado = new boolean[nivel.tamano()];
+        boolean[] visto = new boolean[nivel.tamano()];
+        ArrayDeque<Integer> cola = new ArrayDeque<>();
+        long peso = 0;
+        int siguienteSemilla = 0;
+        cola.add(semilla);
+        visto[semilla] = true;
+        while (peso < objetivo) {
+            if (cola.isEmpty()) {
+                while (siguienteSemilla < nodos.length && visto[nodos[siguienteSemilla]]) siguienteSemilla++;
+                if (siguienteSemilla == nodos.length) break;
+                visto[nodos[siguienteSemilla]] = true;
+                cola.add(nodos[siguienteSemilla]);
+            }
+            int u = cola.poll();
+            lado[u] = true;
+            peso += nivel.pesosNodo[u];
+            for (int i = nivel.inicio[u]; i < nivel.inicio[u + 1]; i++) {
+                int v = nivel.vecinos[i];
+                if (dentro[v] && !visto[v]) {
+                    visto[v] = true;
+                    cola.add(v);
+                }
+            }
+        }
+        return lado;
+    }
+
+    private static int pesoMaximo(Nivel nivel, int total, int k) {
+        int mayor = 0;
+        for (int w : nivel.pesosNodo) mayor = Math.max(mayor, w);
+        int promedio = (int) Math.ceil((double) total / k);
+        return Math.max((int) Math.ceil((1 + DESBALANCE) * total / k), promedio + mayor);
+    }
+
+    /**
+     * Refinamiento voraz de k partes: mueve cada nodo de frontera a la parte
+     * vecina con mayor ganancia de corte (o igual ganancia y mejor balance)
+     * mientras la parte destino no supere el peso máximo.
+     */
+    private static void refinar(Nivel nivel, int[] parte, int k, int maximo, Random azar) {
+        int n = nivel.tamano();
+        int[] pesos = new int[k];
+        for (int u = 0; u < n; u++) pesos[parte[u]] += nivel.pesosNodo[u];
+        int[] conexion = new int[k];
+        int[] tocadas = new int[k];
+        for (int pasada = 0; pasada < PASADAS_REFINAMIENTO; pasada++) {
+            int movidos = 0;
+            for (int u : permutacion(n, azar)) {
+                int propia = parte[u], w = nivel.pesosNodo[u];
+                int cantidad = 0;
+                boolean frontera = false;
+                for (int i = nivel.inicio[u]; i < nivel.inicio[u + 1]; i++) {
+                    int p = parte[nivel.vecinos[i]];
+                    if (p != propia) frontera = true;
+                    if (conexion[p] == 0) tocadas[cantidad++] = p;
+                    conexion[p] += nivel.pesosArista[i];
+                }
+                if (frontera && pesos[propia] > w) {
+                    int interna = conexion[propia];
+                    boolean excedida = pesos[propia] > maximo;
+                    int mejor = -1, mejorGanancia = Integer.MIN_VALUE;
+                    for (int j = 0; j < cantidad; j++) {
+                        int q = tocadas[j];
+                        if (q == propia || pesos[q] + w > maximo) continue;
+                        int ganancia = conexion[q] - interna;
+                        boolean mejora = ganancia > 0
+                                || (ganancia == 0 && pesos[q] + w < pesos[propia])
+                                || excedida;
+                        if (mejora && (ganancia > mejorGanancia
+                                || (ganancia == mejorGanancia && pesos[q] < pesos[mejor]))) {
+                            mejor = q;
+                            mejorGanancia = ganancia;
+                        }
+                    }
+                    if (mejor >= 0) {
+                        parte[u] = mejor;
+                        pesos[propia] -= w;
+                        pesos[mejor] += w;
+                        movidos++;
+                    }
+                }
+                for (int j = 0; j < cantidad; j++) conexion[tocadas[j]] = 0;
+            }
+            if (movidos == 0) break;
+        }
+    }
+
+    /**
+     * Corrige en el nivel original las partes que superan el peso máximo,
+     * cediendo nodos (de frontera primero) a la parte más liviana posible.
+     */
+    private static void balancear(Nivel nivel, int[] parte, int k, int maximo) {
+        int n = nivel.tamano();
+        int[] pesos = new int[k];
+        for (int u = 0; u < n; u++) pesos[parte[u]]++;
+        for (int u = 0; u < n; u++) {
+            int propia = parte[u];
+            if (pesos[propia] <= maximo) continue;
+            int destino = -1;
+            for (int i = nivel.inicio[u]; i < nivel.inicio[u + 1]; i++) {
+                int q = parte[nivel.vecinos[i]];
+                if (q != propia && pesos[q] < maximo && (destino < 0 || pesos[q] < pesos[destino])) destino = q;
+            }
+            if (destino < 0) continue;
+            parte[u] = destino;
+            pesos[propia]--;
+            pesos[destino]++;
+        }
+        // Lo que siga excedido (sin vecinos en partes con espacio) va a la más liviana
+        for (int u = 0; u < n; u++) {
+            int propia = parte[u];
+            if (pesos[propia] <= maximo) continue;
+            int destino = 0;
+            for (int q = 1; q < k; q++) if (pesos[q] < pesos[destino]) destino = q;
+            if (pesos[destino] >= maximo) break;
+            parte[u] = destino;
+            pesos[propia]--;
+            pesos[destino]++;
+        }
+    }
+
+    private static int[] permutacion(int n, Random azar) {
+        int[] orden = new int[n];
+        for (int i = 0; i < n; i++) orden[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = azar.nextInt(i + 1);
+            int t = orden[i];
+            orden[i] = orden[j];
+            orden[j] = t;
+        }
+        return orden;
+    }
+
+    public GrafoCompacto getCompacto() { return g; }
+    public int getPartes() { return partes; }
+
+    /** @return Parte asignada a un nodo del grafo compacto */
+    public int parteDe(int nodo) { return parte[nodo]; }
+
+    /** @return Número de zonas de una parte */
+    public int getTamano(int p) { return pesos[p]; }
+
+    /** @return Rutas cuyos extremos quedaron en partes distintas */
+    public int getCorte() { return corte; }
+
+    /** @return Niveles de la jerarquía de engrosado (1 si no se engrosó) */
+    public int getNiveles() { return niveles; }
+}
@@ -0,0 +1,494 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+
+/**
+ * Red expandida en el tiempo para evacuaciones: una copia de las zonas por
+ * cada intervalo del horizonte, con el flujo de personas que sale, espera,
+ * circula y llega en cada intervalo.
+ *
+ * <p>La capacidad de una ruta se interpreta como personas por hora y su
+ * tiempo como minutos de tránsito: quien toma la ruta {@code e} en el
+ * intervalo {@code t} llega en {@code t + ⌈tiempo / minutosPorIntervalo⌉}.
+ * En cada intervalo la ruta admite {@code capacidad × minutosPorIntervalo / 60}
+ * personas (con redondeo acumulado, para que la suma por hora sea exacta).
+ * Las personas pueden esperar en cualquier zona de un intervalo al
+ * siguiente.</p>
+ *
+ * <p>Cada zona de origen tiene además una cadena de espera propia: la
+ * fuente entrega su población en el intervalo 0, la gente espera en esa
+ * cadena y la deja en el intervalo en que toma una ruta (en la zona de un
+ * origen no se espera fuera de esa cadena). Así el flujo de salida de cada
+ * origen por intervalo es su cronograma de salidas, sin mezclarse con
+ * quienes pasan por la zona. Cada refugio recibe llegadas de cualquier
+ * intervalo y las limita a su capacidad total.</p>
+ *
+ * <p>La red no se materializa: los arcos de cada nodo se derivan del
+ * {@link GrafoCompacto} y del intervalo, y solo se guardan los flujos en
+ * capas de arreglos primitivos ({@code int} por ruta e intervalo, por zona e
+ * intervalo). Un horizonte de varias horas con intervalos de un minuto
+ * ocupa unos pocos bytes por ruta y minuto. El flujo máximo se calcula con
+ * Dinic sobre esos arcos implícitos.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class RedExpandida {
+    private static final long ILIMITADO = RedResidual.ILIMITADO;
+
+    private final GrafoCompacto grafo;
+    private final int n;
+    private final int m;
+
+    /** Último intervalo del horizonte: las capas van de 0 a {@code intervalos} */
+    private final int intervalos;
+    private final double minutosPorIntervalo;
+
+    /** Intervalos de tránsito de cada ruta, o -1 si no se puede usar */
+    private final int[] transito;
+
+    /** Personas por intervalo que admite cada ruta (fraccionario) */
+    private final double[] capacidadPorIntervalo;
+
+    private final int[] origenes;
+    private final long[] personas;
+    private final int[] refugios;
+    private final long[] capacidadRefugio;
+
+    /** Posición de cada zona entre los orígenes / refugios, o -1 */
+    private final int[] origenEn;
+    private final int[] refugioEn;
+
+    // Numeración de nodos: zonas por capa, cadenas de espera de los orígenes, refugios, fuente y sumidero
+    private final int capas;
+    private final int baseEspera;
+    private final int baseRefugio;
+    private final int fuente;
+    private final int sumidero;
+    private final int totalNodos;
+
+    // Flujos por capa
+    private final int[] flujoRuta;      // t * m + e
+    private final int[] esperaZona;     // t * n + v, de (v, t) a (v, t + 1)
+    private final int[] salida;         // t * k + i, de la espera del origen i a la zona en t
+    private final int[] esperaOrigen;   // t * k + i, de (i, t) a (i, t + 1) en la cadena de espera
+    private final int[] llegada;        // t * r + j, de (refugio j, t) al refugio
+    private final long[] desdeFuente;   // i
+    private final long[] haciaSumidero; // j
+
+    /**
+     * Construye la red expandida con flujo cero.
+     *
+     * @param grafo Grafo compacto
+     * @param minutosPorIntervalo Duración de cada intervalo
+     * @param intervalos Número de intervalos del horizonte
+     * @param origenes Índices de las zonas a evacuar (sin repetir; las que son refugio se omiten)
+     * @param personas Personas de cada origen
+     * @param refugios Índices de los refugios (sin repetir)
+     * @param capacidades Personas que admite cada refugio (0 o menos = sin límite)
+     */
+    public RedExpandida(GrafoCompacto grafo, double minutosPorIntervalo, int intervalos,
+                        int[] origenes, long[] personas, int[] refugios, long[] capacidades) {
+        if (!(minutosPorIntervalo > 0)) throw new IllegalArgumentException("La duración del intervalo debe ser positiva");
+        if (intervalos < 0) throw new IllegalArgumentException("El horizonte no puede ser negativo");
+        this.grafo = grafo;
+        this.n = grafo.getNumeroNodos();
+        this.m = grafo.getNumeroAristas();
+        this.intervalos = intervalos;
+        this.minutosPorIntervalo = minutosPorIntervalo;
+        this.origenes = origenes.clone();
+        this.refugios = refugios.clone();
+
+        transito = new int[m];
+        capacidadPorIntervalo = new double[m];
+        for (int e = 0; e < m; e++) {
+            int capacidad = grafo.rutaDe(e).getCapacidad();
+            if (capacidad <= 0 || !grafo.rutaDe(e).estaDisponible()) {
+                transito[e] = -1;
+                continue;
+            }
+            transito[e] = Math.max(1, (int) Math.ceil(grafo.tiempoDe(e) / minutosPorIntervalo - 1e-9));
+            capacidadPorIntervalo[e] = capacidad * minutosPorIntervalo / 60.0;
+        }
+
+        refugioEn = new int[n];
+        origenEn = new int[n];
+        Arrays.fill(refugioEn, -1);
+        Arrays.fill(origenEn, -1);
+        for (int j = 0; j < refugios.length; j++) refugioEn[refugios[j]] = j;
+        this.personas = new long[origenes.length];
+        for (int i = 0; i < origenes.length; i++) {
+            if (refugioEn[origenes[i]] >= 0) continue;
+            origenEn[origenes[i]] = i;
+            this.personas[i] = Math.max(0, Math.min(Integer.MAX_VALUE, personas[i]));
+        }
+        capacidadRefugio = new long[refugios.length];
+        for (int j = 0; j < refugios.length; j++) capacidadRefugio[j] = capacidades[j] > 0 ? capacidades[j] : ILIMITADO;
+
+        capas = intervalos + 1;
+        int k = origenes.length;
+        int r = refugios.length;
+        baseEspera = capas * n;
+        baseRefugio = baseEspera + capas * k;
+        fuente = baseRefugio + r;
+        sumidero = fuente + 1;
+        totalNodos = sumidero + 1;
+
+        flujoRuta = new int[capas * m];
+        esperaZona = new int[capas * n];
+        salida = new int[capas * k];
+        esperaOrigen = new int[capas * k];
+        llegada = new int[capas * r];
+        desdeFuente = new long[k];
+        haciaSumidero = new long[r];
+    }
+
+    /**
+     * Enteros que ocupa una red de este tamaño: los flujos por capa y los
+     * arreglos por nodo que usa {@link #maximizar()}. Sirve para acotar la
+     * memoria antes de construirla.
+     *
+     * @param grafo Grafo compacto
+     * @param intervalos Número de intervalos del horizonte
+     * @param origenes Número de zonas a evacuar
+     * @param refugios Número de refugios
+     * @return Número de enteros (sin desbordar para cualquier horizonte {@code int})
+     */
+    public static long tamano(GrafoCompacto grafo, int intervalos, int origenes, int refugios) {
+        long capas = intervalos + 1L;
+        long nodos = capas * (grafo.getNumeroNodos() + origenes) + refugios + 2;
+        long flujos = capas * (grafo.getNumeroAristas() + grafo.getNumeroNodos() + 2L * origenes + refugios);
+        return flujos + 5 * nodos;
+    }
+
+    /**
+     * Orígenes con algún camino de rutas utilizables (disponibles y con
+     * capacidad) hacia algún refugio. Los demás no pueden evacuarse con
+     * ningún horizonte.
+     *
+     * @return Por cada origen, si alcanza algún refugio
+     */
+    public boolean[] origenesConAcceso() {
+        // Recorrido hacia atrás desde los refugios
+        boolean[] alcanza = new boolean[n];
+        int[] cola = new int[n];
+        int fin = 0;
+        for (int v : refugios) {
+            if (!alcanza[v]) {
+                alcanza[v] = true;
+                cola[fin++] = v;
+            }
+        }
+        for (int frente = 0; frente < fin; frente++) {
+            int v = cola[frente];
+            for (int p = grafo.inicioEntrantes(v); p < grafo.finEntrantes(v); p++) {
+                int e = grafo.aristaEntrante(p);
+                int u = grafo.origenDe(e);
+                if (transito[e] < 0 || alcanza[u]) continue;
+                alcanza[u] = true;
+                cola[fin++] = u;
+            }
+        }
+        boolean[] acceso = new boolean[origenes.length];
+        for (int i = 0; i < origenes.length; i++) acceso[i] = alcanza[origenes[i]];
+        return acceso;
+    }
+
+    /**
+     * Calcula el flujo máximo desde los orígenes hasta los refugios dentro
+     * del horizonte (Dinic sobre los arcos implícitos).
+     *
+     * @return Personas que llegan a un refugio a más tardar en el último intervalo
+     */
+    public long maximizar() {
+        int[] nivel = new int[totalNodos];
+        int[] actual = new int[totalNodos];
+        int[] cola = new int[totalNodos];
+        int[] pilaNodo = new int[totalNodos];
+        int[] pilaArco = new int[totalNodos];
+        long total = 0;
+        while (niveles(nivel, cola)) {
+            Arrays.fill(actual, 0);
+            total += bloquear(nivel, actual, pilaNodo, pilaArco);
+        }
+        return total;
+    }
+
+    private boolean niveles(int[] nivel, int[] cola) {
+        Arrays.fill(nivel, -1);
+        nivel[fuente] = 0;
+        int frente = 0, fin = 0;
+        cola[fin++] = fuente;
+        while (frente < fin) {
+            int u = cola[frente++];
+            if (nivel[sumidero] >= 0 && nivel[u] >= nivel[sumidero]) break;
+            int grado = grado(u);
+            for (int s = 0; s < grado; s++) {
+                if (residual(u, s) <= 0) continue;
+                int v = destino(u, s);
+                if (nivel[v] < 0) {
+                    nivel[v] = nivel[u] + 1;
+                    cola[fin++] = v;
+                }
+            }
+        }
+        return nivel[sumidero] >= 0;
+    }
+
+    private long bloquear(int[] nivel, int[] actual, int[] pilaNodo, int[] pilaArco) {
+        long agregado = 0;
+        int profundidad = 0;
+        int u = fuente;
+        while (true) {
+            if (u == sumidero) {
+                long cuello = ILIMITADO;
+                for (int i = 0; i < profundidad; i++) cuello = Math.min(cuello, residual(pilaNodo[i], pilaArco[i]));
+                for (int i = 0; i < profundidad; i++) empujar(pilaNodo[i], pilaArco[i], cuello);
+                agregado += cuello;
+                int k = 0;
+                while (residual(pilaNodo[k], pilaArco[k]) > 0) k++;
+                profundidad = k;
+                u = pilaNodo[k];
+                continue;
+            }
+
+            boolean avanzo = false;
+            int grado = grado(u);
+            for (; actual[u] < grado; actual[u]++) {
+                int s = actual[u];
+                if (residual(u, s) <= 0) continue;
+                int v = destino(u, s);
+                if (nivel[v] == nivel[u] + 1) {
+                    pilaNodo[profundidad] = u;
+                    pilaArco[profundidad] = s;
+                    profundidad++;
+                    u = v;
+                    avanzo = true;
+                    break;
+                }
+            }
+            if (avanzo) continue;
+
+            if (u == fuente) return agregado;
+            nivel[u] = -1;
+            u = pilaNodo[--profundidad];
+            actual[u]++;
+        }
+    }
+
+    // ---- Arcos implícitos ----
+    // Zona (v, t): rutas salientes | espera | rutas entrantes (inversas) | espera inversa | salida inversa | llegada
+    // Espera del origen (i, t): salida | espera | espera inversa
+    // Refugio j: sumidero | llegadas inversas de cada capa
+    // Fuente: cadena de espera de cada origen en la capa 0
+
+    private int grado(int u) {
+        if (u < baseEspera) {
+            int v = u % n;
+            return (grafo.finAristas(v) - grafo.inicioAristas(v)) + (grafo.finEntrantes(v) - grafo.inicioEntrantes(v)) + 4;
+        }
+        if (u < baseRefugio) return 3;
+        if (u < fuente) return 1 + capas;
+        if (u == fuente) return origenes.length;
+        return 0;
+    }
+
+    private long residual(int u, int s) {
+        if (u < baseEspera) {
+            int t = u / n;
+            int v = u - t * n;
+            int inicio = grafo.inicioAristas(v);
+            int salientes = grafo.finAristas(v) - inicio;
+            if (s < salientes) {
+                int e = inicio + s;
+                int tau = transito[e];
+                if (tau < 0 || t + tau > intervalos) return 0;
+                return capacidadRuta(e, t) - flujoRuta[t * m + e];
+            }
+            s -= salientes;
+            // En los orígenes se espera en la cadena propia: así la salida es la partida por las rutas
+            if (s == 0) return t < intervalos && origenEn[v] < 0 ? ILIMITADO - esperaZona[t * n + v] : 0;
+            s--;
+            int inicioEnt = grafo.inicioEntrantes(v);
+            int entrantes = grafo.finEntrantes(v) - inicioEnt;
+            if (s < entrantes) {
+                int e = grafo.aristaEntrante(inicioEnt + s);
+                int tau = transito[e];
+                if (tau < 0 || t - tau < 0) return 0;
+                return flujoRuta[(t - tau) * m + e];
+            }
+            s -= entrantes;
+            if (s == 0) return t > 0 ? esperaZona[(t - 1) * n + v] : 0;
+            if (s == 1) return origenEn[v] < 0 ? 0 : salida[t * origenes.length + origenEn[v]];
+            return refugioEn[v] < 0 ? 0 : ILIMITADO - llegada[t * refugios.length + refugioEn[v]];
+        }
+        if (u < baseRefugio) {
+            int k = origenes.length;
+            int t = (u - baseEspera) / k;
+            int i = (u - baseEspera) - t * k;
+            if (s == 0) return ILIMITADO - salida[t * k + i];
+            if (s == 1) return t < intervalos ? ILIMITADO - esperaOrigen[t * k + i] : 0;
+            return t > 0 ? esperaOrigen[(t - 1) * k + i] : 0;
+        }
+        if (u < fuente) {
+            int j = u - baseRefugio;
+            if (s == 0) return capacidadRefugio[j] - haciaSumidero[j];
+            return llegada[(s - 1) * refugios.length + j];
+        }
+        if (u == fuente) return personas[s] - desdeFuente[s];
+        return 0;
+    }
+
+    private int destino(int u, int s) {
+        if (u < baseEspera) {
+            int t = u / n;
+            int v = u - t * n;
+            int inicio = grafo.inicioAristas(v);
+            int salientes = grafo.finAristas(v) - inicio;
+            if (s < salientes) return (t + transito[inicio + s]) * n + grafo.destinoDe(inicio + s);
+            s -= salientes;
+            if (s == 0) return u + n;
+            s--;
+            int inicioEnt = grafo.inicioEntrantes(v);
+            int entrantes = grafo.finEntrantes(v) - inicioEnt;
+            if (s < entrantes) {
+                int e = grafo.aristaEntrante(inicioEnt + s);
+                return (t - transito[e]) * n + grafo.origenDe(e);
+            }
+            s -= entrantes;
+            if (s == 0) return u - n;
+            if (s == 1) return baseEspera + t * origenes.length + origenEn[v];
+            return baseRefugio + refugioEn[v];
+        }
+        if (u < baseRefugio) {
+            int k = origenes.length;
+            int t = (u - baseEspera) / k;
+            int i = (u - baseEspera) - t * k;
+            if (s == 0) return t * n + origenes[i];
+            if (s == 1) return u + k;
+            return u - k;
+        }
+        if (u < fuente) {
+            int j = u - baseRefugio;
+            if (s == 0) return sumidero;
+            return (s - 1) * n + refugios[j];
+        }
+        return baseEspera + s;
+    }
+
+    private void empujar(int u, int s, long cantidad) {
+        int x = (int) cantidad;
+        if (u < baseEspera) {
+            int t = u / n;
+            int v = u - t * n;
+            int inicio = grafo.inicioAristas(v);
+            int salientes = grafo.finAristas(v) - inicio;
+            if (s < salientes) {
+                flujoRuta[t * m + inicio + s] += x;
+                return;
+            }
+            s -= salientes;
+            if (s == 0) {
+                esperaZona[t * n + v] += x;
+                return;
+            }
+            s--;
+            int inicioEnt = grafo.inicioEntrantes(v);
+            int entrantes = grafo.finEntrantes(v) - inicioEnt;
+            if (s < entrantes) {
+                int e = grafo.aristaEntrante(inicioEnt + s);
+                flujoRuta[(t - transito[e]) * m + e] -= x;
+                return;
+            }
+            s -= entrantes;
+            if (s == 0) esperaZona[(t - 1) * n + v] -= x;
+            else if (s == 1) salida[t * origenes.length + origenEn[v]] -= x;
+            else llegada[t * refugios.length + refugioEn[v]] += x;
+            return;
+        }
+        if (u < baseRefugio) {
+            int k = origenes.length;
+            int t = (u - baseEspera) / k;
+            int i = (u - baseEspera) - t * k;
+            if (s == 0) salida[t * k + i] += x;
+            else if (s == 1) esperaOrigen[t * k + i] += x;
+            else esperaOrigen[(t - 1) * k + i] -= x;
+            return;
+        }
+        if (u < fuente) {
+            int j = u - baseRefugio;
+            if (s == 0) haciaSumidero[j] += x;
+            else llegada[(s - 1) * refugios.length + j] -= x;
+            return;
+        }
+        if (u == fuente) desdeFuente[s] += x;
+    }
+
+    /**
+     * Personas que admite la ruta en el intervalo, con redondeo acumulado.
+     */
+    private long capacidadRuta(int e, int t) {
+        double c = capacidadPorIntervalo[e];
+        return (long) Math.floor(c * (t + 1) + 1e-9) - (long) Math.floor(c * t + 1e-9);
+    }
+
+    // ---- Resultados ----
+
+    /**
+     * @param i Posición del origen
+     * @param t Intervalo
+     * @return Personas del origen que salen en el intervalo
+     */
+    public int salidasEn(int i, int t) { return salida[t * origenes.length + i]; }
+
+    /**
+     * @param j Posición del refugio
+     * @param t Intervalo
+     * @return Personas que llegan al refugio en el intervalo
+     */
+    public int llegadasEn(int j, int t) { return llegada[t * refugios.length + j]; }
+
+    /**
+     * @param arista Índice de la ruta en el grafo compacto
+     * @param t Intervalo de entrada a la ruta
+     * @return Personas que toman la ruta en el intervalo
+     */
+    public int flujoRutaEn(int arista, int t) { return flujoRuta[t * m + arista]; }
+
+    /**
+     * @param zona Índice de la zona en el grafo compacto
+     * @param t Intervalo
+     * @return Personas que esperan en la zona del intervalo {@code t} al siguiente
+     */
+    public int esperaEn(int zona, int t) { return esperaZona[t * n + zona]; }
+
+    /**
+     * @param arista Índice de la ruta en el grafo compacto
+     * @return Intervalos de tránsito, o -1 si la ruta no se usa
+     */
+    public int transitoDe(int arista) { return transito[arista]; }
+
+    /**
+     * @param arista Índice de la ruta en el grafo compacto
+     * @param t Intervalo
+     * @return Personas que la ruta admite en el intervalo
+     */
+    public long capacidadRutaEn(int arista, int t) { return transito[arista] < 0 ? 0 : capacidadRuta(arista, t); }
+
+    /** @return Personas del origen {@code i} que llegan a un refugio */
+    public long evacuadasDesde(int i) { return desdeFuente[i]; }
+
+    /** @return Personas que llegan al refugio {@code j} */
+    public long recibidasEn(int j) { return haciaSumidero[j]; }
+
+    public GrafoCompacto getCompacto() { return grafo; }
+    public int getIntervalos() { return intervalos; }
+    public double getMinutosPorIntervalo() { return minutosPorIntervalo; }
+    public int getNumeroOrigenes() { return origenes.length; }
+    public int getNumeroRefugios() { return refugios.length; }
+    public int origenEn(int i) { return origenes[i]; }
+    public int refugioEn(int j) { return refugios[j]; }
+    public long personasDe(int i) { return personas[i]; }
+    public long capacidadRefugioDe(int j) { return capacidadRefugio[j]; }
+}
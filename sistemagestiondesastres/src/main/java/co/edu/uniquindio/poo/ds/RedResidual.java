@@ -0,0 +1,136 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+
+/**
+ * Red residual sobre arreglos primitivos, compartida por los algoritmos de
+ * flujo ({@link FlujoMaximo}, {@link FlujoCostoMinimo}).
+ *
+ * <p>Los arcos se agregan en pares directo/inverso y luego se compilan en
+ * orden CSR: los arcos que salen de cada nodo quedan contiguos entre
+ * {@code inicio[v]} e {@code inicio[v + 1]}, y cada arco conoce la posición
+ * de su inverso. Después de compilar, los algoritmos trabajan directamente
+ * sobre los arreglos {@link #cabeza}, {@link #residual}, {@link #costo} e
+ * {@link #inverso}.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+class RedResidual {
+    /** Capacidad de los arcos sin límite */
+    static final long ILIMITADO = Long.MAX_VALUE / 4;
+
+    final int numeroNodos;
+
+    /** Arcos de cada nodo: posiciones {@code inicio[v]} a {@code inicio[v + 1] - 1} */
+    int[] inicio;
+
+    /** Nodo al que llega cada arco */
+    int[] cabeza;
+
+    /** Capacidad residual de cada arco */
+    long[] residual;
+
+    /** Costo unitario de cada arco (el inverso tiene el costo negado) */
+    double[] costo;
+
+    /** Posición del arco inverso de cada arco */
+    int[] inverso;
+
+    // Arcos agregados antes de compilar, en pares 2i directo / 2i+1 inverso
+    private int[] colaPar;
+    private int[] cabezaPar;
+    private long[] capacidadPar;
+    private double[] costoPar;
+    private int[] posicion;
+    private int arcos;
+
+    /**
+     * @param numeroNodos Número de nodos
+     * @param maxArcosDirectos Número máximo de arcos directos que se agregarán
+     */
+    RedResidual(int numeroNodos, int maxArcosDirectos) {
+        this.numeroNodos = numeroNodos;
+        int capacidad = 2 * maxArcosDirectos;
+        colaPar = new int[capacidad];
+        cabezaPar = new int[capacidad];
+        capacidadPar = new long[capacidad];
+        costoPar = new double[capacidad];
+    }
+
+    /**
+     * Agrega un arco directo con su inverso de capacidad cero.
+     *
+     * @return Identificador del arco, para {@link #posicionDe(int)}
+     */
+    int agregarArco(int u, int v, long capacidad, double costoUnitario) {
+        int id = arcos;
+        colaPar[arcos] = u;
+        cabezaPar[arcos] = v;
+        capacidadPar[arcos] = capacidad;
+        costoPar[arcos] = costoUnitario;
+        colaPar[arcos + 1] = v;
+        cabezaPar[arcos + 1] = u;
+        capacidadPar[arcos + 1] = 0;
+        costoPar[arcos + 1] = -costoUnitario;
+        arcos += 2;
+        return id;
+    }
+
+    /**
+     * Ordena los arcos en CSR. Después no se pueden agregar más arcos.
+     */
+    void compilar() {
+        inicio = new int[numeroNodos + 1];
+        for (int a = 0; a < arcos; a++) inicio[colaPar[a] + 1]++;
+        for (int v = 0; v < numeroNodos; v++) inicio[v + 1] += inicio[v];
+        posicion = new int[arcos];
+        int[] llenado = Arrays.copyOf(inicio, numeroNodos);
+        for (int a = 0; a < arcos; a++) posicion[a] = llenado[colaPar[a]]++;
+
+        cabeza = new int[arcos];
+        residual = new long[arcos];
+        costo = new double[arcos];
+        inverso = new int[arcos];
+        for (int a = 0; a < arcos; a++) {
+            int p = posicion[a];
+            cabeza[p] = cabezaPar[a];
+            residual[p] = capacidadPar[a];
+            costo[p] = costoPar[a];
+            inverso[p] = posicion[a ^ 1];
+        }
+        colaPar = null;
+        cabezaPar = null;
+        capacidadPar = null;
+        costoPar = null;
+    }
+
+    /**
+     * @param id Identificador devuelto por {@link #agregarArco}
+     * @return Posición CSR del arco directo
+     */
+    int posicionDe(int id) {
+        return posicion[id];
+    }
+
+    /**
+     * @param arco Posición CSR de un arco directo
+     * @return Flujo que circula por el arco
+     */
+    long flujoEn(int arco) {
+        return residual[inverso[arco]];
+    }
+
+    /**
+     * @param arco Posición CSR de un arco
+     * @return Nodo del que sale el arco
+     */
+    int colaDe(int arco) {
+        return cabeza[inverso[arco]];
+    }
+
+    int getNumeroArcos() {
+        return arcos;
+    }
+}
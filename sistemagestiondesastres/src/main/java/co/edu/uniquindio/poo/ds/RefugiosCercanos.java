@@ -0,0 +1,138 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.Arrays;
+
+/**
+ * Refugio alcanzable más cercano para cada zona del grafo.
+ *
+ * <p>Se calcula con un único Dijkstra de múltiples fuentes: todos los
+ * refugios entran a la cola con costo cero y la búsqueda avanza por las
+ * rutas entrantes (grafo invertido), de modo que el costo asentado en cada
+ * nodo es el de su mejor camino <em>hacia</em> algún refugio. Cada nodo
+ * guarda además la ruta por la que sale hacia ese refugio, con lo que el
+ * camino completo se reconstruye en tiempo proporcional a su longitud.</p>
+ *
+ * <p>El resultado es inmutable y corresponde al estado de las rutas en el
+ * momento del cálculo.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class RefugiosCercanos {
+    /** Grafo sobre el que se calculó el resultado */
+    private final GrafoCompacto compacto;
+
+    /** Índices de los refugios usados como fuentes */
+    private final int[] refugios;
+
+    /** Refugio más cercano de cada nodo, o -1 si no alcanza ninguno */
+    private final int[] refugio;
+
+    /** Costo hasta el refugio más cercano (infinito si no alcanza ninguno) */
+    private final double[] costo;
+
+    /** Ruta por la que se sale de cada nodo hacia su refugio, o -1 */
+    private final int[] siguiente;
+
+    private RefugiosCercanos(GrafoCompacto compacto, int[] refugios, int[] refugio, double[] costo, int[] siguiente) {
+        this.compacto = compacto;
+        this.refugios = refugios;
+        this.refugio = refugio;
+        this.costo = costo;
+        this.siguiente = siguiente;
+    }
+
+    /**
+     * Calcula el refugio más cercano de todos los nodos.
+     *
+     * @param grafo Grafo compacto
+     * @param refugios Índices de los nodos marcados como refugio
+     * @param metrica Métrica a minimizar
+     * @return Asignación de refugios
+     */
+    public static RefugiosCercanos calcular(GrafoCompacto grafo, int[] refugios, Metrica metrica) {
+        int n = grafo.getNumeroNodos();
+        double[] pesos = grafo.pesos(metrica);
+        int[] refugio = new int[n];
+        double[] costo = new double[n];
+        int[] siguiente = new int[n];
+        Arrays.fill(refugio, -1);
+        Arrays.fill(costo, Double.POSITIVE_INFINITY);
+        Arrays.fill(siguiente, -1);
+
+        MonticuloIndexado cola = EspacioBusqueda.atras(n).cola();
+        for (int r : refugios) {
+            if (costo[r] == 0.0) continue;
+            costo[r] = 0.0;
+            refugio[r] = r;
+            cola.insertarOActualizar(r, 0.0);
+        }
+
+        while (!cola.estaVacio()) {
+            double dx = cola.prioridadMinima();
+            int x = cola.extraerMinimo();
+            // Rutas u -> x: u puede llegar al refugio de x pasando por x
+            for (int p = grafo.inicioEntrantes(x); p < grafo.finEntrantes(x); p++) {
+                int e = grafo.aristaEntrante(p);
+                if (!grafo.rutaDe(e).estaDisponible()) continue;
+                int u = grafo.origenDe(e);
+                double nd = dx + pesos[e];
+                if (nd < costo[u]) {
+                    costo[u] = nd;
+                    refugio[u] = refugio[x];
+                    siguiente[u] = e;
+                    cola.insertarOActualizar(u, nd);
+                }
+            }
+        }
+        return new RefugiosCercanos(grafo, refugios.clone(), refugio, costo, siguiente);
+    }
+
+    /**
+     * @param nodo Índice del nodo
+     * @return Índice del refugio más cercano, o -1 si no alcanza ninguno
+     */
+    public int refugioDe(int nodo) {
+        return refugio[nodo];
+    }
+
+    /**
+     * @param nodo Índice del nodo
+     * @return Costo hasta el refugio más cercano, o infinito si no alcanza ninguno
+     */
+    public double costoHasta(int nodo) {
+        return costo[nodo];
+    }
+
+    public boolean alcanzaRefugio(int nodo) {
+        return refugio[nodo] >= 0;
+    }
+
+    /**
+     * Obtiene el camino desde un nodo hasta su refugio más cercano.
+     *
+     * @param nodo Índice del nodo de partida
+     * @return Camino en índices de rutas (sin rutas si el nodo es un refugio
+     *         o no alcanza ninguno; ver {@link CaminoCompacto#existe()})
+     */
+    public CaminoCompacto caminoDesde(int nodo) {
+        if (refugio[nodo] < 0 || refugio[nodo] == nodo) {
+            return new CaminoCompacto(null, costo[nodo], 0);
+        }
+        ListaEnteros camino = new ListaEnteros();
+        for (int x = nodo; siguiente[x] >= 0; x = compacto.destinoDe(siguiente[x])) camino.agregar(siguiente[x]);
+        return new CaminoCompacto(camino.aArreglo(), costo[nodo], 0);
+    }
+
+    /**
+     * @param refugiosActuales Índices de los refugios vigentes
+     * @return true si el resultado se calculó con exactamente esos refugios
+     */
+    boolean mismosRefugios(int[] refugiosActuales) {
+        return Arrays.equals(refugios, refugiosActuales);
+    }
+
+    public GrafoCompacto getCompacto() { return compacto; }
+    public int getNumeroRefugios() { return refugios.length; }
+}
@@ -0,0 +1,284 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import co.edu.uniquindio.poo.model.BandaRiesgo;
+import co.edu.uniquindio.poo.model.ObservadorZona;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Registro de zonas con búsqueda por identificador en O(1) e índices
+ * secundarios por nombre, por banda de riesgo, por estado de evacuación y
+ * por ubicación ({@link IndiceEspacial}).
+ *
+ * <p>El registro se suscribe a cada zona que contiene: cuando cambia su
+ * nombre, su nivel de riesgo, su estado de evacuación o sus coordenadas,
+ * la zona se retira de las entradas con que estaba indexada y se vuelve a
+ * indexar con sus valores nuevos, sin recorrer las demás zonas.</p>
+ *
+ * <p>Lecturas y escrituras se protegen con un candado de lectura/escritura;
+ * las consultas devuelven copias.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class RegistroZonas {
+    /** Índice primario: zona por identificador, en orden de registro */
+    private final Map<String, ZonaAfectada> porId = new LinkedHashMap<>();
+
+    /** Zonas por nombre exacto (el nombre es la clave de {@link MapaRecursos}) */
+    private final Map<String, Set<ZonaAfectada>> porNombre = new HashMap<>();
+
+    /** Zonas por banda de riesgo */
+    private final Map<BandaRiesgo, Set<ZonaAfectada>> porBanda = new EnumMap<>(BandaRiesgo.class);
+
+    /** Zonas evacuadas (true) y pendientes (false) */
+    private final Map<Boolean, Set<ZonaAfectada>> porEvacuacion = new HashMap<>();
+
+    /** Zonas por coordenadas */
+    private final IndiceEspacial espacial = new IndiceEspacial();
+
+    /** Claves con que quedó indexada cada zona, para retirarla al cambiar */
+    private final Map<String, Claves> indexadas = new HashMap<>();
+
+    /** Vista de solo lectura del índice primario */
+    private final Map<String, ZonaAfectada> vista = Collections.unmodifiableMap(porId);
+
+    private final ObservadorZona observador = this::zonaCambiada;
+
+    private final ReadWriteLock candado = new ReentrantReadWriteLock();
+
+    public RegistroZonas() {
+        for (BandaRiesgo banda : BandaRiesgo.values()) porBanda.put(banda, new LinkedHashSet<>());
+        porEvacuacion.put(Boolean.TRUE, new LinkedHashSet<>());
+        porEvacuacion.put(Boolean.FALSE, new LinkedHashSet<>());
+    }
+
+    /**
+     * Registra una zona si no hay otra con su identificador.
+     *
+     * @param zona Zona a registrar
+     * @return true si se registró, false si el identificador ya existía
+     */
+    public boolean agregar(ZonaAfectada zona) {
+        candado.writeLock().lock();
+        try {
+            if (porId.containsKey(zona.getId())) return false;
+            porId.put(zona.getId(), zona);
+            indexar(zona);
+        } finally {
+            candado.writeLock().unlock();
+        }
+        zona.agregarObservador(observador);
+        return true;
+    }
+
+    /**
+     * Retira una zona del registro y de todos los índices.
+     *
+     * @param id Identificador de la zona
+     * @return Zona retirada, o null si no estaba registrada
+     */
+    public ZonaAfectada eliminar(String id) {
+        ZonaAfectada zona;
+        candado.writeLock().lock();
+        try {
+            zona = porId.remove(id);
+            if (zona == null) return null;
+            desindexar(zona);
+        } finally {
+            candado.writeLock().unlock();
+        }
+        zona.removerObservador(observador);
+        return zona;
+    }
+
+    /**
+     * @param id Identificador de la zona
+     * @return Zona registrada con ese identificador, o null
+     */
+    public ZonaAfectada obtener(String id) {
+        if (id == null) return null;
+        candado.readLock().lock();
+        try {
+            return porId.get(id);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    public boolean contiene(String id) {
+        return obtener(id) != null;
+    }
+
+    /**
+     * @param nombre Nombre exacto de la zona
+     * @return Zonas con ese nombre (vacía si no hay)
+     */
+    public List<ZonaAfectada> buscarPorNombre(String nombre) {
+        candado.readLock().lock();
+        try {
+            return copia(porNombre.get(nombre));
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param banda Banda de riesgo
+     * @return Zonas cuyo nivel de riesgo cae en la banda
+     */
+    public List<ZonaAfectada> obtenerPorBanda(BandaRiesgo banda) {
+        candado.readLock().lock();
+        try {
+            return copia(porBanda.get(banda));
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param evacuada true para las zonas evacuadas, false para las pendientes
+     * @return Zonas en ese estado de evacuación
+     */
+    public List<ZonaAfectada> obtenerPorEvacuacion(boolean evacuada) {
+        candado.readLock().lock();
+        try {
+            return copia(porEvacuacion.get(evacuada));
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Zonas dentro del rectángulo de coordenadas (bordes incluidos)
+     */
+    public List<ZonaAfectada> buscarEnRectangulo(double minLat, double minLng, double maxLat, double maxLng) {
+        candado.readLock().lock();
+        try {
+            return espacial.buscarEnRectangulo(minLat, minLng, maxLat, maxLng);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Zonas a lo sumo a {@code radioKm} del punto, de la más cercana a la más lejana
+     */
+    public List<ZonaAfectada> buscarEnRadio(double lat, double lng, double radioKm) {
+        candado.readLock().lock();
+        try {
+            return espacial.buscarEnRadio(lat, lng, radioKm);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Las {@code k} zonas más cercanas al punto, de la más cercana a la más lejana
+     */
+    public List<ZonaAfectada> buscarMasCercanas(double lat, double lng, int k) {
+        candado.readLock().lock();
+        try {
+            return espacial.buscarMasCercanas(lat, lng, k);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Todas las zonas, en orden de registro
+     */
+    public List<ZonaAfectada> todas() {
+        candado.readLock().lock();
+        try {
+            return new ArrayList<>(porId.values());
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    public int tamano() {
+        candado.readLock().lock();
+        try {
+            return porId.size();
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Vista de solo lectura del índice primario, para quien necesita un
+     * {@code Map} (por ejemplo la construcción de {@link GrafoCompacto}).
+     * No toma el candado: debe usarse desde el mismo hilo que modifica.
+     *
+     * @return Mapa de zonas por identificador
+     */
+    public Map<String, ZonaAfectada> comoMapa() {
+        return vista;
+    }
+
+    private void zonaCambiada(ZonaAfectada zona) {
+        candado.writeLock().lock();
+        try {
+            if (porId.get(zona.getId()) != zona) return;
+            desindexar(zona);
+            indexar(zona);
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    private void indexar(ZonaAfectada zona) {
+        Claves claves = new Claves(zona.getNombre(), BandaRiesgo.de(zona.getNivelDeRiesgo()), zona.isEvacuada(),
+                zona.getLat(), zona.getLng());
+        indexadas.put(zona.getId(), claves);
+        porNombre.computeIfAbsent(claves.nombre, k -> new LinkedHashSet<>()).add(zona);
+        porBanda.get(claves.banda).add(zona);
+        porEvacuacion.get(claves.evacuada).add(zona);
+        espacial.insertar(zona, claves.lat, claves.lng);
+    }
+
+    private void desindexar(ZonaAfectada zona) {
+        Claves claves = indexadas.remove(zona.getId());
+        if (claves == null) return;
+        Set<ZonaAfectada> mismoNombre = porNombre.get(claves.nombre);
+        if (mismoNombre != null) {
+            mismoNombre.remove(zona);
+            if (mismoNombre.isEmpty()) porNombre.remove(claves.nombre);
+        }
+        porBanda.get(claves.banda).remove(zona);
+        porEvacuacion.get(claves.evacuada).remove(zona);
+        espacial.eliminar(zona, claves.lat, claves.lng);
+    }
+
+    private static List<ZonaAfectada> copia(Set<ZonaAfectada> zonas) {
+        return zonas == null ? new ArrayList<>() : new ArrayList<>(zonas);
+    }
+
+    private static class Claves {
+        final String nombre;
+        final BandaRiesgo banda;
+        final boolean evacuada;
+        final double lat;
+        final double lng;
+        Claves(String nombre, BandaRiesgo banda, boolean evacuada, double lat, double lng) {
+            this.nombre = nombre;
+            this.banda = banda;
+            this.evacuada = evacuada;
+            this.lat = lat;
+            this.lng = lng;
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Rutas y zonas críticas: puentes y puntos de articulación de la vista no
+ * dirigida del grafo (rutas disponibles en cualquier sentido), ponderados
+ * por la población que quedaría aislada.
+ *
+ * <p>Se guardan los bloques biconexos y, para cada zona, las piezas en que
+ * se parte su componente si se pierde la zona, cada una con su población, sus
+ * refugios y el bloque por el que se llega a ella. Un puente es un bloque de
+ * una sola ruta. La población aislada de un corte es la de las piezas que
+ * quedan sin refugio; si la componente no tiene refugios, la de todas las
+ * piezas menos la mayor.</p>
+ *
+ * <p>Los cambios se acumulan y se aplican al consultar. Cerrar una ruta que
+ * no es puente no cambia la conectividad, así que solo se recalcula su
+ * bloque: las demás zonas ven la misma población a cada lado. Abrir una ruta
+ * dentro de un bloque no cambia nada. Cerrar un puente, abrir una ruta entre
+ * bloques distintos o cambiar la población o los refugios de una zona
+ * recalcula solo las componentes involucradas. Con muchos cambios pendientes
+ * se recalcula todo de una vez.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class RutasCriticas {
+    /** Cambios pendientes a partir de los cuales se recalcula todo */
+    private static final int MAX_PENDIENTES = 64;
+
+    /**
+     * Ruta cuyo cierre parte su componente.
+     */
+    public static class Puente {
+        private final Ruta ruta;
+        private final long poblacionAislada;
+
+        Puente(Ruta ruta, long poblacionAislada) {
+            this.ruta = ruta;
+            this.poblacionAislada = poblacionAislada;
+        }
+
+        public Ruta getRuta() { return ruta; }
+        public long getPoblacionAislada() { return poblacionAislada; }
+    }
+
+    /**
+     * Zona cuya pérdida parte su componente.
+     */
+    public static class ZonaCritica {
+        private final String zonaId;
+        private final int piezas;
+        private final long poblacionAislada;
+
+        ZonaCritica(String zonaId, int piezas, long poblacionAislada) {
+            this.zonaId = zonaId;
+            this.piezas = piezas;
+            this.poblacionAislada = poblacionAislada;
+        }
+
+        public String getZonaId() { return zonaId; }
+        /** @return Partes en que queda la componente sin la zona */
+        public int getPiezas() { return piezas; }
+        public long getPoblacionAislada() { return poblacionAislada; }
+    }
+
+    /** Bloque biconexo: sus zonas y las rutas presentes entre ellas */
+    private static class Bloque {
+        final int componente;
+        final int[] nodos;
+        final List<Ruta> rutas = new ArrayList<>();
+        /** Población aislada si el bloque es un puente */
+        long poblacionAislada;
+
+        Bloque(int componente, int[] nodos) {
+            this.componente = componente;
+            this.nodos = nodos;
+        }
+    }
+
+    /** Parte que se separa de una zona al perderla, alcanzada por un bloque */
+    private static class Pieza {
+        final long poblacion;
+        final long refugios;
+        final Bloque via;
+
+        Pieza(long poblacion, long refugios, Bloque via) {
+            this.poblacion = poblacion;
+            this.refugios = refugios;
+            this.via = via;
+        }
+    }
+
+    /** Cambio pendiente: ruta habilitada o deshabilitada, o zona modificada */
+    private static class Cambio {
+        final Ruta ruta;
+        final boolean habilitada;
+        final String zonaId;
+
+        Cambio(Ruta ruta, boolean habilitada, String zonaId) {
+            this.ruta = ruta;
+            this.habilitada = habilitada;
+            this.zonaId = zonaId;
+        }
+    }
+
+    private final GrafoCompacto compacto;
+    private final Map<String, ZonaAfectada> zonas;
+    private final int n;
+    private final long[] poblacion;
+    private final boolean[] refugio;
+
+    /** Rutas presentes (disponibles, sin lazos) que tocan cada zona */
+    private final List<List<Ruta>> incidentes;
+    private final Set<Ruta> presentes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final Map<Ruta, Bloque> bloqueDeRuta = new IdentityHashMap<>();
+    private final List<List<Bloque>> bloquesDe;
+    private final List<List<Pieza>> piezasDe;
+    private final int[] componenteDe;
+    private final Map<Integer, int[]> nodosDeComponente = new HashMap<>();
+    private int siguienteComponente;
+
+    private final Set<Bloque> puentes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Integer> zonasDeCorte = new TreeSet<>();
+    private final List<Cambio> pendientes = new ArrayList<>();
+
+    /** Resultados ordenados; null si hay que rehacerlos */
+    private List<Puente> rankingPuentes;
+    private List<ZonaCritica> rankingZonas;
+
+    // Espacio de trabajo del recorrido en profundidad
+    private final int[] descubierto;
+    private final int[] bajo;
+    private final int[] padre;
+    private final int[] cursor;
+    private final int[] marca;
+    private final int[] enBloque;
+    private final int[] basePiezas;
+    private final long[] pesoPoblacion;
+    private final long[] pesoRefugios;
+    private final long[] sumaPoblacion;
+    private final long[] sumaRefugios;
+    private final Ruta[] rutaPadre;
+    private int marcaActual;
+    private int marcaBloque;
+
+    private int bloquesRecalculados;
+    private int componentesRecalculadas;
+    private int recalculosCompletos;
+
+    private RutasCriticas(GrafoCompacto compacto, Map<String, ZonaAfectada> zonas) {
+        this.compacto = compacto;
+        this.zonas = zonas;
+        this.n = compacto.getNumeroNodos();
+        this.poblacion = new long[n];
+        this.refugio = new boolean[n];
+        this.incidentes = new ArrayList<>(n);
+        this.bloquesDe = new ArrayList<>(n);
+        this.piezasDe = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            incidentes.add(new ArrayList<>());
+            bloquesDe.add(new ArrayList<>());
+            piezasDe.add(new ArrayList<>());
+            leerZona(i);
+        }
+        this.componenteDe = new int[n];
+        this.descubierto = new int[n];
+        this.bajo = new int[n];
+        this.padre = new int[n];
+        this.cursor = new int[n];
+        this.marca = new int[n];
+        this.enBloque = new int[n];
+        this.basePiezas = new int[n];
+        this.pesoPoblacion = new long[n];
+        this.pesoRefugios = new long[n];
+        this.sumaPoblacion = new long[n];
+        this.sumaRefugios = new long[n];
+        this.rutaPadre = new Ruta[n];
+
+        for (int e = 0; e < compacto.getNumeroAristas(); e++) {
+            Ruta ruta = compacto.rutaDe(e);
+            int u = compacto.origenDe(e), v = compacto.destinoDe(e);
+            if (u == v || !ruta.estaDisponible()) continue;
+            presentes.add(ruta);
+            incidentes.get(u).add(ruta);
+            incidentes.get(v).add(ruta);
+        }
+    }
+
+    /**
+     * Calcula los puentes y zonas de corte del grafo.
+     *
+     * @param compacto Representación compacta (define los índices de zona)
+     * @param zonas Zonas por id, de donde se leen población y refugios
+     * @return Análisis listo para consultar
+     */
+    public static RutasCriticas calcular(GrafoCompacto compacto, Map<String, ZonaAfectada> zonas) {
+        RutasCriticas criticas = new RutasCriticas(compacto, zonas);
+        criticas.recalcularTodo();
+        criticas.ordenar();
+        return criticas;
+    }
+
+    private boolean leerZona(int nodo) {
+        String id = compacto.idDe(nodo);
+        ZonaAfectada zona = id != null ? zonas.get(id) : null;
+        long p = zona != null ? Math.max(0, zona.getPoblacion()) : 0;
+        boolean r = zona != null && zona.isRefugio();
+        boolean cambio = p != poblacion[nodo] || r != refugio[nodo];
+        poblacion[nodo] = p;
+        refugio[nodo] = r;
+        return cambio;
+    }
+
+    // ---- Cambios ----
+
+    /** Registra una ruta que quedó disponible (nueva o reabierta). */
+    public void rutaHabilitada(Ruta ruta) {
+        pendientes.add(new Cambio(ruta, true, null));
+    }
+
+    /** Registra una ruta que dejó de estar disponible (bloqueada o eliminada). */
+    public void rutaDeshabilitada(Ruta ruta) {
+        pendientes.add(new Cambio(ruta, false, null));
+    }
+
+    /** Registra un posible cambio de población o de refugio en una zona. */
+    public void zonaCambiada(String zonaId) {
+        pendientes.add(new Cambio(null, false, zonaId));
+    }
+
+    /**
+     * Aplica los cambios pendientes y deja ordenados los resultados.
+     */
+    public void actualizar() {
+        if (pendientes.isEmpty()) return;
+        if (pendientes.size() > MAX_PENDIENTES) {
+            for (Cambio cambio : pendientes) {
+                if (cambio.ruta != null) actualizarIncidencia(cambio.ruta, cambio.habilitada);
+            }
+            for (int i = 0; i < n; i++) leerZona(i);
+            recalcularTodo();
+        } else {
+            for (Cambio cambio : pendientes) aplicar(cambio);
+        }
+        pendientes.clear();
+        ordenar();
+    }
+
+    /**
+     * Agrega o quita la ruta de la vista no dirigida.
+     *
+     * @return true si la vista cambió
+     */
+    private boolean actualizarIncidencia(Ruta ruta, boolean habilitada) {
+        int u = compacto.indiceDe(ruta.getOrigenId());
+        int v = compacto.indiceDe(ruta.getDestinoId());
+        if (u < 0 || v < 0 || u == v) return false;
+        if (habilitada) {
+            if (!presentes.add(ruta)) return false;
+            incidentes.get(u).add(ruta);
+            incidentes.get(v).add(ruta);
+        } else {
+            if (!presentes.remove(ruta)) return false;
+            incidentes.get(u).remove(ruta);
+            incidentes.get(v).remove(ruta);
+        }
+        return true;
+    }
+
+    private void aplicar(Cambio cambio) {
+        if (cambio.ruta == null) {
+            int nodo = compacto.indiceDe(cambio.zonaId);
+            if (nodo >= 0 && leerZona(nodo)) recalcularComponentes(componenteDe[nodo], componenteDe[nodo]);
+            return;
+        }
+        Ruta ruta = cambio.ruta;
+        if (!actualizarIncidencia(ruta, cambio.habilitada)) return;
+        int u = compacto.indiceDe(ruta.getOrigenId());
+        int v = compacto.indiceDe(ruta.getDestinoId());
+
+        if (cambio.habilitada) {
+            // Dentro de un bloque la ruta solo se suma a él
+            Bloque comun = bloqueComun(u, v);
+            if (comun != null) {
+                comun.rutas.add(ruta);
+                bloqueDeRuta.put(ruta, comun);
+                puentes.remove(comun);
+                return;
+            }
+            recalcularComponentes(componenteDe[u], componenteDe[v]);
+            return;
+        }
+
+        Bloque bloque = bloqueDeRuta.remove(ruta);
+        bloque.rutas.remove(ruta);
+        if (bloque.rutas.isEmpty()) {
+            recalcularComponentes(bloque.componente, bloque.componente);
+        } else {
+            recalcularBloque(bloque);
+        }
+    }
+
+    private Bloque bloqueComun(int u, int v) {
+        for (Bloque a : bloquesDe.get(u)) {
+            for (Bloque b : bloquesDe.get(v)) {
+                if (a == b) return a;
+            }
+        }
+        return null;
+    }
+
+    // ---- Recálculo ----
+
+    private void recalcularTodo() {
+        bloqueDeRuta.clear();
+        puentes.clear();
+        zonasDeCorte.clear();
+        nodosDeComponente.clear();
+        int[] todos = new int[n];
+        for (int i = 0; i < n; i++) {
+            todos[i] = i;
+            bloquesDe.get(i).clear();
+            piezasDe.get(i).clear();
+        }
+        descomponer(todos, -1);
+        recalculosCompletos++;
+    }
+
+    private void recalcularComponentes(int a, int b) {
+        int[] nodosA = nodosDeComponente.remove(a);
+        int[] nodosB = a != b ? nodosDeComponente.remove(b) : null;
+        int[] nodos = nodosA;
+        if (nodosB != null) {
+            nodos = java.util.Arrays.copyOf(nodosA, nodosA.length + nodosB.length);
+            System.arraycopy(nodosB, 0, nodos, nodosA.length, nodosB.length);
+        }
+        for (int x : nodos) {
+            for (Bloque bloque : bloquesDe.get(x)) {
+                for (Ruta ruta : bloque.rutas) bloqueDeRuta.remove(ruta);
+                puentes.remove(bloque);
+            }
+            bloquesDe.get(x).clear();
+            piezasDe.get(x).clear();
+        }
+        descomponer(nodos, -1);
+        componentesRecalculadas++;
+    }
+
+    private void recalcularBloque(Bloque bloque) {
+        for (int x : bloque.nodos) {
+            bloquesDe.get(x).remove(bloque);
+            piezasDe.get(x).removeIf(p -> p.via == bloque);
+        }
+        for (Ruta ruta : bloque.rutas) bloqueDeRuta.remove(ruta);
+        puentes.remove(bloque);
+        descomponer(bloque.nodos, bloque.componente);
+        bloquesRecalculados++;
+    }
+
+    /**
+     * Descompone en bloques los nodos dados con las rutas presentes entre
+     * ellos (Hopcroft-Tarjan iterativo con pila de rutas). Las piezas que ya
+     * tengan los nodos se toman como partes externas: cuentan en su peso y se
+     * conservan.
+     *
+     * @param nodos Nodos a descomponer
+     * @param componente Componente de todos los nodos (un bloque que no se
+     *                   desconecta), o -1 para asignar una por cada árbol
+     */
+    private void descomponer(int[] nodos, int componente) {
+        if (++marcaActual == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(marca, 0);
+            marcaActual = 1;
+        }
+        for (int x : nodos) {
+            marca[x] = marcaActual;
+            descubierto[x] = -1;
+            basePiezas[x] = piezasDe.get(x).size();
+            long p = poblacion[x], r = refugio[x] ? 1 : 0;
+            for (Pieza pieza : piezasDe.get(x)) {
+                p += pieza.poblacion;
+                r += pieza.refugios;
+            }
+            pesoPoblacion[x] = p;
+            pesoRefugios[x] = r;
+        }
+
+        ListaEnteros pila = new ListaEnteros();
+        ListaEnteros visitados = new ListaEnteros();
+        List<Ruta> pilaRutas = new ArrayList<>();
+        List<Bloque> nuevos = new ArrayList<>();
+        int tiempo = 0;
+        for (int raiz : nodos) {
+            if (descubierto[raiz] >= 0) continue;
+            int comp = componente >= 0 ? componente : siguienteComponente++;
+            visitados.limpiar();
+            nuevos.clear();
+            iniciar(raiz, null, -1, tiempo++);
+            pila.agregar(raiz);
+            visitados.agregar(raiz);
+
+            while (pila.tamano() > 0) {
+                int x = pila.obtener(pila.tamano() - 1);
+                List<Ruta> inc = incidentes.get(x);
+                if (cursor[x] < inc.size()) {
+                    Ruta ruta = inc.get(cursor[x]++);
+                    if (ruta == rutaPadre[x]) continue;
+                    int y = otroExtremo(ruta, x);
+                    if (marca[y] != marcaActual) continue;
+                    if (descubierto[y] < 0) {
+                        pilaRutas.add(ruta);
+                        iniciar(y, ruta, x, tiempo++);
+                        pila.agregar(y);
+                        visitados.agregar(y);
+                    } else if (descubierto[y] < descubierto[x]) {
+                        pilaRutas.add(ruta);
+                        bajo[x] = Math.min(bajo[x], descubierto[y]);
+                    }
+                    continue;
+                }
+
+                pila.quitarUltimo();
+                if (pila.tamano() == 0) break;
+                int p = padre[x];
+                bajo[p] = Math.min(bajo[p], bajo[x]);
+                sumaPoblacion[p] += sumaPoblacion[x];
+                sumaRefugios[p] += sumaRefugios[x];
+                if (bajo[x] >= descubierto[p]) {
+                    Bloque bloque = cerrarBloque(comp, pilaRutas, rutaPadre[x]);
+                    bloque.poblacionAislada = sumaPoblacion[x];
+                    nuevos.add(bloque);
+                    piezasDe.get(p).add(new Pieza(sumaPoblacion[x], sumaRefugios[x], bloque));
+                }
+            }
+
+            // Con el total del árbol, la pieza hacia el padre y el peso de los puentes
+            long total = sumaPoblacion[raiz], totalRefugios = sumaRefugios[raiz];
+            int[] miembros = visitados.aArreglo();
+            for (int y : miembros) {
+                if (componente < 0) componenteDe[y] = comp;
+                if (y == raiz) continue;
+                long p = total - pesoPoblacion[y], r = totalRefugios - pesoRefugios[y];
+                List<Pieza> piezas = piezasDe.get(y);
+                for (int k = basePiezas[y]; k < piezas.size(); k++) {
+                    p -= piezas.get(k).poblacion;
+                    r -= piezas.get(k).refugios;
+                }
+                piezas.add(new Pieza(p, r, bloqueDeRuta.get(rutaPadre[y])));
+            }
+            for (Bloque bloque : nuevos) {
+                if (bloque.rutas.size() != 1) continue;
+                long lado = bloque.poblacionAislada;
+                int hijo = hijoDelPuente(bloque);
+                bloque.poblacionAislada = aislada(lado, sumaRefugios[hijo], total - lado, totalRefugios - sumaRefugios[hijo]);
+                puentes.add(bloque);
+            }
+            for (int y : miembros) {
+                if (piezasDe.get(y).size() >= 2) zonasDeCorte.add(y);
+                else zonasDeCorte.remove(y);
+            }
+            if (componente < 0) nodosDeComponente.put(comp, miembros);
+        }
+    }
+
+    private void iniciar(int x, Ruta desde, int p, int tiempo) {
+        descubierto[x] = bajo[x] = tiempo;
+        rutaPadre[x] = desde;
+        padre[x] = p;
+        cursor[x] = 0;
+        sumaPoblacion[x] = pesoPoblacion[x];
+        sumaRefugios[x] = pesoRefugios[x];
+    }
+
+    private Bloque cerrarBloque(int componente, List<Ruta> pilaRutas, Ruta hasta) {
+        if (++marcaBloque == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(enBloque, 0);
+            marcaBloque = 1;
+        }
+        ListaEnteros nodos = new ListaEnteros();
+        List<Ruta> rutas = new ArrayList<>();
+        Ruta ruta;
+        do {
+            ruta = pilaRutas.remove(pilaRutas.size() - 1);
+            rutas.add(ruta);
+            for (String id : new String[] {ruta.getOrigenId(), ruta.getDestinoId()}) {
+                int x = compacto.indiceDe(id);
+                if (enBloque[x] != marcaBloque) {
+                    enBloque[x] = marcaBloque;
+                    nodos.agregar(x);
+                }
+            }
+        } while (ruta != hasta);
+
+        Bloque bloque = new Bloque(componente, nodos.aArreglo());
+        bloque.rutas.addAll(rutas);
+        for (Ruta r : rutas) bloqueDeRuta.put(r, bloque);
+        for (int x : bloque.nodos) bloquesDe.get(x).add(bloque);
+        return bloque;
+    }
+
+    /** Extremo de un puente más lejano de la raíz del recorrido */
+    private int hijoDelPuente(Bloque puente) {
+        int a = puente.nodos[0], b = puente.nodos[1];
+        return descubierto[a] > descubierto[b] ? a : b;
+    }
+
+    private int otroExtremo(Ruta ruta, int x) {
+        int u = compacto.indiceDe(ruta.getOrigenId());
+        return u != x ? u : compacto.indiceDe(ruta.getDestinoId());
+    }
+
+    /**
+     * Población aislada entre dos lados: la del lado sin refugios, o la del
+     * menor si ninguno tiene.
+     */
+    private static long aislada(long poblacionA, long refugiosA, long poblacionB, long refugiosB) {
+        if (refugiosA + refugiosB == 0) return Math.min(poblacionA, poblacionB);
+        return (refugiosA == 0 ? poblacionA : 0) + (refugiosB == 0 ? poblacionB : 0);
+    }
+
+    private static long aislada(List<Pieza> piezas) {
+        long refugios = 0, total = 0, mayor = 0, sinRefugio = 0;
+        for (Pieza pieza : piezas) {
+            refugios += pieza.refugios;
+            total += pieza.poblacion;
+            mayor = Math.max(mayor, pieza.poblacion);
+            if (pieza.refugios == 0) sinRefugio += pieza.poblacion;
+        }
+        return refugios > 0 ? sinRefugio : total - mayor;
+    }
+
+    private void ordenar() {
+        List<Puente> listaPuentes = new ArrayList<>(puentes.size());
+        for (Bloque bloque : puentes) listaPuentes.add(new Puente(bloque.rutas.get(0), bloque.poblacionAislada));
+        listaPuentes.sort(Comparator.comparingLong(Puente::getPoblacionAislada).reversed());
+        rankingPuentes = Collections.unmodifiableList(listaPuentes);
+
+        List<ZonaCritica> listaZonas = new ArrayList<>(zonasDeCorte.size());
+        for (int x : zonasDeCorte) {
+            listaZonas.add(new ZonaCritica(compacto.idDe(x), piezasDe.get(x).size(), aislada(piezasDe.get(x))));
+        }
+        listaZonas.sort(Comparator.comparingLong(ZonaCritica::getPoblacionAislada).reversed());
+        rankingZonas = Collections.unmodifiableList(listaZonas);
+    }
+
+    // ---- Consultas ----
+
+    /** @return Puentes de mayor a menor población aislada (al último {@link #actualizar()}) */
+    public List<Puente> getPuentes() { return rankingPuentes; }
+
+    /** @return Zonas de corte de mayor a menor población aislada (al último {@link #actualizar()}) */
+    public List<ZonaCritica> getZonasDeCorte() { return rankingZonas; }
+
+    public int getBloquesRecalculados() { return bloquesRecalculados; }
+    public int getComponentesRecalculadas() { return componentesRecalculadas; }
+    public int getRecalculosCompletos() { return recalculosCompletos; }
+    public GrafoCompacto getCompacto() { return compacto; }
+}
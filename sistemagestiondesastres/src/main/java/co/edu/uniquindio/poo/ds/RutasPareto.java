@@ -0,0 +1,226 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Frente de Pareto de caminos entre dos zonas según tres criterios: tiempo
+ * (menor), distancia (menor) y capacidad del cuello de botella, es decir la
+ * menor capacidad de las rutas del camino (mayor).
+ *
+ * <p>Es una búsqueda de etiquetas multiobjetivo: cada etiqueta es un camino
+ * parcial con sus tres valores y se extiende en orden lexicográfico de
+ * (tiempo, distancia, -capacidad) más las cotas hasta el destino. Con ese
+ * orden una etiqueta que sale de la cola ya no puede ser dominada por otra
+ * posterior del mismo nodo, así que queda permanente. Se descartan las
+ * etiquetas dominadas por alguna permanente del mismo nodo y las que, aun
+ * sumando el menor tiempo y la menor distancia que faltan hasta el destino,
+ * quedarían dominadas por un camino ya encontrado. Las cotas salen de dos
+ * Dijkstra hacia atrás desde el destino.</p>
+ *
+ * <p>Los caminos con los mismos tres valores se reportan una sola vez. Si se
+ * alcanza el límite de etiquetas la búsqueda se detiene y el frente puede
+ * quedar incompleto (ver {@link #isCompleto()}).</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class RutasPareto {
+    /** Límite de etiquetas creadas por búsqueda */
+    public static final int MAX_ETIQUETAS = 200_000;
+
+    /**
+     * Camino no dominado del frente.
+     */
+    public static class Opcion {
+        private final int[] aristas;
+        private final double tiempo;
+        private final double distancia;
+        private final int capacidad;
+
+        Opcion(int[] aristas, double tiempo, double distancia, int capacidad) {
+            this.aristas = aristas;
+            this.tiempo = tiempo;
+            this.distancia = distancia;
+            this.capacidad = capacidad;
+        }
+
+        /** @return Índices de las rutas del camino, en orden */
+        public int[] getAristas() { return aristas; }
+        public double getTiempo() { return tiempo; }
+        public double getDistancia() { return distancia; }
+        /** @return Menor capacidad del camino ({@link Integer#MAX_VALUE} si está vacío) */
+        public int getCapacidad() { return capacidad; }
+    }
+
+    private final GrafoCompacto g;
+    private final List<Opcion> opciones;
+    private final int etiquetas;
+    private final boolean completo;
+
+    private RutasPareto(GrafoCompacto g, List<Opcion> opciones, int etiquetas, boolean completo) {
+        this.g = g;
+        this.opciones = opciones;
+        this.etiquetas = etiquetas;
+        this.completo = completo;
+    }
+
+    /**
+     * Calcula el frente de Pareto entre dos nodos por rutas disponibles.
+     *
+     * @param g Grafo compacto
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @return Frente ordenado por tiempo (vacío si no hay camino)
+     */
+    public static RutasPareto calcular(GrafoCompacto g, int origen, int destino) {
+        return calcular(g, origen, destino, MAX_ETIQUETAS);
+    }
+
+    /**
+     * Calcula el frente de Pareto con un límite de etiquetas.
+     *
+     * @param g Grafo compacto
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @param maxEtiquetas Etiquetas que pueden crearse antes de detenerse
+     * @return Frente ordenado por tiempo (vacío si no hay camino)
+     */
+    public static RutasPareto calcular(GrafoCompacto g, int origen, int destino, int maxEtiquetas) {
+        Busqueda busqueda = new Busqueda(g, origen, destino, maxEtiquetas);
+        busqueda.ejecutar();
+        return new RutasPareto(g, busqueda.opciones(), busqueda.tamano, busqueda.completo);
+    }
+
+    /** @return Caminos no dominados, de menor a mayor tiempo */
+    public List<Opcion> getOpciones() { return opciones; }
+
+    /** @return Etiquetas creadas durante la búsqueda */
+    public int getEtiquetas() { return etiquetas; }
+
+    /** @return false si la búsqueda se detuvo por el límite de etiquetas */
+    public boolean isCompleto() { return completo; }
+
+    public GrafoCompacto getCompacto() { return g; }
+
+    /** Estado de una búsqueda: etiquetas en arreglos paralelos que crecen */
+    private static class Busqueda {
+        final GrafoCompacto g;
+        final int origen;
+        final int destino;
+        final int maxEtiquetas;
+        final double[] cotaTiempo;
+        final double[] cotaDistancia;
+        /** Etiquetas permanentes de cada nodo */
+        final ListaEnteros[] permanentes;
+
+        double[] tiempo = new double[64];
+        double[] distancia = new double[64];
+        int[] capacidad = new int[64];
+        int[] nodo = new int[64];
+        int[] arista = new int[64];
+        int[] padre = new int[64];
+        int tamano;
+        boolean completo = true;
+
+        Busqueda(GrafoCompacto g, int origen, int destino, int maxEtiquetas) {
+            this.g = g;
+            this.origen = origen;
+            this.destino = destino;
+            this.maxEtiquetas = maxEtiquetas;
+            this.cotaTiempo = g.distanciasHacia(destino, Metrica.TIEMPO);
+            this.cotaDistancia = g.distanciasHacia(destino, Metrica.DISTANCIA);
+            this.permanentes = new ListaEnteros[g.getNumeroNodos()];
+        }
+
+        void ejecutar() {
+            if (Double.isInfinite(cotaTiempo[origen])) return;
+
+            PriorityQueue<Integer> cola = new PriorityQueue<>(
+                    Comparator.<Integer>comparingDouble(l -> tiempo[l] + cotaTiempo[nodo[l]])
+                            .thenComparingDouble(l -> distancia[l] + cotaDistancia[nodo[l]])
+                            .thenComparingInt(l -> -capacidad[l]));
+            cola.add(crear(origen, -1, -1, 0.0, 0.0, Integer.MAX_VALUE));
+            while (!cola.isEmpty()) {
+                int l = cola.poll();
+                int u = nodo[l];
+                // Pudo quedar dominada después de entrar a la cola
+                if (dominada(permanentes[u], tiempo[l], distancia[l], capacidad[l])) continue;
+                if (u != destino && dominada(permanentes[destino],
+                        tiempo[l] + cotaTiempo[u], distancia[l] + cotaDistancia[u], capacidad[l])) continue;
+                if (permanentes[u] == null) permanentes[u] = new ListaEnteros();
+                permanentes[u].agregar(l);
+                if (u == destino) continue;
+
+                for (int e = g.inicioAristas(u); e < g.finAristas(u); e++) {
+                    if (!g.rutaDe(e).estaDisponible()) continue;
+                    int v = g.destinoDe(e);
+                    if (Double.isInfinite(cotaTiempo[v])) continue;
+                    double t = tiempo[l] + g.tiempoDe(e);
+                    double d = distancia[l] + g.distanciaDe(e);
+                    int c = Math.min(capacidad[l], g.rutaDe(e).getCapacidad());
+                    if (dominada(permanentes[v], t, d, c)) continue;
+                    if (v != destino && dominada(permanentes[destino],
+                            t + cotaTiempo[v], d + cotaDistancia[v], c)) continue;
+                    if (tamano >= maxEtiquetas) {
+                        completo = false;
+                        return;
+                    }
+                    cola.add(crear(v, e, l, t, d, c));
+                }
+            }
+        }
+
+        /** Dominancia débil: alguna etiqueta es igual o mejor en los tres criterios */
+        boolean dominada(ListaEnteros bolsa, double t, double d, int c) {
+            if (bolsa == null) return false;
+            for (int i = 0; i < bolsa.tamano(); i++) {
+                int k = bolsa.obtener(i);
+                if (tiempo[k] <= t && distancia[k] <= d && capacidad[k] >= c) return true;
+            }
+            return false;
+        }
+
+        int crear(int v, int e, int p, double t, double d, int c) {
+            if (tamano == tiempo.length) {
+                int n = tamano * 2;
+                tiempo = Arrays.copyOf(tiempo, n);
+                distancia = Arrays.copyOf(distancia, n);
+                capacidad = Arrays.copyOf(capacidad, n);
+                nodo = Arrays.copyOf(nodo, n);
+                arista = Arrays.copyOf(arista, n);
+                padre = Arrays.copyOf(padre, n);
+            }
+            tiempo[tamano] = t;
+            distancia[tamano] = d;
+            capacidad[tamano] = c;
+            nodo[tamano] = v;
+            arista[tamano] = e;
+            padre[tamano] = p;
+            return tamano++;
+        }
+
+        /** Reconstruye los caminos de las etiquetas permanentes del destino */
+        List<Opcion> opciones() {
+            ListaEnteros bolsa = permanentes[destino];
+            if (bolsa == null) return Collections.emptyList();
+            List<Opcion> lista = new ArrayList<>(bolsa.tamano());
+            ListaEnteros camino = new ListaEnteros();
+            for (int i = 0; i < bolsa.tamano(); i++) {
+                int l = bolsa.obtener(i);
+                camino.limpiar();
+                for (int k = l; arista[k] >= 0; k = padre[k]) camino.agregar(arista[k]);
+                int[] aristas = new int[camino.tamano()];
+                for (int j = 0; j < aristas.length; j++) aristas[j] = camino.obtener(aristas.length - 1 - j);
+                lista.add(new Opcion(aristas, tiempo[l], distancia[l], capacidad[l]));
+            }
+            // Salen de la cola en orden de tiempo: la lista ya está ordenada
+            return Collections.unmodifiableList(lista);
+        }
+    }
+}
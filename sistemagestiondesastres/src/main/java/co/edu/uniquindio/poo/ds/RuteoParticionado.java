@@ -0,0 +1,427 @@
+package co.edu.uniquindio.poo.ds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Consultas de caminos mínimos repartidas por regiones de una
+ * {@link ParticionGrafo}, unidas por un grafo de superposición entre nodos
+ * de frontera.
+ *
+ * <p>Un nodo es de frontera si tiene alguna ruta hacia o desde otra parte.
+ * La superposición tiene un nodo por cada uno y dos clases de arcos: las
+ * rutas que cruzan entre partes y, dentro de cada parte, un atajo entre
+ * cada par de nodos de frontera con el costo del camino mínimo que no sale
+ * de la parte. Cada parte calcula sus atajos por separado (un trabajador por
+ * parte en el pool común), sin leer datos de las demás.</p>
+ *
+ * <p>Los arcos dependen solo de la topología; la disponibilidad de las
+ * rutas entra en los costos (infinito si no hay camino dentro de la parte o
+ * la ruta de corte está bloqueada). {@link #actualizar(int[])} reutiliza la
+ * estructura y recalcula solo los atajos de las partes con rutas cambiadas.</p>
+ *
+ * <p>Una consulta ejecuta dos búsquedas locales en paralelo (desde el origen
+ * dentro de su parte y hacia el destino dentro de la suya), un Dijkstra
+ * sobre la superposición que arranca en las fronteras del origen y termina
+ * en las del destino, y finalmente expande cada atajo del resultado con una
+ * búsqueda local en su parte. Todo camino entre partes se descompone en
+ * tramos internos separados por rutas de corte, así que el costo coincide
+ * con el de Dijkstra sobre el grafo completo.</p>
+ *
+ * <p>La superposición refleja la disponibilidad de las rutas al construirse o
+ * actualizarse; {@link GrafoDirigido} le indica qué rutas cambiaron.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class RuteoParticionado {
+    /**
+     * Árbol de caminos mínimos limitado a una parte, con índices locales.
+     */
+    private static class ArbolLocal {
+        final double[] costo;
+        /** Ruta que llega (o sale, si es hacia el destino) de cada nodo en el árbol */
+        final int[] previa;
+        int asentados;
+
+        ArbolLocal(int tamano) {
+            costo = new double[tamano];
+            previa = new int[tamano];
+            Arrays.fill(costo, Double.POSITIVE_INFINITY);
+            Arrays.fill(previa, -1);
+        }
+    }
+
+    private final ParticionGrafo particion;
+    private final GrafoCompacto g;
+    private final Metrica metrica;
+    private final double[] pesos;
+    /** Índice de cada nodo dentro de su parte */
+    private final int[] local;
+    /** Nodos de cada parte, por índice local */
+    private final int[][] nodosParte;
+    /** Índice en la superposición de cada nodo de frontera, o -1 */
+    private final int[] frontera;
+    /** Nodo del grafo de cada nodo de la superposición */
+    private final int[] nodosFrontera;
+    /** Nodos de frontera (índices de superposición) de cada parte */
+    private final int[][] fronterasParte;
+    // Superposición en formato CSR; arista -1 indica un atajo dentro de la parte
+    private final int[] inicioSup;
+    private final int[] destinoSup;
+    private final double[] costoSup;
+    private final int[] aristaSup;
+    /** Partes cuyos atajos se calcularon al crear esta superposición */
+    private final int partesRecalculadas;
+
+    private RuteoParticionado(ParticionGrafo particion, Metrica metrica) {
+        this.particion = particion;
+        this.g = particion.getCompacto();
+        this.metrica = metrica;
+        this.pesos = g.pesos(metrica);
+        int n = g.getNumeroNodos();
+        int k = particion.getPartes();
+
+        local = new int[n];
+        int[] llenos = new int[k];
+        nodosParte = new int[k][];
+        for (int p = 0; p < k; p++) nodosParte[p] = new int[particion.getTamano(p)];
+        for (int u = 0; u < n; u++) {
+            int p = particion.parteDe(u);
+            local[u] = llenos[p];
+            nodosParte[p][llenos[p]++] = u;
+        }
+
+        frontera = new int[n];
+        Arrays.fill(frontera, -1);
+        ListaEnteros fronteras = new ListaEnteros();
+        ListaEnteros[] porParte = new ListaEnteros[k];
+        for (int p = 0; p < k; p++) porParte[p] = new ListaEnteros();
+        for (int u = 0; u < n; u++) {
+            for (int e = g.inicioAristas(u); e < g.finAristas(u); e++) {
+                int v = g.destinoDe(e);
+                if (particion.parteDe(v) == particion.parteDe(u)) continue;
+                for (int x : new int[] {u, v}) {
+                    if (frontera[x] >= 0) continue;
+                    frontera[x] = fronteras.tamano();
+                    fronteras.agregar(x);
+                    porParte[particion.parteDe(x)].agregar(frontera[x]);
+                }
+            }
+        }
+        nodosFrontera = fronteras.aArreglo();
+        fronterasParte = new int[k][];
+        for (int p = 0; p < k; p++) fronterasParte[p] = porParte[p].aArreglo();
+
+        // Estructura de la superposición: un atajo hacia cada otra frontera de
+        // la parte y cada ruta de corte, estén o no disponibles
+        inicioSup = new int[nodosFrontera.length + 1];
+        int total = 0;
+        for (int i = 0; i < nodosFrontera.length; i++) {
+            inicioSup[i] = total;
+            int b = nodosFrontera[i];
+            total += fronterasParte[particion.parteDe(b)].length - 1;
+            for (int e = g.inicioAristas(b); e < g.finAristas(b); e++) {
+                if (particion.parteDe(g.destinoDe(e)) != particion.parteDe(b)) total++;
+            }
+        }
+        inicioSup[nodosFrontera.length] = total;
+        destinoSup = new int[total];
+        aristaSup = new int[total];
+        for (int i = 0; i < nodosFrontera.length; i++) {
+            int a = inicioSup[i];
+            int b = nodosFrontera[i];
+            int p = particion.parteDe(b);
+            for (int j : fronterasParte[p]) {
+                if (j == i) continue;
+                destinoSup[a] = j;
+                aristaSup[a++] = -1;
+            }
+            for (int e = g.inicioAristas(b); e < g.finAristas(b); e++) {
+                int v = g.destinoDe(e);
+                if (particion.parteDe(v) == p) continue;
+                destinoSup[a] = frontera[v];
+                aristaSup[a++] = e;
+            }
+        }
+
+        costoSup = new double[total];
+        boolean[] todas = new boolean[k];
+        Arrays.fill(todas, true);
+        calcularCostos(todas, costoSup);
+        partesRecalculadas = k;
+    }
+
+    /** Copia que comparte la estructura de {@code base} con otros costos */
+    private RuteoParticionado(RuteoParticionado base, double[] costoSup, int partesRecalculadas) {
+        this.particion = base.particion;
+        this.g = base.g;
+        this.metrica = base.metrica;
+        this.pesos = base.pesos;
+        this.local = base.local;
+        this.nodosParte = base.nodosParte;
+        this.frontera = base.frontera;
+        this.nodosFrontera = base.nodosFrontera;
+        this.fronterasParte = base.fronterasParte;
+        this.inicioSup = base.inicioSup;
+        this.destinoSup = base.destinoSup;
+        this.aristaSup = base.aristaSup;
+        this.costoSup = costoSup;
+        this.partesRecalculadas = partesRecalculadas;
+    }
+
+    /**
+     * Construye la superposición de una partición para una métrica.
+     *
+     * @param particion Partición del grafo
+     * @param metrica Métrica a minimizar
+     * @return Estructura lista para consultas
+     */
+    public static RuteoParticionado construir(ParticionGrafo particion, Metrica metrica) {
+        return new RuteoParticionado(particion, metrica);
+    }
+
+    /**
+     * Superposición con la disponibilidad actual de las rutas indicadas. Se
+     * recalculan los atajos de las partes que contienen alguna ruta interna
+     * cambiada y el costo de las rutas de corte cambiadas; el resto de los
+     * costos y toda la estructura se comparten con esta superposición, que
+     * no cambia y puede seguir respondiendo consultas en curso.
+     *
+     * @param aristas Índices en el grafo compacto de las rutas cuya
+     *                disponibilidad cambió (se admiten repetidos)
+     * @return Superposición actualizada, o esta misma si no hay rutas
+     */
+    public RuteoParticionado actualizar(int[] aristas) {
+        if (aristas.length == 0) return this;
+        boolean[] partes = new boolean[particion.getPartes()];
+        int recalculadas = 0;
+        double[] costos = costoSup.clone();
+        for (int e : aristas) {
+            int p = particion.parteDe(g.origenDe(e));
+            if (particion.parteDe(g.destinoDe(e)) != p) {
+                int i = frontera[g.origenDe(e)];
+                for (int a = inicioSup[i]; a < inicioSup[i + 1]; a++) {
+                    if (aristaSup[a] == e) costos[a] = costoCorte(e);
+                }
+            } else if (!partes[p]) {
+                partes[p] = true;
+                recalculadas++;
+            }
+        }
+        if (recalculadas > 0) calcularCostos(partes, costos);
+        return new RuteoParticionado(this, costos, recalculadas);
+    }
+
+    /** Un trabajador por parte marcada: atajos internos y rutas de corte de sus fronteras */
+    private void calcularCostos(boolean[] partes, double[] costos) {
+        List<CompletableFuture<Void>> trabajadores = new ArrayList<>();
+        for (int p = 0; p < partes.length; p++) {
+            if (!partes[p]) continue;
+            int parte = p;
+            trabajadores.add(CompletableFuture.runAsync(() -> calcularParte(parte, costos), ForkJoinPool.commonPool()));
+        }
+        CompletableFuture.allOf(trabajadores.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    private void calcularParte(int p, double[] costos) {
+        for (int i : fronterasParte[p]) {
+            ArbolLocal arbol = buscarLocal(p, nodosFrontera[i], -1, true);
+            for (int a = inicioSup[i]; a < inicioSup[i + 1]; a++) {
+                costos[a] = aristaSup[a] < 0 ? arbol.costo[local[nodosFrontera[destinoSup[a]]]] : costoCorte(aristaSup[a]);
+            }
+        }
+    }
+
+    private double costoCorte(int e) {
+        return g.rutaDe(e).estaDisponible() ? pesos[e] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Dijkstra limitado a la parte {@code p}, desde {@code inicio} (o hacia
+     * él si {@code adelante} es false), detenido al asentar {@code objetivo}
+     * si es un nodo válido.
+     */
+    private ArbolLocal buscarLocal(int p, int inicio, int objetivo, boolean adelante) {
+        ArbolLocal arbol = new ArbolLocal(nodosParte[p].length);
+        // El espacio del hilo aporta la cola y las marcas, por índice local
+        EspacioBusqueda espacio = EspacioBusqueda.adelante(nodosParte[p].length);
+        MonticuloIndexado cola = espacio.cola();
+        arbol.costo[local[inicio]] = 0.0;
+        cola.insertarOActualizar(local[inicio], 0.0);
+        while (!cola.estaVacio()) {
+            int lu = cola.extraerMinimo();
+            int u = nodosParte[p][lu];
+            espacio.asentar(lu);
+            arbol.asentados++;
+            if (u == objetivo) break;
+            int desde = adelante ? g.inicioAristas(u) : g.inicioEntrantes(u);
+            int hasta = adelante ? g.finAristas(u) : g.finEntrantes(u);
+            for (int i = desde; i < hasta; i++) {
+                int e = adelante ? i : g.aristaEntrante(i);
+                int v = adelante ? g.destinoDe(e) : g.origenDe(e);
+                if (particion.parteDe(v) != p || !g.rutaDe(e).estaDisponible()) continue;
+                int lv = local[v];
+                double nc = arbol.costo[lu] + pesos[e];
+                if (!espacio.asentado(lv) && nc < arbol.costo[lv]) {
+                    arbol.costo[lv] = nc;
+                    arbol.previa[lv] = e;
+                    cola.insertarOActualizar(lv, nc);
+                }
+            }
+        }
+        return arbol;
+    }
+
+    /**
+     * Calcula el camino mínimo entre dos nodos del grafo compacto.
+     *
+     * @param origen Índice del nodo de origen
+     * @param destino Índice del nodo de destino
+     * @return Resultado de la búsqueda (el camino puede no existir); los
+     *         nodos asentados suman las búsquedas locales y la superposición
+     */
+    public CaminoCompacto consultar(int origen, int destino) {
+        if (origen == destino) return new CaminoCompacto(null, 0.0, 0);
+        int ps = particion.parteDe(origen), pt = particion.parteDe(destino);
+
+        // Trabajadores de la parte del origen y de la del destino, en paralelo
+        CompletableFuture<ArbolLocal> tareaAtras = CompletableFuture.supplyAsync(
+                () -> buscarLocal(pt, destino, -1, false), ForkJoinPool.commonPool());
+        ArbolLocal adelante = buscarLocal(ps, origen, -1, true);
+        ArbolLocal atras = tareaAtras.join();
+        int asentados = adelante.asentados + atras.asentados;
+
+        double mejor = ps == pt ? adelante.costo[local[destino]] : Double.POSITIVE_INFINITY;
+        int ultimo = -1;
+
+        // Dijkstra sobre la superposición: de las fronteras del origen a las del
+        // destino. Usa el espacio hacia atrás del hilo; la previa es el arco de llegada
+        EspacioBusqueda superposicion = EspacioBusqueda.atras(nodosFrontera.length);
+        MonticuloIndexado cola = superposicion.cola();
+        for (int i : fronterasParte[ps]) {
+            double c = adelante.costo[local[nodosFrontera[i]]];
+            if (c < superposicion.costo(i)) {
+                superposicion.fijar(i, c, -1);
+                cola.insertarOActualizar(i, c);
+            }
+        }
+        while (!cola.estaVacio()) {
+            if (cola.prioridadMinima() >= mejor) break;
+            int i = cola.extraerMinimo();
+            superposicion.asentar(i);
+            asentados++;
+            double ci = superposicion.costo(i);
+            int b = nodosFrontera[i];
+            if (particion.parteDe(b) == pt) {
+                double total = ci + atras.costo[local[b]];
+                if (total < mejor) {
+                    mejor = total;
+                    ultimo = i;
+                }
+            }
+            for (int a = inicioSup[i]; a < inicioSup[i + 1]; a++) {
+                int j = destinoSup[a];
+                double nc = ci + costoSup[a];
+                if (!superposicion.asentado(j) && nc < superposicion.costo(j)) {
+                    superposicion.fijar(j, nc, a);
+                    cola.insertarOActualizar(j, nc);
+                }
+            }
+        }
+        if (mejor == Double.POSITIVE_INFINITY) return new CaminoCompacto(null, Double.POSITIVE_INFINITY, asentados);
+        if (ultimo < 0) return new CaminoCompacto(caminoAdelante(adelante, origen, destino), mejor, asentados);
+        return new CaminoCompacto(unir(adelante, atras, origen, ultimo, superposicion), mejor, asentados);
+    }
+
+    /**
+     * Une el tramo inicial, los arcos de la superposición (expandiendo cada
+     * atajo en su parte, en paralelo) y el tramo final.
+     */
+    private int[] unir(ArbolLocal adelante, ArbolLocal atras, int origen, int ultimo, EspacioBusqueda superposicion) {
+        // Los arcos se leen del espacio antes de esperar tareas, que podrían reutilizarlo
+        ListaEnteros arcos = new ListaEnteros();
+        int i = ultimo;
+        while (superposicion.previa(i) >= 0) {
+            arcos.agregar(superposicion.previa(i));
+            i = origenArco(superposicion.previa(i));
+        }
+        int primero = i;
+
+        int m = arcos.tamano();
+        List<CompletableFuture<int[]>> tramos = new ArrayList<>(m);
+        for (int j = m - 1; j >= 0; j--) {
+            int a = arcos.obtener(j);
+            if (aristaSup[a] >= 0) {
+                tramos.add(CompletableFuture.completedFuture(new int[] {aristaSup[a]}));
+            } else {
+                int desde = nodosFrontera[origenArco(a)], hasta = nodosFrontera[destinoSup[a]];
+                int p = particion.parteDe(desde);
+                tramos.add(CompletableFuture.supplyAsync(
+                        () -> caminoAdelante(buscarLocal(p, desde, hasta, true), desde, hasta), ForkJoinPool.commonPool()));
+            }
+        }
+
+        ListaEnteros camino = new ListaEnteros();
+        int[] inicial = caminoAdelante(adelante, origen, nodosFrontera[primero]);
+        if (inicial != null) for (int e : inicial) camino.agregar(e);
+        for (CompletableFuture<int[]> tramo : tramos) {
+            int[] aristas = tramo.join();
+            if (aristas != null) for (int e : aristas) camino.agregar(e);
+        }
+        // Tramo final: el árbol hacia el destino guarda la ruta que sale de cada nodo
+        int u = nodosFrontera[ultimo];
+        while (atras.previa[local[u]] >= 0) {
+            int e = atras.previa[local[u]];
+            camino.agregar(e);
+            u = g.destinoDe(e);
+        }
+        return camino.aArreglo();
+    }
+
+    /** Origen (en la superposición) de un arco, buscando su fila en el CSR */
+    private int origenArco(int arco) {
+        int bajo = 0, alto = nodosFrontera.length - 1;
+        while (bajo < alto) {
+            int medio = (bajo + alto + 1) >>> 1;
+            if (inicioSup[medio] <= arco) bajo = medio;
+            else alto = medio - 1;
+        }
+        return bajo;
+    }
+
+    /** Camino desde la raíz de un árbol local hasta {@code hasta}, o null si es la raíz */
+    private int[] caminoAdelante(ArbolLocal arbol, int raiz, int hasta) {
+        if (hasta == raiz) return null;
+        ListaEnteros inverso = new ListaEnteros();
+        int v = hasta;
+        while (v != raiz) {
+            int e = arbol.previa[local[v]];
+            inverso.agregar(e);
+            v = g.origenDe(e);
+        }
+        int[] camino = new int[inverso.tamano()];
+        for (int i = 0; i < camino.length; i++) camino[i] = inverso.obtener(camino.length - 1 - i);
+        return camino;
+    }
+
+    public ParticionGrafo getParticion() { return particion; }
+    public GrafoCompacto getCompacto() { return g; }
+    public Metrica getMetrica() { return metrica; }
+
+    /** @return Nodos de frontera (nodos de la superposición) */
+    public int getNumeroFronteras() { return nodosFrontera.length; }
+
+    /** @return Nodos de frontera de una parte */
+    public int getFronteras(int p) { return fronterasParte[p].length; }
+
+    /** @return Arcos de la superposición (rutas de corte y atajos internos, con o sin camino) */
+    public int getNumeroArcos() { return destinoSup.length; }
+
+    /** @return Partes cuyos atajos se calcularon al crear esta superposición */
+    public int getPartesRecalculadas() { return partesRecalculadas; }
+}
@@ -0,0 +1,25 @@
+package co.edu.uniquindio.poo.model;
+
+/**
+ * Bandas en que se agrupa el nivel de riesgo (0 a 100) de una zona, con
+ * los mismos cortes que usa el panel: alto desde 70, medio desde 50.
+ * 
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public enum BandaRiesgo {
+    BAJO,
+    MEDIO,
+    ALTO;
+
+    /**
+     * @param nivelDeRiesgo Nivel de riesgo entre 0 y 100
+     * @return Banda a la que pertenece el nivel
+     */
+    public static BandaRiesgo de(int nivelDeRiesgo) {
+        if (nivelDeRiesgo >= 70) return ALTO;
+        if (nivelDeRiesgo >= 50) return MEDIO;
+        return BAJO;
+    }
+}
@@ -0,0 +1,22 @@
+package co.edu.uniquindio.poo.model;
+
+/**
+ * Recibe avisos cuando una ruta cambia de estado.
+ * 
+ * Lo usan las estructuras que precalculan información sobre las rutas
+ * (por ejemplo índices de caminos) para actualizarse sin recalcular todo.
+ * 
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface ObservadorRuta {
+
+    /**
+     * Se invoca después de que la ruta pasa de disponible a bloqueada o viceversa.
+     * 
+     * @param ruta Ruta que cambió; su nuevo estado está en {@link Ruta#estaDisponible()}
+     */
+    void disponibilidadCambiada(Ruta ruta);
+}
@@ -0,0 +1,24 @@
+package co.edu.uniquindio.poo.model;
+
+/**
+ * Recibe avisos cuando cambia un dato de una zona por el que se indexa
+ * (nombre, población, nivel de riesgo, estado de evacuación, refugio o
+ * coordenadas).
+ * 
+ * Lo usan los registros que mantienen índices secundarios sobre las zonas
+ * para reubicarla sin recorrer todas las demás.
+ * 
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface ObservadorZona {
+
+    /**
+     * Se invoca después de que cambia un dato indexado de la zona.
+     * 
+     * @param zona Zona que cambió, ya con sus valores nuevos
+     */
+    void zonaCambiada(ZonaAfectada zona);
+}
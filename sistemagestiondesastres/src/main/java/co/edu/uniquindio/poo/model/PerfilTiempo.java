@@ -0,0 +1,109 @@
+package co.edu.uniquindio.poo.model;
+
+import java.util.Arrays;
+
+/**
+ * Tiempo de recorrido de una ruta según el instante de salida, como función
+ * lineal por tramos: en cada punto de quiebre se indica el tiempo de
+ * recorrido y entre dos puntos se interpola. Antes del primer punto y
+ * después del último el tiempo es constante. Los instantes se miden en
+ * minutos desde el inicio del día (o del escenario simulado), la misma
+ * unidad que el tiempo de la ruta.
+ *
+ * <p>El perfil debe cumplir la propiedad FIFO: salir más tarde nunca hace
+ * llegar antes. Entre dos puntos el tiempo no puede bajar más rápido de lo
+ * que avanza el reloj (pendiente mayor o igual a -1). Con ella la búsqueda
+ * dependiente del tiempo puede asentar cada zona con su primera llegada.</p>
+ *
+ * <p>Los puntos se guardan en dos arreglos primitivos y la evaluación es
+ * una búsqueda binaria sin crear objetos.</p>
+ *
+ * @author Sistema de Gestión de Desastres - Universidad del Quindío
+ * @version 1.0
+ * @since 2025
+ */
+public class PerfilTiempo {
+    private final double[] instantes;
+    private final double[] tiempos;
+
+    /**
+     * @param instantes Instantes de salida de los puntos de quiebre, crecientes
+     * @param tiempos Tiempo de recorrido en cada punto, no negativo
+     * @throws IllegalArgumentException si los puntos no son válidos o violan FIFO
+     */
+    public PerfilTiempo(double[] instantes, double[] tiempos) {
+        if (instantes == null || tiempos == null || instantes.length == 0 || instantes.length != tiempos.length) {
+            throw new IllegalArgumentException("El perfil necesita tantos instantes como tiempos (al menos uno)");
+        }
+        for (int i = 0; i < instantes.length; i++) {
+            if (!(tiempos[i] >= 0.0) || Double.isInfinite(tiempos[i]) || !Double.isFinite(instantes[i])) {
+                throw new IllegalArgumentException("Tiempo o instante inválido en el punto " + i);
+            }
+            if (i == 0) continue;
+            if (!(instantes[i] > instantes[i - 1])) {
+                throw new IllegalArgumentException("Los instantes deben ser crecientes");
+            }
+            if (tiempos[i] - tiempos[i - 1] < -(instantes[i] - instantes[i - 1])) {
+                throw new IllegalArgumentException("El perfil viola FIFO entre los puntos " + (i - 1) + " y " + i);
+            }
+        }
+        this.instantes = Arrays.copyOf(instantes, instantes.length);
+        this.tiempos = Arrays.copyOf(tiempos, tiempos.length);
+    }
+
+    /**
+     * Perfil de hora pico o de incidente: el tiempo base sube linealmente
+     * desde {@code inicio} hasta {@code base * factor} en {@code pico} y
+     * vuelve al base en {@code fin}. Si el descenso fuera más rápido que el
+     * reloj, el fin se retrasa lo necesario para respetar FIFO.
+     *
+     * @param base Tiempo de recorrido sin congestión
+     * @param inicio Instante en que empieza la congestión
+     * @param pico Instante de máxima congestión
+     * @param fin Instante en que termina
+     * @param factor Multiplicador del tiempo en el pico (mayor o igual a 1)
+     * @return Perfil de tres puntos
+     */
+    public static PerfilTiempo horaPico(double base, double inicio, double pico, double fin, double factor) {
+        if (factor < 1.0 || pico <= inicio) {
+            throw new IllegalArgumentException("Se requiere factor >= 1 e inicio < pico");
+        }
+        double maximo = base * factor;
+        double finFifo = Math.max(fin, pico + (maximo - base));
+        if (finFifo <= pico) finFifo = pico + 1.0;
+        return new PerfilTiempo(new double[] {inicio, pico, finFifo}, new double[] {base, maximo, base});
+    }
+
+    /**
+     * Tiempo de recorrido saliendo en un instante.
+     *
+     * @param salida Instante de salida
+     * @return Tiempo de recorrido interpolado
+     */
+    public double evaluar(double salida) {
+        int n = instantes.length;
+        if (salida <= instantes[0]) return tiempos[0];
+        if (salida >= instantes[n - 1]) return tiempos[n - 1];
+        // Último punto con instante <= salida
+        int bajo = 0, alto = n - 1;
+        while (alto - bajo > 1) {
+            int medio = (bajo + alto) >>> 1;
+            if (instantes[medio] <= salida) bajo = medio;
+            else alto = medio;
+        }
+        double fraccion = (salida - instantes[bajo]) / (instantes[alto] - instantes[bajo]);
+        return tiempos[bajo] + fraccion * (tiempos[alto] - tiempos[bajo]);
+    }
+
+    /**
+     * @param salida Instante de salida
+     * @return Instante de llegada al final de la ruta
+     */
+    public double llegada(double salida) {
+        return salida + evaluar(salida);
+    }
+
+    public int getNumeroPuntos() { return instantes.length; }
+    public double getInstante(int punto) { return instantes[punto]; }
+    public double getTiempo(int punto) { return tiempos[punto]; }
+}
@@ -1,6 +1,8 @@
 package co.edu.uniquindio.poo.model;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Ruta {
     private String id;
@@ -8,8 +10,12 @@ public class Ruta {
     private String destinoId;
     private double tiempo; 
     private double distancia; 
-    private boolean disponible;
+    private volatile boolean disponible;
     private int capacidad; 
+    // tiempo de recorrido según la hora de salida; null si es constante
+    private volatile PerfilTiempo perfil;
+    // estructuras a las que se avisa cuando cambia la disponibilidad (no se serializa)
+    private transient List<ObservadorRuta> observadores = new CopyOnWriteArrayList<>();
 
     public Ruta(String origenId, String destinoId, double distancia, double tiempo, int capacidad) {
         this.id = UUID.randomUUID().toString();
@@ -26,6 +32,21 @@ public class Ruta {
         return tiempo;
     }
 
+    /**
+     * Tiempo de recorrido saliendo en un instante, según el perfil de la
+     * ruta (congestión, incidentes); sin perfil es el tiempo fijo.
+     *
+     * @param salida Instante de salida en minutos
+     * @return Tiempo de recorrido en ese instante
+     */
+    public double calcularTiempoReal(double salida) {
+        PerfilTiempo p = perfil;
+        return p != null ? p.evaluar(salida) : tiempo;
+    }
+
+    public PerfilTiempo getPerfil() { return perfil; }
+    public void setPerfil(PerfilTiempo perfil) { this.perfil = perfil; }
+
     public boolean estaDisponible() { return disponible; }
     public int getCapacidadDisponible() { return capacidad; }
 
@@ -39,5 +60,19 @@ public class Ruta {
     return capacidad;
 }
 
-    public void setDisponible(boolean disponible) { this.disponible = disponible;}
+    public void setDisponible(boolean disponible) {
+        if (this.disponible == disponible) return;
+        this.disponible = disponible;
+        if (observadores == null) return;
+        for (ObservadorRuta o : observadores) o.disponibilidadCambiada(this);
+    }
+
+    public void agregarObservador(ObservadorRuta observador) {
+        if (observadores == null) observadores = new CopyOnWriteArrayList<>();
+        if (!observadores.contains(observador)) observadores.add(observador);
+    }
+
+    public void removerObservador(ObservadorRuta observador) {
+        if (observadores != null) observadores.remove(observador);
+    }
 }
\ No newline at end of file
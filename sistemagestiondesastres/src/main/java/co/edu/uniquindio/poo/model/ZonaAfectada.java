@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Representa una zona geográfica afectada por un desastre natural.
@@ -22,6 +23,7 @@ import java.util.UUID;
  *   <li>Recursos asignados por tipo</li>
  *   <li>Equipos de rescate desplegados</li>
  *   <li>Estado de evacuación completa</li>
+ *   <li>Marca de refugio (destino de evacuación) y su capacidad</li>
  * </ul>
  * 
  * @author Sistema de Gestión de Desastres - Universidad del Quindío
@@ -59,6 +61,15 @@ public class ZonaAfectada {
     /** Longitud de la ubicación geográfica */
     private double lng;
     
+    /** Indica si la zona funciona como refugio (destino de evacuaciones) */
+    private boolean refugio;
+    
+    /** Personas que puede recibir como refugio (0 = sin límite declarado) */
+    private int capacidadRefugio;
+    
+    /** Registros a los que se avisa cuando cambia un dato indexado (no se serializa) */
+    private transient List<ObservadorZona> observadores = new CopyOnWriteArrayList<>();
+    
     public Object getNombre;
 
     /**
@@ -124,6 +135,7 @@ public class ZonaAfectada {
      */
     public void actualizarNivelRiesgo(int nuevoNivel) {
         this.nivelDeRiesgo = nuevoNivel;
+        notificarCambio();
     }
 
     /**
@@ -154,6 +166,8 @@ public class ZonaAfectada {
     public boolean isEvacuada() { return evacuada; }
     public double getLat() { return lat; }
     public double getLng() { return lng; }
+    public boolean isRefugio() { return refugio; }
+    public int getCapacidadRefugio() { return capacidadRefugio; }
 
     public Map<TipoRecurso, Integer> getRecursosAsignados() {
         return recursosAsignados;
@@ -174,24 +188,64 @@ public class ZonaAfectada {
     // Setters (útiles para actualizaciones)
     public void setNombre(String nombre) {
         this.nombre = nombre;
+        notificarCambio();
     }
 
     public void setPoblacion(int poblacion) {
         this.poblacion = poblacion;
+        notificarCambio();
     }
 
     public void setNivelDeRiesgo(int nivelDeRiesgo) {
         if (nivelDeRiesgo >= 0 && nivelDeRiesgo <= 100) {
             this.nivelDeRiesgo = nivelDeRiesgo;
+            notificarCambio();
         }
     }
 
     public void setLat(double lat) {
         this.lat = lat;
+        notificarCambio();
     }
 
     public void setLng(double lng) {
         this.lng = lng;
+        notificarCambio();
+    }
+
+    /**
+     * Cambia ambas coordenadas con un solo aviso a los observadores.
+     * 
+     * @param lat Nueva latitud
+     * @param lng Nueva longitud
+     */
+    public void setUbicacion(double lat, double lng) {
+        this.lat = lat;
+        this.lng = lng;
+        notificarCambio();
+    }
+
+    public void setRefugio(boolean refugio) {
+        this.refugio = refugio;
+        notificarCambio();
+    }
+
+    public void setCapacidadRefugio(int capacidadRefugio) {
+        this.capacidadRefugio = Math.max(0, capacidadRefugio);
+    }
+
+    public void agregarObservador(ObservadorZona observador) {
+        if (observadores == null) observadores = new CopyOnWriteArrayList<>();
+        if (!observadores.contains(observador)) observadores.add(observador);
+    }
+
+    public void removerObservador(ObservadorZona observador) {
+        if (observadores != null) observadores.remove(observador);
+    }
+
+    private void notificarCambio() {
+        if (observadores == null) return;
+        for (ObservadorZona o : observadores) o.zonaCambiada(this);
     }
 
     @Override
@@ -245,6 +299,7 @@ public class ZonaAfectada {
             this.poblacion = 0;
             this.evacuada = true;
         }
+        notificarCambio();
         
         return true;
     }
@@ -255,6 +310,7 @@ public class ZonaAfectada {
     public void marcarComoEvacuada() {
         this.poblacion = 0;
         this.evacuada = true;
+        notificarCambio();
     }
 
     /**
@@ -263,6 +319,7 @@ public class ZonaAfectada {
     public void restaurarPoblacion() {
         this.poblacion = this.poblacionInicial;
         this.evacuada = false;
+        notificarCambio();
     }
 
     
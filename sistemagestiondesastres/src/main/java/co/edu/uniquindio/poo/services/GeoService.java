@@ -0,0 +1,25 @@
+package co.edu.uniquindio.poo.services;
+
+/**
+ * Servicio de cálculos geográficos sobre coordenadas de zonas
+ */
+public class GeoService {
+
+    /** Radio medio de la Tierra en kilómetros */
+    public static final double RADIO_TIERRA_KM = 6371.0;
+
+    /**
+     * Calcula la distancia de círculo máximo entre dos puntos (fórmula de Haversine)
+     * @return Distancia en kilómetros
+     */
+    public static double distanciaKm(double lat1, double lng1, double lat2, double lng2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lonDistance = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return RADIO_TIERRA_KM * c;
+    }
+}
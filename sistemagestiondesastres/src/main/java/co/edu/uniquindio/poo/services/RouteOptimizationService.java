@@ -1,97 +1,50 @@
 package co.edu.uniquindio.poo.services;
 
+import co.edu.uniquindio.poo.ds.CaminoCompacto;
+import co.edu.uniquindio.poo.ds.GrafoCompacto;
 import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.ds.Metrica;
 import co.edu.uniquindio.poo.model.Ruta;
-import co.edu.uniquindio.poo.model.ZonaAfectada;
 
 import java.util.*;
 
 /**
- * Servicio para cálculo de rutas óptimas usando algoritmo de Dijkstra
+ * Servicio para cálculo de rutas óptimas usando algoritmo de Dijkstra (bidireccional)
  */
 public class RouteOptimizationService {
     
     /**
-     * Encuentra la ruta más corta entre dos zonas usando Dijkstra
+     * Encuentra la ruta más corta (por distancia) entre dos zonas usando
+     * Dijkstra bidireccional sobre la representación compacta del grafo
      * @return Lista de IDs de zonas que forman el camino, o null si no hay ruta
      */
     public static List<String> findShortestPath(GrafoDirigido grafo, String origenId, String destinoId) {
+        GrafoCompacto compacto = grafo.obtenerCompacto();
+        int origen = compacto.indiceDe(origenId);
+        int destino = compacto.indiceDe(destinoId);
+        
         // Verificar que ambas zonas existan
-        ZonaAfectada origen = grafo.obtenerZonas().stream()
-            .filter(z -> z.getId().equals(origenId))
-            .findFirst()
-            .orElse(null);
-            
-        ZonaAfectada destino = grafo.obtenerZonas().stream()
-            .filter(z -> z.getId().equals(destinoId))
-            .findFirst()
-            .orElse(null);
-            
-        if (origen == null || destino == null) {
+        if (origen < 0 || destino < 0) {
             return null;
         }
         
-        // Implementación de Dijkstra
-        Map<String, Double> distancias = new HashMap<>();
-        Map<String, String> previos = new HashMap<>();
-        Set<String> visitados = new HashSet<>();
-        PriorityQueue<NodoDistancia> cola = new PriorityQueue<>();
-        
-        // Inicializar distancias
-        for (ZonaAfectada zona : grafo.obtenerZonas()) {
-            distancias.put(zona.getId(), Double.POSITIVE_INFINITY);
+        if (origen == destino) {
+            return new ArrayList<>(List.of(origenId));
         }
-        distancias.put(origenId, 0.0);
-        cola.offer(new NodoDistancia(origenId, 0.0));
         
-        while (!cola.isEmpty()) {
-            NodoDistancia actual = cola.poll();
-            String actualId = actual.zonaId;
-            
-            if (visitados.contains(actualId)) {
-                continue;
-            }
-            
-            if (actualId.equals(destinoId)) {
-                break; // Llegamos al destino
-            }
-            
-            visitados.add(actualId);
-            
-            // Obtener aristas salientes
-            Map<String, List<Ruta>> aristas = grafo.getAristas();
-            List<Ruta> rutasSalientes = aristas.getOrDefault(actualId, new ArrayList<>());
-            
-            for (Ruta ruta : rutasSalientes) {
-                if (!ruta.estaDisponible()) {
-                    continue; // Ignorar rutas no disponibles
-                }
-                
-                String vecinoId = ruta.getDestinoId();
-                double nuevaDistancia = distancias.get(actualId) + ruta.getDistancia();
-                
-                if (nuevaDistancia < distancias.get(vecinoId)) {
-                    distancias.put(vecinoId, nuevaDistancia);
-                    previos.put(vecinoId, actualId);
-                    cola.offer(new NodoDistancia(vecinoId, nuevaDistancia));
-                }
-            }
-        }
-        
-        // Reconstruir camino
-        if (!previos.containsKey(destinoId) && !origenId.equals(destinoId)) {
+        CaminoCompacto resultado = compacto.bidireccional(origen, destino, Metrica.DISTANCIA);
+        if (!resultado.existe()) {
             return null; // No hay camino
         }
         
+        // Reconstruir camino como secuencia de zonas
         List<String> camino = new ArrayList<>();
-        String actual = destinoId;
-        
-        while (actual != null) {
-            camino.add(0, actual);
-            actual = previos.get(actual);
+        camino.add(origenId);
+        for (int arista : resultado.getAristas()) {
+            camino.add(compacto.idDe(compacto.destinoDe(arista)));
         }
         
-        return camino.isEmpty() ? null : camino;
+        return camino;
     }
     
     /**
@@ -124,38 +77,27 @@ public class RouteOptimizationService {
     }
     
     /**
-     * Encuentra las N rutas más cortas alternativas
+     * Encuentra las N rutas más cortas (por distancia) sin ciclos entre dos zonas,
+     * usando el algoritmo de Yen con las búsquedas de desvío en paralelo
+     * @return Lista de caminos como secuencias de IDs de zonas, la primera es la más corta
      */
     public static List<List<String>> findAlternativePaths(GrafoDirigido grafo, String origenId, String destinoId, int maxAlternativas) {
         List<List<String>> alternativas = new ArrayList<>();
         
-        // Primera ruta (más corta)
-        List<String> rutaPrincipal = findShortestPath(grafo, origenId, destinoId);
-        if (rutaPrincipal != null) {
-            alternativas.add(rutaPrincipal);
+        if (origenId.equals(destinoId) && grafo.existeZona(origenId)) {
+            alternativas.add(new ArrayList<>(List.of(origenId)));
+            return alternativas;
         }
         
-        // TODO: Implementar k-shortest paths para alternativas
-        // Por ahora solo retornamos la ruta principal
-        
-        return alternativas;
-    }
-    
-    /**
-     * Clase auxiliar para Dijkstra
-     */
-    private static class NodoDistancia implements Comparable<NodoDistancia> {
-        String zonaId;
-        double distancia;
-        
-        NodoDistancia(String zonaId, double distancia) {
-            this.zonaId = zonaId;
-            this.distancia = distancia;
+        for (List<Ruta> rutas : grafo.obtenerRutasAlternativas(origenId, destinoId, maxAlternativas, Metrica.DISTANCIA)) {
+            List<String> camino = new ArrayList<>();
+            camino.add(origenId);
+            for (Ruta ruta : rutas) {
+                camino.add(ruta.getDestinoId());
+            }
+            alternativas.add(camino);
         }
         
-        @Override
-        public int compareTo(NodoDistancia otro) {
-            return Double.compare(this.distancia, otro.distancia);
-        }
+        return alternativas;
     }
 }
@@ -376,6 +376,9 @@ function initializeMap() {
         markersLayer = L.layerGroup().addTo(mapInstance);
         routesLayer = L.layerGroup().addTo(mapInstance);
         
+        // Al mover o hacer zoom solo se piden las zonas visibles
+        mapInstance.on('moveend', updateMapMarkers);
+        
         console.log('✅ Mapa inicializado');
     } catch (error) {
         console.error('❌ Error al inicializar mapa:', error);
@@ -397,12 +400,35 @@ function centerMap() {
     }
 }
 
-function updateMapMarkers() {
-    if (!markersLayer || !zonesData) return;
+// Número de la última consulta de zonas visibles (descarta respuestas atrasadas)
+let mapZonesRequest = 0;
+
+async function updateMapMarkers() {
+    if (!markersLayer) return;
+    if (!mapInstance) {
+        drawZoneMarkers(zonesData || []);
+        return;
+    }
     
+    const bounds = mapInstance.getBounds();
+    const url = `/api/zones/bbox?minLat=${bounds.getSouth()}&minLng=${bounds.getWest()}` +
+                `&maxLat=${bounds.getNorth()}&maxLng=${bounds.getEast()}`;
+    const request = ++mapZonesRequest;
+    try {
+        const res = await fetch(url);
+        if (!res.ok) throw new Error(`HTTP error! status: ${res.status}`);
+        const visibleZones = await res.json();
+        if (request === mapZonesRequest) drawZoneMarkers(visibleZones);
+    } catch (error) {
+        console.warn('⚠️ No se pudieron consultar las zonas visibles, usando las cargadas:', error);
+        if (request === mapZonesRequest) drawZoneMarkers(zonesData || []);
+    }
+}
+
+function drawZoneMarkers(zones) {
     markersLayer.clearLayers();
     
-    zonesData.forEach(zone => {
+    zones.forEach(zone => {
         // Soportar ambos formatos: zone.lat/lng O zone.coordenadas.lat/lng
         const lat = zone.lat || (zone.coordenadas && zone.coordenadas.lat);
         const lng = zone.lng || (zone.coordenadas && zone.coordenadas.lng);
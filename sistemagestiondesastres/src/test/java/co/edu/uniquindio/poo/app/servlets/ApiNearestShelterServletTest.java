@@ -0,0 +1,96 @@
+package co.edu.uniquindio.poo.app.servlets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import co.edu.uniquindio.poo.app.SistemaGestionDesastres;
+import co.edu.uniquindio.poo.ds.GrafoDirigido;
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas del servlet de refugios más cercanos sobre un servidor embebido.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class ApiNearestShelterServletTest {
+    private static final Logger LOG = Logger.getLogger(ApiNearestShelterServletTest.class.getName());
+
+    /**
+     * Verifica que, tras eliminar una zona, la consulta sin ids no devuelva
+     * entradas para el índice que quedó vacío.
+     */
+    @Test
+    public void testSinIdsTrasEliminarZona() throws Exception {
+        LOG.info("Test: refugios más cercanos tras eliminar una zona");
+
+        GrafoDirigido grafo = SistemaGestionDesastres.getInstance().getGrafo();
+        ZonaAfectada eliminada = new ZonaAfectada("Prueba eliminada", 10, 10, 4.50, -75.60);
+        ZonaAfectada refugio = new ZonaAfectada("Prueba refugio", 0, 10, 4.51, -75.61);
+        ZonaAfectada zona = new ZonaAfectada("Prueba zona", 20, 10, 4.52, -75.62);
+        refugio.setRefugio(true);
+        grafo.agregarZona(eliminada);
+        grafo.agregarZona(refugio);
+        grafo.agregarZona(zona);
+        grafo.agregarArista(new Ruta(zona.getId(), refugio.getId(), 1, 5, 100));
+
+        Server servidor = new Server(0);
+        ServletContextHandler ctx = new ServletContextHandler();
+        ctx.addServlet(ApiNearestShelterServlet.class, "/api/zones/nearest-shelter");
+        servidor.setHandler(ctx);
+        try {
+            servidor.start();
+            int puerto = ((ServerConnector) servidor.getConnectors()[0]).getLocalPort();
+            URL url = new URL("http://localhost:" + puerto + "/api/zones/nearest-shelter");
+
+            // La representación compacta ya numeró la zona antes de eliminarla
+            consultar(url);
+            grafo.eliminarZona(eliminada.getId());
+            JsonArray respuesta = consultar(url);
+
+            Set<String> ids = new HashSet<>();
+            for (JsonElement elemento : respuesta) {
+                JsonObject entrada = elemento.getAsJsonObject();
+                assertFalse(entrada.get("zonaId").isJsonNull(), "Sin entradas de índices vacíos");
+                assertFalse(entrada.get("zonaNombre").isJsonNull());
+                ids.add(entrada.get("zonaId").getAsString());
+            }
+            assertEquals(grafo.getInstantanea().getNumeroZonas(), respuesta.size());
+            assertFalse(ids.contains(eliminada.getId()));
+            assertTrue(ids.contains(zona.getId()));
+        } finally {
+            servidor.stop();
+            grafo.eliminarZona(refugio.getId());
+            grafo.eliminarZona(zona.getId());
+        }
+        LOG.info("Consulta sin ids verificada");
+    }
+
+    private static JsonArray consultar(URL url) throws Exception {
+        HttpURLConnection conexion = (HttpURLConnection) url.openConnection();
+        assertEquals(200, conexion.getResponseCode());
+        try (Reader lector = new InputStreamReader(conexion.getInputStream(), StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(lector).getAsJsonArray();
+        } finally {
+            conexion.disconnect();
+        }
+    }
+}
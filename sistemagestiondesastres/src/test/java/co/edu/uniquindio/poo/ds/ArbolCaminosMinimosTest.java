@@ -0,0 +1,174 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para ArbolCaminosMinimos.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class ArbolCaminosMinimosTest {
+    private static final Logger LOG = Logger.getLogger(ArbolCaminosMinimosTest.class.getName());
+    private static final int LADO = 15;
+    private GrafoDirigido grafo;
+    private ZonaAfectada[][] malla;
+    private List<Ruta> rutas;
+    private Random azar;
+
+    @BeforeEach
+    public void setUp() {
+        LOG.info("Configurando prueba de ArbolCaminosMinimos");
+        grafo = new GrafoDirigido();
+        malla = new ZonaAfectada[LADO][LADO];
+        rutas = new ArrayList<>();
+        azar = new Random(5);
+
+        for (int i = 0; i < LADO; i++) {
+            for (int j = 0; j < LADO; j++) {
+                malla[i][j] = new ZonaAfectada("Z" + i + "-" + j, 100, 50, 4.0 + i * 0.05, -75.0 + j * 0.05);
+                grafo.agregarZona(malla[i][j]);
+            }
+        }
+        for (int i = 0; i < LADO; i++) {
+            for (int j = 0; j < LADO; j++) {
+                if (i + 1 < LADO) conectar(malla[i][j], malla[i + 1][j]);
+                if (j + 1 < LADO) conectar(malla[i][j], malla[i][j + 1]);
+            }
+        }
+    }
+
+    private void conectar(ZonaAfectada a, ZonaAfectada b) {
+        Ruta ida = new Ruta(a.getId(), b.getId(), 5, 1 + azar.nextInt(30), 100);
+        Ruta vuelta = new Ruta(b.getId(), a.getId(), 5, 1 + azar.nextInt(30), 100);
+        grafo.agregarArista(ida);
+        grafo.agregarArista(vuelta);
+        rutas.add(ida);
+        rutas.add(vuelta);
+    }
+
+    /**
+     * Verifica que tras cada bloqueo o reapertura el árbol coincida con
+     * Dijkstra recalculado desde cero, reparando solo parte del grafo.
+     */
+    @Test
+    public void testReparacionCoincideConDijkstra() {
+        LOG.info("Test: reparación incremental vs Dijkstra");
+
+        GrafoCompacto g = grafo.obtenerCompacto();
+        int origen = g.indiceDe(malla[LADO / 2][LADO / 2].getId());
+        ArbolCaminosMinimos arbol = new ArbolCaminosMinimos(g, origen);
+
+        List<Ruta> bloqueadas = new ArrayList<>();
+        int reparados = 0;
+        for (int paso = 0; paso < 150; paso++) {
+            Ruta ruta;
+            if (!bloqueadas.isEmpty() && azar.nextInt(3) == 0) {
+                ruta = bloqueadas.remove(azar.nextInt(bloqueadas.size()));
+                ruta.setDisponible(true);
+            } else {
+                ruta = rutas.get(azar.nextInt(rutas.size()));
+                ruta.setDisponible(false);
+                bloqueadas.add(ruta);
+            }
+            reparados += arbol.actualizarDisponibilidad(g.indiceDeRuta(ruta), ruta.estaDisponible());
+
+            for (int prueba = 0; prueba < 15; prueba++) {
+                int destino = azar.nextInt(g.getNumeroNodos());
+                CaminoCompacto esperado = g.dijkstra(origen, destino);
+                if (destino == origen) continue;
+                assertEquals(esperado.getCosto(), arbol.distanciaA(destino), 1e-9, "Distancia en el paso " + paso);
+
+                CaminoCompacto camino = arbol.caminoHasta(destino);
+                assertEquals(esperado.existe(), camino.existe());
+                if (!camino.existe()) continue;
+                int actual = origen;
+                for (int e : camino.getAristas()) {
+                    assertEquals(actual, g.origenDe(e), "El camino debe ser contiguo");
+                    assertTrue(g.rutaDe(e).estaDisponible(), "El camino no debe usar rutas bloqueadas");
+                    actual = g.destinoDe(e);
+                }
+                assertEquals(destino, actual);
+            }
+        }
+
+        assertTrue(reparados < 150 * g.getNumeroNodos() / 4, "Cada cambio debe reparar solo una parte del árbol");
+        LOG.info("Nodos reparados en 150 cambios: " + reparados);
+    }
+
+    /**
+     * Verifica que las consultas desde un origen fijo reflejen los bloqueos.
+     */
+    @Test
+    public void testOrigenFijoEnGrafo() {
+        LOG.info("Test: origen fijo en GrafoDirigido");
+
+        String origenId = malla[0][0].getId();
+        String destinoId = malla[0][1].getId();
+        assertTrue(grafo.fijarOrigen(origenId));
+        assertTrue(grafo.getOrigenesFijos().contains(origenId));
+
+        for (Ruta r : grafo.getAristas().get(origenId)) {
+            if (r.getDestinoId().equals(destinoId)) r.setDisponible(false);
+        }
+        List<Ruta> camino = grafo.obtenerRutaMasCorta(origenId, destinoId);
+        assertNotNull(camino, "Debe existir un desvío");
+        assertTrue(camino.size() >= 3, "El desvío rodea la ruta bloqueada");
+        assertTrue(camino.stream().allMatch(Ruta::estaDisponible));
+
+        grafo.liberarOrigen(origenId);
+        assertFalse(grafo.getOrigenesFijos().contains(origenId));
+
+        LOG.info("Origen fijo actualizado");
+    }
+
+    /**
+     * Verifica que una consulta desde un origen fijo con árbol vigente no
+     * espere a un escritor que tiene tomado el grafo.
+     */
+    @Test
+    public void testConsultaSinCandadoDelGrafo() throws Exception {
+        LOG.info("Test: origen fijo sin candado");
+
+        String origenId = malla[0][0].getId();
+        assertTrue(grafo.fijarOrigen(origenId));
+        grafo.obtenerRutaMasCorta(origenId, malla[1][1].getId());
+
+        CountDownLatch tomado = new CountDownLatch(1);
+        CountDownLatch soltar = new CountDownLatch(1);
+        Thread escritor = new Thread(() -> {
+            synchronized (grafo) {
+                tomado.countDown();
+                try {
+                    soltar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        escritor.start();
+        try {
+            assertTrue(tomado.await(5, TimeUnit.SECONDS));
+            List<Ruta> camino = CompletableFuture
+                    .supplyAsync(() -> grafo.obtenerRutaMasCorta(origenId, malla[LADO - 1][LADO - 1].getId()))
+                    .get(5, TimeUnit.SECONDS);
+            assertNotNull(camino);
+        } finally {
+            soltar.countDown();
+            escritor.join();
+        }
+        LOG.info("Consulta resuelta sin esperar al escritor");
+    }
+}
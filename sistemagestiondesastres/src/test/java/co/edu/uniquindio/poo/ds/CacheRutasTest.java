@@ -0,0 +1,63 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+
+/**
+ * Pruebas unitarias para CacheRutas.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class CacheRutasTest {
+    private static final Logger LOG = Logger.getLogger(CacheRutasTest.class.getName());
+
+    /**
+     * Verifica el desalojo LRU y las estadísticas.
+     */
+    @Test
+    public void testDesalojoMenosReciente() {
+        LOG.info("Test: Desalojo LRU");
+
+        CacheRutas cache = new CacheRutas(2);
+        List<Ruta> camino = List.of(new Ruta("a", "b", 1.0, 1, 10));
+        cache.guardar("a", "b", AlgoritmoRuta.DIJKSTRA, Metrica.TIEMPO, 0, camino);
+        cache.guardar("a", "c", AlgoritmoRuta.DIJKSTRA, Metrica.TIEMPO, 0, null);
+        assertNotNull(cache.obtener("a", "b", AlgoritmoRuta.DIJKSTRA, Metrica.TIEMPO, 0), "Acceso reciente a (a, b)");
+        cache.guardar("b", "c", AlgoritmoRuta.DIJKSTRA, Metrica.TIEMPO, 0, camino);
+
+        assertNull(cache.obtener("a", "c", AlgoritmoRuta.DIJKSTRA, Metrica.TIEMPO, 0), "(a, c) era la menos reciente");
+        assertNotNull(cache.obtener("a", "b", AlgoritmoRuta.DIJKSTRA, Metrica.TIEMPO, 0));
+        assertNull(cache.obtener("a", "b", AlgoritmoRuta.DIJKSTRA, Metrica.DISTANCIA, 0), "La métrica forma parte de la clave");
+        assertNull(cache.obtener("a", "b", AlgoritmoRuta.A_ESTRELLA, Metrica.TIEMPO, 0), "El algoritmo forma parte de la clave");
+        assertEquals(1, cache.getDesalojos());
+        assertEquals(2, cache.getAciertos());
+        assertEquals(3, cache.getFallos());
+
+        LOG.info("Estadísticas: " + cache.getEstadisticas());
+    }
+
+    /**
+     * Verifica que las entradas de otra versión no se devuelvan y que los
+     * resultados sin camino también se almacenen.
+     */
+    @Test
+    public void testVersionYResultadosVacios() {
+        LOG.info("Test: Versión y resultados vacíos");
+
+        CacheRutas cache = new CacheRutas(10);
+        cache.guardar("a", "b", AlgoritmoRuta.DIJKSTRA, Metrica.TIEMPO, 3, null);
+
+        CacheRutas.Resultado resultado = cache.obtener("a", "b", AlgoritmoRuta.DIJKSTRA, Metrica.TIEMPO, 3);
+        assertNotNull(resultado);
+        assertFalse(resultado.existe(), "Se almacena la ausencia de camino");
+        assertNull(cache.obtener("a", "b", AlgoritmoRuta.DIJKSTRA, Metrica.TIEMPO, 4), "Otra versión invalida la entrada");
+        assertEquals(0, cache.getTamano(), "La entrada inválida se descarta");
+
+        LOG.info("Versiones respetadas");
+    }
+}
@@ -0,0 +1,141 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para CaminosAlternativos.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class CaminosAlternativosTest {
+    private static final Logger LOG = Logger.getLogger(CaminosAlternativosTest.class.getName());
+    private static final int LADO = 4;
+    private GrafoDirigido grafo;
+    private ZonaAfectada[][] malla;
+
+    @BeforeEach
+    public void setUp() {
+        LOG.info("Configurando prueba de CaminosAlternativos");
+        grafo = new GrafoDirigido();
+        malla = new ZonaAfectada[LADO][LADO];
+        Random azar = new Random(11);
+
+        for (int i = 0; i < LADO; i++) {
+            for (int j = 0; j < LADO; j++) {
+                malla[i][j] = new ZonaAfectada("Z" + i + "-" + j, 100, 50, 4.0 + i * 0.1, -75.0 + j * 0.1);
+                grafo.agregarZona(malla[i][j]);
+            }
+        }
+        for (int i = 0; i < LADO; i++) {
+            for (int j = 0; j < LADO; j++) {
+                if (i + 1 < LADO) conectar(malla[i][j], malla[i + 1][j], azar);
+                if (j + 1 < LADO) conectar(malla[i][j], malla[i][j + 1], azar);
+            }
+        }
+    }
+
+    private void conectar(ZonaAfectada a, ZonaAfectada b, Random azar) {
+        grafo.agregarArista(new Ruta(a.getId(), b.getId(), 10, 1 + azar.nextInt(20), 100));
+        grafo.agregarArista(new Ruta(b.getId(), a.getId(), 10, 1 + azar.nextInt(20), 100));
+    }
+
+    /**
+     * Enumera por fuerza bruta los costos de todos los caminos simples.
+     */
+    private void enumerar(GrafoCompacto g, int actual, int destino, boolean[] visitado,
+                          double costo, List<Double> costos) {
+        if (actual == destino) {
+            costos.add(costo);
+            return;
+        }
+        visitado[actual] = true;
+        for (int e = g.inicioAristas(actual); e < g.finAristas(actual); e++) {
+            int v = g.destinoDe(e);
+            if (!visitado[v] && g.rutaDe(e).estaDisponible()) {
+                enumerar(g, v, destino, visitado, costo + g.tiempoDe(e), costos);
+            }
+        }
+        visitado[actual] = false;
+    }
+
+    /**
+     * Verifica que los k caminos coincidan con los k menores costos posibles
+     * y que sean distintos y sin ciclos.
+     */
+    @Test
+    public void testCoincideConEnumeracion() {
+        LOG.info("Test: Yen vs enumeración");
+
+        GrafoCompacto g = grafo.obtenerCompacto();
+        int origen = g.indiceDe(malla[0][0].getId());
+        int destino = g.indiceDe(malla[LADO - 1][LADO - 1].getId());
+        int k = 12;
+
+        List<CaminoCompacto> caminos = CaminosAlternativos.calcular(g, origen, destino, k, Metrica.TIEMPO,
+                ForkJoinPool.commonPool());
+        List<Double> costos = new ArrayList<>();
+        enumerar(g, origen, destino, new boolean[g.getNumeroNodos()], 0.0, costos);
+        costos.sort(null);
+
+        assertEquals(k, caminos.size());
+        Set<List<Integer>> distintos = new HashSet<>();
+        for (int i = 0; i < k; i++) {
+            CaminoCompacto camino = caminos.get(i);
+            assertEquals(costos.get(i), camino.getCosto(), 1e-9, "El camino " + i + " debe tener el i-ésimo menor costo");
+
+            List<Integer> aristas = new ArrayList<>();
+            Set<Integer> nodos = new HashSet<>();
+            nodos.add(origen);
+            for (int e : camino.getAristas()) {
+                aristas.add(e);
+                assertTrue(nodos.add(g.destinoDe(e)), "El camino no debe repetir nodos");
+            }
+            assertTrue(distintos.add(aristas), "Los caminos deben ser distintos");
+        }
+
+        LOG.info("Costos: " + costos.subList(0, k));
+    }
+
+    /**
+     * Verifica que las alternativas eviten rutas bloqueadas y que se devuelvan
+     * menos caminos cuando no existen suficientes.
+     */
+    @Test
+    public void testAlternativasConBloqueos() {
+        LOG.info("Test: alternativas con bloqueos");
+
+        ZonaAfectada a = new ZonaAfectada("A", 10, 10);
+        ZonaAfectada b = new ZonaAfectada("B", 10, 10);
+        ZonaAfectada c = new ZonaAfectada("C", 10, 10);
+        GrafoDirigido pequeno = new GrafoDirigido();
+        pequeno.agregarZona(a);
+        pequeno.agregarZona(b);
+        pequeno.agregarZona(c);
+        Ruta directa = new Ruta(a.getId(), c.getId(), 5, 5, 100);
+        pequeno.agregarArista(directa);
+        pequeno.agregarArista(new Ruta(a.getId(), b.getId(), 3, 3, 100));
+        pequeno.agregarArista(new Ruta(b.getId(), c.getId(), 3, 3, 100));
+
+        assertEquals(2, pequeno.obtenerRutasAlternativas(a.getId(), c.getId(), 5, Metrica.TIEMPO).size());
+
+        directa.setDisponible(false);
+        List<List<Ruta>> caminos = pequeno.obtenerRutasAlternativas(a.getId(), c.getId(), 5, Metrica.TIEMPO);
+        assertEquals(1, caminos.size(), "Solo queda el camino por B");
+        assertEquals(2, caminos.get(0).size());
+
+        LOG.info("Alternativas respetan bloqueos");
+    }
+}
@@ -0,0 +1,143 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para ComponentesFuertes.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class ComponentesFuertesTest {
+    private static final Logger LOG = Logger.getLogger(ComponentesFuertesTest.class.getName());
+
+    /**
+     * Verifica alcanzabilidad, descarte y componentes contra búsquedas en
+     * anchura, mientras se agregan, bloquean, reabren y eliminan rutas.
+     */
+    @Test
+    public void testCoincideConBusquedaEnAnchura() {
+        LOG.info("Test: componentes fuertes vs búsqueda en anchura");
+
+        Random azar = new Random(31);
+        for (int prueba = 0; prueba < 20; prueba++) {
+            int n = 10 + azar.nextInt(30);
+            GrafoDirigido grafo = new GrafoDirigido();
+            List<ZonaAfectada> zonas = new ArrayList<>();
+            List<Ruta> rutas = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ZonaAfectada zona = new ZonaAfectada("Z" + i, 10, 50, 4.0 + i * 0.01, -75.0);
+                zonas.add(zona);
+                grafo.agregarZona(zona);
+            }
+            for (int k = 0; k < n * 2; k++) rutas.add(rutaAleatoria(grafo, zonas, azar));
+
+            for (int paso = 0; paso < 40; paso++) {
+                int accion = azar.nextInt(4);
+                if (accion == 0) {
+                    rutas.add(rutaAleatoria(grafo, zonas, azar));
+                } else if (accion == 1 && !rutas.isEmpty()) {
+                    grafo.eliminarArista(rutas.remove(azar.nextInt(rutas.size())));
+                } else if (!rutas.isEmpty()) {
+                    Ruta ruta = rutas.get(azar.nextInt(rutas.size()));
+                    ruta.setDisponible(!ruta.estaDisponible());
+                }
+                if (paso % 4 != 0) continue;
+
+                ComponentesFuertes componentes = grafo.obtenerComponentes();
+                GrafoCompacto g = componentes.getCompacto();
+                List<Set<String>> conAcceso = new ArrayList<>();
+                for (ZonaAfectada zona : zonas) conAcceso.add(grafo.obtenerZonasConAccesoA(zona.getId()));
+                for (int j = 0; j < n; j++) {
+                    ZonaAfectada destino = zonas.get(j);
+                    for (int i = 0; i < n; i++) {
+                        ZonaAfectada origen = zonas.get(i);
+                        boolean esperado = i == j || conAcceso.get(j).contains(origen.getId());
+                        int o = g.indiceDe(origen.getId()), d = g.indiceDe(destino.getId());
+                        String par = origen.getNombre() + "→" + destino.getNombre() + " (prueba " + prueba + ")";
+                        assertEquals(esperado, grafo.existeCamino(origen.getId(), destino.getId()), par);
+                        if (componentes.descartado(o, d)) assertFalse(esperado, par);
+                        boolean mutuo = esperado && (i == j || conAcceso.get(i).contains(destino.getId()));
+                        assertEquals(mutuo, componentes.componenteDe(o) == componentes.componenteDe(d), par);
+                        if (!esperado) assertNull(grafo.obtenerRutaMasCorta(origen.getId(), destino.getId()), par);
+                    }
+                }
+            }
+        }
+        LOG.info("Componentes verificadas");
+    }
+
+    /**
+     * Verifica que bloquear una ruta con desvío dentro de una componente no
+     * obligue a recalcular, que partirla sí, y las zonas aisladas.
+     */
+    @Test
+    public void testActualizacionIncrementalYZonasAisladas() {
+        LOG.info("Test: mantenimiento incremental y zonas aisladas");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada a = new ZonaAfectada("A", 10, 50, 4.0, -75.0);
+        ZonaAfectada b = new ZonaAfectada("B", 10, 50, 4.1, -75.0);
+        ZonaAfectada c = new ZonaAfectada("C", 10, 50, 4.2, -75.0);
+        ZonaAfectada refugio = new ZonaAfectada("Refugio", 0, 10, 4.3, -75.0);
+        ZonaAfectada lejana = new ZonaAfectada("Lejana", 10, 50, 4.4, -75.0);
+        for (ZonaAfectada z : List.of(a, b, c, refugio, lejana)) grafo.agregarZona(z);
+        refugio.setRefugio(true);
+        Ruta ab = new Ruta(a.getId(), b.getId(), 1, 5, 100);
+        Ruta bc = new Ruta(b.getId(), c.getId(), 1, 5, 100);
+        Ruta ca = new Ruta(c.getId(), a.getId(), 1, 5, 100);
+        Ruta ba = new Ruta(b.getId(), a.getId(), 1, 5, 100);
+        Ruta cr = new Ruta(c.getId(), refugio.getId(), 1, 5, 100);
+        for (Ruta r : List.of(ab, bc, ca, ba, cr)) grafo.agregarArista(r);
+
+        ComponentesFuertes componentes = grafo.obtenerComponentes();
+        assertEquals(3, componentes.getNumeroComponentes());
+        assertEquals(List.of(lejana), grafo.obtenerZonasAisladas());
+
+        // B→A tiene el desvío B→C→A: la componente no se parte
+        ba.setDisponible(false);
+        assertSame(componentes, grafo.obtenerComponentes(), "Bloqueo con desvío");
+        assertTrue(grafo.existeCamino(b.getId(), a.getId()));
+
+        // Sin C→A la componente se parte y se recalcula
+        ca.setDisponible(false);
+        assertNotSame(componentes, grafo.obtenerComponentes(), "Bloqueo sin desvío");
+        componentes = grafo.obtenerComponentes();
+        assertEquals(5, componentes.getNumeroComponentes());
+        assertFalse(grafo.existeCamino(c.getId(), a.getId()));
+        assertTrue(grafo.existeCamino(a.getId(), refugio.getId()));
+
+        cr.setDisponible(false);
+        assertSame(componentes, grafo.obtenerComponentes(), "Ruta entre componentes");
+        assertFalse(grafo.existeCamino(a.getId(), refugio.getId()));
+        assertEquals(4, grafo.obtenerZonasAisladas().size());
+        assertNull(grafo.obtenerRutaMasCorta(a.getId(), refugio.getId()));
+
+        cr.setDisponible(true);
+        assertSame(componentes, grafo.obtenerComponentes());
+        assertEquals(List.of(lejana), grafo.obtenerZonasAisladas());
+
+        Ruta lr = new Ruta(lejana.getId(), refugio.getId(), 1, 5, 100);
+        grafo.agregarArista(lr);
+        assertNotSame(componentes, grafo.obtenerComponentes(), "Arco nuevo en la condensación");
+        assertTrue(grafo.obtenerZonasAisladas().isEmpty());
+        LOG.info("Mantenimiento verificado");
+    }
+
+    private static Ruta rutaAleatoria(GrafoDirigido grafo, List<ZonaAfectada> zonas, Random azar) {
+        int u = azar.nextInt(zonas.size()), v = azar.nextInt(zonas.size());
+        Ruta ruta = new Ruta(zonas.get(u).getId(), zonas.get(v).getId(), 1, 1 + azar.nextInt(20), 100);
+        grafo.agregarArista(ruta);
+        if (azar.nextInt(5) == 0) ruta.setDisponible(false);
+        return ruta;
+    }
+}
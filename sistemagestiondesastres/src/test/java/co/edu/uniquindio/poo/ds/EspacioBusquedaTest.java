@@ -0,0 +1,104 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * Pruebas unitarias para EspacioBusqueda.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class EspacioBusquedaTest {
+    private static final Logger LOG = Logger.getLogger(EspacioBusquedaTest.class.getName());
+
+    /**
+     * Verifica que iniciar olvide la búsqueda anterior, que el espacio crezca
+     * y que cada hilo y cada sentido tengan el suyo.
+     */
+    @Test
+    public void testEpocas() throws InterruptedException {
+        LOG.info("Test: épocas del espacio de búsqueda");
+
+        EspacioBusqueda espacio = EspacioBusqueda.adelante(10);
+        espacio.fijar(3, 2.5, 7);
+        espacio.asentar(3);
+        espacio.fijarAuxiliar(3, 1.0);
+        espacio.cola().insertarOActualizar(4, 1.0);
+        assertEquals(2.5, espacio.costo(3), 1e-12);
+        assertEquals(7, espacio.previa(3));
+        assertTrue(espacio.asentado(3));
+        assertEquals(1.0, espacio.auxiliar(3), 1e-12);
+
+        assertSame(espacio, EspacioBusqueda.adelante(1000), "Mismo espacio en el mismo hilo");
+        assertEquals(Double.POSITIVE_INFINITY, espacio.costo(3));
+        assertEquals(-1, espacio.previa(3));
+        assertFalse(espacio.alcanzado(3));
+        assertFalse(espacio.asentado(3));
+        assertTrue(espacio.cola().estaVacio());
+        espacio.fijar(999, 1.0, -1);
+        espacio.cola().insertarOActualizar(999, 1.0);
+        assertEquals(999, espacio.cola().extraerMinimo());
+
+        assertNotSame(espacio, EspacioBusqueda.atras(10), "Otro espacio hacia atrás");
+        AtomicReference<EspacioBusqueda> deOtroHilo = new AtomicReference<>();
+        Thread hilo = new Thread(() -> deOtroHilo.set(EspacioBusqueda.adelante(10)));
+        hilo.start();
+        hilo.join();
+        assertNotSame(espacio, deOtroHilo.get(), "Otro espacio en otro hilo");
+        LOG.info("Épocas verificadas");
+    }
+
+    /**
+     * Verifica que búsquedas sucesivas sobre grafos de distinto tamaño en el
+     * mismo hilo, y en varios hilos a la vez, den los costos de una búsqueda
+     * completa de referencia.
+     */
+    @Test
+    public void testBusquedasReutilizanEspacio() throws InterruptedException {
+        LOG.info("Test: búsquedas que reutilizan el espacio");
+
+        GrafoCompacto grande = ParticionGrafoTest.cuadricula(25).obtenerCompacto();
+        GrafoCompacto chico = ParticionGrafoTest.cuadricula(4).obtenerCompacto();
+        int n = grande.getNumeroNodos();
+        double[][] referencia = new double[n][];
+        for (int o = 0; o < n; o += 37) referencia[o] = grande.distanciasDesde(o, Metrica.TIEMPO);
+
+        AtomicReference<Throwable> fallo = new AtomicReference<>();
+        List<Thread> hilos = new ArrayList<>();
+        for (int h = 0; h < 4; h++) {
+            long semilla = 53 + h;
+            Thread hilo = new Thread(() -> {
+                try {
+                    Random azar = new Random(semilla);
+                    for (int k = 0; k < 200; k++) {
+                        int o = azar.nextInt(n / 37 + 1) * 37 % n;
+                        if (referencia[o] == null) continue;
+                        int d = azar.nextInt(n);
+                        if (d == o) continue;
+                        double esperado = referencia[o][d];
+                        assertEquals(esperado, grande.dijkstra(o, d, Metrica.TIEMPO).getCosto(), 1e-9);
+                        // Una búsqueda en un grafo más chico entre medio no deja rastros
+                        chico.bidireccional(azar.nextInt(16), azar.nextInt(16), Metrica.TIEMPO);
+                        assertEquals(esperado, grande.bidireccional(o, d, Metrica.TIEMPO).getCosto(), 1e-9);
+                        assertEquals(esperado, grande.aEstrella(o, d, Metrica.TIEMPO).getCosto(), 1e-9);
+                        CaminoCompacto[] caminos = grande.caminosDesde(o, new int[] {d, d, o}, Metrica.TIEMPO);
+                        assertEquals(esperado, caminos[1].getCosto(), 1e-9);
+                    }
+                } catch (Throwable t) {
+                    fallo.compareAndSet(null, t);
+                }
+            });
+            hilos.add(hilo);
+            hilo.start();
+        }
+        for (Thread hilo : hilos) hilo.join();
+        assertNull(fallo.get(), () -> "Fallo en búsqueda: " + fallo.get());
+        LOG.info("Reutilización verificada");
+    }
+}
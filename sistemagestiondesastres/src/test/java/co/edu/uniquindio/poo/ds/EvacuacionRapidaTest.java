@@ -0,0 +1,234 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para RedExpandida y EvacuacionRapida.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class EvacuacionRapidaTest {
+    private static final Logger LOG = Logger.getLogger(EvacuacionRapidaTest.class.getName());
+
+    /**
+     * Verifica el tiempo mínimo en una ruta única y en dos rutas paralelas.
+     */
+    @Test
+    public void testTiempoMinimoAnalitico() {
+        LOG.info("Test: tiempo mínimo de evacuación analítico");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada origen = new ZonaAfectada("Origen", 100, 90, 4.0, -75.0);
+        ZonaAfectada refugio = new ZonaAfectada("Refugio", 0, 10, 4.1, -75.0);
+        grafo.agregarZona(origen);
+        grafo.agregarZona(refugio);
+        refugio.setRefugio(true);
+        // 60 personas por hora = 1 por minuto; 10 minutos de tránsito
+        grafo.agregarArista(new Ruta(origen.getId(), refugio.getId(), 1, 10, 60));
+
+        EvacuacionRapida evacuacion = grafo.planificarEvacuacionRapida(List.of(origen), 1, 300);
+        assertEquals(100, evacuacion.getPersonasEvacuadas());
+        assertEquals(109, evacuacion.getIntervalos(), "Sale uno por minuto del 0 al 99 y tarda 10");
+        RedExpandida red = evacuacion.getRed();
+        int salidas = 0;
+        for (int t = 0; t <= red.getIntervalos(); t++) {
+            assertTrue(red.salidasEn(0, t) <= 1);
+            salidas += red.salidasEn(0, t);
+        }
+        assertEquals(100, salidas);
+
+        ZonaAfectada cruce = new ZonaAfectada("Cruce", 0, 10, 4.05, -75.0);
+        grafo.agregarZona(cruce);
+        grafo.agregarArista(new Ruta(origen.getId(), cruce.getId(), 1, 4, 60));
+        grafo.agregarArista(new Ruta(cruce.getId(), refugio.getId(), 1, 6, 120));
+        evacuacion = grafo.planificarEvacuacionRapida(List.of(origen), 1, 300);
+        assertEquals(59, evacuacion.getIntervalos(), "Dos personas por minuto del 0 al 49 y 10 de tránsito");
+
+        refugio.setCapacidadRefugio(40);
+        evacuacion = grafo.planificarEvacuacionRapida(List.of(origen), 1, 300);
+        assertEquals(40, evacuacion.getPersonasEvacuadas());
+        assertEquals(29, evacuacion.getIntervalos());
+        LOG.info("Tiempos mínimos verificados");
+    }
+
+    /**
+     * Verifica que una zona sin camino utilizable a un refugio no lleve la
+     * duplicación del horizonte hasta el máximo.
+     */
+    @Test
+    public void testZonaSinAccesoNoAgotaHorizonte() {
+        LOG.info("Test: zona sin acceso a refugios");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada origen = new ZonaAfectada("Origen", 100, 90, 4.0, -75.0);
+        ZonaAfectada aislada = new ZonaAfectada("Aislada", 50, 90, 4.2, -75.0);
+        ZonaAfectada refugio = new ZonaAfectada("Refugio", 0, 10, 4.1, -75.0);
+        grafo.agregarZona(origen);
+        grafo.agregarZona(aislada);
+        grafo.agregarZona(refugio);
+        refugio.setRefugio(true);
+        grafo.agregarArista(new Ruta(origen.getId(), refugio.getId(), 1, 10, 60));
+        // Una ruta bloqueada y otra sin capacidad no dan acceso
+        Ruta bloqueada = new Ruta(aislada.getId(), refugio.getId(), 1, 10, 60);
+        grafo.agregarArista(bloqueada);
+        grafo.agregarArista(new Ruta(aislada.getId(), origen.getId(), 1, 10, 0));
+        bloqueada.setDisponible(false);
+
+        EvacuacionRapida evacuacion = grafo.planificarEvacuacionRapida(List.of(origen, aislada), 1, 1 << 20);
+        assertEquals(150, evacuacion.getPersonasSolicitadas());
+        assertEquals(50, evacuacion.getPersonasSinAcceso());
+        assertEquals(100, evacuacion.getPersonasEvacuadas());
+        assertEquals(109, evacuacion.getIntervalos());
+        // Duplicando hasta 128 y bisección entre 65 y 128, no hasta 2^20
+        assertTrue(evacuacion.getRedesResueltas() <= 16, "Redes resueltas: " + evacuacion.getRedesResueltas());
+        assertTrue(RedExpandida.tamano(grafo.obtenerCompacto(), 1 << 20, 2, 1)
+                > RedExpandida.tamano(grafo.obtenerCompacto(), 128, 2, 1) * 8000);
+        LOG.info("Zona sin acceso omitida de la meta");
+    }
+
+    /**
+     * Verifica en redes aleatorias que el cronograma respete capacidades y
+     * conservación por intervalo, y que un intervalo menos no alcance.
+     */
+    @Test
+    public void testCronogramaFactibleYMinimo() {
+        LOG.info("Test: cronograma factible y mínimo");
+
+        Random azar = new Random(23);
+        for (int prueba = 0; prueba < 25; prueba++) {
+            int n = 5 + azar.nextInt(8);
+            GrafoDirigido grafo = new GrafoDirigido();
+            List<ZonaAfectada> zonas = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ZonaAfectada zona = new ZonaAfectada("Z" + i, 10 + azar.nextInt(60), 80, 4.0 + i * 0.01, -75.0);
+                zonas.add(zona);
+                grafo.agregarZona(zona);
+            }
+            for (int k = 0; k < n * 3; k++) {
+                int u = azar.nextInt(n), v = azar.nextInt(n);
+                if (u == v) continue;
+                grafo.agregarArista(new Ruta(zonas.get(u).getId(), zonas.get(v).getId(), 1,
+                        1 + azar.nextInt(25), 30 + azar.nextInt(200)));
+            }
+            zonas.get(n - 1).setRefugio(true);
+            zonas.get(n - 2).setRefugio(true);
+            zonas.get(n - 2).setCapacidadRefugio(azar.nextInt(80));
+            double minutos = 1 + azar.nextInt(5);
+
+            EvacuacionRapida evacuacion = grafo.planificarEvacuacionRapida(zonas.subList(0, 3), minutos, 200);
+            RedExpandida red = evacuacion.getRed();
+            verificarFlujo(red, evacuacion.getPersonasEvacuadas());
+
+            if (evacuacion.getIntervalos() > 0) {
+                GrafoCompacto g = red.getCompacto();
+                int[] origenes = new int[red.getNumeroOrigenes()];
+                long[] personas = new long[origenes.length];
+                for (int i = 0; i < origenes.length; i++) {
+                    origenes[i] = red.origenEn(i);
+                    personas[i] = red.personasDe(i);
+                }
+                int[] refugios = new int[red.getNumeroRefugios()];
+                long[] capacidades = new long[refugios.length];
+                for (int j = 0; j < refugios.length; j++) {
+                    refugios[j] = red.refugioEn(j);
+                    capacidades[j] = grafo.obtenerZonaPorId(g.idDe(refugios[j])).getCapacidadRefugio();
+                }
+                RedExpandida menor = new RedExpandida(g, minutos, evacuacion.getIntervalos() - 1,
+                        origenes, personas, refugios, capacidades);
+                assertTrue(menor.maximizar() < evacuacion.getPersonasEvacuadas(), "Prueba " + prueba);
+            }
+        }
+        LOG.info("Cronogramas verificados");
+    }
+
+    /**
+     * Verifica que una malla con horizonte de horas a resolución de minutos
+     * se resuelva.
+     */
+    @Test
+    public void testMallaConResolucionDeMinutos() {
+        LOG.info("Test: red expandida de horas a resolución de minutos");
+
+        int lado = 25;
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada[][] malla = new ZonaAfectada[lado][lado];
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                malla[i][j] = new ZonaAfectada("Z" + i + "-" + j, 200, 80, 4.0 + i * 0.01, -75.0 + j * 0.01);
+                grafo.agregarZona(malla[i][j]);
+            }
+        }
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                if (i + 1 < lado) {
+                    grafo.agregarArista(new Ruta(malla[i][j].getId(), malla[i + 1][j].getId(), 1, 3, 600));
+                    grafo.agregarArista(new Ruta(malla[i + 1][j].getId(), malla[i][j].getId(), 1, 3, 600));
+                }
+                if (j + 1 < lado) {
+                    grafo.agregarArista(new Ruta(malla[i][j].getId(), malla[i][j + 1].getId(), 1, 3, 600));
+                    grafo.agregarArista(new Ruta(malla[i][j + 1].getId(), malla[i][j].getId(), 1, 3, 600));
+                }
+            }
+        }
+        List<ZonaAfectada> origenes = new ArrayList<>();
+        for (int i = 0; i < lado; i++) {
+            origenes.add(malla[i][0]);
+            malla[i][lado - 1].setRefugio(true);
+        }
+
+        long inicio = System.nanoTime();
+        EvacuacionRapida evacuacion = grafo.planificarEvacuacionRapida(origenes, 1, 240);
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+        LOG.info("Evacuación en " + evacuacion.getMinutos() + " min, " + evacuacion.getRedesResueltas()
+                + " redes, " + ms + " ms");
+        assertEquals(200L * lado, evacuacion.getPersonasEvacuadas());
+        verificarFlujo(evacuacion.getRed(), evacuacion.getPersonasEvacuadas());
+        assertTrue(evacuacion.getMinutos() >= 3 * (lado - 1));
+    }
+
+    private static void verificarFlujo(RedExpandida red, long evacuadas) {
+        GrafoCompacto g = red.getCompacto();
+        int n = g.getNumeroNodos();
+        int[] origenEn = new int[n];
+        int[] refugioEn = new int[n];
+        java.util.Arrays.fill(origenEn, -1);
+        java.util.Arrays.fill(refugioEn, -1);
+        for (int i = 0; i < red.getNumeroOrigenes(); i++) origenEn[red.origenEn(i)] = i;
+        for (int j = 0; j < red.getNumeroRefugios(); j++) refugioEn[red.refugioEn(j)] = j;
+
+        long salidas = 0, llegadas = 0;
+        for (int t = 0; t <= red.getIntervalos(); t++) {
+            for (int e = 0; e < g.getNumeroAristas(); e++) {
+                assertTrue(red.flujoRutaEn(e, t) >= 0 && red.flujoRutaEn(e, t) <= red.capacidadRutaEn(e, t));
+                if (red.flujoRutaEn(e, t) > 0) assertTrue(t + red.transitoDe(e) <= red.getIntervalos());
+            }
+            for (int v = 0; v < n; v++) {
+                long entra = t > 0 ? red.esperaEn(v, t - 1) : 0;
+                for (int p = g.inicioEntrantes(v); p < g.finEntrantes(v); p++) {
+                    int e = g.aristaEntrante(p);
+                    int desde = t - red.transitoDe(e);
+                    if (red.transitoDe(e) >= 0 && desde >= 0) entra += red.flujoRutaEn(e, desde);
+                }
+                if (origenEn[v] >= 0) entra += red.salidasEn(origenEn[v], t);
+                long sale = t < red.getIntervalos() ? red.esperaEn(v, t) : 0;
+                for (int e = g.inicioAristas(v); e < g.finAristas(v); e++) sale += red.flujoRutaEn(e, t);
+                if (refugioEn[v] >= 0) sale += red.llegadasEn(refugioEn[v], t);
+                assertEquals(entra, sale, "Conservación en zona " + v + ", intervalo " + t);
+                if (origenEn[v] >= 0) salidas += red.salidasEn(origenEn[v], t);
+                if (refugioEn[v] >= 0) llegadas += red.llegadasEn(refugioEn[v], t);
+            }
+        }
+        assertEquals(evacuadas, salidas);
+        assertEquals(evacuadas, llegadas);
+        for (int j = 0; j < red.getNumeroRefugios(); j++) assertTrue(red.recibidasEn(j) <= red.capacidadRefugioDe(j));
+    }
+}
@@ -0,0 +1,193 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para FlujoCostoMinimo.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class FlujoCostoMinimoTest {
+    private static final Logger LOG = Logger.getLogger(FlujoCostoMinimoTest.class.getName());
+
+    /**
+     * Verifica personas asignadas y tiempo total contra caminos sucesivos
+     * con Bellman-Ford, y que el plan respete capacidades y se descomponga
+     * en caminos válidos.
+     */
+    @Test
+    public void testCoincideConBellmanFord() {
+        LOG.info("Test: flujo de costo mínimo vs Bellman-Ford");
+
+        Random azar = new Random(17);
+        for (int prueba = 0; prueba < 50; prueba++) {
+            int n = 5 + azar.nextInt(10);
+            GrafoDirigido grafo = new GrafoDirigido();
+            List<ZonaAfectada> zonas = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ZonaAfectada zona = new ZonaAfectada("Z" + i, 20 + azar.nextInt(200), 80, 4.0 + i * 0.01, -75.0);
+                zonas.add(zona);
+                grafo.agregarZona(zona);
+            }
+            for (int k = 0; k < n * 3; k++) {
+                int u = azar.nextInt(n), v = azar.nextInt(n);
+                if (u == v) continue;
+                Ruta ruta = new Ruta(zonas.get(u).getId(), zonas.get(v).getId(), 1, 1 + azar.nextInt(30), azar.nextInt(40));
+                grafo.agregarArista(ruta);
+                if (azar.nextInt(10) == 0) ruta.setDisponible(false);
+            }
+            zonas.get(n - 1).setRefugio(true);
+            zonas.get(n - 2).setRefugio(true);
+            zonas.get(n - 1).setCapacidadRefugio(azar.nextInt(300));
+            double horas = 1 + azar.nextInt(3);
+
+            FlujoCostoMinimo plan = grafo.planificarEvacuacionConjunta(zonas.subList(0, 3), horas);
+            GrafoCompacto g = plan.getCompacto();
+
+            long[] referencia = referencia(grafo, plan, horas);
+            assertEquals(referencia[0], plan.getPersonasAsignadas(), "Personas en la prueba " + prueba);
+            assertEquals(referencia[1], Math.round(plan.getCostoTotal()), "Costo en la prueba " + prueba);
+
+            for (int e = 0; e < g.getNumeroAristas(); e++) {
+                Ruta ruta = g.rutaDe(e);
+                assertTrue(plan.flujoEn(e) <= (long) (ruta.getCapacidad() * horas));
+                if (!ruta.estaDisponible()) assertEquals(0, plan.flujoEn(e));
+            }
+            long[] porOrigen = new long[plan.getNumeroOrigenes()];
+            long[] porRefugio = new long[plan.getNumeroRefugios()];
+            for (FlujoCostoMinimo.Asignacion a : plan.getAsignaciones()) {
+                assertTrue(a.getPersonas() > 0);
+                porOrigen[a.getOrigen()] += a.getPersonas();
+                porRefugio[a.getRefugio()] += a.getPersonas();
+                int actual = plan.origenEn(a.getOrigen());
+                for (int e : a.getAristas()) {
+                    assertEquals(actual, g.origenDe(e));
+                    actual = g.destinoDe(e);
+                }
+                assertEquals(plan.refugioEn(a.getRefugio()), actual);
+            }
+            for (int i = 0; i < porOrigen.length; i++) {
+                assertEquals(plan.asignadasDesde(i), porOrigen[i]);
+                assertTrue(plan.asignadasDesde(i) <= zonas.get(i).getPoblacion());
+            }
+            for (int j = 0; j < porRefugio.length; j++) {
+                assertEquals(plan.recibidasEn(j), porRefugio[j]);
+                int capacidad = grafo.obtenerZonaPorId(g.idDe(plan.refugioEn(j))).getCapacidadRefugio();
+                if (capacidad > 0) assertTrue(plan.recibidasEn(j) <= capacidad);
+            }
+        }
+        LOG.info("Planes verificados");
+    }
+
+    /**
+     * Verifica que, si la vía compartida no alcanza, pase primero la zona de
+     * mayor riesgo aunque quede más lejos.
+     */
+    @Test
+    public void testPrioridadPorRiesgo() {
+        LOG.info("Test: prioridad por riesgo en el plan conjunto");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada alta = new ZonaAfectada("Alta", 100, 95, 4.0, -75.0);
+        ZonaAfectada media = new ZonaAfectada("Media", 100, 55, 4.1, -75.0);
+        ZonaAfectada cruce = new ZonaAfectada("Cruce", 0, 10, 4.2, -75.0);
+        ZonaAfectada refugio = new ZonaAfectada("Refugio", 0, 10, 4.3, -75.0);
+        for (ZonaAfectada z : List.of(alta, media, cruce, refugio)) grafo.agregarZona(z);
+        refugio.setRefugio(true);
+        refugio.setCapacidadRefugio(500);
+        grafo.agregarArista(new Ruta(alta.getId(), cruce.getId(), 1, 60, 1000));
+        grafo.agregarArista(new Ruta(media.getId(), cruce.getId(), 1, 1, 1000));
+        grafo.agregarArista(new Ruta(cruce.getId(), refugio.getId(), 1, 5, 120));
+
+        ColaPrioridadEvacuaciones cola = new ColaPrioridadEvacuaciones();
+        cola.registrarZonaEvacuacion(media);
+        cola.registrarZonaEvacuacion(alta);
+        cola.registrarZonaEvacuacion(alta);
+        assertEquals(List.of(alta, alta, media), cola.obtenerPendientes());
+
+        FlujoCostoMinimo plan = grafo.planificarEvacuacionConjunta(cola.obtenerPendientes(), 1);
+        assertEquals(2, plan.getNumeroOrigenes(), "La zona repetida se planifica una vez");
+        assertEquals(100, plan.asignadasDesde(0));
+        assertEquals(20, plan.asignadasDesde(1));
+        assertEquals(120, plan.getPersonasAsignadas());
+        assertEquals(100 * 65 + 20 * 6, plan.getCostoTotal(), 1e-9);
+        LOG.info("Prioridad verificada");
+    }
+
+    /**
+     * Costo mínimo de referencia: caminos sucesivos con Bellman-Ford sobre
+     * matriz de capacidades (sin potenciales ni descomposición).
+     *
+     * @return {personas asignadas, tiempo total redondeado}
+     */
+    private static long[] referencia(GrafoDirigido grafo, FlujoCostoMinimo plan, double horas) {
+        GrafoCompacto g = plan.getCompacto();
+        int n = g.getNumeroNodos() + 2;
+        int fuente = n - 2, sumidero = n - 1;
+        List<int[]> arcos = new ArrayList<>();
+        List<long[]> capacidades = new ArrayList<>();
+        List<Double> costos = new ArrayList<>();
+        for (int e = 0; e < g.getNumeroAristas(); e++) {
+            Ruta ruta = g.rutaDe(e);
+            long capacidad = (long) Math.floor(ruta.getCapacidad() * horas);
+            if (!ruta.estaDisponible() || capacidad <= 0) continue;
+            agregar(arcos, capacidades, costos, g.origenDe(e), g.destinoDe(e), capacidad, g.tiempoDe(e));
+        }
+        for (int i = 0; i < plan.getNumeroOrigenes(); i++) {
+            int poblacion = grafo.obtenerZonaPorId(g.idDe(plan.origenEn(i))).getPoblacion();
+            agregar(arcos, capacidades, costos, fuente, plan.origenEn(i), poblacion, 0);
+        }
+        for (int j = 0; j < plan.getNumeroRefugios(); j++) {
+            int capacidad = grafo.obtenerZonaPorId(g.idDe(plan.refugioEn(j))).getCapacidadRefugio();
+            agregar(arcos, capacidades, costos, plan.refugioEn(j), sumidero, capacidad > 0 ? capacidad : Long.MAX_VALUE / 4, 0);
+        }
+
+        long personas = 0;
+        double costo = 0;
+        while (true) {
+            double[] dist = new double[n];
+            int[] padre = new int[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            Arrays.fill(padre, -1);
+            dist[fuente] = 0;
+            for (int ronda = 0; ronda < n; ronda++) {
+                for (int a = 0; a < arcos.size(); a++) {
+                    int[] uv = arcos.get(a);
+                    if (capacidades.get(a)[0] > 0 && dist[uv[0]] + costos.get(a) < dist[uv[1]] - 1e-9) {
+                        dist[uv[1]] = dist[uv[0]] + costos.get(a);
+                        padre[uv[1]] = a;
+                    }
+                }
+            }
+            if (dist[sumidero] == Double.POSITIVE_INFINITY) return new long[] {personas, Math.round(costo)};
+            long cuello = Long.MAX_VALUE;
+            for (int v = sumidero; v != fuente; v = arcos.get(padre[v])[0]) cuello = Math.min(cuello, capacidades.get(padre[v])[0]);
+            for (int v = sumidero; v != fuente; v = arcos.get(padre[v])[0]) {
+                capacidades.get(padre[v])[0] -= cuello;
+                capacidades.get(padre[v] ^ 1)[0] += cuello;
+            }
+            personas += cuello;
+            costo += cuello * dist[sumidero];
+        }
+    }
+
+    private static void agregar(List<int[]> arcos, List<long[]> capacidades, List<Double> costos,
+                                int u, int v, long capacidad, double costo) {
+        arcos.add(new int[] {u, v});
+        capacidades.add(new long[] {capacidad});
+        costos.add(costo);
+        arcos.add(new int[] {v, u});
+        capacidades.add(new long[] {0});
+        costos.add(-costo);
+    }
+}
@@ -0,0 +1,203 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para FlujoMaximo.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class FlujoMaximoTest {
+    private static final Logger LOG = Logger.getLogger(FlujoMaximoTest.class.getName());
+
+    /**
+     * Verifica el flujo total contra Edmonds-Karp sobre matriz de capacidades,
+     * la conservación del flujo, las capacidades y el corte mínimo.
+     */
+    @Test
+    public void testCoincideConEdmondsKarp() {
+        LOG.info("Test: Dinic vs Edmonds-Karp");
+
+        Random azar = new Random(13);
+        for (int prueba = 0; prueba < 60; prueba++) {
+            int n = 4 + azar.nextInt(10);
+            GrafoDirigido grafo = new GrafoDirigido();
+            List<ZonaAfectada> zonas = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ZonaAfectada zona = new ZonaAfectada("Z" + i, 100, 50, 4.0 + i * 0.01, -75.0);
+                zonas.add(zona);
+                grafo.agregarZona(zona);
+            }
+            int aristas = n * 3;
+            for (int k = 0; k < aristas; k++) {
+                int u = azar.nextInt(n), v = azar.nextInt(n);
+                if (u == v) continue;
+                Ruta ruta = new Ruta(zonas.get(u).getId(), zonas.get(v).getId(), 1, 1, azar.nextInt(50));
+                grafo.agregarArista(ruta);
+                if (azar.nextInt(8) == 0) ruta.setDisponible(false);
+            }
+            List<String> origenes = List.of(zonas.get(0).getId(), zonas.get(1).getId());
+            List<String> refugios = List.of(zonas.get(n - 1).getId(), zonas.get(n - 2).getId());
+
+            FlujoMaximo flujo = grafo.calcularCapacidadEvacuacion(origenes, refugios);
+            GrafoCompacto g = flujo.getCompacto();
+            int[] o = {g.indiceDe(origenes.get(0)), g.indiceDe(origenes.get(1))};
+            int[] d = {g.indiceDe(refugios.get(0)), g.indiceDe(refugios.get(1))};
+            assertEquals(edmondsKarp(g, o, d), flujo.getFlujoTotal(), "Prueba " + prueba);
+
+            long[] balance = new long[g.getNumeroNodos()];
+            for (int e = 0; e < g.getNumeroAristas(); e++) {
+                long f = flujo.flujoEn(e);
+                Ruta ruta = g.rutaDe(e);
+                assertTrue(f >= 0 && f <= ruta.getCapacidad());
+                if (!ruta.estaDisponible()) assertEquals(0, f);
+                balance[g.origenDe(e)] -= f;
+                balance[g.destinoDe(e)] += f;
+            }
+            long llegada = 0;
+            for (int v = 0; v < g.getNumeroNodos(); v++) {
+                boolean terminal = v == o[0] || v == o[1] || v == d[0] || v == d[1];
+                if (!terminal) assertEquals(0, balance[v], "Conservación en " + v);
+                if (v == d[0] || v == d[1]) llegada += balance[v];
+            }
+            assertEquals(flujo.getFlujoTotal(), llegada);
+
+            long corte = 0;
+            for (int e : flujo.rutasCorteMinimo()) {
+                assertEquals(g.rutaDe(e).getCapacidad(), flujo.flujoEn(e), "Ruta del corte saturada");
+                corte += g.rutaDe(e).getCapacidad();
+            }
+            assertEquals(flujo.getFlujoTotal(), corte, "Flujo máximo = corte mínimo");
+        }
+        LOG.info("Flujos verificados");
+    }
+
+    /**
+     * Verifica los valores por defecto: zonas de riesgo alto no evacuadas
+     * como origen y zonas marcadas como refugio como destino.
+     */
+    @Test
+    public void testOrigenesYRefugiosPorDefecto() {
+        LOG.info("Test: orígenes y refugios por defecto");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada alta = new ZonaAfectada("Alta", 100, 90, 4.0, -75.0);
+        ZonaAfectada evacuada = new ZonaAfectada("Evacuada", 100, 80, 4.1, -75.0);
+        ZonaAfectada baja = new ZonaAfectada("Baja", 100, 10, 4.2, -75.0);
+        ZonaAfectada refugio = new ZonaAfectada("Refugio", 100, 10, 4.3, -75.0);
+        for (ZonaAfectada z : List.of(alta, evacuada, baja, refugio)) grafo.agregarZona(z);
+        refugio.setRefugio(true);
+        evacuada.marcarComoEvacuada();
+        grafo.agregarArista(new Ruta(alta.getId(), refugio.getId(), 1, 1, 30));
+        grafo.agregarArista(new Ruta(evacuada.getId(), refugio.getId(), 1, 1, 40));
+        grafo.agregarArista(new Ruta(baja.getId(), refugio.getId(), 1, 1, 50));
+
+        FlujoMaximo flujo = grafo.calcularCapacidadEvacuacion(null, null);
+        assertEquals(30, flujo.getFlujoTotal());
+        assertEquals(1, flujo.rutasCorteMinimo().length);
+        assertThrows(IllegalArgumentException.class,
+                () -> grafo.calcularCapacidadEvacuacion(List.of("no-existe"), null));
+        LOG.info("Valores por defecto verificados");
+    }
+
+    /**
+     * Verifica que una malla con decenas de miles de rutas se resuelva en
+     * bastante menos de un segundo.
+     */
+    @Test
+    public void testRendimientoMallaGrande() {
+        LOG.info("Test: rendimiento en malla grande");
+
+        int lado = 100;
+        Random azar = new Random(5);
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada[][] malla = new ZonaAfectada[lado][lado];
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                malla[i][j] = new ZonaAfectada("Z" + i + "-" + j, 100, 50, 4.0 + i * 0.01, -75.0 + j * 0.01);
+                grafo.agregarZona(malla[i][j]);
+            }
+        }
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                if (i + 1 < lado) {
+                    grafo.agregarArista(new Ruta(malla[i][j].getId(), malla[i + 1][j].getId(), 1, 1, 10 + azar.nextInt(500)));
+                    grafo.agregarArista(new Ruta(malla[i + 1][j].getId(), malla[i][j].getId(), 1, 1, 10 + azar.nextInt(500)));
+                }
+                if (j + 1 < lado) {
+                    grafo.agregarArista(new Ruta(malla[i][j].getId(), malla[i][j + 1].getId(), 1, 1, 10 + azar.nextInt(500)));
+                    grafo.agregarArista(new Ruta(malla[i][j + 1].getId(), malla[i][j].getId(), 1, 1, 10 + azar.nextInt(500)));
+                }
+            }
+        }
+        List<String> origenes = new ArrayList<>();
+        List<String> refugios = new ArrayList<>();
+        for (int i = 0; i < lado; i++) {
+            origenes.add(malla[i][0].getId());
+            refugios.add(malla[i][lado - 1].getId());
+        }
+        // Primera ejecución como calentamiento (compacto y JIT)
+        grafo.calcularCapacidadEvacuacion(origenes, refugios);
+
+        long inicio = System.nanoTime();
+        FlujoMaximo flujo = grafo.calcularCapacidadEvacuacion(origenes, refugios);
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+        LOG.info("Flujo " + flujo.getFlujoTotal() + " en " + ms + " ms, " + flujo.getFases() + " fases");
+
+        assertTrue(flujo.getCompacto().getNumeroAristas() > 35_000);
+        assertTrue(flujo.getFlujoTotal() > 0);
+        long corte = 0;
+        for (int e : flujo.rutasCorteMinimo()) corte += flujo.getCompacto().rutaDe(e).getCapacidad();
+        assertEquals(flujo.getFlujoTotal(), corte);
+        assertTrue(ms < 1000, "Tardó " + ms + " ms");
+    }
+
+    private static long edmondsKarp(GrafoCompacto g, int[] origenes, int[] destinos) {
+        int n = g.getNumeroNodos() + 2;
+        int fuente = n - 2, sumidero = n - 1;
+        long infinito = Long.MAX_VALUE / 4;
+        long[][] capacidad = new long[n][n];
+        for (int e = 0; e < g.getNumeroAristas(); e++) {
+            Ruta ruta = g.rutaDe(e);
+            if (ruta.estaDisponible() && ruta.getCapacidad() > 0) capacidad[g.origenDe(e)][g.destinoDe(e)] += ruta.getCapacidad();
+        }
+        for (int d : destinos) capacidad[d][sumidero] = infinito;
+        for (int o : origenes) {
+            boolean esDestino = false;
+            for (int d : destinos) esDestino |= d == o;
+            if (!esDestino) capacidad[fuente][o] = infinito;
+        }
+        long total = 0;
+        while (true) {
+            int[] padre = new int[n];
+            java.util.Arrays.fill(padre, -1);
+            padre[fuente] = fuente;
+            ArrayDeque<Integer> cola = new ArrayDeque<>();
+            cola.add(fuente);
+            while (!cola.isEmpty() && padre[sumidero] < 0) {
+                int u = cola.poll();
+                for (int v = 0; v < n; v++) {
+                    if (padre[v] < 0 && capacidad[u][v] > 0) { padre[v] = u; cola.add(v); }
+                }
+            }
+            if (padre[sumidero] < 0) return total;
+            long cuello = infinito;
+            for (int v = sumidero; v != fuente; v = padre[v]) cuello = Math.min(cuello, capacidad[padre[v]][v]);
+            for (int v = sumidero; v != fuente; v = padre[v]) {
+                capacidad[padre[v]][v] -= cuello;
+                capacidad[v][padre[v]] += cuello;
+            }
+            total += cuello;
+        }
+    }
+}
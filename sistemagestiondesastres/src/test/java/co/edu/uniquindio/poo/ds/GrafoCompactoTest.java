@@ -0,0 +1,189 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.PerfilTiempo;
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import co.edu.uniquindio.poo.services.GeoService;
+
+/**
+ * Pruebas unitarias para GrafoCompacto.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class GrafoCompactoTest {
+    private static final Logger LOG = Logger.getLogger(GrafoCompactoTest.class.getName());
+    private static final int LADO = 25;
+    private GrafoDirigido grafo;
+    private ZonaAfectada[][] malla;
+
+    @BeforeEach
+    public void setUp() {
+        LOG.info("Configurando prueba de GrafoCompacto");
+        grafo = new GrafoDirigido();
+        malla = new ZonaAfectada[LADO][LADO];
+
+        // Malla de zonas separadas 0.02° con rutas en ambos sentidos
+        for (int i = 0; i < LADO; i++) {
+            for (int j = 0; j < LADO; j++) {
+                malla[i][j] = new ZonaAfectada("Z" + i + "-" + j, 100, 50, 4.0 + i * 0.02, -75.0 + j * 0.02);
+                grafo.agregarZona(malla[i][j]);
+            }
+        }
+        for (int i = 0; i < LADO; i++) {
+            for (int j = 0; j < LADO; j++) {
+                if (i + 1 < LADO) conectar(malla[i][j], malla[i + 1][j]);
+                if (j + 1 < LADO) conectar(malla[i][j], malla[i][j + 1]);
+            }
+        }
+    }
+
+    private void conectar(ZonaAfectada a, ZonaAfectada b) {
+        double km = GeoService.distanciaKm(a.getLat(), a.getLng(), b.getLat(), b.getLng()) * 1.3;
+        grafo.agregarArista(new Ruta(a.getId(), b.getId(), km, km, 100));
+        grafo.agregarArista(new Ruta(b.getId(), a.getId(), km, km, 100));
+    }
+
+    /**
+     * Verifica que A* encuentre el mismo costo que Dijkstra asentando menos nodos.
+     */
+    @Test
+    public void testAEstrellaOptimoConMenosNodos() {
+        LOG.info("Test: A* vs Dijkstra");
+
+        GrafoCompacto g = grafo.obtenerCompacto();
+        int origen = g.indiceDe(malla[LADO / 2][LADO / 2].getId());
+        int destino = g.indiceDe(malla[LADO / 2][LADO - 1].getId());
+
+        CaminoCompacto dijkstra = g.dijkstra(origen, destino);
+        CaminoCompacto aEstrella = g.aEstrella(origen, destino);
+
+        assertTrue(dijkstra.existe() && aEstrella.existe(), "Ambos deben encontrar camino");
+        assertEquals(dijkstra.getCosto(), aEstrella.getCosto(), 1e-9, "A* debe ser óptimo");
+        assertTrue(aEstrella.getNodosAsentados() * 3 < dijkstra.getNodosAsentados(),
+                "A* debe asentar muchos menos nodos");
+
+        LOG.info("A* asentó " + aEstrella.getNodosAsentados() + " nodos, Dijkstra " + dijkstra.getNodosAsentados());
+    }
+
+    /**
+     * Verifica que A* respete las rutas bloqueadas.
+     */
+    @Test
+    public void testAEstrellaEvitaRutasBloqueadas() {
+        LOG.info("Test: A* con rutas bloqueadas");
+
+        String origenId = malla[0][0].getId();
+        String destinoId = malla[0][1].getId();
+        for (Ruta r : grafo.getAristas().get(origenId)) {
+            if (r.getDestinoId().equals(destinoId)) r.setDisponible(false);
+        }
+
+        var camino = grafo.obtenerRutaMasCorta(origenId, destinoId, AlgoritmoRuta.A_ESTRELLA);
+
+        assertNotNull(camino, "Debe existir un desvío");
+        assertEquals(3, camino.size(), "El desvío rodea la ruta bloqueada");
+        assertTrue(camino.stream().allMatch(Ruta::estaDisponible));
+
+        LOG.info("Desvío encontrado");
+    }
+
+    /**
+     * Verifica que Dijkstra bidireccional encuentre el mismo costo que Dijkstra
+     * en ambas métricas, con rutas bloqueadas al azar.
+     */
+    @Test
+    public void testBidireccionalCoincideConDijkstra() {
+        LOG.info("Test: Dijkstra bidireccional");
+
+        Random azar = new Random(42);
+        for (var salientes : grafo.getAristas().values()) {
+            for (Ruta r : salientes) {
+                if (azar.nextInt(5) == 0) r.setDisponible(false);
+            }
+        }
+
+        GrafoCompacto g = grafo.obtenerCompacto();
+        for (int prueba = 0; prueba < 40; prueba++) {
+            int origen = azar.nextInt(g.getNumeroNodos());
+            int destino = azar.nextInt(g.getNumeroNodos());
+            for (Metrica metrica : Metrica.values()) {
+                CaminoCompacto uni = g.dijkstra(origen, destino, metrica);
+                CaminoCompacto bi = g.bidireccional(origen, destino, metrica);
+                assertEquals(uni.existe(), bi.existe(), "Ambos deben coincidir en la existencia del camino");
+                if (uni.existe()) {
+                    assertEquals(uni.getCosto(), bi.getCosto(), 1e-9, "El costo debe ser el mismo");
+                    assertEquals(origen, g.origenDe(bi.getAristas()[0]));
+                    assertEquals(destino, g.destinoDe(bi.getAristas()[bi.getAristas().length - 1]));
+                }
+            }
+        }
+
+        LOG.info("Bidireccional coincide con Dijkstra");
+    }
+
+    /**
+     * Verifica la llegada más temprana con perfiles de hora pico contra
+     * relajar todas las rutas hasta que no cambie ninguna llegada.
+     */
+    @Test
+    public void testDependienteCoincideConRelajacion() {
+        LOG.info("Test: Dijkstra dependiente del tiempo vs relajación");
+
+        GrafoCompacto g = grafo.obtenerCompacto();
+        Random azar = new Random(19);
+        for (int e = 0; e < g.getNumeroAristas(); e++) {
+            if (azar.nextInt(3) != 0) continue;
+            Ruta ruta = g.rutaDe(e);
+            double inicio = azar.nextInt(120);
+            ruta.setPerfil(PerfilTiempo.horaPico(ruta.getTiempo(), inicio, inicio + 10 + azar.nextInt(30),
+                    inicio + 60, 1 + azar.nextInt(8)));
+        }
+
+        int n = g.getNumeroNodos();
+        for (int prueba = 0; prueba < 10; prueba++) {
+            int origen = azar.nextInt(n);
+            double salida = azar.nextInt(150);
+            double[] llegada = new double[n];
+            java.util.Arrays.fill(llegada, Double.POSITIVE_INFINITY);
+            llegada[origen] = salida;
+            boolean cambio = true;
+            while (cambio) {
+                cambio = false;
+                for (int e = 0; e < g.getNumeroAristas(); e++) {
+                    double t = llegada[g.origenDe(e)];
+                    if (Double.isInfinite(t)) continue;
+                    double nt = t + g.rutaDe(e).calcularTiempoReal(t);
+                    if (nt < llegada[g.destinoDe(e)] - 1e-12) {
+                        llegada[g.destinoDe(e)] = nt;
+                        cambio = true;
+                    }
+                }
+            }
+
+            for (int k = 0; k < 20; k++) {
+                int destino = azar.nextInt(n);
+                if (destino == origen) continue;
+                CaminoCompacto camino = g.dijkstraDependiente(origen, destino, salida);
+                assertTrue(camino.existe());
+                assertEquals(llegada[destino] - salida, camino.getCosto(), 1e-9);
+                double t = salida;
+                for (int e : camino.getAristas()) t += g.rutaDe(e).calcularTiempoReal(t);
+                assertEquals(llegada[destino], t, 1e-9, "El camino reproduce la llegada");
+            }
+        }
+
+        // Sin perfiles coincide con Dijkstra por tiempo fijo
+        for (int e = 0; e < g.getNumeroAristas(); e++) g.rutaDe(e).setPerfil(null);
+        int origen = g.indiceDe(malla[0][0].getId());
+        int destino = g.indiceDe(malla[LADO - 1][LADO - 1].getId());
+        assertEquals(g.dijkstra(origen, destino).getCosto(), g.dijkstraDependiente(origen, destino, 30).getCosto(), 1e-9);
+        LOG.info("Llegadas dependientes del tiempo verificadas");
+    }
+}
@@ -94,4 +94,124 @@ public class GrafoDirigidoTest {
         
         LOG.info("Sin camino manejado correctamente");
     }
+
+    /**
+     * Verifica que el backend compacto y el basado en mapas coincidan.
+     */
+    @Test
+    public void testBackendCompactoCoincideConMapas() {
+        LOG.info("Test: Backend compacto vs mapas");
+        
+        grafo.agregarNodo(zona1);
+        grafo.agregarNodo(zona2);
+        grafo.agregarNodo(zona3);
+        grafo.agregarArista(new Ruta(zona1.getId(), zona3.getId(), 10.0, 20, 100));
+        grafo.agregarArista(new Ruta(zona1.getId(), zona2.getId(), 5.0, 10, 100));
+        grafo.agregarArista(new Ruta(zona2.getId(), zona3.getId(), 2.0, 5, 100));
+        
+        List<Ruta> compacto = grafo.obtenerRutaMasCorta(zona1.getId(), zona3.getId());
+        grafo.setUsarBackendCompacto(false);
+        List<Ruta> mapas = grafo.obtenerRutaMasCorta(zona1.getId(), zona3.getId());
+        
+        assertEquals(mapas, compacto, "Ambos backends deben devolver el mismo camino");
+        assertEquals(2, compacto.size(), "El camino óptimo pasa por la zona B");
+        
+        LOG.info("Backends coinciden");
+    }
+
+    /**
+     * Verifica que la representación compacta se actualice al eliminar zonas
+     * y que las zonas restantes conserven su índice.
+     */
+    @Test
+    public void testCompactoTrasEliminarZona() {
+        LOG.info("Test: Compacto tras eliminar zona");
+        
+        grafo.agregarZona(zona1);
+        grafo.agregarZona(zona2);
+        grafo.agregarZona(zona3);
+        grafo.agregarArista(new Ruta(zona1.getId(), zona2.getId(), 5.0, 10, 100));
+        grafo.agregarArista(new Ruta(zona2.getId(), zona3.getId(), 2.0, 5, 100));
+        
+        int indiceZona3 = grafo.obtenerCompacto().indiceDe(zona3.getId());
+        assertNotNull(grafo.obtenerRutaMasCorta(zona1.getId(), zona3.getId()));
+        
+        grafo.eliminarZona(zona2.getId());
+        
+        GrafoCompacto compacto = grafo.obtenerCompacto();
+        assertEquals(-1, compacto.indiceDe(zona2.getId()), "La zona eliminada no debe tener índice");
+        assertEquals(indiceZona3, compacto.indiceDe(zona3.getId()), "La zona C conserva su índice");
+        assertEquals(0, compacto.getNumeroAristas(), "No deben quedar rutas");
+        assertNull(grafo.obtenerRutaMasCorta(zona1.getId(), zona3.getId()));
+        
+        LOG.info("Compacto actualizado correctamente");
+    }
+
+    /**
+     * Verifica que la cache de rutas responda consultas repetidas y se
+     * invalide al bloquear una ruta o cambiar la topología.
+     */
+    @Test
+    public void testCacheInvalidadaPorVersion() {
+        LOG.info("Test: Cache de rutas por versión");
+        
+        grafo.agregarZona(zona1);
+        grafo.agregarZona(zona2);
+        grafo.agregarZona(zona3);
+        Ruta directa = new Ruta(zona1.getId(), zona3.getId(), 10.0, 20, 100);
+        grafo.agregarArista(directa);
+        CacheRutas cache = grafo.getCacheRutas();
+        
+        assertEquals(1, grafo.obtenerRutaMasCorta(zona1.getId(), zona3.getId()).size());
+        assertEquals(1, grafo.obtenerRutaMasCorta(zona1.getId(), zona3.getId()).size());
+        assertEquals(1, cache.getAciertos(), "La segunda consulta debe salir de la cache");
+        
+        long version = grafo.getVersion();
+        directa.setDisponible(false);
+        assertTrue(grafo.getVersion() > version, "Bloquear una ruta cambia la versión");
+        assertNull(grafo.obtenerRutaMasCorta(zona1.getId(), zona3.getId()), "No debe devolverse la ruta bloqueada");
+        
+        grafo.agregarArista(new Ruta(zona1.getId(), zona2.getId(), 5.0, 10, 100));
+        grafo.agregarArista(new Ruta(zona2.getId(), zona3.getId(), 2.0, 5, 100));
+        assertEquals(2, grafo.obtenerRutaMasCorta(zona1.getId(), zona3.getId()).size(), "Las rutas nuevas deben usarse");
+        assertEquals(1, cache.getAciertos());
+        
+        LOG.info("Cache invalidada correctamente");
+    }
+
+    /**
+     * Verifica el índice de rutas entrantes al agregar y eliminar rutas y zonas.
+     */
+    @Test
+    public void testRutasEntrantes() {
+        LOG.info("Test: Rutas entrantes");
+        
+        grafo.agregarZona(zona1);
+        grafo.agregarZona(zona2);
+        grafo.agregarZona(zona3);
+        Ruta r12 = new Ruta(zona1.getId(), zona2.getId(), 5.0, 10, 100);
+        Ruta r32 = new Ruta(zona3.getId(), zona2.getId(), 5.0, 10, 100);
+        Ruta r21 = new Ruta(zona2.getId(), zona1.getId(), 5.0, 10, 100);
+        grafo.agregarArista(r12);
+        grafo.agregarArista(r32);
+        grafo.agregarArista(r21);
+        
+        assertEquals(List.of(r12, r32), grafo.obtenerRutasEntrantes(zona2.getId()));
+        assertEquals(List.of(r21), grafo.obtenerRutasEntrantes(zona1.getId()));
+        assertTrue(grafo.obtenerRutasEntrantes(zona3.getId()).isEmpty());
+        assertEquals(java.util.Set.of(zona1.getId(), zona3.getId()), grafo.obtenerZonasConAccesoA(zona2.getId()));
+        
+        r32.setDisponible(false);
+        assertEquals(java.util.Set.of(zona1.getId()), grafo.obtenerZonasConAccesoA(zona2.getId()));
+        
+        assertTrue(grafo.eliminarArista(r12));
+        assertEquals(List.of(r32), grafo.obtenerRutasEntrantes(zona2.getId()));
+        
+        assertTrue(grafo.eliminarZona(zona2.getId()));
+        assertTrue(grafo.obtenerRutasEntrantes(zona1.getId()).isEmpty(), "La ruta desde la zona eliminada desaparece");
+        assertTrue(grafo.getAristas().get(zona3.getId()).isEmpty(), "La ruta hacia la zona eliminada desaparece");
+        assertTrue(grafo.obtenerRutasEntrantes(zona2.getId()).isEmpty());
+        
+        LOG.info("Índice de rutas entrantes consistente");
+    }
 }
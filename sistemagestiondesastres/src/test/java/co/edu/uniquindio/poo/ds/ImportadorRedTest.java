@@ -0,0 +1,186 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para ImportadorRed.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class ImportadorRedTest {
+    private static final Logger LOG = Logger.getLogger(ImportadorRedTest.class.getName());
+
+    /**
+     * Importa una red de varios bloques desde CSV y verifica conteos,
+     * descartes, una sola versión publicada y caminos sobre la red importada.
+     */
+    @Test
+    public void testImportarCsv() throws IOException {
+        LOG.info("Test: importación CSV");
+
+        int n = ImportadorRed.REGISTROS_POR_BLOQUE * 2 + 100;
+        Random azar = new Random(43);
+        StringBuilder zonas = new StringBuilder("id,nombre,poblacion,riesgo,lat,lng,refugio\n");
+        for (int i = 0; i < n; i++) {
+            zonas.append("Z").append(i).append(",\"Zona ").append(i).append(", Quindío\",")
+                    .append(100 + i).append(',').append(i % 101).append(',')
+                    .append(4.0 + azar.nextDouble()).append(',').append(-75.0 - azar.nextDouble())
+                    .append(',').append(i % 50 == 0).append('\n');
+        }
+        zonas.append("Z1,Repetida,10,10,4.5,-75.5,false\n");
+        zonas.append("FUERA,Madrid,10,10,40.4,-3.7,false\n");
+        zonas.append("MAL,Mal,diez,10,4.5,-75.5,false\n");
+
+        StringBuilder rutas = new StringBuilder("origen,destino,distancia,tiempo,capacidad\n");
+        // Cadena Z0 -> Z1 -> ... para conocer el camino mínimo
+        for (int i = 0; i + 1 < n; i++) {
+            rutas.append('Z').append(i).append(",Z").append(i + 1).append(",1.5,2,100\n");
+        }
+        for (int k = 0; k < n; k++) {
+            int u = azar.nextInt(n), v = (u + 1 + azar.nextInt(n - 1)) % n;
+            rutas.append('Z').append(u).append(",Z").append(v)
+                    .append(",,").append(5 + azar.nextInt(20)).append(",50\n");
+        }
+        rutas.append("Z0,NOEXISTE,1,1,1\n");
+        rutas.append("Z0,Z1,1,0,1\n");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        long versionAntes = grafo.getVersion();
+        ImportadorRed.Resultado resultado = ImportadorRed.importarCsv(grafo,
+                new StringReader(zonas.toString()), new StringReader(rutas.toString()));
+
+        assertEquals(n, resultado.getZonas());
+        assertEquals(n - 1 + n, resultado.getRutas());
+        assertEquals(5, resultado.getDescartados());
+        assertEquals(5, resultado.getErrores().size());
+        assertTrue(resultado.getErrores().stream().anyMatch(e -> e.contains("fuera de Colombia")));
+        assertTrue(resultado.getRegistrosPorSegundo() > 0);
+        assertTrue(resultado.getMemoriaPico() > 0);
+        assertEquals(versionAntes + 1, grafo.getVersion(), "Una sola publicación");
+
+        InstantaneaGrafo instantanea = grafo.getInstantanea();
+        assertEquals(n, instantanea.getNumeroZonas());
+        assertEquals(resultado.getRutas(), instantanea.getNumeroRutas());
+
+        Map<String, ZonaAfectada> porNombre = new HashMap<>();
+        for (ZonaAfectada zona : instantanea.zonas()) porNombre.put(zona.getNombre(), zona);
+        ZonaAfectada primera = porNombre.get("Zona 0, Quindío");
+        assertNotNull(primera, "Comillas respetadas");
+        assertTrue(primera.isRefugio());
+        assertEquals(100, primera.getPoblacion());
+        for (List<Ruta> lista : instantanea.getSalientes().values()) {
+            for (Ruta r : lista) assertTrue(r.getDistancia() > 0, "Distancia calculada si falta");
+        }
+
+        // Camino mínimo sobre el grafo compacto ya construido
+        GrafoCompacto g = grafo.obtenerCompacto();
+        ZonaAfectada ultima = porNombre.get("Zona " + (n - 1) + ", Quindío");
+        CaminoCompacto camino = g.dijkstra(g.indiceDe(primera.getId()), g.indiceDe(ultima.getId()), Metrica.TIEMPO);
+        assertTrue(camino.existe());
+        assertTrue(camino.getCosto() <= 2.0 * (n - 1));
+        LOG.info("Importación CSV: " + resultado);
+    }
+
+    /**
+     * Importa GeoJSON con rutas antes que sus zonas y geometrías no soportadas.
+     */
+    @Test
+    public void testImportarGeoJson() throws IOException {
+        LOG.info("Test: importación GeoJSON");
+
+        String geojson = "{\"type\":\"FeatureCollection\",\"name\":\"red\",\"features\":["
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[-75.0,4.0],[-75.0,4.1],[-75.1,4.1]]},"
+                + "\"properties\":{\"origen\":\"A\",\"destino\":\"C\",\"tiempo\":30,\"capacidad\":100}},"
+                + "{\"type\":\"Feature\",\"id\":\"A\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[-75.0,4.0]},"
+                + "\"properties\":{\"nombre\":\"Armenia\",\"poblacion\":500,\"riesgo\":70}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[-75.1,4.1]},"
+                + "\"properties\":{\"id\":\"C\",\"refugio\":true,\"capacidadRefugio\":300}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[2.35,48.85]},"
+                + "\"properties\":{\"id\":\"PARIS\"}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[]},\"properties\":{}},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[-75.0,4.0],[-75.1,4.1]]},"
+                + "\"properties\":{\"origen\":\"C\",\"destino\":\"X\",\"tiempo\":5,\"capacidad\":1}}"
+                + "]}";
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ImportadorRed.Resultado resultado = ImportadorRed.importarGeoJson(grafo, new StringReader(geojson));
+        assertEquals(2, resultado.getZonas());
+        assertEquals(1, resultado.getRutas());
+        assertEquals(3, resultado.getDescartados());
+
+        List<ZonaAfectada> zonas = grafo.obtenerZonas();
+        ZonaAfectada a = zonas.stream().filter(z -> z.getNombre().equals("Armenia")).findFirst().orElseThrow();
+        ZonaAfectada c = zonas.stream().filter(z -> z.getNombre().equals("C")).findFirst().orElseThrow();
+        assertTrue(c.isRefugio());
+        assertEquals(300, c.getCapacidadRefugio());
+        List<Ruta> camino = grafo.obtenerRutaMasCorta(a.getId(), c.getId());
+        assertEquals(1, camino.size());
+        assertEquals(30, camino.get(0).getTiempo(), 1e-9);
+        // Largo de la línea: dos tramos de 0.1°
+        assertTrue(camino.get(0).getDistancia() > 20 && camino.get(0).getDistancia() < 25);
+        LOG.info("Importación GeoJSON verificada");
+    }
+
+    /**
+     * Verifica que un GeoJSON truncado tras varios bloques válidos falle con
+     * IOException y no deje nada aplicado.
+     */
+    @Test
+    public void testGeoJsonTruncado() {
+        LOG.info("Test: GeoJSON truncado");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada previa = new ZonaAfectada("Previa", 10, 10, 4.5, -75.5);
+        grafo.agregarZona(previa);
+        InstantaneaGrafo antes = grafo.getInstantanea();
+        long versionAntes = grafo.getVersion();
+
+        StringBuilder geojson = new StringBuilder("{\"type\":\"FeatureCollection\",\"features\":[");
+        // Más bloques de los que caben en vuelo, para que algunos se apliquen antes del error
+        int bloques = 2 * ForkJoinPool.getCommonPoolParallelism() + 3;
+        for (int i = 0; i < ImportadorRed.REGISTROS_POR_BLOQUE * bloques; i++) {
+            geojson.append("{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[-75.0,4.0]},")
+                    .append("\"properties\":{\"id\":\"P").append(i).append("\"}},");
+        }
+        geojson.append("{\"type\":\"Feature\",\"geometry\":{\"type\":\"Po");
+
+        assertThrows(IOException.class, () -> ImportadorRed.importarGeoJson(grafo, new StringReader(geojson.toString())));
+        assertSame(antes, grafo.getInstantanea(), "No se publica nada");
+        assertEquals(versionAntes, grafo.getVersion());
+        assertEquals(List.of(previa), grafo.obtenerZonas(), "Las zonas aplicadas se deshacen");
+        assertEquals(1, grafo.obtenerCompacto().getNumeroNodos());
+
+        assertThrows(IOException.class, () -> ImportadorRed.importarGeoJson(grafo, new StringReader("[]")));
+        assertThrows(IOException.class, () -> ImportadorRed.importarGeoJson(grafo,
+                new StringReader("{\"features\":[{\"type\":}]}")));
+        LOG.info("GeoJSON truncado verificado");
+    }
+
+    /**
+     * Verifica que un encabezado incompleto no deje nada aplicado.
+     */
+    @Test
+    public void testEncabezadoIncompleto() {
+        LOG.info("Test: encabezado incompleto");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        assertThrows(IllegalArgumentException.class, () -> ImportadorRed.importarCsv(grafo,
+                new StringReader("id,lat,lng\nA,4.0,-75.0\n"), new StringReader("origen,destino\nA,A\n")));
+        assertEquals(0, grafo.getInstantanea().getNumeroZonas());
+        assertArrayEquals(new String[] {"a", "b, c", "d\"e", ""}, ImportadorRed.separarCsv("a,\"b, c\",\"d\"\"e\","));
+        LOG.info("Encabezado incompleto verificado");
+    }
+}
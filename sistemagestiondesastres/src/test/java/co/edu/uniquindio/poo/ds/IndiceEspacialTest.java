@@ -0,0 +1,111 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import co.edu.uniquindio.poo.services.GeoService;
+
+/**
+ * Pruebas unitarias para IndiceEspacial.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class IndiceEspacialTest {
+    private static final Logger LOG = Logger.getLogger(IndiceEspacialTest.class.getName());
+    private IndiceEspacial indice;
+    private List<ZonaAfectada> zonas;
+    private Random azar;
+
+    @BeforeEach
+    public void setUp() {
+        LOG.info("Configurando prueba de IndiceEspacial");
+        indice = new IndiceEspacial();
+        zonas = new ArrayList<>();
+        azar = new Random(21);
+        // Zonas dispersas por Colombia, con un grupo denso alrededor de Armenia
+        for (int i = 0; i < 600; i++) {
+            double lat = i < 200 ? 4.53 + azar.nextGaussian() * 0.1 : -4.0 + azar.nextDouble() * 16.0;
+            double lng = i < 200 ? -75.68 + azar.nextGaussian() * 0.1 : -79.0 + azar.nextDouble() * 12.0;
+            ZonaAfectada zona = new ZonaAfectada("Z" + i, 100, 50, lat, lng);
+            zonas.add(zona);
+            indice.insertar(zona, lat, lng);
+        }
+    }
+
+    /**
+     * Verifica radio, rectángulo y k vecinos contra un recorrido completo.
+     */
+    @Test
+    public void testCoincideConRecorridoCompleto() {
+        LOG.info("Test: consultas espaciales vs recorrido completo");
+
+        for (int prueba = 0; prueba < 40; prueba++) {
+            double lat = -4.0 + azar.nextDouble() * 16.0;
+            double lng = -79.0 + azar.nextDouble() * 12.0;
+            if (prueba % 4 == 0) { lat = 4.5; lng = -75.7; }
+
+            double radio = 5 + azar.nextDouble() * 200;
+            List<ZonaAfectada> enRadio = indice.buscarEnRadio(lat, lng, radio);
+            List<ZonaAfectada> esperadas = new ArrayList<>();
+            for (ZonaAfectada z : zonas) {
+                if (GeoService.distanciaKm(lat, lng, z.getLat(), z.getLng()) <= radio) esperadas.add(z);
+            }
+            assertEquals(new HashSet<>(esperadas), new HashSet<>(enRadio), "Radio " + radio);
+            for (int i = 1; i < enRadio.size(); i++) {
+                assertTrue(distancia(lat, lng, enRadio.get(i - 1)) <= distancia(lat, lng, enRadio.get(i)));
+            }
+
+            double minLat = lat - azar.nextDouble(), maxLat = lat + azar.nextDouble();
+            double minLng = lng - azar.nextDouble(), maxLng = lng + azar.nextDouble();
+            List<ZonaAfectada> enRectangulo = indice.buscarEnRectangulo(minLat, minLng, maxLat, maxLng);
+            long dentro = zonas.stream().filter(z -> z.getLat() >= minLat && z.getLat() <= maxLat
+                    && z.getLng() >= minLng && z.getLng() <= maxLng).count();
+            assertEquals(dentro, enRectangulo.size());
+
+            int k = 1 + azar.nextInt(15);
+            final double la = lat, ln = lng;
+            List<ZonaAfectada> ordenadas = new ArrayList<>(zonas);
+            ordenadas.sort(Comparator.comparingDouble(z -> distancia(la, ln, z)));
+            List<ZonaAfectada> vecinas = indice.buscarMasCercanas(lat, lng, k);
+            assertEquals(k, vecinas.size());
+            for (int i = 0; i < k; i++) {
+                assertEquals(distancia(lat, lng, ordenadas.get(i)), distancia(lat, lng, vecinas.get(i)), 1e-9);
+            }
+        }
+        LOG.info("Consultas espaciales verificadas");
+    }
+
+    /**
+     * Verifica que el registro de zonas reubique una zona que cambia de coordenadas.
+     */
+    @Test
+    public void testRegistroSigueCambiosDeUbicacion() {
+        LOG.info("Test: reubicación en el registro");
+
+        RegistroZonas registro = new RegistroZonas();
+        ZonaAfectada zona = new ZonaAfectada("Móvil", 100, 50, 4.53, -75.68);
+        registro.agregar(zona);
+        assertEquals(List.of(zona), registro.buscarEnRadio(4.53, -75.68, 1));
+
+        zona.setUbicacion(6.24, -75.58);
+        assertTrue(registro.buscarEnRadio(4.53, -75.68, 50).isEmpty(), "Ya no está en su celda anterior");
+        assertEquals(List.of(zona), registro.buscarMasCercanas(6.0, -75.0, 3));
+
+        registro.eliminar(zona.getId());
+        assertTrue(registro.buscarEnRectangulo(-90, -180, 90, 180).isEmpty());
+        LOG.info("Reubicación verificada");
+    }
+
+    private static double distancia(double lat, double lng, ZonaAfectada z) {
+        return GeoService.distanciaKm(lat, lng, z.getLat(), z.getLng());
+    }
+}
@@ -0,0 +1,241 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para InstantaneaGrafo.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class InstantaneaGrafoTest {
+    private static final Logger LOG = Logger.getLogger(InstantaneaGrafoTest.class.getName());
+
+    /**
+     * Verifica que una instantánea sea de solo lectura y no cambie con
+     * escrituras posteriores.
+     */
+    @Test
+    public void testInmutable() {
+        LOG.info("Test: instantánea inmutable");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada a = new ZonaAfectada("A", 10, 50, 4.0, -75.0);
+        ZonaAfectada b = new ZonaAfectada("B", 10, 50, 4.1, -75.0);
+        grafo.agregarZona(a);
+        grafo.agregarZona(b);
+        Ruta ab = new Ruta(a.getId(), b.getId(), 1, 10, 100);
+        grafo.agregarArista(ab);
+
+        InstantaneaGrafo vieja = grafo.getInstantanea();
+        assertEquals(2, vieja.getNumeroZonas());
+        assertEquals(1, vieja.getNumeroRutas());
+        assertThrows(UnsupportedOperationException.class, () -> vieja.getSalientes().put("X", List.of()));
+        assertThrows(UnsupportedOperationException.class, () -> vieja.salientesDe(a.getId()).add(ab));
+        assertThrows(UnsupportedOperationException.class, () -> grafo.getAristas().get(a.getId()).clear());
+
+        ZonaAfectada c = new ZonaAfectada("C", 10, 50, 4.2, -75.0);
+        grafo.agregarZona(c);
+        grafo.agregarArista(new Ruta(b.getId(), c.getId(), 1, 10, 100));
+        grafo.eliminarArista(ab);
+
+        assertEquals(2, vieja.getNumeroZonas());
+        assertEquals(List.of(ab), vieja.salientesDe(a.getId()));
+        assertTrue(vieja.salientesDe(b.getId()).isEmpty());
+        assertEquals(List.of(ab), vieja.entrantesDe(b.getId()));
+
+        InstantaneaGrafo nueva = grafo.getInstantanea();
+        assertTrue(nueva.getVersion() > vieja.getVersion());
+        assertEquals(3, nueva.getNumeroZonas());
+        assertEquals(1, nueva.getNumeroRutas());
+        assertTrue(nueva.salientesDe(a.getId()).isEmpty());
+        assertTrue(nueva.entrantesDe(b.getId()).isEmpty());
+
+        grafo.eliminarZona(c.getId());
+        assertFalse(grafo.getInstantanea().contieneZona(c.getId()));
+        assertEquals(0, grafo.getInstantanea().getNumeroRutas());
+        assertTrue(nueva.contieneZona(c.getId()));
+        LOG.info("Instantánea inmutable verificada");
+    }
+
+    /**
+     * Verifica que un lote publique una sola versión al terminar y que,
+     * mientras dura, los lectores sigan viendo la anterior.
+     */
+    @Test
+    public void testLotePublicaUnaVez() {
+        LOG.info("Test: lote de escrituras");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada a = new ZonaAfectada("A", 10, 50, 4.0, -75.0);
+        ZonaAfectada b = new ZonaAfectada("B", 10, 50, 4.1, -75.0);
+        ZonaAfectada c = new ZonaAfectada("C", 10, 50, 4.2, -75.0);
+        grafo.agregarZona(a);
+        grafo.agregarZona(b);
+        grafo.agregarZona(c);
+        Ruta directa = new Ruta(a.getId(), c.getId(), 1, 50, 100);
+        grafo.agregarArista(directa);
+        assertEquals(50, costo(grafo.obtenerRutaMasCorta(a.getId(), c.getId())), 1e-9);
+
+        InstantaneaGrafo antes = grafo.getInstantanea();
+        long versionAntes = grafo.getVersion();
+        AtomicReference<InstantaneaGrafo> vistaPorOtroHilo = new AtomicReference<>();
+        grafo.ejecutarEnLote(() -> {
+            grafo.eliminarArista(directa);
+            grafo.agregarArista(new Ruta(a.getId(), b.getId(), 1, 10, 100));
+            grafo.ejecutarEnLote(() -> grafo.agregarArista(new Ruta(b.getId(), c.getId(), 1, 10, 100)));
+            assertSame(antes, grafo.getInstantanea(), "Sin publicar dentro del lote");
+            Thread lector = new Thread(() -> vistaPorOtroHilo.set(grafo.getInstantanea()));
+            lector.start();
+            try {
+                lector.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertSame(antes, vistaPorOtroHilo.get(), "El lector ve la versión anterior completa");
+        assertEquals(versionAntes + 1, grafo.getVersion(), "Una sola versión por lote");
+        assertEquals(grafo.getVersion(), grafo.getInstantanea().getVersion());
+        assertEquals(2, grafo.getInstantanea().getNumeroRutas());
+
+        List<Ruta> camino = grafo.obtenerRutaMasCorta(a.getId(), c.getId());
+        assertEquals(2, camino.size());
+        assertEquals(20, costo(camino), 1e-9);
+        LOG.info("Lote verificado");
+    }
+
+    /**
+     * Verifica que un lote que termina con una excepción no publique nada y
+     * deshaga sus altas y bajas de zonas y rutas.
+     */
+    @Test
+    public void testLoteFallidoSeDeshace() {
+        LOG.info("Test: lote fallido");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada a = new ZonaAfectada("A", 10, 50, 4.0, -75.0);
+        ZonaAfectada b = new ZonaAfectada("B", 10, 50, 4.1, -75.0);
+        grafo.agregarZona(a);
+        grafo.agregarZona(b);
+        Ruta ab = new Ruta(a.getId(), b.getId(), 1, 10, 100);
+        grafo.agregarArista(ab);
+        InstantaneaGrafo antes = grafo.getInstantanea();
+        long versionAntes = grafo.getVersion();
+
+        ZonaAfectada c = new ZonaAfectada("C", 10, 50, 4.2, -75.0);
+        Ruta bc = new Ruta(b.getId(), c.getId(), 1, 10, 100);
+        assertThrows(IllegalStateException.class, () -> grafo.ejecutarEnLote(() -> {
+            grafo.agregarZona(c);
+            grafo.agregarArista(bc);
+            grafo.eliminarArista(ab);
+            throw new IllegalStateException("fallo a mitad del lote");
+        }));
+
+        assertSame(antes, grafo.getInstantanea(), "No se publica nada");
+        assertEquals(versionAntes, grafo.getVersion());
+        assertNull(grafo.obtenerZonaPorId(c.getId()));
+
+        // La ruta restaurada sigue avisando; la deshecha ya no
+        ab.setDisponible(false);
+        assertTrue(grafo.getVersion() > versionAntes);
+        assertNull(grafo.obtenerRutaMasCorta(a.getId(), b.getId()));
+        long version = grafo.getVersion();
+        bc.setDisponible(false);
+        assertEquals(version, grafo.getVersion());
+
+        // El siguiente lote parte de las listas restauradas
+        Ruta ac = new Ruta(a.getId(), c.getId(), 1, 10, 100);
+        Ruta cb = new Ruta(c.getId(), b.getId(), 1, 10, 100);
+        grafo.ejecutarEnLote(() -> {
+            grafo.agregarZona(c);
+            grafo.agregarArista(ac);
+            grafo.agregarArista(cb);
+            grafo.agregarArista(new Ruta(b.getId(), a.getId(), 1, 10, 100));
+        });
+        InstantaneaGrafo despues = grafo.getInstantanea();
+        assertEquals(3, despues.getNumeroZonas());
+        assertEquals(4, despues.getNumeroRutas());
+        assertEquals(List.of(ab, ac), despues.salientesDe(a.getId()));
+        assertEquals(List.of(ab, cb), despues.entrantesDe(b.getId()));
+        assertEquals(1, despues.salientesDe(b.getId()).size(), "B -> C se deshizo");
+        LOG.info("Lote fallido deshecho");
+    }
+
+    /**
+     * Verifica que lectores concurrentes recorran el grafo y busquen caminos
+     * mientras otro hilo agrega y elimina rutas, sin excepciones.
+     */
+    @Test
+    public void testLectoresConcurrentes() throws InterruptedException {
+        LOG.info("Test: lectores concurrentes");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        List<ZonaAfectada> zonas = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            ZonaAfectada zona = new ZonaAfectada("Z" + i, 10, 50, 4.0 + i * 0.01, -75.0);
+            zonas.add(zona);
+            grafo.agregarZona(zona);
+        }
+        AtomicBoolean activo = new AtomicBoolean(true);
+        AtomicReference<Throwable> fallo = new AtomicReference<>();
+        List<Thread> lectores = new ArrayList<>();
+        for (int h = 0; h < 3; h++) {
+            Thread lector = new Thread(() -> {
+                Random azar = new Random();
+                try {
+                    while (activo.get()) {
+                        InstantaneaGrafo s = grafo.getInstantanea();
+                        int rutas = 0;
+                        for (List<Ruta> lista : s.getSalientes().values()) {
+                            for (Ruta r : lista) {
+                                assertTrue(s.contieneZona(r.getOrigenId()));
+                                rutas++;
+                            }
+                        }
+                        assertEquals(s.getNumeroRutas(), rutas);
+                        grafo.obtenerRutaMasCorta(zonas.get(azar.nextInt(40)).getId(),
+                                zonas.get(azar.nextInt(40)).getId(), AlgoritmoRuta.DIJKSTRA);
+                    }
+                } catch (Throwable t) {
+                    fallo.compareAndSet(null, t);
+                }
+            });
+            lectores.add(lector);
+            lector.start();
+        }
+
+        Random azar = new Random(41);
+        List<Ruta> agregadas = new ArrayList<>();
+        for (int k = 0; k < 2000; k++) {
+            if (agregadas.isEmpty() || azar.nextInt(3) > 0) {
+                Ruta ruta = new Ruta(zonas.get(azar.nextInt(40)).getId(), zonas.get(azar.nextInt(40)).getId(),
+                        1, 1 + azar.nextInt(20), 100);
+                grafo.agregarArista(ruta);
+                agregadas.add(ruta);
+            } else {
+                grafo.eliminarArista(agregadas.remove(azar.nextInt(agregadas.size())));
+            }
+        }
+        activo.set(false);
+        for (Thread lector : lectores) lector.join();
+        assertNull(fallo.get(), () -> "Fallo en lector: " + fallo.get());
+        assertEquals(agregadas.size(), grafo.getInstantanea().getNumeroRutas());
+        LOG.info("Lectores concurrentes verificados");
+    }
+
+    private static double costo(List<Ruta> camino) {
+        double total = 0;
+        for (Ruta r : camino) total += r.getTiempo();
+        return total;
+    }
+}
@@ -0,0 +1,124 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para Isocrona.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class IsocronaTest {
+    private static final Logger LOG = Logger.getLogger(IsocronaTest.class.getName());
+
+    /**
+     * Verifica las zonas de cada umbral contra un Dijkstra completo y que el
+     * polígono sea convexo, use solo zonas alcanzadas y las contenga a todas.
+     */
+    @Test
+    public void testCoincideConDijkstraCompleto() {
+        LOG.info("Test: isócronas vs Dijkstra completo");
+
+        Random azar = new Random(37);
+        for (int prueba = 0; prueba < 10; prueba++) {
+            int n = 30 + azar.nextInt(60);
+            GrafoDirigido grafo = new GrafoDirigido();
+            List<ZonaAfectada> zonas = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ZonaAfectada zona = new ZonaAfectada("Z" + i, 10, 50,
+                        4.0 + azar.nextDouble(), -75.0 + azar.nextDouble());
+                zonas.add(zona);
+                grafo.agregarZona(zona);
+            }
+            for (int k = 0; k < n * 3; k++) {
+                int u = azar.nextInt(n), v = azar.nextInt(n);
+                Ruta ruta = new Ruta(zonas.get(u).getId(), zonas.get(v).getId(), 1, 5 + azar.nextInt(40), 100);
+                grafo.agregarArista(ruta);
+                if (azar.nextInt(8) == 0) ruta.setDisponible(false);
+            }
+
+            GrafoCompacto g = grafo.obtenerCompacto();
+            double[] umbrales = {90, 30, 60, 0};
+            for (int o = 0; o < 5; o++) {
+                ZonaAfectada origen = zonas.get(azar.nextInt(n));
+                Isocrona isocrona = grafo.obtenerIsocrona(origen.getId(), umbrales);
+                double[] dist = g.distanciasDesde(g.indiceDe(origen.getId()), Metrica.TIEMPO);
+                for (int k = 0; k < isocrona.getNumeroUmbrales(); k++) {
+                    double umbral = isocrona.getUmbral(k);
+                    if (k > 0) assertTrue(umbral > isocrona.getUmbral(k - 1), "Umbrales ordenados");
+                    Set<Integer> esperadas = new HashSet<>();
+                    for (int v = 0; v < n; v++) if (dist[v] <= umbral) esperadas.add(v);
+                    Set<Integer> dentro = new HashSet<>();
+                    for (int i = 0; i < isocrona.getCantidadDentro(k); i++) {
+                        dentro.add(isocrona.nodoEn(i));
+                        assertEquals(dist[isocrona.nodoEn(i)], isocrona.tiempoEn(i), 1e-9);
+                    }
+                    assertEquals(esperadas, dentro, "Umbral " + umbral + " en prueba " + prueba);
+                    verificarPoligono(g, isocrona.getPoligono(k), dentro);
+                }
+            }
+        }
+        LOG.info("Isócronas verificadas");
+    }
+
+    /**
+     * Verifica que la isócrona se reutilice hasta que cambie el grafo.
+     */
+    @Test
+    public void testCachePorVersion() {
+        LOG.info("Test: cache de isócronas");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada a = new ZonaAfectada("A", 10, 50, 4.0, -75.0);
+        ZonaAfectada b = new ZonaAfectada("B", 10, 50, 4.1, -75.0);
+        ZonaAfectada c = new ZonaAfectada("C", 10, 50, 4.1, -75.1);
+        for (ZonaAfectada z : List.of(a, b, c)) grafo.agregarZona(z);
+        Ruta ab = new Ruta(a.getId(), b.getId(), 1, 20, 100);
+        grafo.agregarArista(ab);
+        grafo.agregarArista(new Ruta(b.getId(), c.getId(), 1, 20, 100));
+
+        Isocrona primera = grafo.obtenerIsocrona(a.getId(), new double[] {30, 60});
+        assertSame(primera, grafo.obtenerIsocrona(a.getId(), new double[] {60, 30}), "Mismos umbrales en otro orden");
+        assertEquals(2, primera.getCantidadDentro(0));
+        assertEquals(3, primera.getCantidadDentro(1));
+        assertEquals(3, primera.getPoligono(1).length);
+
+        ab.setDisponible(false);
+        Isocrona segunda = grafo.obtenerIsocrona(a.getId(), new double[] {30, 60});
+        assertNotSame(primera, segunda);
+        assertEquals(1, segunda.getCantidadDentro(1));
+        assertEquals(1, segunda.getPoligono(1).length);
+        assertNull(grafo.obtenerIsocrona("inexistente", new double[] {30}));
+        LOG.info("Cache de isócronas verificada");
+    }
+
+    private static void verificarPoligono(GrafoCompacto g, double[][] poligono, Set<Integer> dentro) {
+        Set<String> coordenadas = new HashSet<>();
+        for (int v : dentro) coordenadas.add(g.latDe(v) + "," + g.lngDe(v));
+        for (double[] vertice : poligono) {
+            assertTrue(coordenadas.contains(vertice[0] + "," + vertice[1]), "Vértice de una zona alcanzada");
+        }
+        if (poligono.length < 3) {
+            assertTrue(coordenadas.size() < 3 || poligono.length == 2, "Solo degenera con puntos colineales");
+            return;
+        }
+        // Antihorario (x = lng, y = lat): todo punto queda a la izquierda o sobre cada lado
+        for (int i = 0; i < poligono.length; i++) {
+            double[] p = poligono[i], q = poligono[(i + 1) % poligono.length];
+            for (int v : dentro) {
+                double cruz = (q[1] - p[1]) * (g.latDe(v) - p[0]) - (q[0] - p[0]) * (g.lngDe(v) - p[1]);
+                assertTrue(cruz >= -1e-12, "Zona dentro del polígono");
+            }
+        }
+    }
+}
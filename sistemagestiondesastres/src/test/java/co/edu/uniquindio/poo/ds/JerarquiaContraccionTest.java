@@ -0,0 +1,152 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+import co.edu.uniquindio.poo.services.GeoService;
+
+/**
+ * Pruebas unitarias para JerarquiaContraccion.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class JerarquiaContraccionTest {
+    private static final Logger LOG = Logger.getLogger(JerarquiaContraccionTest.class.getName());
+    private static final int LADO = 20;
+    private GrafoDirigido grafo;
+    private List<Ruta> rutas;
+    private Random azar;
+    private ZonaAfectada[][] malla;
+
+    @BeforeEach
+    public void setUp() {
+        LOG.info("Configurando prueba de JerarquiaContraccion");
+        grafo = new GrafoDirigido();
+        rutas = new ArrayList<>();
+        azar = new Random(7);
+        malla = new ZonaAfectada[LADO][LADO];
+
+        // Malla con tiempos irregulares para que los caminos óptimos no sean triviales
+        for (int i = 0; i < LADO; i++) {
+            for (int j = 0; j < LADO; j++) {
+                malla[i][j] = new ZonaAfectada("Z" + i + "-" + j, 100, 50, 4.0 + i * 0.02, -75.0 + j * 0.02);
+                grafo.agregarZona(malla[i][j]);
+            }
+        }
+        for (int i = 0; i < LADO; i++) {
+            for (int j = 0; j < LADO; j++) {
+                if (i + 1 < LADO) conectar(malla[i][j], malla[i + 1][j]);
+                if (j + 1 < LADO) conectar(malla[i][j], malla[i][j + 1]);
+            }
+        }
+    }
+
+    private void conectar(ZonaAfectada a, ZonaAfectada b) {
+        double km = GeoService.distanciaKm(a.getLat(), a.getLng(), b.getLat(), b.getLng());
+        Ruta ida = new Ruta(a.getId(), b.getId(), km, km * (1 + azar.nextDouble()), 100);
+        Ruta vuelta = new Ruta(b.getId(), a.getId(), km, km * (1 + azar.nextDouble()), 100);
+        grafo.agregarArista(ida);
+        grafo.agregarArista(vuelta);
+        rutas.add(ida);
+        rutas.add(vuelta);
+    }
+
+    private void verificarConsultas(GrafoCompacto g, JerarquiaContraccion ch, int consultas) {
+        for (int prueba = 0; prueba < consultas; prueba++) {
+            int origen = azar.nextInt(g.getNumeroNodos());
+            int destino = azar.nextInt(g.getNumeroNodos());
+            CaminoCompacto esperado = g.dijkstra(origen, destino);
+            CaminoCompacto obtenido = ch.consultar(origen, destino);
+            assertEquals(esperado.existe(), obtenido.existe(), "Deben coincidir en la existencia del camino");
+            if (!obtenido.existe()) continue;
+
+            assertEquals(esperado.getCosto(), obtenido.getCosto(), 1e-9, "El costo debe ser el mismo");
+            double suma = 0.0;
+            int actual = origen;
+            for (int e : obtenido.getAristas()) {
+                assertEquals(actual, g.origenDe(e), "El camino desempacado debe ser contiguo");
+                assertTrue(g.rutaDe(e).estaDisponible(), "El camino no debe usar rutas bloqueadas");
+                suma += g.tiempoDe(e);
+                actual = g.destinoDe(e);
+            }
+            assertEquals(destino, actual);
+            assertEquals(obtenido.getCosto(), suma, 1e-9);
+        }
+    }
+
+    /**
+     * Verifica que la jerarquía responda con el mismo costo que Dijkstra.
+     */
+    @Test
+    public void testConsultaCoincideConDijkstra() {
+        LOG.info("Test: jerarquía vs Dijkstra");
+
+        GrafoCompacto g = grafo.obtenerCompacto();
+        JerarquiaContraccion ch = JerarquiaContraccion.construir(g);
+
+        assertTrue(ch.getNumeroAtajos() > 0, "La contracción debe generar atajos");
+        verificarConsultas(g, ch, 80);
+
+        LOG.info("Arcos: " + ch.getNumeroArcos() + ", atajos: " + ch.getNumeroAtajos());
+    }
+
+    /**
+     * Verifica que bloquear y reabrir rutas actualice la jerarquía sin reconstruirla.
+     */
+    @Test
+    public void testBloqueosIncrementales() throws InterruptedException {
+        LOG.info("Test: bloqueos incrementales");
+
+        grafo.prepararJerarquia();
+        long limite = System.currentTimeMillis() + 30_000;
+        while (grafo.obtenerJerarquia() == null && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        JerarquiaContraccion ch = grafo.obtenerJerarquia();
+        assertNotNull(ch, "La jerarquía debe construirse en segundo plano");
+        GrafoCompacto g = ch.getCompacto();
+
+        List<Ruta> bloqueadas = new ArrayList<>();
+        for (int paso = 0; paso < 60; paso++) {
+            if (!bloqueadas.isEmpty() && azar.nextInt(3) == 0) {
+                bloqueadas.remove(azar.nextInt(bloqueadas.size())).setDisponible(true);
+            } else {
+                Ruta r = rutas.get(azar.nextInt(rutas.size()));
+                r.setDisponible(false);
+                bloqueadas.add(r);
+            }
+            verificarConsultas(g, ch, 10);
+        }
+
+        assertSame(ch, grafo.obtenerJerarquia(), "Los bloqueos no deben reconstruir la jerarquía");
+        LOG.info("Jerarquía actualizada tras 60 cambios de disponibilidad");
+    }
+
+    /**
+     * Verifica que el algoritmo "ch" responda correctamente aunque la
+     * jerarquía aún no esté construida.
+     */
+    @Test
+    public void testRespaldoMientrasSeConstruye() {
+        LOG.info("Test: respaldo bidireccional");
+
+        String origenId = malla[0][0].getId();
+        String destinoId = malla[LADO - 1][LADO - 1].getId();
+        List<Ruta> esperado = grafo.obtenerRutaMasCorta(origenId, destinoId, AlgoritmoRuta.DIJKSTRA);
+        List<Ruta> obtenido = grafo.obtenerRutaMasCorta(origenId, destinoId, AlgoritmoRuta.JERARQUIA_CONTRACCION);
+
+        assertNotNull(obtenido);
+        assertEquals(esperado.stream().mapToDouble(Ruta::calcularTiempoReal).sum(),
+                obtenido.stream().mapToDouble(Ruta::calcularTiempoReal).sum(), 1e-9);
+
+        LOG.info("Respuesta correcta sin esperar la jerarquía");
+    }
+}
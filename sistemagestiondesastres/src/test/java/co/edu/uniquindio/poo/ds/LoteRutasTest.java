@@ -0,0 +1,96 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para LoteRutas.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class LoteRutasTest {
+    private static final Logger LOG = Logger.getLogger(LoteRutasTest.class.getName());
+
+    /**
+     * Verifica que cada par del lote tenga el costo de Dijkstra punto a punto,
+     * con orígenes repetidos, destinos inalcanzables y rutas bloqueadas, y
+     * que los grupos se entreguen en el hilo que llama.
+     */
+    @Test
+    public void testCoincideConDijkstra() {
+        LOG.info("Test: rutas en lote vs Dijkstra");
+
+        Random azar = new Random(29);
+        int n = 120;
+        GrafoDirigido grafo = new GrafoDirigido();
+        List<ZonaAfectada> zonas = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            ZonaAfectada zona = new ZonaAfectada("Z" + i, 10, 50, 4.0 + i * 0.01, -75.0);
+            zonas.add(zona);
+            grafo.agregarZona(zona);
+        }
+        for (int k = 0; k < n * 3; k++) {
+            int u = azar.nextInt(n), v = azar.nextInt(n);
+            Ruta ruta = new Ruta(zonas.get(u).getId(), zonas.get(v).getId(),
+                    1 + azar.nextInt(30), 1 + azar.nextInt(30), 100);
+            grafo.agregarArista(ruta);
+            if (azar.nextInt(8) == 0) ruta.setDisponible(false);
+        }
+
+        // Pocos orígenes distintos con muchos destinos cada uno
+        List<String> origenes = new ArrayList<>();
+        List<String> destinos = new ArrayList<>();
+        for (int k = 0; k < 400; k++) {
+            origenes.add(zonas.get(azar.nextInt(15)).getId());
+            destinos.add(zonas.get(azar.nextInt(n)).getId());
+        }
+
+        for (Metrica metrica : Metrica.values()) {
+            GrafoCompacto g = grafo.obtenerCompacto();
+            List<List<Ruta>> resultados = new ArrayList<>();
+            for (int k = 0; k < origenes.size(); k++) resultados.add(null);
+            boolean[] entregado = new boolean[origenes.size()];
+            Thread llamador = Thread.currentThread();
+            int grupos = grafo.calcularRutasEnLote(origenes, destinos, metrica, (posicion, camino) -> {
+                assertSame(llamador, Thread.currentThread(), "Entrega en el hilo que llama");
+                assertFalse(entregado[posicion], "Cada par se entrega una vez");
+                entregado[posicion] = true;
+                resultados.set(posicion, camino);
+            });
+            assertTrue(grupos <= 15);
+
+            for (int k = 0; k < origenes.size(); k++) {
+                assertTrue(entregado[k]);
+                int o = g.indiceDe(origenes.get(k)), d = g.indiceDe(destinos.get(k));
+                CaminoCompacto esperado = g.dijkstra(o, d, metrica);
+                List<Ruta> camino = resultados.get(k);
+                assertEquals(esperado.existe(), camino != null, "Par " + k);
+                if (camino == null) continue;
+                assertEquals(origenes.get(k), camino.get(0).getOrigenId());
+                assertEquals(destinos.get(k), camino.get(camino.size() - 1).getDestinoId());
+                double costo = 0;
+                for (Ruta r : camino) {
+                    assertTrue(r.estaDisponible());
+                    costo += metrica == Metrica.DISTANCIA ? r.getDistancia() : r.getTiempo();
+                }
+                assertEquals(esperado.getCosto(), costo, 1e-9, "Par " + k);
+            }
+        }
+
+        // Los pares resueltos quedan en la cache
+        long aciertos = grafo.getCacheRutas().getAciertos();
+        grafo.obtenerRutaMasCorta(origenes.get(0), destinos.get(0));
+        assertEquals(aciertos + 1, grafo.getCacheRutas().getAciertos());
+        assertThrows(IllegalArgumentException.class,
+                () -> grafo.calcularRutasEnLote(List.of("inexistente"), List.of(destinos.get(0)), Metrica.TIEMPO, (p, c) -> { }));
+        LOG.info("Lote verificado");
+    }
+}
@@ -0,0 +1,85 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Logger;
+
+/**
+ * Pruebas unitarias para MapaPersistente.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class MapaPersistenteTest {
+    private static final Logger LOG = Logger.getLogger(MapaPersistenteTest.class.getName());
+
+    /**
+     * Compara contra un LinkedHashMap con altas, reemplazos y bajas al azar,
+     * incluidas claves con el mismo hash, y verifica que las versiones
+     * anteriores no cambien.
+     */
+    @Test
+    public void testContraReferencia() {
+        LOG.info("Test: mapa persistente vs LinkedHashMap");
+
+        Random azar = new Random(59);
+        // "Aa" y "BB" tienen el mismo hashCode, igual que sus concatenaciones
+        List<String> claves = new ArrayList<>();
+        for (int i = 0; i < 400; i++) claves.add("Z" + i);
+        for (String a : List.of("Aa", "BB")) {
+            for (String b : List.of("Aa", "BB")) claves.add(a + b);
+        }
+
+        MapaPersistente<Integer> mapa = MapaPersistente.vacio();
+        Map<String, Integer> referencia = new LinkedHashMap<>();
+        List<MapaPersistente<Integer>> versiones = new ArrayList<>();
+        List<Map<String, Integer>> esperadas = new ArrayList<>();
+        for (int paso = 0; paso < 5000; paso++) {
+            String clave = claves.get(azar.nextInt(claves.size()));
+            if (azar.nextInt(3) > 0) {
+                Integer valor = azar.nextInt(1000);
+                mapa = mapa.con(clave, valor);
+                referencia.put(clave, valor);
+            } else {
+                mapa = mapa.sin(clave);
+                referencia.remove(clave);
+            }
+            assertEquals(referencia.size(), mapa.size());
+            assertEquals(referencia.get(clave), mapa.get(clave));
+            assertEquals(referencia.containsKey(clave), mapa.containsKey(clave));
+            if (paso % 250 == 0) {
+                versiones.add(mapa);
+                esperadas.add(new LinkedHashMap<>(referencia));
+            }
+        }
+        assertEquals(new ArrayList<>(referencia.entrySet()), new ArrayList<>(mapa.entrySet()), "Orden de inserción");
+        for (int i = 0; i < versiones.size(); i++) {
+            assertEquals(new ArrayList<>(esperadas.get(i).entrySet()), new ArrayList<>(versiones.get(i).entrySet()),
+                    "Versión " + i + " intacta");
+        }
+        assertNull(mapa.get(42));
+        assertThrows(UnsupportedOperationException.class, () -> versiones.get(0).put("X", 1));
+        LOG.info("Mapa persistente verificado con " + mapa.size() + " claves");
+    }
+
+    /**
+     * Verifica que reemplazar con el mismo valor o quitar una clave ausente
+     * devuelva el mismo mapa.
+     */
+    @Test
+    public void testSinCambios() {
+        LOG.info("Test: operaciones sin cambios");
+
+        Integer uno = 1;
+        MapaPersistente<Integer> mapa = MapaPersistente.<Integer>vacio().con("a", uno);
+        assertSame(mapa, mapa.con("a", uno));
+        assertSame(mapa, mapa.sin("b"));
+        assertTrue(mapa.sin("a").isEmpty());
+        LOG.info("Operaciones sin cambios verificadas");
+    }
+}
@@ -0,0 +1,80 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para MatrizTiempos.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class MatrizTiemposTest {
+    private static final Logger LOG = Logger.getLogger(MatrizTiemposTest.class.getName());
+
+    /**
+     * Verifica que cada celda coincida con Dijkstra punto a punto y que los
+     * pares sin camino queden como infinito.
+     */
+    @Test
+    public void testCoincideConDijkstra() {
+        LOG.info("Test: matriz de tiempos vs Dijkstra");
+
+        int lado = 12;
+        Random azar = new Random(3);
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada[][] malla = new ZonaAfectada[lado][lado];
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                malla[i][j] = new ZonaAfectada("Z" + i + "-" + j, 100, 50, 4.0 + i * 0.05, -75.0 + j * 0.05);
+                grafo.agregarZona(malla[i][j]);
+                ids.add(malla[i][j].getId());
+            }
+        }
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                if (i + 1 < lado) {
+                    grafo.agregarArista(new Ruta(malla[i][j].getId(), malla[i + 1][j].getId(), 5, 1 + azar.nextInt(20), 100));
+                    grafo.agregarArista(new Ruta(malla[i + 1][j].getId(), malla[i][j].getId(), 5, 1 + azar.nextInt(20), 100));
+                }
+                if (j + 1 < lado) {
+                    grafo.agregarArista(new Ruta(malla[i][j].getId(), malla[i][j + 1].getId(), 5, 1 + azar.nextInt(20), 100));
+                }
+            }
+        }
+        ZonaAfectada aislada = new ZonaAfectada("Aislada", 10, 10, 5.0, -74.0);
+        grafo.agregarZona(aislada);
+        ids.add(aislada.getId());
+
+        MatrizTiempos matriz = grafo.calcularMatrizTiempos(ids);
+        GrafoCompacto g = grafo.obtenerCompacto();
+
+        assertEquals(ids.size(), matriz.getFilas());
+        assertEquals(ids.size(), matriz.getColumnas());
+        for (int i = 0; i < ids.size(); i++) {
+            for (int j = 0; j < ids.size(); j++) {
+                if (i == j) {
+                    assertEquals(0.0f, matriz.tiempo(i, j));
+                    continue;
+                }
+                CaminoCompacto camino = g.dijkstra(g.indiceDe(ids.get(i)), g.indiceDe(ids.get(j)));
+                assertEquals(camino.existe(), matriz.hayCamino(i, j));
+                if (camino.existe()) assertEquals((float) camino.getCosto(), matriz.tiempo(i, j));
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> grafo.calcularMatrizTiempos(List.of("no-existe")));
+        // 46341 x 46341 no cabe en un arreglo: se rechaza antes de reservarlo
+        int[] muchos = new int[46_341];
+        assertThrows(IllegalArgumentException.class, () -> MatrizTiempos.calcular(g, muchos, muchos));
+        LOG.info("Matriz " + matriz.getFilas() + "x" + matriz.getColumnas() + " verificada");
+    }
+}
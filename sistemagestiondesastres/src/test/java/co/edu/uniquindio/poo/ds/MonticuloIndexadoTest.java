@@ -0,0 +1,96 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.logging.Logger;
+
+/**
+ * Pruebas unitarias para MonticuloIndexado.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class MonticuloIndexadoTest {
+    private static final Logger LOG = Logger.getLogger(MonticuloIndexadoTest.class.getName());
+
+    /**
+     * Verifica orden de extracción, un solo registro por elemento y cambios
+     * de prioridad en ambos sentidos.
+     */
+    @Test
+    public void testOrdenYActualizacion() {
+        LOG.info("Test: orden y actualización de prioridades");
+
+        MonticuloIndexado cola = new MonticuloIndexado(10);
+        cola.insertarOActualizar(3, 5.0);
+        cola.insertarOActualizar(7, 2.0);
+        cola.insertarOActualizar(1, 9.0);
+        cola.insertarOActualizar(1, 1.0);
+        cola.insertarOActualizar(7, 8.0);
+        assertEquals(3, cola.tamano(), "Sin entradas repetidas");
+        assertTrue(cola.contiene(7));
+        assertEquals(8.0, cola.prioridad(7), 1e-12);
+        assertEquals(Double.POSITIVE_INFINITY, cola.prioridad(4));
+
+        assertEquals(1.0, cola.prioridadMinima(), 1e-12);
+        assertEquals(1, cola.extraerMinimo());
+        assertEquals(3, cola.extraerMinimo());
+        assertEquals(7, cola.extraerMinimo());
+        assertTrue(cola.estaVacio());
+        assertFalse(cola.contiene(7));
+        assertEquals(Double.POSITIVE_INFINITY, cola.prioridadMinima());
+        LOG.info("Orden verificado");
+    }
+
+    /**
+     * Compara contra una referencia de fuerza bruta con operaciones al azar,
+     * crecimiento del universo y reutilización tras limpiar.
+     */
+    @Test
+    public void testContraReferencia() {
+        LOG.info("Test: operaciones al azar contra referencia");
+
+        Random azar = new Random(47);
+        MonticuloIndexado cola = new MonticuloIndexado();
+        for (int ronda = 0; ronda < 20; ronda++) {
+            int universo = 50 + azar.nextInt(500);
+            cola.asegurarUniverso(universo);
+            cola.limpiar();
+            double[] referencia = new double[universo];
+            Arrays.fill(referencia, Double.NaN);
+            int dentro = 0;
+
+            for (int k = 0; k < 3000; k++) {
+                if (azar.nextInt(3) > 0 || dentro == 0) {
+                    int v = azar.nextInt(universo);
+                    double p = azar.nextInt(1000) / 10.0;
+                    if (Double.isNaN(referencia[v])) dentro++;
+                    referencia[v] = p;
+                    cola.insertarOActualizar(v, p);
+                } else {
+                    double minimo = Double.POSITIVE_INFINITY;
+                    for (double p : referencia) if (!Double.isNaN(p)) minimo = Math.min(minimo, p);
+                    assertEquals(minimo, cola.prioridadMinima(), 1e-12);
+                    int v = cola.extraerMinimo();
+                    assertEquals(minimo, referencia[v], 1e-12);
+                    referencia[v] = Double.NaN;
+                    dentro--;
+                }
+                assertEquals(dentro, cola.tamano());
+            }
+            // Algunas rondas se abandonan con elementos dentro
+            if (ronda % 2 == 0) {
+                while (!cola.estaVacio()) {
+                    double antes = cola.prioridadMinima();
+                    cola.extraerMinimo();
+                    assertTrue(cola.prioridadMinima() >= antes);
+                }
+            }
+        }
+        cola.limpiar();
+        for (int v = 0; v < 50; v++) assertFalse(cola.contiene(v));
+        LOG.info("Referencia verificada");
+    }
+}
@@ -0,0 +1,112 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para ParticionGrafo.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class ParticionGrafoTest {
+    private static final Logger LOG = Logger.getLogger(ParticionGrafoTest.class.getName());
+
+    /**
+     * Verifica en una cuadrícula que las partes queden balanceadas y que el
+     * corte sea cercano al de cortes rectos, muy por debajo de uno al azar.
+     */
+    @Test
+    public void testCuadriculaBalanceadaConCortePequeno() {
+        LOG.info("Test: partición de una cuadrícula");
+
+        int lado = 40;
+        GrafoCompacto g = cuadricula(lado).obtenerCompacto();
+        int n = lado * lado;
+        for (int k : new int[] {2, 4, 7}) {
+            ParticionGrafo particion = ParticionGrafo.calcular(g, k);
+            assertEquals(k, particion.getPartes());
+            assertTrue(particion.getNiveles() > 1, "Se engrosa antes de particionar");
+            int maximo = (int) Math.ceil((1 + ParticionGrafo.DESBALANCE) * n / k);
+            int suma = 0;
+            for (int p = 0; p < k; p++) {
+                assertTrue(particion.getTamano(p) > 0, "Parte vacía");
+                assertTrue(particion.getTamano(p) <= maximo, "Parte " + p + " excede el balance con k=" + k);
+                suma += particion.getTamano(p);
+            }
+            assertEquals(n, suma);
+
+            // Al azar se cortaría cerca de (k-1)/k de las rutas
+            Random azar = new Random(k);
+            int corteAzar = 0;
+            int[] aleatoria = new int[n];
+            for (int u = 0; u < n; u++) aleatoria[u] = azar.nextInt(k);
+            for (int u = 0; u < n; u++) {
+                for (int e = g.inicioAristas(u); e < g.finAristas(u); e++) {
+                    if (aleatoria[g.destinoDe(e)] != aleatoria[u]) corteAzar++;
+                }
+            }
+            LOG.info("k=" + k + ": corte " + particion.getCorte() + " de " + g.getNumeroAristas() + " (azar " + corteAzar + ")");
+            // Cortes rectos: cerca de 2 rutas por zona de cada línea divisoria
+            assertTrue(particion.getCorte() <= 2 * 2 * lado * (k - 1), "Corte demasiado grande con k=" + k);
+            assertTrue(particion.getCorte() * 5 < corteAzar);
+        }
+        LOG.info("Partición de cuadrícula verificada");
+    }
+
+    /**
+     * Verifica casos límite: una parte, más partes que nodos y grafos sin rutas.
+     */
+    @Test
+    public void testCasosLimite() {
+        LOG.info("Test: casos límite de la partición");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        for (int i = 0; i < 5; i++) grafo.agregarZona(new ZonaAfectada("Z" + i, 10, 50, 4.0 + i * 0.01, -75.0));
+        GrafoCompacto g = grafo.obtenerCompacto();
+
+        ParticionGrafo una = ParticionGrafo.calcular(g, 1);
+        assertEquals(1, una.getPartes());
+        assertEquals(0, una.getCorte());
+
+        ParticionGrafo muchas = ParticionGrafo.calcular(g, 10);
+        assertEquals(5, muchas.getPartes());
+        for (int p = 0; p < 5; p++) assertEquals(1, muchas.getTamano(p));
+
+        ParticionGrafo dos = ParticionGrafo.calcular(g, 2);
+        assertEquals(5, dos.getTamano(0) + dos.getTamano(1));
+        assertTrue(Math.abs(dos.getTamano(0) - dos.getTamano(1)) <= 1);
+        assertThrows(IllegalArgumentException.class, () -> ParticionGrafo.calcular(g, 0));
+        LOG.info("Casos límite verificados");
+    }
+
+    static GrafoDirigido cuadricula(int lado) {
+        GrafoDirigido grafo = new GrafoDirigido();
+        List<ZonaAfectada> zonas = new ArrayList<>();
+        grafo.ejecutarEnLote(() -> {
+            for (int i = 0; i < lado * lado; i++) {
+                ZonaAfectada zona = new ZonaAfectada("C" + i, 10, 50, 4.0 + (i / lado) * 0.01, -75.0 + (i % lado) * 0.01);
+                zonas.add(zona);
+                grafo.agregarZona(zona);
+            }
+            for (int i = 0; i < lado * lado; i++) {
+                int fila = i / lado, columna = i % lado;
+                if (columna + 1 < lado) conectar(grafo, zonas.get(i), zonas.get(i + 1));
+                if (fila + 1 < lado) conectar(grafo, zonas.get(i), zonas.get(i + lado));
+            }
+        });
+        return grafo;
+    }
+
+    private static void conectar(GrafoDirigido grafo, ZonaAfectada a, ZonaAfectada b) {
+        grafo.agregarArista(new Ruta(a.getId(), b.getId(), 1, 1 + (a.getId().hashCode() & 7), 100));
+        grafo.agregarArista(new Ruta(b.getId(), a.getId(), 1, 1 + (b.getId().hashCode() & 7), 100));
+    }
+}
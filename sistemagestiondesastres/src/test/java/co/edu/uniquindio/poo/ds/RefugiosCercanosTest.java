@@ -0,0 +1,133 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para RefugiosCercanos.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class RefugiosCercanosTest {
+    private static final Logger LOG = Logger.getLogger(RefugiosCercanosTest.class.getName());
+
+    /**
+     * Verifica que el costo asignado a cada zona sea el mínimo entre los
+     * Dijkstra hacia cada refugio, y que el camino termine en el refugio.
+     */
+    @Test
+    public void testCoincideConDijkstraPorRefugio() {
+        LOG.info("Test: refugio más cercano vs Dijkstra por refugio");
+
+        int lado = 12;
+        Random azar = new Random(9);
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada[][] malla = new ZonaAfectada[lado][lado];
+        List<Ruta> rutas = new ArrayList<>();
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                malla[i][j] = new ZonaAfectada("Z" + i + "-" + j, 100, 50, 4.0 + i * 0.05, -75.0 + j * 0.05);
+                grafo.agregarZona(malla[i][j]);
+            }
+        }
+        for (int i = 0; i < lado; i++) {
+            for (int j = 0; j < lado; j++) {
+                if (i + 1 < lado) {
+                    rutas.add(new Ruta(malla[i][j].getId(), malla[i + 1][j].getId(), 5, 1 + azar.nextInt(20), 100));
+                    rutas.add(new Ruta(malla[i + 1][j].getId(), malla[i][j].getId(), 5, 1 + azar.nextInt(20), 100));
+                }
+                if (j + 1 < lado) {
+                    rutas.add(new Ruta(malla[i][j].getId(), malla[i][j + 1].getId(), 5, 1 + azar.nextInt(20), 100));
+                }
+            }
+        }
+        rutas.forEach(grafo::agregarArista);
+        ZonaAfectada aislada = new ZonaAfectada("Aislada", 10, 10, 5.0, -74.0);
+        grafo.agregarZona(aislada);
+
+        List<ZonaAfectada> refugios = List.of(malla[0][0], malla[lado - 1][lado / 2], malla[lado / 2][lado - 1]);
+        refugios.forEach(z -> z.setRefugio(true));
+
+        for (int ronda = 0; ronda < 3; ronda++) {
+            RefugiosCercanos resultado = grafo.obtenerRefugiosCercanos();
+            GrafoCompacto g = resultado.getCompacto();
+            assertEquals(refugios.size(), resultado.getNumeroRefugios());
+
+            for (int nodo = 0; nodo < g.getNumeroNodos(); nodo++) {
+                double esperado = Double.POSITIVE_INFINITY;
+                for (ZonaAfectada r : refugios) {
+                    int destino = g.indiceDe(r.getId());
+                    esperado = Math.min(esperado, destino == nodo ? 0.0 : g.dijkstra(nodo, destino).getCosto());
+                }
+                assertEquals(esperado, resultado.costoHasta(nodo), 1e-9, "Costo en la ronda " + ronda);
+                if (esperado == Double.POSITIVE_INFINITY) {
+                    assertFalse(resultado.alcanzaRefugio(nodo));
+                    continue;
+                }
+
+                CaminoCompacto camino = resultado.caminoDesde(nodo);
+                int actual = nodo;
+                double costo = 0.0;
+                if (camino.existe()) {
+                    for (int e : camino.getAristas()) {
+                        assertEquals(actual, g.origenDe(e), "El camino debe ser contiguo");
+                        assertTrue(g.rutaDe(e).estaDisponible());
+                        costo += g.tiempoDe(e);
+                        actual = g.destinoDe(e);
+                    }
+                }
+                assertEquals(resultado.refugioDe(nodo), actual, "El camino termina en el refugio asignado");
+                assertEquals(esperado, costo, 1e-9);
+            }
+            assertFalse(resultado.alcanzaRefugio(g.indiceDe(aislada.getId())));
+
+            // Bloquear rutas cambia la versión y fuerza un nuevo cálculo
+            for (int b = 0; b < 20; b++) rutas.get(azar.nextInt(rutas.size())).setDisponible(false);
+            assertNotSame(resultado, grafo.obtenerRefugiosCercanos());
+        }
+        LOG.info("Refugios más cercanos verificados");
+    }
+
+    /**
+     * Verifica que el resultado se reutilice mientras no cambie el grafo y
+     * que se recalcule al cambiar el conjunto de refugios.
+     */
+    @Test
+    public void testCachePorVersionYRefugios() {
+        LOG.info("Test: cache de refugios más cercanos");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada a = new ZonaAfectada("A", 100, 50);
+        ZonaAfectada b = new ZonaAfectada("B", 100, 50);
+        ZonaAfectada c = new ZonaAfectada("C", 100, 50);
+        grafo.agregarZona(a);
+        grafo.agregarZona(b);
+        grafo.agregarZona(c);
+        grafo.agregarArista(new Ruta(a.getId(), b.getId(), 5, 10, 100));
+        grafo.agregarArista(new Ruta(b.getId(), c.getId(), 5, 10, 100));
+        c.setRefugio(true);
+
+        RefugiosCercanos primero = grafo.obtenerRefugiosCercanos();
+        assertSame(primero, grafo.obtenerRefugiosCercanos(), "Sin cambios se reutiliza el resultado");
+        assertEquals(2, grafo.obtenerRutaAlRefugioMasCercano(a.getId()).size());
+        assertTrue(grafo.obtenerRutaAlRefugioMasCercano(c.getId()).isEmpty());
+
+        b.setRefugio(true);
+        RefugiosCercanos segundo = grafo.obtenerRefugiosCercanos();
+        assertNotSame(primero, segundo, "Un refugio nuevo invalida el resultado");
+        assertEquals(1, grafo.obtenerRutaAlRefugioMasCercano(a.getId()).size());
+
+        b.setRefugio(false);
+        c.setRefugio(false);
+        assertNull(grafo.obtenerRutaAlRefugioMasCercano(a.getId()), "Sin refugios no hay destino");
+        LOG.info("Cache de refugios verificada");
+    }
+}
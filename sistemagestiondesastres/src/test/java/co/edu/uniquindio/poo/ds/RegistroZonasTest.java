@@ -0,0 +1,112 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.BandaRiesgo;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para RegistroZonas.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class RegistroZonasTest {
+    private static final Logger LOG = Logger.getLogger(RegistroZonasTest.class.getName());
+    private RegistroZonas registro;
+    private ZonaAfectada alta, media, baja;
+
+    @BeforeEach
+    public void setUp() {
+        LOG.info("Configurando prueba de RegistroZonas");
+        registro = new RegistroZonas();
+        alta = new ZonaAfectada("Centro Armenia", 1200, 80, 4.53, -75.68);
+        media = new ZonaAfectada("La Tebaida", 600, 55, 4.45, -75.78);
+        baja = new ZonaAfectada("Refugio Medellín", 300, 20, 6.24, -75.58);
+        registro.agregar(alta);
+        registro.agregar(media);
+        registro.agregar(baja);
+    }
+
+    /**
+     * Verifica la búsqueda por id y por cada índice secundario.
+     */
+    @Test
+    public void testConsultasPorIndice() {
+        LOG.info("Test: consultas por índice");
+
+        assertSame(media, registro.obtener(media.getId()));
+        assertNull(registro.obtener("no-existe"));
+        assertFalse(registro.agregar(media), "El id ya está registrado");
+        assertEquals(3, registro.tamano());
+
+        assertEquals(List.of(alta), registro.buscarPorNombre("Centro Armenia"));
+        assertTrue(registro.buscarPorNombre("Otra").isEmpty());
+        assertEquals(List.of(alta), registro.obtenerPorBanda(BandaRiesgo.ALTO));
+        assertEquals(List.of(media), registro.obtenerPorBanda(BandaRiesgo.MEDIO));
+        assertEquals(List.of(baja), registro.obtenerPorBanda(BandaRiesgo.BAJO));
+        assertEquals(3, registro.obtenerPorEvacuacion(false).size());
+        assertTrue(registro.obtenerPorEvacuacion(true).isEmpty());
+
+        assertSame(baja, registro.eliminar(baja.getId()));
+        assertNull(registro.eliminar(baja.getId()));
+        assertTrue(registro.obtenerPorBanda(BandaRiesgo.BAJO).isEmpty());
+        assertTrue(registro.buscarPorNombre("Refugio Medellín").isEmpty());
+
+        LOG.info("Índices consultados correctamente");
+    }
+
+    /**
+     * Verifica que los índices sigan a la zona cuando cambian sus datos.
+     */
+    @Test
+    public void testReindexaAlCambiarZona() {
+        LOG.info("Test: reindexación por cambios en la zona");
+
+        media.setNivelDeRiesgo(90);
+        assertEquals(List.of(alta, media), registro.obtenerPorBanda(BandaRiesgo.ALTO));
+        assertTrue(registro.obtenerPorBanda(BandaRiesgo.MEDIO).isEmpty());
+
+        media.setNombre("Tebaida Norte");
+        assertTrue(registro.buscarPorNombre("La Tebaida").isEmpty());
+        assertEquals(List.of(media), registro.buscarPorNombre("Tebaida Norte"));
+
+        baja.evacuarPersonas(300);
+        assertEquals(List.of(baja), registro.obtenerPorEvacuacion(true));
+        baja.restaurarPoblacion();
+        assertTrue(registro.obtenerPorEvacuacion(true).isEmpty());
+
+        // Una zona retirada ya no actualiza el registro
+        registro.eliminar(alta.getId());
+        alta.marcarComoEvacuada();
+        assertTrue(registro.obtenerPorEvacuacion(true).isEmpty());
+
+        LOG.info("Índices actualizados correctamente");
+    }
+
+    /**
+     * Verifica que GrafoDirigido resuelva las búsquedas con el registro.
+     */
+    @Test
+    public void testBusquedasEnGrafo() {
+        LOG.info("Test: búsquedas de zonas en GrafoDirigido");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        grafo.agregarZona(alta);
+        grafo.agregarNodo(media);
+        assertSame(alta, grafo.obtenerZonaPorId(alta.getId()));
+        assertEquals(List.of(media), grafo.buscarZonasPorNombre("La Tebaida"));
+        assertEquals(List.of(alta), grafo.obtenerZonasPorBandaRiesgo(BandaRiesgo.ALTO));
+
+        assertTrue(grafo.eliminarZona(alta.getId()));
+        assertNull(grafo.obtenerZonaPorId(alta.getId()));
+        assertTrue(grafo.obtenerZonasPorBandaRiesgo(BandaRiesgo.ALTO).isEmpty());
+        assertEquals(1, grafo.obtenerZonas().size());
+
+        LOG.info("Búsquedas en el grafo correctas");
+    }
+}
@@ -0,0 +1,233 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para RutasCriticas.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class RutasCriticasTest {
+    private static final Logger LOG = Logger.getLogger(RutasCriticasTest.class.getName());
+
+    /**
+     * Verifica puentes, zonas de corte y población aislada contra quitar cada
+     * ruta y cada zona por fuerza bruta, mientras se abren, cierran, agregan
+     * y eliminan rutas y cambian poblaciones y refugios.
+     */
+    @Test
+    public void testCoincideConFuerzaBruta() {
+        LOG.info("Test: rutas críticas vs fuerza bruta");
+
+        Random azar = new Random(41);
+        int bloquesRecalculados = 0;
+        for (int prueba = 0; prueba < 15; prueba++) {
+            int n = 8 + azar.nextInt(18);
+            GrafoDirigido grafo = new GrafoDirigido();
+            List<ZonaAfectada> zonas = new ArrayList<>();
+            List<Ruta> rutas = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ZonaAfectada zona = new ZonaAfectada("Z" + i, azar.nextInt(500), 50, 4.0 + i * 0.01, -75.0);
+                zona.setRefugio(azar.nextInt(6) == 0);
+                zonas.add(zona);
+                grafo.agregarZona(zona);
+            }
+            for (int k = 0; k < n + azar.nextInt(n); k++) rutas.add(rutaAleatoria(grafo, zonas, azar));
+
+            for (int paso = 0; paso < 60; paso++) {
+                int accion = azar.nextInt(6);
+                if (accion == 0) {
+                    rutas.add(rutaAleatoria(grafo, zonas, azar));
+                } else if (accion == 1 && !rutas.isEmpty()) {
+                    grafo.eliminarArista(rutas.remove(azar.nextInt(rutas.size())));
+                } else if (accion == 2) {
+                    ZonaAfectada zona = zonas.get(azar.nextInt(n));
+                    if (azar.nextBoolean()) zona.setPoblacion(azar.nextInt(500));
+                    else zona.setRefugio(!zona.isRefugio());
+                } else if (!rutas.isEmpty()) {
+                    Ruta ruta = rutas.get(azar.nextInt(rutas.size()));
+                    ruta.setDisponible(!ruta.estaDisponible());
+                }
+
+                RutasCriticas criticas = grafo.obtenerRutasCriticas();
+                verificar(grafo, zonas, rutas, criticas, "prueba " + prueba + ", paso " + paso);
+                if (paso == 59) {
+                    assertEquals(1, criticas.getRecalculosCompletos());
+                    bloquesRecalculados += criticas.getBloquesRecalculados();
+                }
+            }
+        }
+        assertTrue(bloquesRecalculados > 0, "Hubo cierres resueltos en un solo bloque");
+        LOG.info("Rutas críticas verificadas; bloques recalculados: " + bloquesRecalculados);
+    }
+
+    /**
+     * Verifica el ejemplo de una zona que solo se comunica con el refugio
+     * por una vía, y que cerrar una ruta de un ciclo solo recalcule su bloque.
+     */
+    @Test
+    public void testPuenteHaciaElRefugio() {
+        LOG.info("Test: puente hacia el refugio");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada refugio = new ZonaAfectada("Refugio", 0, 10, 4.0, -75.0);
+        ZonaAfectada a = new ZonaAfectada("A", 100, 50, 4.1, -75.0);
+        ZonaAfectada b = new ZonaAfectada("B", 200, 50, 4.2, -75.0);
+        ZonaAfectada c = new ZonaAfectada("C", 300, 50, 4.3, -75.0);
+        for (ZonaAfectada z : List.of(refugio, a, b, c)) grafo.agregarZona(z);
+        refugio.setRefugio(true);
+        Ruta ra = new Ruta(refugio.getId(), a.getId(), 1, 5, 100);
+        Ruta ab = new Ruta(a.getId(), b.getId(), 1, 5, 100);
+        Ruta bc = new Ruta(b.getId(), c.getId(), 1, 5, 100);
+        Ruta ca = new Ruta(c.getId(), a.getId(), 1, 5, 100);
+        for (Ruta r : List.of(ra, ab, bc, ca)) grafo.agregarArista(r);
+
+        RutasCriticas criticas = grafo.obtenerRutasCriticas();
+        assertEquals(1, criticas.getPuentes().size());
+        assertSame(ra, criticas.getPuentes().get(0).getRuta());
+        assertEquals(600, criticas.getPuentes().get(0).getPoblacionAislada());
+        assertEquals(1, criticas.getZonasDeCorte().size());
+        assertEquals(a.getId(), criticas.getZonasDeCorte().get(0).getZonaId());
+        assertEquals(500, criticas.getZonasDeCorte().get(0).getPoblacionAislada());
+
+        // El ciclo A-B-C se abre: quedan tres puentes más, recalculando solo ese bloque
+        bc.setDisponible(false);
+        criticas = grafo.obtenerRutasCriticas();
+        assertEquals(1, criticas.getBloquesRecalculados());
+        assertEquals(0, criticas.getComponentesRecalculadas());
+        assertEquals(3, criticas.getPuentes().size());
+        assertSame(ra, criticas.getPuentes().get(0).getRuta());
+        assertSame(ca, criticas.getPuentes().get(1).getRuta());
+        assertEquals(300, criticas.getPuentes().get(1).getPoblacionAislada(), "C-A aísla a C");
+        assertEquals(200, criticas.getPuentes().get(2).getPoblacionAislada(), "A-B aísla a B");
+
+        b.setPoblacion(50);
+        criticas = grafo.obtenerRutasCriticas();
+        assertEquals(450, criticas.getPuentes().get(0).getPoblacionAislada());
+        LOG.info("Puentes verificados");
+    }
+
+    /**
+     * Verifica que una evacuación parcial actualice la población aislada y
+     * el orden de los puentes sin esperar a que la zona quede vacía.
+     */
+    @Test
+    public void testEvacuacionParcialReordena() {
+        LOG.info("Test: evacuación parcial");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada refugio = new ZonaAfectada("Refugio", 0, 10, 4.0, -75.0);
+        ZonaAfectada a = new ZonaAfectada("A", 400, 50, 4.1, -75.0);
+        ZonaAfectada b = new ZonaAfectada("B", 300, 50, 4.2, -75.0);
+        for (ZonaAfectada z : List.of(refugio, a, b)) grafo.agregarZona(z);
+        refugio.setRefugio(true);
+        Ruta ra = new Ruta(refugio.getId(), a.getId(), 1, 5, 100);
+        Ruta rb = new Ruta(refugio.getId(), b.getId(), 1, 5, 100);
+        grafo.agregarArista(ra);
+        grafo.agregarArista(rb);
+
+        RutasCriticas criticas = grafo.obtenerRutasCriticas();
+        assertSame(ra, criticas.getPuentes().get(0).getRuta());
+        assertEquals(400, criticas.getPuentes().get(0).getPoblacionAislada());
+
+        assertTrue(a.evacuarPersonas(250));
+        assertFalse(a.isEvacuada());
+        criticas = grafo.obtenerRutasCriticas();
+        assertSame(rb, criticas.getPuentes().get(0).getRuta(), "B pasa a ser la más crítica");
+        assertEquals(300, criticas.getPuentes().get(0).getPoblacionAislada());
+        assertEquals(150, criticas.getPuentes().get(1).getPoblacionAislada());
+        LOG.info("Orden actualizado tras evacuación parcial");
+    }
+
+    private static void verificar(GrafoDirigido grafo, List<ZonaAfectada> zonas, List<Ruta> rutas,
+                                  RutasCriticas criticas, String caso) {
+        Map<String, Integer> indice = new HashMap<>();
+        for (int i = 0; i < zonas.size(); i++) indice.put(zonas.get(i).getId(), i);
+        List<Ruta> presentes = new ArrayList<>();
+        for (Ruta r : rutas) {
+            if (r.estaDisponible() && !r.getOrigenId().equals(r.getDestinoId())) presentes.add(r);
+        }
+
+        // Ruta no redefine equals: las claves se comparan por identidad
+        Map<Ruta, Long> puentesEsperados = new HashMap<>();
+        int[] base = componentes(zonas.size(), presentes, indice, null, -1);
+        for (Ruta r : presentes) {
+            int[] sin = componentes(zonas.size(), presentes, indice, r, -1);
+            int u = indice.get(r.getOrigenId()), v = indice.get(r.getDestinoId());
+            if (sin[u] == sin[v]) continue;
+            puentesEsperados.put(r, aislada(zonas, sin, base, base[u], -1));
+        }
+        Map<Ruta, Long> puentes = new HashMap<>();
+        for (RutasCriticas.Puente p : criticas.getPuentes()) puentes.put(p.getRuta(), p.getPoblacionAislada());
+        assertEquals(puentesEsperados, puentes, "Puentes en " + caso);
+
+        Map<String, Long> cortesEsperados = new HashMap<>();
+        for (int x = 0; x < zonas.size(); x++) {
+            int[] sin = componentes(zonas.size(), presentes, indice, null, x);
+            java.util.Set<Integer> piezas = new java.util.HashSet<>();
+            for (int y = 0; y < zonas.size(); y++) {
+                if (y != x && base[y] == base[x]) piezas.add(sin[y]);
+            }
+            if (piezas.size() >= 2) cortesEsperados.put(zonas.get(x).getId(), aislada(zonas, sin, base, base[x], x));
+        }
+        Map<String, Long> cortes = new HashMap<>();
+        for (RutasCriticas.ZonaCritica z : criticas.getZonasDeCorte()) cortes.put(z.getZonaId(), z.getPoblacionAislada());
+        assertEquals(cortesEsperados, cortes, "Zonas de corte en " + caso);
+    }
+
+    /** Etiqueta de componente por zona, sin la ruta o la zona indicadas */
+    private static int[] componentes(int n, List<Ruta> rutas, Map<String, Integer> indice, Ruta sinRuta, int sinZona) {
+        int[] padre = new int[n];
+        for (int i = 0; i < n; i++) padre[i] = i;
+        for (Ruta r : rutas) {
+            int u = indice.get(r.getOrigenId()), v = indice.get(r.getDestinoId());
+            if (r == sinRuta || u == sinZona || v == sinZona) continue;
+            padre[raiz(padre, u)] = raiz(padre, v);
+        }
+        for (int i = 0; i < n; i++) padre[i] = raiz(padre, i);
+        return padre;
+    }
+
+    private static int raiz(int[] padre, int x) {
+        while (padre[x] != x) x = padre[x] = padre[padre[x]];
+        return x;
+    }
+
+    /** Regla de población aislada sobre las piezas de la componente original */
+    private static long aislada(List<ZonaAfectada> zonas, int[] sin, int[] base, int componente, int sinZona) {
+        Map<Integer, long[]> piezas = new HashMap<>();
+        for (int y = 0; y < zonas.size(); y++) {
+            if (y == sinZona || base[y] != componente) continue;
+            long[] pieza = piezas.computeIfAbsent(sin[y], k -> new long[2]);
+            pieza[0] += zonas.get(y).getPoblacion();
+            if (zonas.get(y).isRefugio()) pieza[1]++;
+        }
+        long refugios = 0, total = 0, mayor = 0, sinRefugio = 0;
+        for (long[] pieza : piezas.values()) {
+            refugios += pieza[1];
+            total += pieza[0];
+            mayor = Math.max(mayor, pieza[0]);
+            if (pieza[1] == 0) sinRefugio += pieza[0];
+        }
+        return refugios > 0 ? sinRefugio : total - mayor;
+    }
+
+    private static Ruta rutaAleatoria(GrafoDirigido grafo, List<ZonaAfectada> zonas, Random azar) {
+        int u = azar.nextInt(zonas.size()), v = azar.nextInt(zonas.size());
+        Ruta ruta = new Ruta(zonas.get(u).getId(), zonas.get(v).getId(), 1, 1 + azar.nextInt(20), 100);
+        grafo.agregarArista(ruta);
+        if (azar.nextInt(6) == 0) ruta.setDisponible(false);
+        return ruta;
+    }
+}
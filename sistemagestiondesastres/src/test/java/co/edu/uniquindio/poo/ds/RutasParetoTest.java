@@ -0,0 +1,174 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para RutasPareto.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class RutasParetoTest {
+    private static final Logger LOG = Logger.getLogger(RutasParetoTest.class.getName());
+
+    /**
+     * Verifica el frente contra enumerar todos los caminos simples en grafos
+     * pequeños aleatorios con rutas bloqueadas.
+     */
+    @Test
+    public void testCoincideConFuerzaBruta() {
+        LOG.info("Test: frente de Pareto vs fuerza bruta");
+
+        Random azar = new Random(53);
+        int opcionesMultiples = 0;
+        for (int prueba = 0; prueba < 25; prueba++) {
+            int n = 5 + azar.nextInt(5);
+            GrafoDirigido grafo = new GrafoDirigido();
+            List<ZonaAfectada> zonas = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ZonaAfectada zona = new ZonaAfectada("Z" + i, 10, 50, 4.0 + i * 0.01, -75.0);
+                zonas.add(zona);
+                grafo.agregarZona(zona);
+            }
+            for (int k = 0; k < n * 3; k++) {
+                int u = azar.nextInt(n), v = azar.nextInt(n);
+                if (u == v) continue;
+                Ruta ruta = new Ruta(zonas.get(u).getId(), zonas.get(v).getId(),
+                        1 + azar.nextInt(9), 1 + azar.nextInt(9), 10 * (1 + azar.nextInt(9)));
+                grafo.agregarArista(ruta);
+                if (azar.nextInt(6) == 0) ruta.setDisponible(false);
+            }
+
+            GrafoCompacto g = grafo.obtenerCompacto();
+            for (int o = 0; o < n; o++) {
+                for (int d = 0; d < n; d++) {
+                    if (o == d) continue;
+                    String caso = "prueba " + prueba + ", " + o + "→" + d;
+                    RutasPareto pareto = grafo.obtenerRutasPareto(zonas.get(o).getId(), zonas.get(d).getId());
+                    assertTrue(pareto.isCompleto(), caso);
+
+                    Set<String> obtenidos = new TreeSet<>();
+                    double tiempoAnterior = -1;
+                    for (RutasPareto.Opcion opcion : pareto.getOpciones()) {
+                        verificarCamino(g, opcion, g.indiceDe(zonas.get(o).getId()),
+                                g.indiceDe(zonas.get(d).getId()), caso);
+                        assertTrue(opcion.getTiempo() >= tiempoAnterior, "Ordenado por tiempo en " + caso);
+                        tiempoAnterior = opcion.getTiempo();
+                        assertTrue(obtenidos.add(clave(opcion.getTiempo(), opcion.getDistancia(), opcion.getCapacidad())),
+                                "Sin repetidos en " + caso);
+                    }
+                    assertEquals(fuerzaBruta(g, g.indiceDe(zonas.get(o).getId()), g.indiceDe(zonas.get(d).getId())),
+                            obtenidos, "Frente en " + caso);
+                    if (obtenidos.size() > 1) opcionesMultiples++;
+                }
+            }
+        }
+        assertTrue(opcionesMultiples > 0, "Hubo frentes con más de una opción");
+        LOG.info("Frentes verificados; con varias opciones: " + opcionesMultiples);
+    }
+
+    /**
+     * Verifica un ejemplo con tres compromisos y el límite de etiquetas.
+     */
+    @Test
+    public void testCompromisosYLimite() {
+        LOG.info("Test: compromisos entre criterios");
+
+        GrafoDirigido grafo = new GrafoDirigido();
+        ZonaAfectada a = new ZonaAfectada("A", 10, 50, 4.0, -75.0);
+        ZonaAfectada b = new ZonaAfectada("B", 10, 50, 4.1, -75.0);
+        ZonaAfectada c = new ZonaAfectada("C", 10, 50, 4.2, -75.0);
+        ZonaAfectada d = new ZonaAfectada("D", 10, 50, 4.3, -75.0);
+        for (ZonaAfectada z : List.of(a, b, c, d)) grafo.agregarZona(z);
+        // Directa: rápida pero angosta; por B: corta; por C: ancha
+        grafo.agregarArista(new Ruta(a.getId(), d.getId(), 10, 1, 5));
+        grafo.agregarArista(new Ruta(a.getId(), b.getId(), 2, 3, 50));
+        grafo.agregarArista(new Ruta(b.getId(), d.getId(), 2, 3, 50));
+        grafo.agregarArista(new Ruta(a.getId(), c.getId(), 8, 4, 200));
+        grafo.agregarArista(new Ruta(c.getId(), d.getId(), 8, 4, 200));
+        // Dominada por la de B en los tres criterios
+        Ruta lenta = new Ruta(a.getId(), d.getId(), 5, 7, 40);
+        grafo.agregarArista(lenta);
+
+        RutasPareto pareto = grafo.obtenerRutasPareto(a.getId(), d.getId());
+        List<RutasPareto.Opcion> opciones = pareto.getOpciones();
+        assertEquals(3, opciones.size());
+        assertEquals(1.0, opciones.get(0).getTiempo());
+        assertEquals(5, opciones.get(0).getCapacidad());
+        assertEquals(4.0, opciones.get(1).getDistancia());
+        assertEquals(200, opciones.get(2).getCapacidad());
+        assertEquals(2, opciones.get(2).getAristas().length);
+
+        GrafoCompacto g = pareto.getCompacto();
+        RutasPareto limitado = RutasPareto.calcular(g, g.indiceDe(a.getId()), g.indiceDe(d.getId()), 2);
+        assertFalse(limitado.isCompleto());
+        assertNull(grafo.obtenerRutasPareto(a.getId(), "inexistente"));
+        assertTrue(grafo.obtenerRutasPareto(d.getId(), a.getId()).getOpciones().isEmpty());
+        LOG.info("Compromisos verificados");
+    }
+
+    private static void verificarCamino(GrafoCompacto g, RutasPareto.Opcion opcion, int origen, int destino, String caso) {
+        int actual = origen;
+        double tiempo = 0, distancia = 0;
+        int capacidad = Integer.MAX_VALUE;
+        for (int e : opcion.getAristas()) {
+            assertEquals(actual, g.origenDe(e), "Camino continuo en " + caso);
+            assertTrue(g.rutaDe(e).estaDisponible(), "Ruta disponible en " + caso);
+            tiempo += g.tiempoDe(e);
+            distancia += g.distanciaDe(e);
+            capacidad = Math.min(capacidad, g.rutaDe(e).getCapacidad());
+            actual = g.destinoDe(e);
+        }
+        assertEquals(destino, actual, "Llega al destino en " + caso);
+        assertEquals(tiempo, opcion.getTiempo(), 1e-9, caso);
+        assertEquals(distancia, opcion.getDistancia(), 1e-9, caso);
+        assertEquals(capacidad, opcion.getCapacidad(), caso);
+    }
+
+    /** Valores no dominados entre todos los caminos simples */
+    private static Set<String> fuerzaBruta(GrafoCompacto g, int origen, int destino) {
+        List<double[]> caminos = new ArrayList<>();
+        enumerar(g, origen, destino, new boolean[g.getNumeroNodos()], 0, 0, Integer.MAX_VALUE, caminos);
+        Set<String> frente = new TreeSet<>();
+        for (double[] p : caminos) {
+            boolean dominado = false;
+            for (double[] q : caminos) {
+                boolean igualOMejor = q[0] <= p[0] && q[1] <= p[1] && q[2] >= p[2];
+                boolean distinto = q[0] != p[0] || q[1] != p[1] || q[2] != p[2];
+                if (igualOMejor && distinto) dominado = true;
+            }
+            if (!dominado) frente.add(clave(p[0], p[1], (int) p[2]));
+        }
+        return frente;
+    }
+
+    private static void enumerar(GrafoCompacto g, int u, int destino, boolean[] visitado,
+                                 double t, double d, int c, List<double[]> caminos) {
+        if (u == destino) {
+            caminos.add(new double[] {t, d, c});
+            return;
+        }
+        visitado[u] = true;
+        for (int e = g.inicioAristas(u); e < g.finAristas(u); e++) {
+            int v = g.destinoDe(e);
+            if (!g.rutaDe(e).estaDisponible() || visitado[v]) continue;
+            enumerar(g, v, destino, visitado, t + g.tiempoDe(e), d + g.distanciaDe(e),
+                    Math.min(c, g.rutaDe(e).getCapacidad()), caminos);
+        }
+        visitado[u] = false;
+    }
+
+    private static String clave(double tiempo, double distancia, int capacidad) {
+        return Math.round(tiempo) + "/" + Math.round(distancia) + "/" + capacidad;
+    }
+}
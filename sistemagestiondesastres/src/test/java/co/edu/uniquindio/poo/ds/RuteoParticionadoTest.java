@@ -0,0 +1,170 @@
+package co.edu.uniquindio.poo.ds;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import co.edu.uniquindio.poo.model.Ruta;
+import co.edu.uniquindio.poo.model.ZonaAfectada;
+
+/**
+ * Pruebas unitarias para RuteoParticionado.
+ *
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class RuteoParticionadoTest {
+    private static final Logger LOG = Logger.getLogger(RuteoParticionadoTest.class.getName());
+
+    /**
+     * Compara costo y validez de los caminos por regiones con Dijkstra sobre
+     * el grafo completo, en grafos dirigidos al azar con rutas bloqueadas.
+     */
+    @Test
+    public void testCoincideConDijkstra() {
+        LOG.info("Test: ruteo por regiones vs Dijkstra");
+
+        Random azar = new Random(47);
+        for (int prueba = 0; prueba < 6; prueba++) {
+            int n = 150 + azar.nextInt(250);
+            GrafoDirigido grafo = new GrafoDirigido();
+            List<ZonaAfectada> zonas = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                ZonaAfectada zona = new ZonaAfectada("Z" + i, 10, 50, 4.0 + azar.nextDouble(), -75.0 + azar.nextDouble());
+                zonas.add(zona);
+                grafo.agregarZona(zona);
+            }
+            // Rutas sobre todo entre zonas de índice cercano, para que haya regiones
+            for (int k = 0; k < n * 3; k++) {
+                int u = azar.nextInt(n);
+                int v = azar.nextInt(10) == 0 ? azar.nextInt(n) : Math.floorMod(u + azar.nextInt(11) - 5, n);
+                Ruta ruta = new Ruta(zonas.get(u).getId(), zonas.get(v).getId(),
+                        1 + azar.nextInt(30), 1 + azar.nextInt(30), 100);
+                grafo.agregarArista(ruta);
+                if (azar.nextInt(10) == 0) ruta.setDisponible(false);
+            }
+
+            GrafoCompacto g = grafo.obtenerCompacto();
+            for (Metrica metrica : Metrica.values()) {
+                RuteoParticionado ruteo = RuteoParticionado.construir(ParticionGrafo.calcular(g, 2 + prueba), metrica);
+                for (int q = 0; q < 150; q++) {
+                    int o = azar.nextInt(n), d = azar.nextInt(n);
+                    CaminoCompacto esperado = g.dijkstra(o, d, metrica);
+                    CaminoCompacto obtenido = ruteo.consultar(o, d);
+                    assertEquals(esperado.existe(), obtenido.existe(), "Par " + o + " -> " + d);
+                    if (!obtenido.existe()) continue;
+                    assertEquals(esperado.getCosto(), obtenido.getCosto(), 1e-9);
+                    verificarCamino(g, obtenido, o, d, metrica);
+                }
+            }
+        }
+        LOG.info("Ruteo por regiones verificado");
+    }
+
+    /**
+     * Verifica el uso desde GrafoDirigido: mismo resultado que Dijkstra y
+     * superposición reconstruida al bloquear una ruta.
+     */
+    @Test
+    public void testDesdeGrafoDirigido() {
+        LOG.info("Test: ruteo por regiones en GrafoDirigido");
+
+        GrafoDirigido grafo = ParticionGrafoTest.cuadricula(20);
+        grafo.setPartesRuteo(4);
+        List<ZonaAfectada> zonas = new ArrayList<>(grafo.getInstantanea().zonas());
+        ZonaAfectada a = zonas.get(0), b = zonas.get(zonas.size() - 1);
+
+        RuteoParticionado ruteo = grafo.obtenerRuteoParticionado(Metrica.TIEMPO);
+        assertEquals(4, ruteo.getParticion().getPartes());
+        assertTrue(ruteo.getNumeroFronteras() > 0);
+        assertSame(ruteo, grafo.obtenerRuteoParticionado(Metrica.TIEMPO), "Reutilizado sin cambios");
+
+        List<Ruta> camino = grafo.obtenerRutaMasCorta(a.getId(), b.getId(), AlgoritmoRuta.PARTICIONADO);
+        List<Ruta> referencia = grafo.obtenerRutaMasCorta(a.getId(), b.getId(), AlgoritmoRuta.DIJKSTRA);
+        assertEquals(costo(referencia), costo(camino), 1e-9);
+
+        // Bloquear una ruta del camino: nueva superposición, misma partición y a
+        // lo sumo la parte que contiene la ruta recalculada
+        camino.get(camino.size() / 2).setDisponible(false);
+        RuteoParticionado nuevo = grafo.obtenerRuteoParticionado(Metrica.TIEMPO);
+        assertNotSame(ruteo, nuevo);
+        assertSame(ruteo.getParticion(), nuevo.getParticion());
+        assertEquals(4, ruteo.getPartesRecalculadas());
+        assertTrue(nuevo.getPartesRecalculadas() <= 1);
+        List<Ruta> desvio = grafo.obtenerRutaMasCorta(a.getId(), b.getId(), AlgoritmoRuta.PARTICIONADO);
+        for (Ruta r : desvio) assertTrue(r.estaDisponible());
+        GrafoCompacto g = nuevo.getCompacto();
+        assertEquals(g.dijkstra(g.indiceDe(a.getId()), g.indiceDe(b.getId()), Metrica.TIEMPO).getCosto(), costo(desvio), 1e-9);
+        assertEquals(AlgoritmoRuta.PARTICIONADO, AlgoritmoRuta.desdeParametro("particionado", AlgoritmoRuta.DIJKSTRA));
+        LOG.info("Ruteo por regiones en GrafoDirigido verificado");
+    }
+
+    /**
+     * Bloquea y reabre rutas al azar: cada cambio recalcula a lo sumo una
+     * parte (ninguna si es una ruta de corte) y las consultas siguen
+     * coincidiendo con Dijkstra.
+     */
+    @Test
+    public void testActualizacionPorPartes() {
+        LOG.info("Test: actualización por partes del ruteo por regiones");
+
+        Random azar = new Random(53);
+        GrafoDirigido grafo = ParticionGrafoTest.cuadricula(18);
+        grafo.setPartesRuteo(6);
+        List<ZonaAfectada> zonas = new ArrayList<>(grafo.getInstantanea().zonas());
+        List<Ruta> rutas = new ArrayList<>();
+        for (List<Ruta> salientes : grafo.getInstantanea().getSalientes().values()) rutas.addAll(salientes);
+        RuteoParticionado anterior = grafo.obtenerRuteoParticionado(Metrica.TIEMPO);
+        assertEquals(6, anterior.getPartesRecalculadas());
+
+        int cortes = 0;
+        for (int paso = 0; paso < 60; paso++) {
+            Ruta ruta = rutas.get(azar.nextInt(rutas.size()));
+            ruta.setDisponible(!ruta.estaDisponible());
+            RuteoParticionado ruteo = grafo.obtenerRuteoParticionado(Metrica.TIEMPO);
+            assertSame(anterior.getParticion(), ruteo.getParticion());
+            GrafoCompacto g = ruteo.getCompacto();
+            ParticionGrafo particion = ruteo.getParticion();
+            boolean corte = particion.parteDe(g.indiceDe(ruta.getOrigenId()))
+                    != particion.parteDe(g.indiceDe(ruta.getDestinoId()));
+            assertEquals(corte ? 0 : 1, ruteo.getPartesRecalculadas(), "Paso " + paso);
+            if (corte) cortes++;
+
+            for (int q = 0; q < 20; q++) {
+                int o = g.indiceDe(zonas.get(azar.nextInt(zonas.size())).getId());
+                int d = g.indiceDe(zonas.get(azar.nextInt(zonas.size())).getId());
+                CaminoCompacto esperado = g.dijkstra(o, d, Metrica.TIEMPO);
+                CaminoCompacto obtenido = ruteo.consultar(o, d);
+                assertEquals(esperado.existe(), obtenido.existe(), "Par " + o + " -> " + d);
+                if (!obtenido.existe()) continue;
+                assertEquals(esperado.getCosto(), obtenido.getCosto(), 1e-9);
+                verificarCamino(g, obtenido, o, d, Metrica.TIEMPO);
+            }
+            anterior = ruteo;
+        }
+        assertTrue(cortes > 0, "Se cambió alguna ruta de corte");
+        LOG.info("Actualización por partes verificada con " + cortes + " rutas de corte");
+    }
+
+    private static void verificarCamino(GrafoCompacto g, CaminoCompacto camino, int o, int d, Metrica metrica) {
+        int actual = o;
+        double total = 0;
+        for (int e : camino.getAristas()) {
+            assertEquals(actual, g.origenDe(e), "Camino contiguo");
+            assertTrue(g.rutaDe(e).estaDisponible());
+            total += metrica == Metrica.DISTANCIA ? g.distanciaDe(e) : g.tiempoDe(e);
+            actual = g.destinoDe(e);
+        }
+        assertEquals(d, actual);
+        assertEquals(camino.getCosto(), total, 1e-9);
+    }
+
+    private static double costo(List<Ruta> camino) {
+        double total = 0;
+        for (Ruta r : camino) total += r.getTiempo();
+        return total;
+    }
+}
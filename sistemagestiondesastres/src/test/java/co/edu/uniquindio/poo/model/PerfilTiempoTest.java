@@ -0,0 +1,60 @@
+package co.edu.uniquindio.poo.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.logging.Logger;
+
+/**
+ * Pruebas unitarias para la clase PerfilTiempo.
+ * 
+ * @author Sistema de Gestión de Desastres
+ * @version 1.0
+ */
+public class PerfilTiempoTest {
+    private static final Logger LOG = Logger.getLogger(PerfilTiempoTest.class.getName());
+
+    /**
+     * Verifica la interpolación entre puntos y los extremos constantes.
+     */
+    @Test
+    public void testEvaluacion() {
+        LOG.info("Test: evaluación del perfil");
+        PerfilTiempo perfil = new PerfilTiempo(new double[] {60, 120, 180}, new double[] {10, 40, 20});
+
+        assertEquals(10, perfil.evaluar(0), 1e-9);
+        assertEquals(10, perfil.evaluar(60), 1e-9);
+        assertEquals(25, perfil.evaluar(90), 1e-9);
+        assertEquals(40, perfil.evaluar(120), 1e-9);
+        assertEquals(30, perfil.evaluar(150), 1e-9);
+        assertEquals(20, perfil.evaluar(500), 1e-9);
+        assertEquals(180, perfil.llegada(150), 1e-9);
+    }
+
+    /**
+     * Verifica que se rechacen perfiles que violan FIFO o mal formados, y
+     * que la hora pico se alargue para respetar FIFO.
+     */
+    @Test
+    public void testFifo() {
+        LOG.info("Test: propiedad FIFO");
+        assertThrows(IllegalArgumentException.class,
+                () -> new PerfilTiempo(new double[] {0, 10}, new double[] {30, 5}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PerfilTiempo(new double[] {10, 10}, new double[] {5, 5}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PerfilTiempo(new double[] {0}, new double[] {-1}));
+
+        PerfilTiempo pico = PerfilTiempo.horaPico(10, 0, 5, 6, 5);
+        assertEquals(50, pico.evaluar(5), 1e-9);
+        assertEquals(45, pico.getInstante(2), 1e-9, "El descenso no es más rápido que el reloj");
+        double anterior = Double.NEGATIVE_INFINITY;
+        for (double t = -10; t < 80; t += 0.5) {
+            assertTrue(pico.llegada(t) >= anterior, "Salir más tarde no hace llegar antes");
+            anterior = pico.llegada(t);
+        }
+        Ruta ruta = new Ruta("A", "B", 1, 10, 100);
+        ruta.setPerfil(pico);
+        assertEquals(50, ruta.calcularTiempoReal(5), 1e-9);
+        assertEquals(10, ruta.calcularTiempoReal(), 1e-9);
+    }
+}